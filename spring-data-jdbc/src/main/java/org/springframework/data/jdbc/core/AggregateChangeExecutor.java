@@ -15,16 +15,24 @@
  */
 package org.springframework.data.jdbc.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.InsertSubject;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.relational.core.conversion.AggregateChange;
 import org.springframework.data.relational.core.conversion.DbAction;
 import org.springframework.data.relational.core.conversion.DbActionExecutionException;
 import org.springframework.data.relational.core.conversion.MutableAggregateChange;
+import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.lang.Nullable;
 
 /**
- * Executes an {@link MutableAggregateChange}.
+ * Executes an {@link MutableAggregateChange} or multiple of them combined. The actions get reordered by the
+ * {@link DbActionPlanner} and consecutive {@link DbAction.Insert}s for the same path get executed as a single JDBC
+ * batch. When executing multiple changes, deletes of the same table get combined into statements using {@code IN}
+ * lists.
  *
  * @author Jens Schauder
  * @author Myeonghyeon Lee
@@ -47,7 +55,78 @@ class AggregateChangeExecutor {
 		JdbcAggregateChangeExecutionContext executionContext = new JdbcAggregateChangeExecutionContext(converter,
 				accessStrategy);
 
-		aggregateChange.forEachAction(action -> execute(action, executionContext));
+		List<DbAction.Insert<?>> pendingInserts = new ArrayList<>();
+
+		for (DbAction<?> action : DbActionPlanner.plan(aggregateChange)) {
+
+			if (action instanceof DbAction.Insert) {
+
+				DbAction.Insert<?> insert = (DbAction.Insert<?>) action;
+
+				if (!pendingInserts.isEmpty() && !isBatchable(pendingInserts.get(0), insert)) {
+					executeInserts(pendingInserts, executionContext);
+				}
+
+				pendingInserts.add(insert);
+				continue;
+			}
+
+			executeInserts(pendingInserts, executionContext);
+			execute(action, executionContext);
+		}
+
+		executeInserts(pendingInserts, executionContext);
+
+		return populateIdsAndVersion(aggregateChange, executionContext);
+	}
+
+	/**
+	 * Executes multiple {@link AggregateChange}s together. Actions of the same kind operating on the same table, most
+	 * notably inserts of aggregate roots, inserts of contained entities and updates of aggregate roots, get executed as a
+	 * single batch across all the aggregates.
+	 *
+	 * @param aggregateChanges the changes to execute. Must not be {@literal null}.
+	 * @return the aggregate roots after execution in the order of {@code aggregateChanges}.
+	 * @since 2.1
+	 */
+	<T> List<T> executeAll(List<? extends AggregateChange<T>> aggregateChanges) {
+
+		List<JdbcAggregateChangeExecutionContext> executionContexts = new ArrayList<>(aggregateChanges.size());
+		BatchedActions batchedActions = new BatchedActions();
+
+		for (AggregateChange<T> aggregateChange : aggregateChanges) {
+
+			JdbcAggregateChangeExecutionContext executionContext = new JdbcAggregateChangeExecutionContext(converter,
+					accessStrategy);
+			executionContexts.add(executionContext);
+			batchedActions.add(aggregateChange, executionContext);
+		}
+
+		List<T> roots = new ArrayList<>(aggregateChanges.size());
+
+		List<BatchedActions.Group> groups = batchedActions.inExecutionOrder();
+		if (groups == null) {
+
+			// the changes can't be combined, so we fall back to executing them one after the other.
+			for (AggregateChange<T> aggregateChange : aggregateChanges) {
+				roots.add(execute(aggregateChange));
+			}
+
+			return roots;
+		}
+
+		groups.forEach(this::execute);
+
+		for (int i = 0; i < aggregateChanges.size(); i++) {
+			roots.add(populateIdsAndVersion(aggregateChanges.get(i), executionContexts.get(i)));
+		}
+
+		return roots;
+	}
+
+	@Nullable
+	private <T> T populateIdsAndVersion(AggregateChange<T> aggregateChange,
+			JdbcAggregateChangeExecutionContext executionContext) {
 
 		T root = executionContext.populateIdsIfNecessary();
 		root = root == null ? aggregateChange.getEntity() : root;
@@ -59,6 +138,190 @@ class AggregateChangeExecutor {
 		return root;
 	}
 
+	private void execute(BatchedActions.Group group) {
+
+		if (group.size() > 1) {
+
+			try {
+
+				if (group.getActionType() == DbAction.InsertRoot.class || group.getActionType() == DbAction.Insert.class) {
+
+					executeBatchInsert(group);
+					return;
+				}
+
+				if (group.getActionType() == DbAction.UpdateRoot.class) {
+
+					executeBatchUpdateRoot(group);
+					return;
+				}
+
+				if (group.getActionType() == DbAction.AcquireLockRoot.class) {
+
+					executeBatchAcquireLock(group);
+					return;
+				}
+
+				if (group.getActionType() == DbAction.Delete.class) {
+
+					executeBatchDelete(group);
+					return;
+				}
+
+				if (group.getActionType() == DbAction.DeleteRoot.class) {
+
+					executeBatchDeleteRoot(group);
+					return;
+				}
+			} catch (Exception e) {
+				throw new DbActionExecutionException(group.getAction(0), e);
+			}
+		}
+
+		for (int i = 0; i < group.size(); i++) {
+			execute(group.getAction(i), group.getExecutionContext(i));
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> void executeBatchInsert(BatchedActions.Group group) {
+
+		List<InsertSubject<T>> insertSubjects = new ArrayList<>(group.size());
+		for (int i = 0; i < group.size(); i++) {
+
+			DbAction<?> action = group.getAction(i);
+			JdbcAggregateChangeExecutionContext executionContext = group.getExecutionContext(i);
+
+			insertSubjects.add(action instanceof DbAction.InsertRoot
+					? executionContext.createInsertSubject((DbAction.InsertRoot<T>) action)
+					: executionContext.createInsertSubject((DbAction.Insert<T>) action));
+		}
+
+		Object[] ids = accessStrategy.insert(insertSubjects, (Class<T>) group.getEntityType());
+
+		for (int i = 0; i < group.size(); i++) {
+			group.getExecutionContext(i).addGeneratedId((DbAction.WithGeneratedId<?>) group.getAction(i), ids[i]);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> void executeBatchUpdateRoot(BatchedActions.Group group) {
+
+		Class<T> domainType = (Class<T>) group.getEntityType();
+		boolean versioned = converter.getMappingContext().getRequiredPersistentEntity(domainType).hasVersionProperty();
+
+		List<T> entities = new ArrayList<>(group.size());
+		List<Number> previousVersions = new ArrayList<>(group.size());
+
+		for (int i = 0; i < group.size(); i++) {
+
+			DbAction.UpdateRoot<T> update = (DbAction.UpdateRoot<T>) group.getAction(i);
+
+			if (versioned) {
+
+				JdbcAggregateChangeExecutionContext executionContext = group.getExecutionContext(i);
+				Number previousVersion = executionContext.getPreviousVersion(update);
+
+				previousVersions.add(previousVersion);
+				entities.add(executionContext.incrementVersion(update, previousVersion));
+			} else {
+				entities.add(update.getEntity());
+			}
+		}
+
+		boolean[] updated = versioned //
+				? accessStrategy.updateWithVersion(entities, domainType, previousVersions) //
+				: accessStrategy.update(entities, domainType);
+
+		for (int i = 0; i < group.size(); i++) {
+			group.getExecutionContext(i).verifyUpdated((DbAction.UpdateRoot<T>) group.getAction(i), updated[i]);
+		}
+	}
+
+	private void executeBatchAcquireLock(BatchedActions.Group group) {
+
+		List<Object> ids = new ArrayList<>(group.size());
+		for (int i = 0; i < group.size(); i++) {
+			ids.add(((DbAction.AcquireLockRoot<?>) group.getAction(i)).getId());
+		}
+
+		accessStrategy.acquireLockById(ids, LockMode.PESSIMISTIC_WRITE, group.getEntityType());
+	}
+
+	private void executeBatchDelete(BatchedActions.Group group) {
+
+		List<Object> rootIds = new ArrayList<>(group.size());
+		for (int i = 0; i < group.size(); i++) {
+			rootIds.add(((DbAction.Delete<?>) group.getAction(i)).getRootId());
+		}
+
+		accessStrategy.delete(rootIds, ((DbAction.Delete<?>) group.getAction(0)).getPropertyPath());
+	}
+
+	private void executeBatchDeleteRoot(BatchedActions.Group group) {
+
+		Class<?> domainType = group.getEntityType();
+		boolean versioned = converter.getMappingContext().getRequiredPersistentEntity(domainType).hasVersionProperty();
+
+		List<Object> ids = new ArrayList<>(group.size());
+		List<Object> versionedIds = new ArrayList<>(group.size());
+		List<Number> previousVersions = new ArrayList<>(group.size());
+
+		for (int i = 0; i < group.size(); i++) {
+
+			DbAction.DeleteRoot<?> delete = (DbAction.DeleteRoot<?>) group.getAction(i);
+
+			if (versioned && delete.getPreviousVersion() != null) {
+
+				versionedIds.add(delete.getId());
+				previousVersions.add(delete.getPreviousVersion());
+			} else {
+				ids.add(delete.getId());
+			}
+		}
+
+		// deletes that check the version need a statement per row in order to detect a failing check.
+		if (!versionedIds.isEmpty()) {
+			accessStrategy.deleteWithVersion(versionedIds, domainType, previousVersions);
+		}
+
+		if (!ids.isEmpty()) {
+			accessStrategy.delete(ids, domainType);
+		}
+	}
+
+	/**
+	 * Two inserts may be executed in a single batch when they write to the same table with the same back references,
+	 * i.e. when they share the {@link org.springframework.data.mapping.PersistentPropertyPath} and the entity type. Such
+	 * inserts never depend on each other.
+	 */
+	private static boolean isBatchable(DbAction.Insert<?> first, DbAction.Insert<?> other) {
+
+		return first.getPropertyPath().equals(other.getPropertyPath())
+				&& first.getEntityType().equals(other.getEntityType());
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void executeInserts(List<DbAction.Insert<?>> inserts, JdbcAggregateChangeExecutionContext executionContext) {
+
+		if (inserts.isEmpty()) {
+			return;
+		}
+
+		if (inserts.size() == 1) {
+			execute(inserts.get(0), executionContext);
+		} else {
+
+			try {
+				executionContext.executeBatchInsert((List) inserts);
+			} catch (Exception e) {
+				throw new DbActionExecutionException(inserts.get(0), e);
+			}
+		}
+
+		inserts.clear();
+	}
+
 	private void execute(DbAction<?> action, JdbcAggregateChangeExecutionContext executionContext) {
 
 		try {
@@ -68,10 +331,14 @@ class AggregateChangeExecutor {
 				executionContext.executeInsert((DbAction.Insert<?>) action);
 			} else if (action instanceof DbAction.UpdateRoot) {
 				executionContext.executeUpdateRoot((DbAction.UpdateRoot<?>) action);
+			} else if (action instanceof DbAction.UpsertRoot) {
+				executionContext.executeUpsertRoot((DbAction.UpsertRoot<?>) action);
 			} else if (action instanceof DbAction.Update) {
 				executionContext.executeUpdate((DbAction.Update<?>) action);
 			} else if (action instanceof DbAction.Delete) {
 				executionContext.executeDelete((DbAction.Delete<?>) action);
+			} else if (action instanceof DbAction.DeleteById) {
+				executionContext.executeDeleteById((DbAction.DeleteById<?>) action);
 			} else if (action instanceof DbAction.DeleteAll) {
 				executionContext.executeDeleteAll((DbAction.DeleteAll<?>) action);
 			} else if (action instanceof DbAction.DeleteRoot) {
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.conversion.AggregateChange;
+import org.springframework.data.relational.core.conversion.DbAction;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.lang.Nullable;
+
+/**
+ * Combines the {@link DbAction}s of multiple {@link AggregateChange}s into groups of actions of the same kind operating
+ * on the same table, so that each group can be executed as a single batch. The groups are ordered such that the actions
+ * of each individual {@link AggregateChange} still get executed in their original order.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+class BatchedActions {
+
+	private final Map<Key, Group> groups = new LinkedHashMap<>();
+	private final Map<Key, Set<Key>> successors = new HashMap<>();
+	private boolean consistent = true;
+
+	/**
+	 * Adds the actions of an {@link AggregateChange} which are to be executed using the given execution context.
+	 */
+	void add(AggregateChange<?> aggregateChange, JdbcAggregateChangeExecutionContext executionContext) {
+
+		List<DbAction<?>> actions = DbActionPlanner.plan(aggregateChange);
+
+		Set<Key> seen = new HashSet<>();
+		Key previous = null;
+
+		for (DbAction<?> action : actions) {
+
+			Key key = Key.of(action);
+
+			if (!key.equals(previous)) {
+
+				// a key reappearing after some other key can't be represented by a single group.
+				if (!seen.add(key)) {
+					consistent = false;
+				}
+
+				if (previous != null) {
+					successors.computeIfAbsent(previous, k -> new LinkedHashSet<>()).add(key);
+				}
+			}
+
+			groups.computeIfAbsent(key, Group::new).add(action, executionContext);
+			previous = key;
+		}
+	}
+
+	/**
+	 * Returns the groups of actions in an order that is compatible with the order of actions in every single
+	 * {@link AggregateChange} added. Groups get ordered by their first appearance where possible.
+	 *
+	 * @return the groups in execution order or {@literal null} if no such order exists, in which case the
+	 *         {@link AggregateChange}s must be executed one by one.
+	 */
+	@Nullable
+	List<Group> inExecutionOrder() {
+
+		if (!consistent) {
+			return null;
+		}
+
+		Map<Key, Integer> predecessorCount = new HashMap<>();
+		successors.values().forEach(keys -> keys.forEach(key -> predecessorCount.merge(key, 1, Integer::sum)));
+
+		List<Group> ordered = new ArrayList<>(groups.size());
+		Set<Key> remaining = new LinkedHashSet<>(groups.keySet());
+
+		while (!remaining.isEmpty()) {
+
+			Key next = null;
+			for (Key key : remaining) {
+
+				if (predecessorCount.getOrDefault(key, 0) == 0) {
+					next = key;
+					break;
+				}
+			}
+
+			if (next == null) {
+				// the aggregates disagree about the order of actions.
+				return null;
+			}
+
+			remaining.remove(next);
+			ordered.add(groups.get(next));
+
+			for (Key successor : successors.getOrDefault(next, Collections.emptySet())) {
+				predecessorCount.merge(successor, -1, Integer::sum);
+			}
+		}
+
+		return ordered;
+	}
+
+	/**
+	 * Actions of the same kind, for the same entity type and path, possibly from different aggregates.
+	 */
+	static class Group {
+
+		private final Key key;
+		private final List<DbAction<?>> actions = new ArrayList<>();
+		private final List<JdbcAggregateChangeExecutionContext> executionContexts = new ArrayList<>();
+
+		private Group(Key key) {
+			this.key = key;
+		}
+
+		private void add(DbAction<?> action, JdbcAggregateChangeExecutionContext executionContext) {
+
+			actions.add(action);
+			executionContexts.add(executionContext);
+		}
+
+		Class<?> getActionType() {
+			return key.actionType;
+		}
+
+		Class<?> getEntityType() {
+			return key.entityType;
+		}
+
+		int size() {
+			return actions.size();
+		}
+
+		DbAction<?> getAction(int index) {
+			return actions.get(index);
+		}
+
+		JdbcAggregateChangeExecutionContext getExecutionContext(int index) {
+			return executionContexts.get(index);
+		}
+	}
+
+	private static class Key {
+
+		private final Class<?> actionType;
+		private final Class<?> entityType;
+		@Nullable private final PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
+
+		private Key(Class<?> actionType, Class<?> entityType,
+				@Nullable PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+			this.actionType = actionType;
+			this.entityType = entityType;
+			this.propertyPath = propertyPath;
+		}
+
+		static Key of(DbAction<?> action) {
+
+			PersistentPropertyPath<RelationalPersistentProperty> propertyPath = action instanceof DbAction.WithPropertyPath
+					? ((DbAction.WithPropertyPath<?>) action).getPropertyPath()
+					: null;
+
+			return new Key(action.getClass(), action.getEntityType(), propertyPath);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o)
+				return true;
+			if (o == null || getClass() != o.getClass())
+				return false;
+			Key key = (Key) o;
+			return actionType.equals(key.actionType) && entityType.equals(key.entityType)
+					&& Objects.equals(propertyPath, key.propertyPath);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(actionType, entityType, propertyPath);
+		}
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.conversion.AggregateChange;
+import org.springframework.data.relational.core.conversion.DbAction;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+
+/**
+ * Reorders the {@link DbAction}s of an {@link AggregateChange} before execution, so that inserts into the same table
+ * with the same back references form runs as long as possible, which then can be executed as a single batch.
+ * <p>
+ * Only consecutive {@link DbAction.Insert}s get reordered, since they never conflict with each other. Within such a
+ * sequence of inserts, the inserts get grouped by entity type and property path and the groups get sorted
+ * topologically, using {@link DbAction.WithDependingOn#getDependingOn()}, so that the insert of a parent entity always
+ * precedes the inserts of the entities depending on it. Groups are ordered by their first appearance where possible and
+ * the order of the inserts within a group is preserved.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+final class DbActionPlanner {
+
+	private DbActionPlanner() {}
+
+	/**
+	 * Returns the actions of the {@link AggregateChange} in the order in which they should be executed.
+	 *
+	 * @param aggregateChange the change to plan. Must not be {@literal null}.
+	 * @return the actions in execution order. Guaranteed to be not {@literal null}.
+	 */
+	static List<DbAction<?>> plan(AggregateChange<?> aggregateChange) {
+
+		List<DbAction<?>> planned = new ArrayList<>();
+		List<DbAction.Insert<?>> inserts = new ArrayList<>();
+
+		aggregateChange.forEachAction(action -> {
+
+			if (action instanceof DbAction.Insert) {
+
+				inserts.add((DbAction.Insert<?>) action);
+				return;
+			}
+
+			planned.addAll(order(inserts));
+			inserts.clear();
+			planned.add(action);
+		});
+
+		planned.addAll(order(inserts));
+
+		return planned;
+	}
+
+	/**
+	 * Orders a sequence of inserts by grouping them and sorting the groups topologically.
+	 *
+	 * @return the reordered inserts, or the inserts in their original order if grouping them would violate a dependency.
+	 */
+	private static List<DbAction.Insert<?>> order(List<DbAction.Insert<?>> inserts) {
+
+		if (inserts.size() < 3) {
+			return inserts;
+		}
+
+		Map<Key, List<DbAction.Insert<?>>> groups = new LinkedHashMap<>();
+		Map<DbAction<?>, Key> keys = new IdentityHashMap<>();
+
+		for (DbAction.Insert<?> insert : inserts) {
+
+			Key key = Key.of(insert);
+			groups.computeIfAbsent(key, k -> new ArrayList<>()).add(insert);
+			keys.put(insert, key);
+		}
+
+		if (groups.size() == inserts.size()) {
+			return inserts;
+		}
+
+		Map<Key, Set<Key>> successors = new HashMap<>();
+		Map<Key, Integer> predecessorCount = new HashMap<>();
+
+		for (DbAction.Insert<?> insert : inserts) {
+
+			Key predecessor = keys.get(insert.getDependingOn());
+			if (predecessor == null) {
+				continue;
+			}
+
+			Key key = keys.get(insert);
+
+			// an insert depending on another insert of the same group can't be batched with it.
+			if (predecessor.equals(key)) {
+				return inserts;
+			}
+
+			if (successors.computeIfAbsent(predecessor, k -> new LinkedHashSet<>()).add(key)) {
+				predecessorCount.merge(key, 1, Integer::sum);
+			}
+		}
+
+		List<DbAction.Insert<?>> ordered = new ArrayList<>(inserts.size());
+		Set<Key> remaining = new LinkedHashSet<>(groups.keySet());
+
+		while (!remaining.isEmpty()) {
+
+			Key next = null;
+			for (Key key : remaining) {
+
+				if (predecessorCount.getOrDefault(key, 0) == 0) {
+					next = key;
+					break;
+				}
+			}
+
+			if (next == null) {
+				return inserts;
+			}
+
+			remaining.remove(next);
+			ordered.addAll(groups.get(next));
+
+			for (Key successor : successors.getOrDefault(next, Collections.emptySet())) {
+				predecessorCount.merge(successor, -1, Integer::sum);
+			}
+		}
+
+		return ordered;
+	}
+
+	/**
+	 * Inserts with equal keys write to the same table with the same back references.
+	 */
+	private static class Key {
+
+		private final Class<?> entityType;
+		private final PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
+
+		private Key(Class<?> entityType, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+			this.entityType = entityType;
+			this.propertyPath = propertyPath;
+		}
+
+		static Key of(DbAction.Insert<?> insert) {
+			return new Key(insert.getEntityType(), insert.getPropertyPath());
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o)
+				return true;
+			if (o == null || getClass() != o.getClass())
+				return false;
+			Key key = (Key) o;
+			return entityType.equals(key.entityType) && propertyPath.equals(key.propertyPath);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(entityType, propertyPath);
+		}
+	}
+}
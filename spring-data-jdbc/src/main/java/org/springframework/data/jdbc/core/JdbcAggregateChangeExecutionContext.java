@@ -30,6 +30,7 @@ import org.springframework.dao.IncorrectUpdateSemanticsDataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.Identifier;
+import org.springframework.data.jdbc.core.convert.InsertSubject;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcIdentifierBuilder;
 import org.springframework.data.mapping.PersistentProperty;
@@ -72,35 +73,77 @@ class JdbcAggregateChangeExecutionContext {
 	}
 
 	<T> void executeInsertRoot(DbAction.InsertRoot<T> insert) {
-		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(insert.getEntityType());
 
-		Object id;
-		if (persistentEntity.hasVersionProperty()) {
+		InsertSubject<T> insertSubject = createInsertSubject(insert);
+		Object id = accessStrategy.insert(insertSubject.getInstance(), insert.getEntityType(),
+				insertSubject.getIdentifier());
+
+		addGeneratedId(insert, id);
+	}
 
-			RelationalPersistentProperty versionProperty = persistentEntity.getVersionProperty();
+	<T> void executeInsert(DbAction.Insert<T> insert) {
 
-			Assert.state(versionProperty != null, "Version property must not be null at this stage.");
+		InsertSubject<T> insertSubject = createInsertSubject(insert);
+		Object id = accessStrategy.insert(insertSubject.getInstance(), insert.getEntityType(),
+				insertSubject.getIdentifier());
 
-			long initialVersion = versionProperty.getActualType().isPrimitive() ? 1L : 0;
+		addGeneratedId(insert, id);
+	}
 
-			T rootEntity = RelationalEntityVersionUtils.setVersionNumberOnEntity( //
-					insert.getEntity(), initialVersion, persistentEntity, converter);
+	<T> void executeBatchInsert(List<DbAction.Insert<T>> inserts) {
 
-			id = accessStrategy.insert(rootEntity, insert.getEntityType(), Identifier.empty());
+		Assert.notEmpty(inserts, "Inserts must not be empty.");
 
-			setNewVersion(initialVersion);
-		} else {
-			id = accessStrategy.insert(insert.getEntity(), insert.getEntityType(), Identifier.empty());
+		List<InsertSubject<T>> insertSubjects = new ArrayList<>(inserts.size());
+		for (DbAction.Insert<T> insert : inserts) {
+			insertSubjects.add(createInsertSubject(insert));
 		}
 
-		add(new DbActionExecutionResult(insert, id));
+		Object[] ids = accessStrategy.insert(insertSubjects, inserts.get(0).getEntityType());
+
+		for (int i = 0; i < inserts.size(); i++) {
+			addGeneratedId(inserts.get(i), ids[i]);
+		}
 	}
 
-	<T> void executeInsert(DbAction.Insert<T> insert) {
+	/**
+	 * Creates the {@link InsertSubject} for inserting an aggregate root. If the aggregate root is versioned the initial
+	 * version gets applied to the entity and registered as the new version of this context.
+	 */
+	<T> InsertSubject<T> createInsertSubject(DbAction.InsertRoot<T> insert) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(insert.getEntityType());
+
+		if (!persistentEntity.hasVersionProperty()) {
+			return InsertSubject.describedBy(insert.getEntity(), Identifier.empty());
+		}
+
+		RelationalPersistentProperty versionProperty = persistentEntity.getVersionProperty();
+
+		Assert.state(versionProperty != null, "Version property must not be null at this stage.");
+
+		long initialVersion = versionProperty.getActualType().isPrimitive() ? 1L : 0;
 
-		Identifier parentKeys = getParentKeys(insert, converter);
-		Object id = accessStrategy.insert(insert.getEntity(), insert.getEntityType(), parentKeys);
-		add(new DbActionExecutionResult(insert, id));
+		T rootEntity = RelationalEntityVersionUtils.setVersionNumberOnEntity( //
+				insert.getEntity(), initialVersion, persistentEntity, converter);
+
+		setNewVersion(initialVersion);
+
+		return InsertSubject.describedBy(rootEntity, Identifier.empty());
+	}
+
+	/**
+	 * Creates the {@link InsertSubject} for inserting a non root entity, including the back references to its parent.
+	 */
+	<T> InsertSubject<T> createInsertSubject(DbAction.Insert<T> insert) {
+		return InsertSubject.describedBy(insert.getEntity(), getParentKeys(insert, converter));
+	}
+
+	/**
+	 * Registers the id generated by the database when executing the given action.
+	 */
+	void addGeneratedId(DbAction.WithGeneratedId<?> action, @Nullable Object id) {
+		add(new DbActionExecutionResult(action, id));
 	}
 
 	<T> void executeUpdateRoot(DbAction.UpdateRoot<T> update) {
@@ -108,13 +151,17 @@ class JdbcAggregateChangeExecutionContext {
 		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(update.getEntityType());
 
 		if (persistentEntity.hasVersionProperty()) {
-			updateWithVersion(update, persistentEntity);
+			updateWithVersion(update);
 		} else {
 
 			updateWithoutVersion(update);
 		}
 	}
 
+	<T> void executeUpsertRoot(DbAction.UpsertRoot<T> upsert) {
+		accessStrategy.upsert(upsert.getEntity(), upsert.getEntityType());
+	}
+
 	<T> void executeUpdate(DbAction.Update<T> update) {
 
 		if (!accessStrategy.update(update.getEntity(), update.getEntityType())) {
@@ -144,6 +191,11 @@ class JdbcAggregateChangeExecutionContext {
 		accessStrategy.delete(delete.getRootId(), delete.getPropertyPath());
 	}
 
+	<T> void executeDeleteById(DbAction.DeleteById<T> delete) {
+
+		accessStrategy.delete(delete.getId(), delete.getEntityType());
+	}
+
 	<T> void executeDeleteAllRoot(DbAction.DeleteAllRoot<T> deleteAllRoot) {
 
 		accessStrategy.deleteAll(deleteAllRoot.getEntityType());
@@ -362,31 +414,62 @@ class JdbcAggregateChangeExecutionContext {
 	}
 
 	private <T> void updateWithoutVersion(DbAction.UpdateRoot<T> update) {
+		verifyUpdated(update, accessStrategy.update(update.getEntity(), update.getEntityType()));
+	}
 
-		if (!accessStrategy.update(update.getEntity(), update.getEntityType())) {
+	private <T> void updateWithVersion(DbAction.UpdateRoot<T> update) {
 
-			throw new IncorrectUpdateSemanticsDataAccessException(
-					String.format(UPDATE_FAILED, update.getEntity(), getIdFrom(update)));
-		}
+		Number previousVersion = getPreviousVersion(update);
+		T rootEntity = incrementVersion(update, previousVersion);
+
+		verifyUpdated(update, accessStrategy.updateWithVersion(rootEntity, update.getEntityType(), previousVersion));
 	}
 
-	private <T> void updateWithVersion(DbAction.UpdateRoot<T> update, RelationalPersistentEntity<T> persistentEntity) {
+	/**
+	 * Obtains the version of the aggregate root to be updated as it was loaded from the database.
+	 */
+	<T> Number getPreviousVersion(DbAction.UpdateRoot<T> update) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(update.getEntityType());
 
-		// If the root aggregate has a version property, increment it.
 		Number previousVersion = RelationalEntityVersionUtils.getVersionNumberFromEntity(update.getEntity(),
 				persistentEntity, converter);
 
 		Assert.notNull(previousVersion, "The root aggregate cannot be updated because the version property is null.");
 
+		return previousVersion;
+	}
+
+	/**
+	 * Increments the version of the aggregate root to be updated and registers it as the new version of this context.
+	 *
+	 * @return the aggregate root with the new version applied.
+	 */
+	<T> T incrementVersion(DbAction.UpdateRoot<T> update, Number previousVersion) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(update.getEntityType());
+
 		setNewVersion(previousVersion.longValue() + 1);
 
-		T rootEntity = RelationalEntityVersionUtils.setVersionNumberOnEntity(update.getEntity(), getNewVersion(),
-				persistentEntity, converter);
+		return RelationalEntityVersionUtils.setVersionNumberOnEntity(update.getEntity(), getNewVersion(), persistentEntity,
+				converter);
+	}
 
-		if (!accessStrategy.updateWithVersion(rootEntity, update.getEntityType(), previousVersion)) {
+	/**
+	 * Raises an appropriate exception if the update of the aggregate root didn't affect a row.
+	 */
+	<T> void verifyUpdated(DbAction.UpdateRoot<T> update, boolean updated) {
 
+		if (updated) {
+			return;
+		}
+
+		if (getRequiredPersistentEntity(update.getEntityType()).hasVersionProperty()) {
 			throw new OptimisticLockingFailureException(String.format(UPDATE_FAILED_OPTIMISTIC_LOCKING, update.getEntity()));
 		}
+
+		throw new IncorrectUpdateSemanticsDataAccessException(
+				String.format(UPDATE_FAILED, update.getEntity(), getIdFrom(update)));
 	}
 
 	/**
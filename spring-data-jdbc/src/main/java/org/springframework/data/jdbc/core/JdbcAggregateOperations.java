@@ -15,9 +15,12 @@
  */
 package org.springframework.data.jdbc.core;
 
+import java.util.stream.Stream;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.Keyset;
 import org.springframework.lang.Nullable;
 
 /**
@@ -60,6 +63,54 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> T update(T instance);
 
+	/**
+	 * Dedicated upsert function. Inserts the aggregate root or updates it if it already exists in the database, using a
+	 * single statement where the database supports it. Referenced entities get deleted and inserted again. This avoids
+	 * the need to decide beforehand if the aggregate is new, which is useful for aggregates with ids assigned by the
+	 * application.
+	 *
+	 * @param instance the aggregate root of the aggregate to be stored. Must not be {@code null}. Its id must be set and
+	 *          it must not have a version property.
+	 * @param <T> the type of the aggregate root.
+	 * @return the saved instance.
+	 * @since 2.1
+	 */
+	<T> T upsert(T instance);
+
+	/**
+	 * Saves all aggregate instances, including all the members of each aggregate. The changes to all aggregates get
+	 * combined so that statements of the same kind operating on the same table are executed as a single batch.
+	 *
+	 * @param instances the aggregate roots to be saved. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return the saved instances in the order of {@code instances}.
+	 * @since 2.1
+	 */
+	<T> Iterable<T> saveAll(Iterable<T> instances);
+
+	/**
+	 * Dedicated insert function for multiple aggregates. This skips the test if the aggregate roots are new and makes an
+	 * insert for each of them. Inserts for the same table get executed as a single batch.
+	 *
+	 * @param instances the aggregate roots of the aggregates to be inserted. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return the saved instances in the order of {@code instances}.
+	 * @since 2.1
+	 */
+	<T> Iterable<T> insertAll(Iterable<T> instances);
+
+	/**
+	 * Dedicated update function for multiple aggregates. This skips the test if the aggregate roots are new or not and
+	 * always performs an update for each of them. Statements of the same kind operating on the same table get executed as
+	 * a single batch.
+	 *
+	 * @param instances the aggregate roots of the aggregates to be updated. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @return the saved instances in the order of {@code instances}.
+	 * @since 2.1
+	 */
+	<T> Iterable<T> updateAll(Iterable<T> instances);
+
 	/**
 	 * Deletes a single Aggregate including all entities contained in that aggregate.
 	 *
@@ -78,6 +129,30 @@ public interface JdbcAggregateOperations {
 	 */
 	<T> void delete(T aggregateRoot, Class<T> domainType);
 
+	/**
+	 * Deletes multiple aggregates, including all entities contained in them. Instead of deleting one aggregate after the
+	 * other, the rows of each table get deleted using {@code IN} lists. Optimistic locking checks of versioned aggregates
+	 * get executed as a JDBC batch.
+	 *
+	 * @param ids the ids of the aggregate roots of the aggregates to be deleted. Must not be {@code null}.
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @since 2.1
+	 */
+	<T> void deleteAllById(Iterable<?> ids, Class<T> domainType);
+
+	/**
+	 * Deletes multiple aggregates identified by their aggregate roots, including all entities contained in them. Instead
+	 * of deleting one aggregate after the other, the rows of each table get deleted using {@code IN} lists. Optimistic
+	 * locking checks of versioned aggregates get executed as a JDBC batch.
+	 *
+	 * @param aggregateRoots the aggregate roots of the aggregates to delete. Must not be {@code null}.
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots.
+	 * @since 2.1
+	 */
+	<T> void deleteAll(Iterable<? extends T> aggregateRoots, Class<T> domainType);
+
 	/**
 	 * Delete all aggregates of a given type.
 	 *
@@ -154,4 +229,47 @@ public interface JdbcAggregateOperations {
 	 * @since 2.0
 	 */
 	<T> Page<T> findAll(Class<T> domainType, Pageable pageable);
+
+	/**
+	 * Load the aggregates of a given type following the given {@link Keyset} in the order of the given {@link Sort}.
+	 * Other than paging by {@link Pageable} this doesn't make the database skip the rows of all previous pages, so the
+	 * cost of loading a page doesn't depend on how deep the page is, provided there is an index on the sort keys. In
+	 * order to load the next page, pass the values of the sort keys of the last aggregate loaded as the next
+	 * {@link Keyset}. The sort must be unique, e.g. by ending with the id, and the sort keys must not be {@literal null}.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots. Must not be {@code null}.
+	 * @param sort the sorting information. Must not be {@code null} and must be sorted.
+	 * @param keyset the values of the sort keys of the last aggregate of the previous page or {@link Keyset#initial()}
+	 *          for the first page. Must not be {@code null}.
+	 * @param limit the maximum number of aggregates to load.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	<T> Iterable<T> findAll(Class<T> domainType, Sort sort, Keyset keyset, int limit);
+
+	/**
+	 * Load all aggregates of a given type as a {@link Stream}. Aggregates get loaded one after the other while the
+	 * {@link Stream} gets consumed, from a database cursor that stays open until the {@link Stream} gets closed. The
+	 * {@link Stream} must be consumed within the transaction it was created in and should be used in a
+	 * try-with-resources block.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	<T> Stream<T> streamAll(Class<T> domainType);
+
+	/**
+	 * Load all aggregates of a given type, sorted, as a {@link Stream}.
+	 *
+	 * @param domainType the type of the aggregate roots. Must not be {@code null}.
+	 * @param <T> the type of the aggregate roots. Must not be {@code null}.
+	 * @param sort the sorting information. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @see #streamAll(Class)
+	 * @since 2.1
+	 */
+	<T> Stream<T> streamAll(Class<T> domainType, Sort sort);
 }
@@ -19,12 +19,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
@@ -36,9 +36,12 @@ import org.springframework.data.relational.core.conversion.MutableAggregateChang
 import org.springframework.data.relational.core.conversion.RelationalEntityDeleteWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityInsertWriter;
 import org.springframework.data.relational.core.conversion.RelationalEntityUpdateWriter;
+import org.springframework.data.relational.core.conversion.RelationalEntityUpsertWriter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.event.*;
+import org.springframework.data.relational.core.query.Keyset;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -59,11 +62,14 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	private final RelationalEntityDeleteWriter jdbcEntityDeleteWriter;
 	private final RelationalEntityInsertWriter jdbcEntityInsertWriter;
 	private final RelationalEntityUpdateWriter jdbcEntityUpdateWriter;
+	private final RelationalEntityUpsertWriter jdbcEntityUpsertWriter;
 
 	private final DataAccessStrategy accessStrategy;
 	private final AggregateChangeExecutor executor;
 
 	private EntityCallbacks entityCallbacks = EntityCallbacks.create();
+	private boolean differentialUpdates = false;
+	private boolean estimatedPageTotals = false;
 
 	/**
 	 * Creates a new {@link JdbcAggregateTemplate} given {@link ApplicationContext}, {@link RelationalMappingContext} and
@@ -88,6 +94,7 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		this.jdbcEntityInsertWriter = new RelationalEntityInsertWriter(context);
 		this.jdbcEntityUpdateWriter = new RelationalEntityUpdateWriter(context);
+		this.jdbcEntityUpsertWriter = new RelationalEntityUpsertWriter(context);
 		this.jdbcEntityDeleteWriter = new RelationalEntityDeleteWriter(context);
 
 		this.executor = new AggregateChangeExecutor(converter, accessStrategy);
@@ -117,10 +124,42 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 
 		this.jdbcEntityInsertWriter = new RelationalEntityInsertWriter(context);
 		this.jdbcEntityUpdateWriter = new RelationalEntityUpdateWriter(context);
+		this.jdbcEntityUpsertWriter = new RelationalEntityUpsertWriter(context);
 		this.jdbcEntityDeleteWriter = new RelationalEntityDeleteWriter(context);
 		this.executor = new AggregateChangeExecutor(converter, accessStrategy);
 	}
 
+	/**
+	 * Configures whether updates of aggregates only write the referenced entities that actually changed. If enabled, the
+	 * current state of an aggregate gets loaded before updating it, in order to compare it with the aggregate to be
+	 * saved. Referenced entities identified by an id then get updated, inserted or deleted only as required, while
+	 * referenced entities without an id still get deleted and inserted again. Defaults to {@literal false}.
+	 * <p>
+	 * This pays off for aggregates with many referenced entities of which only few change at a time.
+	 *
+	 * @param differentialUpdates whether to perform differential updates.
+	 * @since 2.1
+	 */
+	public void setDifferentialUpdates(boolean differentialUpdates) {
+		this.differentialUpdates = differentialUpdates;
+	}
+
+	/**
+	 * Configures whether the total number of elements of a {@link Page} returned by
+	 * {@link #findAll(Class, Pageable)} may be an estimate, obtained from the statistics of the database instead of by
+	 * counting the rows. Defaults to {@literal false}.
+	 * <p>
+	 * The estimate is only used when the {@link org.springframework.data.relational.core.dialect.Dialect} supports it,
+	 * otherwise the rows get counted. Either way no count happens when the content of the page reveals the total.
+	 *
+	 * @param estimatedPageTotals whether to use estimated totals for pages.
+	 * @since 2.1
+	 * @see DataAccessStrategy#estimateCount(Class)
+	 */
+	public void setEstimatedPageTotals(boolean estimatedPageTotals) {
+		this.estimatedPageTotals = estimatedPageTotals;
+	}
+
 	/**
 	 * @param entityCallbacks
 	 * @since 1.1
@@ -183,6 +222,62 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return store(instance, this::createUpdateChange, persistentEntity);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#upsert(java.lang.Object)
+	 */
+	@Override
+	public <T> T upsert(T instance) {
+
+		Assert.notNull(instance, "Aggregate instance must not be null!");
+
+		RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(instance.getClass());
+
+		Assert.notNull(persistentEntity.getIdentifierAccessor(instance).getIdentifier(),
+				"The id of an aggregate to upsert must not be null!");
+		Assert.isTrue(!persistentEntity.hasVersionProperty(), "Aggregates with a version can't be upserted!");
+
+		return store(instance, this::createUpsertChange, persistentEntity);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#saveAll(java.lang.Iterable)
+	 */
+	@Override
+	public <T> Iterable<T> saveAll(Iterable<T> instances) {
+
+		Assert.notNull(instances, "Aggregate instances must not be null!");
+
+		return storeAll(instances, instance -> context.getRequiredPersistentEntity(instance.getClass()).isNew(instance)
+				? this::createInsertChange
+				: this::createUpdateChange);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#insertAll(java.lang.Iterable)
+	 */
+	@Override
+	public <T> Iterable<T> insertAll(Iterable<T> instances) {
+
+		Assert.notNull(instances, "Aggregate instances must not be null!");
+
+		return storeAll(instances, instance -> this::createInsertChange);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#updateAll(java.lang.Iterable)
+	 */
+	@Override
+	public <T> Iterable<T> updateAll(Iterable<T> instances) {
+
+		Assert.notNull(instances, "Aggregate instances must not be null!");
+
+		return storeAll(instances, instance -> this::createUpdateChange);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#count(java.lang.Class)
@@ -248,10 +343,11 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		Assert.notNull(domainType, "Domain type must not be null!");
 
 		Iterable<T> items = triggerAfterLoad(accessStrategy.findAll(domainType, pageable));
-		long totalCount = accessStrategy.count(domainType);
+		List<T> content = StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList());
 
-		return new PageImpl<>(StreamSupport.stream(items.spliterator(), false).collect(Collectors.toList()), pageable,
-				totalCount);
+		return PageableExecutionUtils.getPage(content, pageable, () -> estimatedPageTotals //
+				? accessStrategy.estimateCount(domainType) //
+				: accessStrategy.count(domainType));
 	}
 
 	/*
@@ -267,6 +363,46 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return triggerAfterLoad(all);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#findAll(java.lang.Class, org.springframework.data.domain.Sort, org.springframework.data.relational.core.query.Keyset, int)
+	 */
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort, Keyset keyset, int limit) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(sort, "Sort must not be null!");
+		Assert.notNull(keyset, "Keyset must not be null!");
+
+		Iterable<T> all = accessStrategy.findAll(domainType, sort, keyset, limit);
+		return triggerAfterLoad(all);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#streamAll(java.lang.Class)
+	 */
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		return accessStrategy.streamAll(domainType).map(this::triggerAfterLoad);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#streamAll(java.lang.Class, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(sort, "Sort must not be null!");
+
+		return accessStrategy.streamAll(domainType, sort).map(this::triggerAfterLoad);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#findAllById(java.lang.Iterable, java.lang.Class)
@@ -310,6 +446,58 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		deleteTree(id, null, domainType);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#deleteAllById(java.lang.Iterable, java.lang.Class)
+	 */
+	@Override
+	public <S> void deleteAllById(Iterable<?> ids, Class<S> domainType) {
+
+		Assert.notNull(ids, "Ids must not be null!");
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		List<Object> idList = new ArrayList<>();
+		List<S> aggregateRoots = new ArrayList<>();
+
+		for (Object id : ids) {
+
+			Assert.notNull(id, "Id must not be null!");
+
+			idList.add(id);
+			aggregateRoots.add(null);
+		}
+
+		deleteTrees(idList, aggregateRoots, domainType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#deleteAll(java.lang.Iterable, java.lang.Class)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <S> void deleteAll(Iterable<? extends S> aggregateRoots, Class<S> domainType) {
+
+		Assert.notNull(aggregateRoots, "Aggregate roots must not be null!");
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		RelationalPersistentEntity<S> persistentEntity = (RelationalPersistentEntity<S>) context
+				.getRequiredPersistentEntity(domainType);
+
+		List<Object> ids = new ArrayList<>();
+		List<S> roots = new ArrayList<>();
+
+		for (S aggregateRoot : aggregateRoots) {
+
+			Assert.notNull(aggregateRoot, "Aggregate root must not be null!");
+
+			ids.add(persistentEntity.getIdentifierAccessor(aggregateRoot).getRequiredIdentifier());
+			roots.add(aggregateRoot);
+		}
+
+		deleteTrees(ids, roots, domainType);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.JdbcAggregateOperations#deleteAll(java.lang.Class)
@@ -345,6 +533,46 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 		return triggerAfterSave(entityAfterExecution, change);
 	}
 
+	private <T> List<T> storeAll(Iterable<T> aggregateRoots,
+			Function<T, Function<T, MutableAggregateChange<T>>> changeCreatorSelector) {
+
+		List<MutableAggregateChange<T>> changes = new ArrayList<>();
+
+		for (T aggregateRoot : aggregateRoots) {
+
+			Assert.notNull(aggregateRoot, "Aggregate instance must not be null!");
+
+			// like in save(…) the change gets selected before BeforeConvert callbacks might set the id of a new aggregate.
+			Function<T, MutableAggregateChange<T>> changeCreator = changeCreatorSelector.apply(aggregateRoot);
+
+			aggregateRoot = triggerBeforeConvert(aggregateRoot);
+
+			MutableAggregateChange<T> change = changeCreator.apply(aggregateRoot);
+
+			aggregateRoot = triggerBeforeSave(aggregateRoot, change);
+
+			change.setEntity(aggregateRoot);
+			changes.add(change);
+		}
+
+		List<T> entitiesAfterExecution = executor.executeAll(changes);
+
+		List<T> result = new ArrayList<>(changes.size());
+		for (int i = 0; i < changes.size(); i++) {
+
+			T entityAfterExecution = entitiesAfterExecution.get(i);
+
+			Object identifier = context.getRequiredPersistentEntity(entityAfterExecution.getClass())
+					.getIdentifierAccessor(entityAfterExecution).getIdentifier();
+
+			Assert.notNull(identifier, "After saving the identifier must not be null!");
+
+			result.add(triggerAfterSave(entityAfterExecution, changes.get(i)));
+		}
+
+		return result;
+	}
+
 	private <T> void deleteTree(Object id, @Nullable T entity, Class<T> domainType) {
 
 		MutableAggregateChange<T> change = createDeletingChange(id, entity, domainType);
@@ -367,10 +595,61 @@ public class JdbcAggregateTemplate implements JdbcAggregateOperations {
 	private <T> MutableAggregateChange<T> createUpdateChange(T instance) {
 
 		MutableAggregateChange<T> aggregateChange = MutableAggregateChange.forSave(instance);
-		jdbcEntityUpdateWriter.write(instance, aggregateChange);
+
+		if (differentialUpdates) {
+			jdbcEntityUpdateWriter.write(instance, loadPreviousState(instance), aggregateChange);
+		} else {
+			jdbcEntityUpdateWriter.write(instance, aggregateChange);
+		}
+
+		return aggregateChange;
+	}
+
+	private <T> MutableAggregateChange<T> createUpsertChange(T instance) {
+
+		MutableAggregateChange<T> aggregateChange = MutableAggregateChange.forSave(instance);
+		jdbcEntityUpsertWriter.write(instance, aggregateChange);
 		return aggregateChange;
 	}
 
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private <T> T loadPreviousState(T instance) {
+
+		RelationalPersistentEntity<T> persistentEntity = (RelationalPersistentEntity<T>) context
+				.getRequiredPersistentEntity(instance.getClass());
+		Object id = persistentEntity.getIdentifierAccessor(instance).getIdentifier();
+
+		return id == null ? null : accessStrategy.findById(id, persistentEntity.getType());
+	}
+
+	private <T> void deleteTrees(List<Object> ids, List<T> entities, Class<T> domainType) {
+
+		if (ids.isEmpty()) {
+			return;
+		}
+
+		List<MutableAggregateChange<T>> changes = new ArrayList<>(ids.size());
+		List<T> roots = new ArrayList<>(ids.size());
+
+		for (int i = 0; i < ids.size(); i++) {
+
+			MutableAggregateChange<T> change = createDeletingChange(ids.get(i), entities.get(i), domainType);
+
+			T entity = triggerBeforeDelete(entities.get(i), ids.get(i), change);
+			change.setEntity(entity);
+
+			changes.add(change);
+			roots.add(entity);
+		}
+
+		executor.executeAll(changes);
+
+		for (int i = 0; i < ids.size(); i++) {
+			triggerAfterDelete(roots.get(i), ids.get(i), changes.get(i));
+		}
+	}
+
 	private <T> MutableAggregateChange<T> createDeletingChange(Object id, @Nullable T entity, Class<T> domainType) {
 
 		MutableAggregateChange<T> aggregateChange = MutableAggregateChange.forDelete(domainType, entity);
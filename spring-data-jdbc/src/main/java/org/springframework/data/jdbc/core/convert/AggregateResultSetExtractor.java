@@ -0,0 +1,252 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.lang.Nullable;
+
+/**
+ * Assembles complete aggregates from the rows of a query joining all tables of the aggregate, as rendered by
+ * {@link SqlGenerator#getFindAllAggregate()}. Since every entity in a collection or map contributes its own rows, roots
+ * and referenced entities get de-duplicated by their ids, or by list index or map key and the id of their parent.
+ * <p>
+ * Only aggregates for which {@link #supports(RelationalMappingContext, RelationalPersistentEntity)} returns
+ * {@literal true} can be read this way.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+class AggregateResultSetExtractor<T> implements ResultSetExtractor<List<T>> {
+
+	private final JdbcConverter converter;
+	private final IdentifierProcessing identifierProcessing;
+	private final PersistentPropertyPathExtension rootPath;
+	private final String rootIdLabel;
+	private final List<PersistentPropertyPathExtension> relationPaths = new ArrayList<>();
+
+	AggregateResultSetExtractor(RelationalMappingContext context, JdbcConverter converter,
+			RelationalPersistentEntity<T> entity, IdentifierProcessing identifierProcessing) {
+
+		this.converter = converter;
+		this.identifierProcessing = identifierProcessing;
+		this.rootPath = new PersistentPropertyPathExtension(context, entity);
+		this.rootIdLabel = rootPath.extendBy(entity.getRequiredIdProperty()).getColumnAlias()
+				.getReference(identifierProcessing);
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : context
+				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
+
+			if (isRelation(path.getRequiredLeafProperty())) {
+				relationPaths.add(new PersistentPropertyPathExtension(context, path));
+			}
+		}
+	}
+
+	/**
+	 * Determines whether aggregates of the given type can be read from a single query. This requires an id for the
+	 * aggregate root and for every entity referencing other entities in or below a collection or map, so that the
+	 * referenced rows can be joined and told apart. Entities in collections need an id unless they are held in a
+	 * {@link List} or {@link Map}. Finally, collections and maps must be populated after the creation of the entity, so
+	 * neither constructor arguments nor properties set via wither are supported.
+	 */
+	static boolean supports(RelationalMappingContext context, RelationalPersistentEntity<?> entity) {
+
+		if (!entity.hasIdProperty()) {
+			return false;
+		}
+
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : context
+				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
+
+			PersistentPropertyPathExtension extPath = new PersistentPropertyPathExtension(context, path);
+
+			if (!extPath.isEntity() || extPath.isEmbedded() || !extPath.isMultiValued()) {
+				continue;
+			}
+
+			PersistentPropertyPathExtension parentPath = extPath.getParentPath();
+			if (parentPath.isEmbedded() || !parentPath.hasIdProperty()) {
+				return false;
+			}
+
+			RelationalPersistentProperty property = path.getRequiredLeafProperty();
+			if (isRelation(property) && !isPopulatable(extPath, property)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean isPopulatable(PersistentPropertyPathExtension path, RelationalPersistentProperty property) {
+
+		PreferredConstructor<?, ?> constructor = property.getOwner().getPersistenceConstructor();
+
+		return !property.isImmutable() //
+				&& (constructor == null || !constructor.isConstructorParameter(property)) //
+				&& (path.hasIdProperty() || path.isQualified());
+	}
+
+	private static boolean isRelation(RelationalPersistentProperty property) {
+		return (property.isCollectionLike() && property.isEntity()) || property.isMap();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.jdbc.core.ResultSetExtractor#extractData(java.sql.ResultSet)
+	 */
+	@Override
+	public List<T> extractData(ResultSet resultSet) throws SQLException {
+
+		DeferredRelations deferredRelations = new DeferredRelations();
+		ResultSetAccessor accessor = new ResultSetAccessor(resultSet);
+
+		Map<Object, T> roots = new LinkedHashMap<>();
+		Map<PersistentPropertyPath<?>, Relation> relations = new LinkedHashMap<>();
+
+		for (PersistentPropertyPathExtension path : relationPaths) {
+			relations.put(path.getRequiredPersistentPropertyPath(), new Relation(path));
+		}
+
+		while (resultSet.next()) {
+
+			Object rootId = resultSet.getObject(rootIdLabel);
+
+			if (!roots.containsKey(rootId)) {
+				roots.put(rootId, mapAggregateRow(rootPath, resultSet, accessor, roots.size(), deferredRelations));
+			}
+
+			for (Relation relation : relations.values()) {
+				relation.read(resultSet, accessor, deferredRelations);
+			}
+		}
+
+		// all rows are read, so every deferred relation can be populated from what got collected.
+		while (!deferredRelations.isEmpty()) {
+
+			for (DeferredRelations.Group group : deferredRelations.takePending()) {
+
+				Relation relation = relations.get(group.getPath());
+				group.resolve(relation == null ? Collections.<Object, List<Object>> emptyMap()
+						: relation.getEntitiesByParentId());
+			}
+		}
+
+		return new ArrayList<>(roots.values());
+	}
+
+	private <S> S mapAggregateRow(PersistentPropertyPathExtension path, ResultSet resultSet, ResultSetAccessor accessor,
+			Object key, DeferredRelations deferredRelations) {
+
+		return converter instanceof BasicJdbcConverter //
+				? ((BasicJdbcConverter) converter).mapAggregateRow(path, accessor, key, deferredRelations) //
+				: converter.mapAggregateRow(path, resultSet, key, deferredRelations);
+	}
+
+	/**
+	 * The entities of a collection or map read so far, by the id of their parent.
+	 */
+	private class Relation {
+
+		private final PersistentPropertyPathExtension path;
+		private final TypeInformation<?> parentIdType;
+		private final String backReferenceLabel;
+		@Nullable private final String idLabel;
+		@Nullable private final String qualifierLabel;
+
+		private final Map<Object, Map<Object, Object>> entitiesByParentId = new LinkedHashMap<>();
+
+		Relation(PersistentPropertyPathExtension path) {
+
+			this.path = path;
+			this.parentIdType = path.getParentPath().getRequiredIdProperty().getTypeInformation();
+			this.backReferenceLabel = path.getReverseColumnNameAlias().getReference(identifierProcessing);
+			this.idLabel = path.hasIdProperty() //
+					? path.extendBy(path.getRequiredIdProperty()).getColumnAlias().getReference(identifierProcessing) //
+					: null;
+			this.qualifierLabel = path.isQualified() //
+					? path.getQualifierColumnAlias().getReference(identifierProcessing) //
+					: null;
+		}
+
+		void read(ResultSet resultSet, ResultSetAccessor accessor, DeferredRelations deferredRelations)
+				throws SQLException {
+
+			Object backReference = resultSet.getObject(backReferenceLabel);
+
+			// the outer join didn't find an entity for this path.
+			if (backReference == null) {
+				return;
+			}
+
+			Object parentId = converter.readValue(backReference, parentIdType);
+			Object qualifier = qualifierLabel == null ? null : resultSet.getObject(qualifierLabel);
+			Object identity = idLabel == null ? qualifier : resultSet.getObject(idLabel);
+
+			Map<Object, Object> entities = entitiesByParentId.computeIfAbsent(parentId, id -> new LinkedHashMap<>());
+
+			if (entities.containsKey(identity)) {
+				return;
+			}
+
+			Object entity = mapAggregateRow(path, resultSet, accessor, qualifier == null ? entities.size() : qualifier,
+					deferredRelations);
+
+			entities.put(identity, path.isQualified() ? new AbstractMap.SimpleEntry<>(qualifier, entity) : entity);
+		}
+
+		@SuppressWarnings("unchecked")
+		Map<Object, List<Object>> getEntitiesByParentId() {
+
+			Map<Object, List<Object>> result = new HashMap<>();
+
+			entitiesByParentId.forEach((parentId, entities) -> {
+
+				List<Object> values = new ArrayList<>(entities.values());
+
+				// lists are populated from their elements ordered by index, maps from their entries.
+				if (path.isQualified() && !path.isMap()) {
+
+					values.sort(Comparator.comparing(entry -> (Comparable<Object>) ((Map.Entry<?, ?>) entry).getKey()));
+					values.replaceAll(entry -> ((Map.Entry<?, ?>) entry).getValue());
+				}
+
+				result.put(parentId, values);
+			});
+
+			return result;
+		}
+	}
+}
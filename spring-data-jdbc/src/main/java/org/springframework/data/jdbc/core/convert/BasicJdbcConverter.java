@@ -21,6 +21,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,15 +32,16 @@ import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.support.JdbcUtil;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
-import org.springframework.data.mapping.PreferredConstructor;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.SimpleTypeHolder;
 import org.springframework.data.relational.core.conversion.BasicRelationalConverter;
 import org.springframework.data.relational.core.conversion.RelationalConverter;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.lang.Nullable;
@@ -70,6 +72,13 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 	private final RelationResolver relationResolver;
 
+	private final @Nullable EntitySnapshots entitySnapshots;
+
+	private final Map<PersistentPropertyPathExtension, ReadingPlan> readingPlans = new ConcurrentHashMap<>();
+
+	private final boolean entityMaterializers;
+	private final Map<ReadingPlan, Optional<EntityMaterializer<?>>> materializers = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates a new {@link BasicRelationalConverter} given {@link MappingContext} and a
 	 * {@link JdbcTypeFactory#unsupported() no-op type factory} throwing {@link UnsupportedOperationException} on type
@@ -91,6 +100,8 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		this.relationResolver = relationResolver;
 		this.typeFactory = JdbcTypeFactory.unsupported();
 		this.identifierProcessing = IdentifierProcessing.ANSI;
+		this.entitySnapshots = null;
+		this.entityMaterializers = false;
 	}
 
 	/**
@@ -106,16 +117,57 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context,
 			RelationResolver relationResolver, CustomConversions conversions, JdbcTypeFactory typeFactory,
 			IdentifierProcessing identifierProcessing) {
+		this(context, relationResolver, conversions, typeFactory, identifierProcessing, DataAccessOptions.DEFAULT);
+	}
+
+	/**
+	 * Creates a new {@link BasicRelationalConverter} given {@link MappingContext}, applying the
+	 * {@link DataAccessOptions} concerning the reading of entities: {@link DataAccessOptions#isEntitySnapshots() entity
+	 * snapshots} and {@link DataAccessOptions#isEntityMaterializers() entity materializers}.
+	 *
+	 * @param context must not be {@literal null}. Must be a {@link RelationalMappingContext} if entity snapshots are
+	 *          enabled.
+	 * @param relationResolver used to fetch additional relations from the database. Must not be {@literal null}.
+	 * @param typeFactory must not be {@literal null}
+	 * @param identifierProcessing must not be {@literal null}
+	 * @param options must not be {@literal null}
+	 * @since 2.1
+	 */
+	public BasicJdbcConverter(
+			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> context,
+			RelationResolver relationResolver, CustomConversions conversions, JdbcTypeFactory typeFactory,
+			IdentifierProcessing identifierProcessing, DataAccessOptions options) {
 
 		super(context, conversions);
 
 		Assert.notNull(typeFactory, "JdbcTypeFactory must not be null");
 		Assert.notNull(relationResolver, "RelationResolver must not be null");
 		Assert.notNull(identifierProcessing, "IdentifierProcessing must not be null");
+		Assert.notNull(options, "DataAccessOptions must not be null");
 
 		this.relationResolver = relationResolver;
 		this.typeFactory = typeFactory;
 		this.identifierProcessing = identifierProcessing;
+		this.entityMaterializers = options.isEntityMaterializers();
+
+		if (options.isEntitySnapshots()) {
+
+			Assert.isInstanceOf(RelationalMappingContext.class, context,
+					"Entity snapshots require a RelationalMappingContext");
+			this.entitySnapshots = new EntitySnapshots((RelationalMappingContext) context);
+		} else {
+			this.entitySnapshots = null;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.JdbcConverter#getEntitySnapshots()
+	 */
+	@Nullable
+	@Override
+	public EntitySnapshots getEntitySnapshots() {
+		return entitySnapshots;
 	}
 
 	@Nullable
@@ -324,27 +376,138 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 	@Override
 	public <T> T mapRow(RelationalPersistentEntity<T> entity, ResultSet resultSet, Object key) {
-		return new ReadingContext<T>(new PersistentPropertyPathExtension(getMappingContext(), entity),
-				new ResultSetAccessor(resultSet), Identifier.empty(), key).mapRow();
+		return mapRow(entity, new ResultSetAccessor(resultSet), key);
+	}
+
+	/**
+	 * Variant of {@link #mapRow(RelationalPersistentEntity, ResultSet, Object)} reusing a {@link ResultSetAccessor} for
+	 * all rows of a {@link ResultSet}.
+	 */
+	<T> T mapRow(RelationalPersistentEntity<T> entity, ResultSetAccessor accessor, Object key) {
+
+		T instance = new ReadingContext<T>(new PersistentPropertyPathExtension(getMappingContext(), entity), accessor,
+				Identifier.empty(), key).mapRow();
+
+		return recordSnapshot(entity, instance);
 	}
 
 	@Override
 	public <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key) {
-		return new ReadingContext<T>(path, new ResultSetAccessor(resultSet), identifier, key).mapRow();
+		return mapRow(path, new ResultSetAccessor(resultSet), identifier, key, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.JdbcConverter#mapRow(org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension, java.sql.ResultSet, org.springframework.data.jdbc.core.convert.Identifier, java.lang.Object, org.springframework.data.jdbc.core.convert.DeferredRelations)
+	 */
+	@Override
+	public <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key,
+			DeferredRelations deferredRelations) {
+
+		Assert.notNull(deferredRelations, "DeferredRelations must not be null");
+
+		return mapRow(path, new ResultSetAccessor(resultSet), identifier, key, deferredRelations);
+	}
+
+	/**
+	 * Variant of {@link #mapRow(PersistentPropertyPathExtension, ResultSet, Identifier, Object, DeferredRelations)}
+	 * reusing a {@link ResultSetAccessor} for all rows of a {@link ResultSet}.
+	 */
+	<T> T mapRow(PersistentPropertyPathExtension path, ResultSetAccessor accessor, Identifier identifier, Object key,
+			@Nullable DeferredRelations deferredRelations) {
+
+		ReadingContext<T> readingContext = new ReadingContext<>(path, accessor, identifier, key);
+		readingContext.deferredRelations = deferredRelations;
+		T instance = readingContext.mapRow();
+
+		RelationalPersistentEntity<?> entity = path.getLeafEntity();
+		return entity == null ? instance : recordSnapshot(entity, instance);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.JdbcConverter#mapAggregateRow(org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension, java.sql.ResultSet, java.lang.Object, org.springframework.data.jdbc.core.convert.DeferredRelations)
+	 */
+	@Override
+	public <T> T mapAggregateRow(PersistentPropertyPathExtension path, ResultSet resultSet, Object key,
+			DeferredRelations deferredRelations) {
+		return mapAggregateRow(path, new ResultSetAccessor(resultSet), key, deferredRelations);
+	}
+
+	/**
+	 * Variant of {@link #mapAggregateRow(PersistentPropertyPathExtension, ResultSet, Object, DeferredRelations)} reusing
+	 * a {@link ResultSetAccessor} for all rows of a {@link ResultSet}.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T mapAggregateRow(PersistentPropertyPathExtension path, ResultSetAccessor accessor, Object key,
+			DeferredRelations deferredRelations) {
+
+		Assert.notNull(deferredRelations, "DeferredRelations must not be null");
+
+		RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) path.getLeafEntity();
+
+		Assert.notNull(entity, "The path must point to an entity.");
+
+		// columns get resolved relative to the aggregate root instead of the entity.
+		ReadingPlan readingPlan = getReadingPlan(path);
+		ReadingContext<T> readingContext = new ReadingContext<>(entity, readingPlan, readingPlan, Identifier.empty(), key,
+				accessor, new JdbcPropertyValueProvider(readingPlan, accessor),
+				new JdbcBackReferencePropertyValueProvider(readingPlan, accessor));
+		readingContext.deferredRelations = deferredRelations;
+
+		return recordSnapshot(entity, readingContext.mapRow());
+	}
+
+	private ReadingPlan getReadingPlan(PersistentPropertyPathExtension path) {
+
+		ReadingPlan readingPlan = readingPlans.get(path);
+		return readingPlan != null //
+				? readingPlan //
+				: readingPlans.computeIfAbsent(path, p -> new ReadingPlan(p, identifierProcessing));
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private <T> EntityMaterializer<T> getEntityMaterializer(ReadingPlan plan) {
+
+		if (!entityMaterializers) {
+			return null;
+		}
+
+		Optional<EntityMaterializer<?>> materializer = materializers.get(plan);
+
+		if (materializer == null) {
+			materializer = materializers.computeIfAbsent(plan, p -> Optional.ofNullable(EntityMaterializer.create(p, this)));
+		}
+
+		return (EntityMaterializer<T>) materializer.orElse(null);
+	}
+
+	private <T> T recordSnapshot(RelationalPersistentEntity<?> entity, T instance) {
+
+		if (entitySnapshots != null && instance != null) {
+			entitySnapshots.record(entity, instance);
+		}
+
+		return instance;
 	}
 
 	private class ReadingContext<T> {
 
 		private final RelationalPersistentEntity<T> entity;
 
-		private final PersistentPropertyPathExtension rootPath;
-		private final PersistentPropertyPathExtension path;
+		// the plan for the path from the aggregate root and the one against which columns get resolved.
+		private final ReadingPlan rootPlan;
+		private final ReadingPlan plan;
 		private final Identifier identifier;
 		private final Object key;
 
+		private final ResultSetAccessor accessor;
 		private final JdbcPropertyValueProvider propertyValueProvider;
 		private final JdbcBackReferencePropertyValueProvider backReferencePropertyValueProvider;
 
+		@Nullable private DeferredRelations deferredRelations;
+
 		@SuppressWarnings("unchecked")
 		private ReadingContext(PersistentPropertyPathExtension rootPath, ResultSetAccessor accessor, Identifier identifier,
 				Object key) {
@@ -354,33 +517,44 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			Assert.notNull(entity, "The rootPath must point to an entity.");
 
 			this.entity = entity;
-			this.rootPath = rootPath;
-			this.path = new PersistentPropertyPathExtension(getMappingContext(), this.entity);
+			this.rootPlan = getReadingPlan(rootPath);
+			this.plan = rootPath.getLength() == 0 //
+					? rootPlan //
+					: getReadingPlan(new PersistentPropertyPathExtension(getMappingContext(), this.entity));
 			this.identifier = identifier;
 			this.key = key;
-			this.propertyValueProvider = new JdbcPropertyValueProvider(identifierProcessing, path, accessor);
-			this.backReferencePropertyValueProvider = new JdbcBackReferencePropertyValueProvider(identifierProcessing, path,
-					accessor);
+			this.accessor = accessor;
+			this.propertyValueProvider = new JdbcPropertyValueProvider(plan, accessor);
+			this.backReferencePropertyValueProvider = new JdbcBackReferencePropertyValueProvider(plan, accessor);
 		}
 
-		private ReadingContext(RelationalPersistentEntity<T> entity, PersistentPropertyPathExtension rootPath,
-				PersistentPropertyPathExtension path, Identifier identifier, Object key,
+		private ReadingContext(RelationalPersistentEntity<T> entity, ReadingPlan rootPlan, ReadingPlan plan,
+				Identifier identifier, Object key, ResultSetAccessor accessor,
 				JdbcPropertyValueProvider propertyValueProvider,
 				JdbcBackReferencePropertyValueProvider backReferencePropertyValueProvider) {
 			this.entity = entity;
-			this.rootPath = rootPath;
-			this.path = path;
+			this.rootPlan = rootPlan;
+			this.plan = plan;
 			this.identifier = identifier;
 			this.key = key;
+			this.accessor = accessor;
 			this.propertyValueProvider = propertyValueProvider;
 			this.backReferencePropertyValueProvider = backReferencePropertyValueProvider;
 		}
 
 		private <S> ReadingContext<S> extendBy(RelationalPersistentProperty property) {
-			return new ReadingContext<>(
-					(RelationalPersistentEntity<S>) getMappingContext().getRequiredPersistentEntity(property.getActualType()),
-					rootPath.extendBy(property), path.extendBy(property), identifier, key,
-					propertyValueProvider.extendBy(property), backReferencePropertyValueProvider.extendBy(property));
+
+			ReadingPlan nestedPlan = plan.extendBy(property);
+			RelationalPersistentEntity<S> nestedEntity = (RelationalPersistentEntity<S>) nestedPlan.getEntity();
+
+			Assert.state(nestedEntity != null, () -> "No entity for " + nestedPlan.getPath());
+
+			ReadingContext<S> readingContext = new ReadingContext<>(nestedEntity, rootPlan.extendBy(property), nestedPlan,
+					identifier, key, accessor, propertyValueProvider.extendBy(property),
+					backReferencePropertyValueProvider.extendBy(property));
+			readingContext.deferredRelations = deferredRelations;
+
+			return readingContext;
 		}
 
 		T mapRow() {
@@ -395,13 +569,8 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		private T populateProperties(T instance, @Nullable Object idValue) {
 
 			PersistentPropertyAccessor<T> propertyAccessor = getPropertyAccessor(entity, instance);
-			PreferredConstructor<T, RelationalPersistentProperty> persistenceConstructor = entity.getPersistenceConstructor();
 
-			for (RelationalPersistentProperty property : entity) {
-
-				if (persistenceConstructor != null && persistenceConstructor.isConstructorParameter(property)) {
-					continue;
-				}
+			for (RelationalPersistentProperty property : plan.getPropertiesToPopulate()) {
 
 				// skip absent simple properties
 				if (isSimpleProperty(property)) {
@@ -411,6 +580,12 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 					}
 				}
 
+				if (isDeferrable(idValue, property)) {
+
+					deferRelation(propertyAccessor, idValue, property);
+					continue;
+				}
+
 				Object value = readOrLoadProperty(idValue, property);
 				propertyAccessor.setProperty(property, value);
 			}
@@ -418,17 +593,28 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 			return propertyAccessor.getBean();
 		}
 
-		@Nullable
-		private Object readOrLoadProperty(@Nullable Object id, RelationalPersistentProperty property) {
+		/**
+		 * Relations can be loaded later if they are identified by the id of the entity alone and can be set on the
+		 * instance without creating a new one.
+		 */
+		private boolean isDeferrable(@Nullable Object idValue, RelationalPersistentProperty property) {
+			return deferredRelations != null && idValue != null && isRelation(property) && !property.isImmutable();
+		}
 
-			if ((property.isCollectionLike() && property.isEntity()) || property.isMap()) {
+		private void deferRelation(PersistentPropertyAccessor<T> propertyAccessor, Object idValue,
+				RelationalPersistentProperty property) {
 
-				Iterable<Object> allByPath = resolveRelation(id, property);
+			Assert.state(deferredRelations != null, "DeferredRelations must not be null");
 
-				return property.isMap() //
-						? ITERABLE_OF_ENTRY_TO_MAP_CONVERTER.convert(allByPath) //
-						: allByPath;
+			deferredRelations.add(getRelationPath(property), getReverseColumnName(property), idValue,
+					entities -> propertyAccessor.setProperty(property, toPropertyValue(entities, property)));
+		}
 
+		@Nullable
+		private Object readOrLoadProperty(@Nullable Object id, RelationalPersistentProperty property) {
+
+			if (isRelation(property)) {
+				return toPropertyValue(resolveRelation(id, property), property);
 			} else if (property.isEmbedded()) {
 				return readEmbeddedEntityFrom(id, property);
 			} else {
@@ -439,13 +625,19 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 		private Iterable<Object> resolveRelation(@Nullable Object id, RelationalPersistentProperty property) {
 
 			Identifier identifier = id == null //
-					? this.identifier.withPart(rootPath.getQualifierColumn(), key, Object.class) //
-					: Identifier.of(rootPath.extendBy(property).getReverseColumnName(), id, Object.class);
+					? this.identifier.withPart(rootPlan.getPath().getQualifierColumn(), key, Object.class) //
+					: Identifier.of(getReverseColumnName(property), id, Object.class);
+
+			return relationResolver.findAllByPath(identifier, getRelationPath(property));
+		}
 
-			PersistentPropertyPath<? extends RelationalPersistentProperty> propertyPath = path.extendBy(property)
-					.getRequiredPersistentPropertyPath();
+		private PersistentPropertyPath<? extends RelationalPersistentProperty> getRelationPath(
+				RelationalPersistentProperty property) {
+			return plan.extendBy(property).getPath().getRequiredPersistentPropertyPath();
+		}
 
-			return relationResolver.findAllByPath(identifier, propertyPath);
+		private SqlIdentifier getReverseColumnName(RelationalPersistentProperty property) {
+			return rootPlan.extendBy(property).getPath().getReverseColumnName();
 		}
 
 		/**
@@ -484,7 +676,7 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 		private boolean hasInstanceValues(@Nullable Object idValue) {
 
-			RelationalPersistentEntity<?> persistentEntity = path.getLeafEntity();
+			RelationalPersistentEntity<?> persistentEntity = plan.getEntity();
 
 			Assert.state(persistentEntity != null, "Entity must not be null");
 
@@ -529,6 +721,12 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 		private T createInstanceInternal(@Nullable Object idValue) {
 
+			EntityMaterializer<T> materializer = getEntityMaterializer(plan);
+
+			if (materializer != null) {
+				return materializer.materialize(accessor);
+			}
+
 			T instance = createInstance(entity, parameter -> {
 
 				String parameterName = parameter.getName();
@@ -544,6 +742,18 @@ public class BasicJdbcConverter extends BasicRelationalConverter implements Jdbc
 
 	}
 
+	private static boolean isRelation(RelationalPersistentProperty property) {
+		return (property.isCollectionLike() && property.isEntity()) || property.isMap();
+	}
+
+	@Nullable
+	private static Object toPropertyValue(Iterable<Object> entities, RelationalPersistentProperty property) {
+
+		return property.isMap() //
+				? ITERABLE_OF_ENTRY_TO_MAP_CONVERTER.convert(entities) //
+				: entities;
+	}
+
 	private boolean isSimpleProperty(RelationalPersistentProperty property) {
 		return !property.isCollectionLike() && !property.isEntity() && !property.isMap() && !property.isEmbedded();
 	}
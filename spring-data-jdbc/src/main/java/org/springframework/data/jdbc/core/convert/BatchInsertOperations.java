@@ -0,0 +1,312 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.springframework.data.jdbc.core.convert.SqlGenerator.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.ReturningClause;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Inserts many rows of an entity type with as few statements as the dialect allows: using {@code COPY} on PostgreSQL if
+ * enabled, multi-row inserts, and batches of single-row inserts. Ids generated by the database get obtained using the
+ * returning clause of the dialect or the generated keys of the JDBC driver.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ * @see DefaultDataAccessStrategy#insert(List, Class)
+ */
+class BatchInsertOperations {
+
+	/**
+	 * Numbers of rows for which multi-row inserts get rendered. Limiting these keeps the number of distinct statements,
+	 * that need to be parsed by the database, low. Remaining rows get inserted using a batch of single row inserts.
+	 */
+	private static final int[] MULTI_ROW_INSERT_SIZES = { 128, 32, 8 };
+
+	/**
+	 * Upper bound for the number of bind parameters of a multi-row insert. SQL Server for example allows at most 2100
+	 * parameters per statement.
+	 */
+	private static final int MAX_MULTI_ROW_INSERT_PARAMETERS = 2000;
+
+	private static final boolean POSTGRES_COPY_PRESENT = ClassUtils.isPresent("org.postgresql.copy.CopyManager",
+			BatchInsertOperations.class.getClassLoader());
+
+	private final SqlGeneratorSource sqlGeneratorSource;
+	private final NamedParameterJdbcOperations operations;
+	private final BatchJdbcOperations batchOperations;
+	private final @Nullable PostgresCopyOperations copyOperations;
+
+	/**
+	 * @param copyBulkInserts whether to use {@code COPY} for inserts not generating ids, see
+	 *          {@link DataAccessOptions#withCopyBulkInserts(boolean)}.
+	 */
+	BatchInsertOperations(SqlGeneratorSource sqlGeneratorSource, NamedParameterJdbcOperations operations,
+			boolean copyBulkInserts) {
+
+		this.sqlGeneratorSource = sqlGeneratorSource;
+		this.operations = operations;
+		this.batchOperations = new BatchJdbcOperations(operations.getJdbcOperations());
+		this.copyOperations = copyBulkInserts && POSTGRES_COPY_PRESENT
+				&& sqlGeneratorSource.getDialect() instanceof PostgresDialect //
+						? new PostgresCopyOperations(operations.getJdbcOperations()) //
+						: null;
+	}
+
+	/**
+	 * Inserts a row for each of the parameter sources.
+	 *
+	 * @param persistentEntity the entity of the rows. Must not be {@literal null}.
+	 * @param parameterSources the values of the rows, including the id if it doesn't get generated by the database.
+	 *          Must not be {@literal null}.
+	 * @return the ids generated by the database, in the order of the rows. Elements are {@literal null} for rows that
+	 *         have an id already.
+	 */
+	Object[] insert(RelationalPersistentEntity<?> persistentEntity, List<SqlIdentifierParameterSource> parameterSources) {
+
+		Object[] ids = new Object[parameterSources.size()];
+
+		// consecutive inserts with the same set of columns share a statement and therefore a batch.
+		int batchStart = 0;
+		Set<SqlIdentifier> batchColumns = null;
+		for (int i = 0; i < parameterSources.size(); i++) {
+
+			Set<SqlIdentifier> columns = new HashSet<>(parameterSources.get(i).getIdentifiers());
+
+			if (batchColumns != null && !batchColumns.equals(columns)) {
+
+				insertBatch(persistentEntity, batchColumns, parameterSources.subList(batchStart, i), ids, batchStart);
+				batchStart = i;
+			}
+			batchColumns = columns;
+		}
+
+		if (batchColumns != null) {
+			insertBatch(persistentEntity, batchColumns, parameterSources.subList(batchStart, parameterSources.size()), ids,
+					batchStart);
+		}
+
+		return ids;
+	}
+
+	private void insertBatch(RelationalPersistentEntity<?> persistentEntity, Set<SqlIdentifier> columns,
+			List<SqlIdentifierParameterSource> parameterSources, Object[] ids, int offset) {
+
+		String insertSql = sql(persistentEntity).getInsert(columns);
+		SqlParameterSource[] batchArgs = parameterSources.toArray(new SqlParameterSource[0]);
+
+		if (!persistentEntity.hasIdProperty() || columns.contains(persistentEntity.getIdColumn())) {
+
+			if (copyOperations != null && !columns.isEmpty()) {
+
+				List<SqlIdentifier> copyColumns = new ArrayList<>(columns);
+				List<String> parameterNames = copyColumns.stream() //
+						.map(cn -> cn.getReference(getIdentifierProcessing())) //
+						.collect(Collectors.toList());
+
+				if (copyOperations.copyIn(sql(persistentEntity).getCopyIn(copyColumns), parameterNames, parameterSources)) {
+					return;
+				}
+			}
+
+			// there are no ids to be generated by the database, so we may combine multiple rows in a single statement.
+			int multiRowCount = insertMultiRow(persistentEntity, columns, parameterSources, null, 0);
+			operations.batchUpdate(insertSql, Arrays.copyOfRange(batchArgs, multiRowCount, batchArgs.length));
+			return;
+		}
+
+		// with a dialect returning the generated ids as a result set in the order of the rows, multiple rows may still share
+		// a statement. Otherwise the ids couldn't be matched with the rows.
+		ReturningClause returning = sqlGeneratorSource.getDialect().returning();
+		int multiRowCount = returning.isSupported() && returning.isRowOrderPreserving() //
+				? insertMultiRow(persistentEntity, columns, parameterSources, ids, offset) //
+				: 0;
+
+		if (multiRowCount == batchArgs.length) {
+			return;
+		}
+
+		if (returning.isSupported() && !returning.isRowOrderPreserving() && !columns.isEmpty()) {
+
+			// the returned ids of a multi-row insert can't be matched with the rows, but the single id returned by a single-row
+			// insert can. This avoids relying on the generated keys of a batch, which such drivers don't return reliably.
+			insertRowByRowReturningId(persistentEntity, columns, parameterSources.subList(multiRowCount, batchArgs.length),
+					ids, offset + multiRowCount);
+			return;
+		}
+
+		SqlParameterSource[] remainingBatchArgs = Arrays.copyOfRange(batchArgs, multiRowCount, batchArgs.length);
+
+		// only some JDBC drivers return a generated key for each row of a batch, all others require one execution per row.
+		KeyHolder holder = new GeneratedKeyHolder();
+		if (sqlGeneratorSource.getDialect().supportsBatchedGeneratedKeys()) {
+			batchOperations.batchUpdate(insertSql, remainingBatchArgs, holder);
+		} else {
+			batchOperations.updateRowByRow(insertSql, remainingBatchArgs, holder);
+		}
+
+		List<Map<String, Object>> keyList = holder.getKeyList();
+
+		if (keyList.size() != remainingBatchArgs.length) {
+			throw new DataRetrievalFailureException(String.format(
+					"The JDBC driver returned %d generated keys for a batch of %d inserts of entity type %s.", keyList.size(),
+					remainingBatchArgs.length, persistentEntity.getName()));
+		}
+
+		for (int i = 0; i < keyList.size(); i++) {
+			ids[offset + multiRowCount + i] = getIdFromKeys(keyList.get(i), persistentEntity);
+		}
+	}
+
+	/**
+	 * Inserts as many of the rows as possible using multi-row inserts, starting with the first row. If {@code ids} is
+	 * given, the ids generated by the database are obtained using the returning clause of the dialect and stored in
+	 * {@code ids}, starting at {@code idOffset}. This requires a dialect returning the ids in the order of the rows, see
+	 * {@link ReturningClause#isRowOrderPreserving()}, as the ids get assigned by position.
+	 *
+	 * @return the number of rows inserted.
+	 */
+	private int insertMultiRow(RelationalPersistentEntity<?> persistentEntity, Set<SqlIdentifier> columns,
+			List<SqlIdentifierParameterSource> parameterSources, @Nullable Object[] ids, int idOffset) {
+
+		if (columns.isEmpty()) {
+			return 0;
+		}
+
+		int offset = 0;
+		for (int rows : MULTI_ROW_INSERT_SIZES) {
+
+			int statements = (parameterSources.size() - offset) / rows;
+			if (statements == 0 || rows * columns.size() > MAX_MULTI_ROW_INSERT_PARAMETERS) {
+				continue;
+			}
+
+			if (ids != null) {
+
+				String insertSql = sql(persistentEntity).getInsertReturningId(columns, rows);
+				for (int i = 0; i < statements; i++) {
+
+					List<Object> generatedIds = operations.query(insertSql,
+							getMultiRowParameterSource(parameterSources.subList(offset, offset + rows)),
+							(rs, rowNum) -> rs.getObject(1));
+
+					if (generatedIds.size() != rows) {
+						throw new DataRetrievalFailureException(String.format(
+								"The database returned %d generated ids for an insert of %d rows of entity type %s.",
+								generatedIds.size(), rows, persistentEntity.getName()));
+					}
+
+					for (int row = 0; row < rows; row++) {
+						ids[idOffset + offset + row] = generatedIds.get(row);
+					}
+					offset += rows;
+				}
+				continue;
+			}
+
+			SqlParameterSource[] batchArgs = new SqlParameterSource[statements];
+			for (int i = 0; i < statements; i++) {
+
+				batchArgs[i] = getMultiRowParameterSource(parameterSources.subList(offset, offset + rows));
+				offset += rows;
+			}
+
+			operations.batchUpdate(sql(persistentEntity).getInsert(columns, rows), batchArgs);
+		}
+
+		return offset;
+	}
+
+	/**
+	 * Inserts the rows one by one using single-row inserts with the returning clause of the dialect, storing the returned
+	 * ids in {@code ids}, starting at {@code idOffset}.
+	 */
+	private void insertRowByRowReturningId(RelationalPersistentEntity<?> persistentEntity, Set<SqlIdentifier> columns,
+			List<SqlIdentifierParameterSource> parameterSources, Object[] ids, int idOffset) {
+
+		String insertSql = sql(persistentEntity).getInsertReturningId(columns, 1);
+
+		for (int row = 0; row < parameterSources.size(); row++) {
+
+			List<Object> generatedIds = operations.query(insertSql,
+					getMultiRowParameterSource(parameterSources.subList(row, row + 1)), (rs, rowNum) -> rs.getObject(1));
+
+			if (generatedIds.size() != 1) {
+				throw new DataRetrievalFailureException(
+						String.format("The database returned %d generated ids for an insert of a single row of entity type %s.",
+								generatedIds.size(), persistentEntity.getName()));
+			}
+
+			ids[idOffset + row] = generatedIds.get(0);
+		}
+	}
+
+	private static SqlParameterSource getMultiRowParameterSource(List<SqlIdentifierParameterSource> rows) {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+
+		for (int row = 0; row < rows.size(); row++) {
+
+			SqlIdentifierParameterSource rowParameterSource = rows.get(row);
+			for (String name : rowParameterSource.getParameterNames()) {
+				parameterSource.addValue(getRowParameterName(name, row), rowParameterSource.getValue(name),
+						rowParameterSource.getSqlType(name));
+			}
+		}
+
+		return parameterSource;
+	}
+
+	@Nullable
+	private Object getIdFromKeys(Map<String, Object> keys, RelationalPersistentEntity<?> persistentEntity) {
+
+		// MySQL just returns one value with a special name
+		if (keys.size() == 1) {
+			return keys.values().iterator().next();
+		}
+
+		// Postgres returns a value for each column
+		return keys.get(persistentEntity.getIdColumn().getReference(getIdentifierProcessing()));
+	}
+
+	private IdentifierProcessing getIdentifierProcessing() {
+		return sqlGeneratorSource.getDialect().getIdentifierProcessing();
+	}
+
+	private SqlGenerator sql(RelationalPersistentEntity<?> persistentEntity) {
+		return sqlGeneratorSource.getSqlGenerator(persistentEntity.getType());
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.util.Assert;
+
+/**
+ * Executes batch updates using named parameters while collecting the keys generated by the database, which
+ * {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations} does not offer.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+class BatchJdbcOperations {
+
+	private final JdbcOperations jdbcOperations;
+
+	BatchJdbcOperations(JdbcOperations jdbcOperations) {
+		this.jdbcOperations = jdbcOperations;
+	}
+
+	/**
+	 * Executes a batch using the supplied SQL statement with the batch of supplied arguments, returning generated keys.
+	 * This requires a JDBC driver returning one generated key per row of the batch. If the driver returns a different
+	 * number of keys, the batch gets rolled back to a savepoint and the rows get inserted one by one instead. Outside of
+	 * a transaction the rows of the batch are already committed at that point, so a
+	 * {@link DataRetrievalFailureException} gets thrown instead.
+	 *
+	 * @param sql the SQL statement to execute. Must not be {@code null}.
+	 * @param batchArgs the array of {@link SqlParameterSource} containing the batch of arguments for the query. Must not
+	 *          be {@code null}.
+	 * @param generatedKeyHolder a {@link KeyHolder} that will hold the generated keys, one entry per batch element. Must
+	 *          not be {@code null}.
+	 * @return an array containing the numbers of rows affected by each update in the batch (may also contain special JDBC
+	 *         return values as defined by {@link java.sql.Statement#executeBatch()}).
+	 * @see #updateRowByRow(String, SqlParameterSource[], KeyHolder)
+	 */
+	int[] batchUpdate(String sql, SqlParameterSource[] batchArgs, KeyHolder generatedKeyHolder) {
+
+		if (batchArgs.length == 0) {
+			return new int[0];
+		}
+
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+		String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, batchArgs[0]);
+
+		int[] rowsAffected = jdbcOperations.execute( //
+				(PreparedStatementCreator) con -> con.prepareStatement(sqlToUse, Statement.RETURN_GENERATED_KEYS), //
+				(PreparedStatementCallback<int[]>) ps -> {
+
+					Connection connection = ps.getConnection();
+					Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+
+					for (SqlParameterSource batchArg : batchArgs) {
+
+						setValues(ps, parsedSql, batchArg);
+						ps.addBatch();
+					}
+
+					int[] result = ps.executeBatch();
+
+					List<Map<String, Object>> generatedKeys = generatedKeyHolder.getKeyList();
+					generatedKeys.clear();
+					generatedKeys.addAll(extractKeys(ps));
+
+					if (generatedKeys.size() == batchArgs.length) {
+
+						if (savepoint != null) {
+							connection.releaseSavepoint(savepoint);
+						}
+						return result;
+					}
+
+					if (savepoint == null) {
+						throw new DataRetrievalFailureException(String.format(
+								"The JDBC driver returned %d generated keys for a batch of %d inserts outside of a transaction.",
+								generatedKeys.size(), batchArgs.length));
+					}
+
+					// the driver doesn't return a key per row, so we undo the batch and insert the rows one by one.
+					connection.rollback(savepoint);
+					generatedKeys.clear();
+
+					return executeRowByRow(ps, parsedSql, batchArgs, generatedKeys);
+				});
+
+		Assert.state(rowsAffected != null, "The result of a batch update must not be null.");
+
+		return rowsAffected;
+	}
+
+	/**
+	 * Executes the supplied SQL statement once per element of the supplied arguments, reusing a single
+	 * {@link java.sql.PreparedStatement} and collecting the keys generated for each row. This works with any JDBC driver
+	 * supporting generated keys, including those that don't return generated keys after executing a batch.
+	 *
+	 * @param sql the SQL statement to execute. Must not be {@code null}.
+	 * @param batchArgs the array of {@link SqlParameterSource} containing the arguments for each execution. Must not be
+	 *          {@code null}.
+	 * @param generatedKeyHolder a {@link KeyHolder} that will hold the generated keys, one entry per element of
+	 *          {@code batchArgs}. Must not be {@code null}.
+	 * @return an array containing the numbers of rows affected by each execution.
+	 */
+	int[] updateRowByRow(String sql, SqlParameterSource[] batchArgs, KeyHolder generatedKeyHolder) {
+
+		if (batchArgs.length == 0) {
+			return new int[0];
+		}
+
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+		String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, batchArgs[0]);
+
+		int[] rowsAffected = jdbcOperations.execute( //
+				(PreparedStatementCreator) con -> con.prepareStatement(sqlToUse, Statement.RETURN_GENERATED_KEYS), //
+				(PreparedStatementCallback<int[]>) ps -> {
+
+					List<Map<String, Object>> generatedKeys = generatedKeyHolder.getKeyList();
+					generatedKeys.clear();
+
+					return executeRowByRow(ps, parsedSql, batchArgs, generatedKeys);
+				});
+
+		Assert.state(rowsAffected != null, "The result of a row by row update must not be null.");
+
+		return rowsAffected;
+	}
+
+	private static int[] executeRowByRow(PreparedStatement ps, ParsedSql parsedSql, SqlParameterSource[] batchArgs,
+			List<Map<String, Object>> generatedKeys) throws SQLException {
+
+		int[] result = new int[batchArgs.length];
+		for (int i = 0; i < batchArgs.length; i++) {
+
+			setValues(ps, parsedSql, batchArgs[i]);
+			result[i] = ps.executeUpdate();
+
+			List<Map<String, Object>> keys = extractKeys(ps);
+			generatedKeys.add(keys.isEmpty() ? Collections.emptyMap() : keys.get(0));
+		}
+
+		return result;
+	}
+
+	private static void setValues(PreparedStatement ps, ParsedSql parsedSql, SqlParameterSource batchArg)
+			throws SQLException {
+
+		Object[] values = NamedParameterUtils.buildValueArray(parsedSql, batchArg, null);
+		new ArgumentPreparedStatementSetter(values).setValues(ps);
+	}
+
+	private static List<Map<String, Object>> extractKeys(PreparedStatement ps) throws SQLException {
+
+		ResultSet keys = ps.getGeneratedKeys();
+		if (keys == null) {
+			return Collections.emptyList();
+		}
+
+		try {
+			return new RowMapperResultSetExtractor<>(new ColumnMapRowMapper()).extractData(keys);
+		} finally {
+			JdbcUtils.closeResultSet(keys);
+		}
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.springframework.data.jdbc.core.convert.SqlGenerator.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.relational.core.dialect.InClause;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.util.Assert;
+
+/**
+ * Queries entities and loads the collections and maps of referenced entities for all of them at once, using one
+ * {@code IN} query per property path and level of nesting, as collected by {@link DeferredRelations}.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ * @see DataAccessOptions#withBatchRelationLoading(boolean)
+ */
+class BatchRelationLoader {
+
+	private final RelationalMappingContext context;
+	private final JdbcConverter converter;
+	private final SqlGeneratorSource sqlGeneratorSource;
+	private final NamedParameterJdbcOperations operations;
+	private final boolean inListPadding;
+
+	/**
+	 * @param inListPadding whether to pad the ids of the {@code IN} queries, see
+	 *          {@link DataAccessOptions#withInListPadding(boolean)}.
+	 */
+	BatchRelationLoader(RelationalMappingContext context, JdbcConverter converter,
+			SqlGeneratorSource sqlGeneratorSource, NamedParameterJdbcOperations operations, boolean inListPadding) {
+
+		this.context = context;
+		this.converter = converter;
+		this.sqlGeneratorSource = sqlGeneratorSource;
+		this.operations = operations;
+		this.inListPadding = inListPadding;
+	}
+
+	/**
+	 * Queries entities of the given type, loading the collections and maps of referenced entities for all of them at
+	 * once.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> List<T> query(String sql, SqlParameterSource parameterSource, RelationalPersistentEntity<T> persistentEntity) {
+
+		DeferredRelations deferredRelations = new DeferredRelations();
+		PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(context, persistentEntity);
+
+		List<T> result = operations.query(sql, parameterSource,
+				(RowMapper<T>) new EntityRowMapper<>(path, converter, Identifier.empty(), deferredRelations)
+						.forSingleExecution());
+
+		loadDeferredRelations(deferredRelations);
+
+		return result;
+	}
+
+	/**
+	 * Loads the deferred relations level by level, since loading referenced entities may defer their own relations.
+	 */
+	private void loadDeferredRelations(DeferredRelations deferredRelations) {
+
+		while (!deferredRelations.isEmpty()) {
+
+			for (DeferredRelations.Group group : deferredRelations.takePending()) {
+				group.resolve(findAllInListByPath(group, deferredRelations));
+			}
+		}
+	}
+
+	private Map<Object, List<Object>> findAllInListByPath(DeferredRelations.Group group,
+			DeferredRelations deferredRelations) {
+
+		PersistentPropertyPathExtension path = new PersistentPropertyPathExtension(context, group.getPath());
+		SqlIdentifier backReferenceColumn = group.getBackReferenceColumn();
+		String backReferenceName = backReferenceColumn.getReference(getIdentifierProcessing());
+
+		String findAllInListSql = sqlGeneratorSource.getSqlGenerator(path.getActualType()) //
+				.getFindAllInListByProperty(backReferenceColumn, path.getQualifierColumn(), path.isOrdered());
+
+		List<Object> parentIds = group.getParentIds();
+		TypeInformation<?> parentIdType = ClassTypeInformation.from(parentIds.get(0).getClass());
+		InClause inClause = sqlGeneratorSource.getDialect().inClause();
+
+		Map<Object, List<Object>> entitiesByParentId = new HashMap<>();
+
+		for (List<Object> chunk : InClause.split(parentIds, inClause.getMaxListSize())) {
+
+			SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+			parameterSource.addValue(IDS_SQL_PARAMETER,
+					inListPadding ? InClause.pad(chunk, inClause.getMaxListSize()) : chunk);
+
+			operations.query(findAllInListSql, parameterSource, (RowCallbackHandler) rs -> {
+
+				Object parentId = converter.readValue(rs.getObject(backReferenceName), parentIdType);
+				Identifier identifier = Identifier.of(backReferenceColumn, parentId, Object.class);
+
+				RowMapper<?> rowMapper = path.isMap() //
+						? getMapEntityRowMapper(path, identifier, deferredRelations) //
+						: new EntityRowMapper<>(path, converter, identifier, deferredRelations);
+
+				List<Object> entities = entitiesByParentId.computeIfAbsent(parentId, id -> new ArrayList<>());
+				entities.add(rowMapper.mapRow(rs, entities.size()));
+			});
+		}
+
+		return entitiesByParentId;
+	}
+
+	private RowMapper<?> getMapEntityRowMapper(PersistentPropertyPathExtension path, Identifier identifier,
+			DeferredRelations deferredRelations) {
+
+		SqlIdentifier keyColumn = path.getQualifierColumn();
+		Assert.notNull(keyColumn, () -> "KeyColumn must not be null for " + path);
+
+		return new MapEntityRowMapper<>(path, converter, identifier, keyColumn, getIdentifierProcessing(),
+				deferredRelations).forSingleExecution();
+	}
+
+	private IdentifierProcessing getIdentifierProcessing() {
+		return sqlGeneratorSource.getDialect().getIdentifierProcessing();
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.Arrays;
+
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+
+/**
+ * Opt-in optimizations applied by the {@link DefaultDataAccessStrategy} and the {@link BasicJdbcConverter} when
+ * reading and writing aggregates. All of them are disabled by default, since each one trades generality for speed in a
+ * way that doesn't suit every application. Instances are immutable, use the {@code with…} methods to enable settings.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ * @see org.springframework.data.jdbc.repository.config.AbstractJdbcConfiguration#jdbcDataAccessOptions(org.springframework.data.relational.core.dialect.Dialect)
+ */
+public final class DataAccessOptions {
+
+	/**
+	 * An instance with all optimizations disabled.
+	 */
+	public static final DataAccessOptions DEFAULT = new DataAccessOptions(false, false, false, false, false, false, false,
+			false);
+
+	private final boolean copyBulkInserts;
+	private final boolean batchRelationLoading;
+	private final boolean singleQueryLoading;
+	private final boolean positionalParameters;
+	private final boolean inListPadding;
+	private final boolean inListArrays;
+	private final boolean entitySnapshots;
+	private final boolean entityMaterializers;
+
+	private DataAccessOptions(boolean copyBulkInserts, boolean batchRelationLoading, boolean singleQueryLoading,
+			boolean positionalParameters, boolean inListPadding, boolean inListArrays, boolean entitySnapshots,
+			boolean entityMaterializers) {
+
+		this.copyBulkInserts = copyBulkInserts;
+		this.batchRelationLoading = batchRelationLoading;
+		this.singleQueryLoading = singleQueryLoading;
+		this.positionalParameters = positionalParameters;
+		this.inListPadding = inListPadding;
+		this.inListArrays = inListArrays;
+		this.entitySnapshots = entitySnapshots;
+		this.entityMaterializers = entityMaterializers;
+	}
+
+	/**
+	 * Configures whether batches of inserts, that don't need ids generated by the database, get executed using the
+	 * {@code COPY} command of PostgreSQL. This is meant for bulk loads, like large collections of entities without an
+	 * id. It only takes effect with a {@link PostgresDialect}, the PostgreSQL JDBC driver on the classpath and
+	 * connections that unwrap to an {@code org.postgresql.PGConnection}. Other inserts, and batches containing values
+	 * without a known text representation, still use {@code INSERT} statements.
+	 *
+	 * @param copyBulkInserts {@literal true} to use {@code COPY} for batches of inserts.
+	 * @return a {@link DataAccessOptions} instance. Guaranteed to be not {@literal null}.
+	 */
+	public DataAccessOptions withCopyBulkInserts(boolean copyBulkInserts) {
+		return new DataAccessOptions(copyBulkInserts, batchRelationLoading, singleQueryLoading, positionalParameters,
+				inListPadding, inListArrays, entitySnapshots, entityMaterializers);
+	}
+
+	/**
+	 * Configures whether collections and maps of referenced entities get loaded for all entities of a query result at
+	 * once. When enabled, {@code findById}, {@code findAllById} and the {@code findAll} variants with parameters load the
+	 * referenced entities of each property path using a single {@code IN} query per level of nesting, instead of one
+	 * query per entity and property. Properties set via constructor or wither, and references of entities without an id,
+	 * still get loaded one by one.
+	 *
+	 * @param batchRelationLoading {@literal true} to load referenced entities of whole query results at once.
+	 * @return a {@link DataAccessOptions} instance. Guaranteed to be not {@literal null}.
+	 */
+	public DataAccessOptions withBatchRelationLoading(boolean batchRelationLoading) {
+		return new DataAccessOptions(copyBulkInserts, batchRelationLoading, singleQueryLoading, positionalParameters,
+				inListPadding, inListArrays, entitySnapshots, entityMaterializers);
+	}
+
+	/**
+	 * Configures whether complete aggregates get loaded using a single query joining all tables of the aggregate. When
+	 * enabled, {@code findById}, {@code findAllById} and {@code findAll} without parameters load aggregates including
+	 * their collections and maps with one statement. Since the rows of all collections of an aggregate get multiplied
+	 * with each other, this is best suited for aggregates with few or small collections. Aggregates that can't be read
+	 * from a single query, e.g. because entities referencing other entities have no id, get loaded as before.
+	 *
+	 * @param singleQueryLoading {@literal true} to load complete aggregates with a single query.
+	 * @return a {@link DataAccessOptions} instance. Guaranteed to be not {@literal null}.
+	 */
+	public DataAccessOptions withSingleQueryLoading(boolean singleQueryLoading) {
+		return new DataAccessOptions(copyBulkInserts, batchRelationLoading, singleQueryLoading, positionalParameters,
+				inListPadding, inListArrays, entitySnapshots, entityMaterializers);
+	}
+
+	/**
+	 * Configures whether statements by id and updates get executed using positional parameters. When enabled, the
+	 * statements of {@code findById}, {@code existsById}, {@code delete} by id and of updates get parsed into statements
+	 * using {@code ?} parameters once, and the values get bound directly to the {@link java.sql.PreparedStatement}
+	 * instead of getting parsed and substituted on every execution. Updates with values that need to get expanded to
+	 * multiple parameters still use named parameters.
+	 *
+	 * @param positionalParameters {@literal true} to execute statements using positional parameters.
+	 * @return a {@link DataAccessOptions} instance. Guaranteed to be not {@literal null}.
+	 */
+	public DataAccessOptions withPositionalParameters(boolean positionalParameters) {
+		return new DataAccessOptions(copyBulkInserts, batchRelationLoading, singleQueryLoading, positionalParameters,
+				inListPadding, inListArrays, entitySnapshots, entityMaterializers);
+	}
+
+	/**
+	 * Configures whether the values of {@code IN} lists, including those of derived queries, get padded to the next
+	 * power of two by repeating the last value. This limits the number of distinct statements for lists of different
+	 * sizes, so statement caches of the JDBC driver and execution plan caches of the database get reused. Lists longer
+	 * than the maximum size of the {@link org.springframework.data.relational.core.dialect.InClause} of the dialect get
+	 * split into multiple statements regardless of this setting.
+	 *
+	 * @param inListPadding {@literal true} to pad the values of {@code IN} lists.
+	 * @return a {@link DataAccessOptions} instance. Guaranteed to be not {@literal null}.
+	 */
+	public DataAccessOptions withInListPadding(boolean inListPadding) {
+		return new DataAccessOptions(copyBulkInserts, batchRelationLoading, singleQueryLoading, positionalParameters,
+				inListPadding, inListArrays, entitySnapshots, entityMaterializers);
+	}
+
+	/**
+	 * Configures whether {@code findAllById} binds all ids as a single array parameter, like {@code id = ANY(?)}, on
+	 * dialects supporting it, which results in the same statement for any number of ids. Aggregates loaded with a single
+	 * query still use an {@code IN} list.
+	 *
+	 * @param inListArrays {@literal true} to bind ids as an array parameter where supported.
+	 * @return a {@link DataAccessOptions} instance. Guaranteed to be not {@literal null}.
+	 * @see org.springframework.data.relational.core.dialect.InClause#supportsArrayParameter()
+	 */
+	public DataAccessOptions withInListArrays(boolean inListArrays) {
+		return new DataAccessOptions(copyBulkInserts, batchRelationLoading, singleQueryLoading, positionalParameters,
+				inListPadding, inListArrays, entitySnapshots, entityMaterializers);
+	}
+
+	/**
+	 * Configures whether the state of every entity read gets recorded in {@link EntitySnapshots}. This enables updates
+	 * that only write the columns that changed since an entity was loaded.
+	 *
+	 * @param entitySnapshots {@literal true} to record snapshots of loaded entities.
+	 * @return a {@link DataAccessOptions} instance. Guaranteed to be not {@literal null}.
+	 */
+	public DataAccessOptions withEntitySnapshots(boolean entitySnapshots) {
+		return new DataAccessOptions(copyBulkInserts, batchRelationLoading, singleQueryLoading, positionalParameters,
+				inListPadding, inListArrays, entitySnapshots, entityMaterializers);
+	}
+
+	/**
+	 * Configures whether entities consisting of simple properties only get created by an {@link EntityMaterializer},
+	 * which resolves columns, conversion targets and constructor arguments once per entity and reads columns by index.
+	 * All other entities are read by the generic mapping code.
+	 *
+	 * @param entityMaterializers {@literal true} to enable materializers for simple entities.
+	 * @return a {@link DataAccessOptions} instance. Guaranteed to be not {@literal null}.
+	 */
+	public DataAccessOptions withEntityMaterializers(boolean entityMaterializers) {
+		return new DataAccessOptions(copyBulkInserts, batchRelationLoading, singleQueryLoading, positionalParameters,
+				inListPadding, inListArrays, entitySnapshots, entityMaterializers);
+	}
+
+	public boolean isCopyBulkInserts() {
+		return copyBulkInserts;
+	}
+
+	public boolean isBatchRelationLoading() {
+		return batchRelationLoading;
+	}
+
+	public boolean isSingleQueryLoading() {
+		return singleQueryLoading;
+	}
+
+	public boolean isPositionalParameters() {
+		return positionalParameters;
+	}
+
+	public boolean isInListPadding() {
+		return inListPadding;
+	}
+
+	public boolean isInListArrays() {
+		return inListArrays;
+	}
+
+	public boolean isEntitySnapshots() {
+		return entitySnapshots;
+	}
+
+	public boolean isEntityMaterializers() {
+		return entityMaterializers;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+
+		DataAccessOptions that = (DataAccessOptions) o;
+		return copyBulkInserts == that.copyBulkInserts //
+				&& batchRelationLoading == that.batchRelationLoading //
+				&& singleQueryLoading == that.singleQueryLoading //
+				&& positionalParameters == that.positionalParameters //
+				&& inListPadding == that.inListPadding //
+				&& inListArrays == that.inListArrays //
+				&& entitySnapshots == that.entitySnapshots //
+				&& entityMaterializers == that.entityMaterializers;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(new boolean[] { copyBulkInserts, batchRelationLoading, singleQueryLoading,
+				positionalParameters, inListPadding, inListArrays, entitySnapshots, entityMaterializers });
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+
+		return "DataAccessOptions{copyBulkInserts=" + copyBulkInserts + ", batchRelationLoading=" + batchRelationLoading
+				+ ", singleQueryLoading=" + singleQueryLoading + ", positionalParameters=" + positionalParameters
+				+ ", inListPadding=" + inListPadding + ", inListArrays=" + inListArrays + ", entitySnapshots="
+				+ entitySnapshots + ", entityMaterializers=" + entityMaterializers + '}';
+	}
+}
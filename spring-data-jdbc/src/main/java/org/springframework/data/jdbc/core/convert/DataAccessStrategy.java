@@ -15,7 +15,13 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.beans.BeanWrapper;
 
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Pageable;
@@ -23,8 +29,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Keyset;
 import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 
 /**
  * Abstraction for accesses to the database that should be implementable with a single SQL statement per method and
@@ -53,6 +62,30 @@ public interface DataAccessStrategy extends RelationResolver {
 	@Nullable
 	<T> Object insert(T instance, Class<T> domainType, Identifier identifier);
 
+	/**
+	 * Inserts the data of multiple entities of the same type, preferably as a single JDBC batch. Referenced entities
+	 * don't get handled.
+	 *
+	 * @param insertSubjects the subjects to be stored, each consisting of the instance and its {@link Identifier}. Must
+	 *          not be {@code null}.
+	 * @param domainType the type of the instances. Must not be {@code null}.
+	 * @param <T> the type of the instances.
+	 * @return the ids generated by the database if any, in the order of {@code insertSubjects}. Elements for which no id
+	 *         got generated are {@code null}. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	default <T> Object[] insert(List<InsertSubject<T>> insertSubjects, Class<T> domainType) {
+
+		Object[] ids = new Object[insertSubjects.size()];
+		for (int i = 0; i < insertSubjects.size(); i++) {
+
+			InsertSubject<T> insertSubject = insertSubjects.get(i);
+			ids[i] = insert(insertSubject.getInstance(), domainType, insertSubject.getIdentifier());
+		}
+
+		return ids;
+	}
+
 	/**
 	 * Updates the data of a single entity in the database. Referenced entities don't get handled.
 	 *
@@ -81,6 +114,69 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> boolean updateWithVersion(T instance, Class<T> domainType, Number previousVersion);
 
+	/**
+	 * Updates the data of multiple entities of the same type in the database, preferably as a single JDBC batch.
+	 * Referenced entities don't get handled.
+	 *
+	 * @param instances the instances to save. Must not be {@code null}.
+	 * @param domainType the type of the instances to save. Must not be {@code null}.
+	 * @param <T> the type of the instances to save.
+	 * @return for each instance, in the order of {@code instances}, whether the update actually updated a row.
+	 * @since 2.1
+	 */
+	default <T> boolean[] update(List<T> instances, Class<T> domainType) {
+
+		boolean[] updated = new boolean[instances.size()];
+		for (int i = 0; i < instances.size(); i++) {
+			updated[i] = update(instances.get(i), domainType);
+		}
+
+		return updated;
+	}
+
+	/**
+	 * Updates the data of multiple entities of the same type in the database, preferably as a single JDBC batch, and
+	 * enforces optimistic record locking using the {@code previousVersions}. Referenced entities don't get handled.
+	 *
+	 * @param instances the instances to save. Must not be {@code null}.
+	 * @param domainType the type of the instances to save. Must not be {@code null}.
+	 * @param previousVersions the previous versions assigned to the instances being saved, in the order of
+	 *          {@code instances}. Must not be {@code null}.
+	 * @param <T> the type of the instances to save.
+	 * @return for each instance, in the order of {@code instances}, whether the update actually updated a row.
+	 * @throws OptimisticLockingFailureException if any of the updates fails to update at least one row assuming the the
+	 *           optimistic locking version check failed.
+	 * @since 2.1
+	 */
+	default <T> boolean[] updateWithVersion(List<T> instances, Class<T> domainType, List<Number> previousVersions) {
+
+		boolean[] updated = new boolean[instances.size()];
+		for (int i = 0; i < instances.size(); i++) {
+			updated[i] = updateWithVersion(instances.get(i), domainType, previousVersions.get(i));
+		}
+
+		return updated;
+	}
+
+	/**
+	 * Inserts the data of a single entity or updates it, if a row with the same id already exists. Referenced entities
+	 * don't get handled. The id of the entity must be set.
+	 * <P>
+	 * Implementations should use a single statement, like {@code MERGE} or {@code INSERT … ON CONFLICT}, if the database
+	 * supports it. The default implementation inserts the instance if updating it didn't affect a row.
+	 *
+	 * @param instance the instance to be stored. Must not be {@code null}.
+	 * @param domainType the type of the instance. Must not be {@code null}.
+	 * @param <T> the type of the instance.
+	 * @since 2.1
+	 */
+	default <T> void upsert(T instance, Class<T> domainType) {
+
+		if (!update(instance, domainType)) {
+			insert(instance, domainType, Identifier.empty());
+		}
+	}
+
 	/**
 	 * Deletes a single row identified by the id, from the table identified by the domainType. Does not handle cascading
 	 * deletes.
@@ -108,6 +204,39 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> void deleteWithVersion(Object id, Class<T> domainType, Number previousVersion);
 
+	/**
+	 * Deletes the rows identified by the ids from the table identified by the domainType, using as few statements as
+	 * possible. Does not handle cascading deletes.
+	 *
+	 * @param ids the ids of the rows to be deleted. Must not be {@code null}.
+	 * @param domainType the type of entity to be deleted. Implicitly determines the table to operate on. Must not be
+	 *          {@code null}.
+	 * @since 2.1
+	 */
+	default void delete(List<?> ids, Class<?> domainType) {
+		ids.forEach(id -> delete(id, domainType));
+	}
+
+	/**
+	 * Deletes multiple entities from the database, preferably as a single JDBC batch, and enforces optimistic record
+	 * locking using the {@code previousVersions}. Does not handle cascading deletes.
+	 *
+	 * @param ids the ids of the rows to be deleted. Must not be {@code null}.
+	 * @param domainType the type of entity to be deleted. Implicitly determines the table to operate on. Must not be
+	 *          {@code null}.
+	 * @param previousVersions the previous versions of the entities to be deleted, in the order of {@code ids}. Must not
+	 *          be {@code null}.
+	 * @throws OptimisticLockingFailureException if any of the deletes fails to delete a row assuming the the optimistic
+	 *           locking version check failed.
+	 * @since 2.1
+	 */
+	default <T> void deleteWithVersion(List<?> ids, Class<T> domainType, List<Number> previousVersions) {
+
+		for (int i = 0; i < ids.size(); i++) {
+			deleteWithVersion(ids.get(i), domainType, previousVersions.get(i));
+		}
+	}
+
 	/**
 	 * Deletes all entities reachable via {@literal propertyPath} from the instance identified by {@literal rootId}.
 	 *
@@ -116,6 +245,18 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	void delete(Object rootId, PersistentPropertyPath<RelationalPersistentProperty> propertyPath);
 
+	/**
+	 * Deletes all entities reachable via {@literal propertyPath} from any of the instances identified by
+	 * {@literal rootIds}, using as few statements as possible.
+	 *
+	 * @param rootIds Ids of the root objects on which the {@literal propertyPath} is based. Must not be {@code null}.
+	 * @param propertyPath Leading from the root object to the entities to be deleted. Must not be {@code null}.
+	 * @since 2.1
+	 */
+	default void delete(List<?> rootIds, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+		rootIds.forEach(rootId -> delete(rootId, propertyPath));
+	}
+
 	/**
 	 * Deletes all entities of the given domain type.
 	 *
@@ -140,6 +281,18 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	<T> void acquireLockById(Object id, LockMode lockMode, Class<T> domainType);
 
+	/**
+	 * Acquire a lock on the aggregates specified by the ids, using as few statements as possible.
+	 *
+	 * @param ids the ids of the entities to lock. Must not be {@code null}.
+	 * @param lockMode the lock mode for select. Must not be {@code null}.
+	 * @param domainType the domain type of the entity. Must not be {@code null}.
+	 * @since 2.1
+	 */
+	default <T> void acquireLockById(List<?> ids, LockMode lockMode, Class<T> domainType) {
+		ids.forEach(id -> acquireLockById(id, lockMode, domainType));
+	}
+
 	/**
 	 * Acquire a lock on all aggregates of the given domain type.
 	 *
@@ -156,6 +309,20 @@ public interface DataAccessStrategy extends RelationResolver {
 	 */
 	long count(Class<?> domainType);
 
+	/**
+	 * Estimates the number of rows in the table representing the given domain type, based on the statistics maintained
+	 * by the database, if the dialect supports this. The estimate is much cheaper than an exact {@link #count(Class)}
+	 * for large tables but may deviate from the actual number of rows.
+	 *
+	 * @param domainType the domain type for which to estimate the number of elements. Must not be {@code null}.
+	 * @return the estimated count or the exact count if no estimate is available.
+	 * @see org.springframework.data.relational.core.dialect.Dialect#rowCountEstimate()
+	 * @since 2.1
+	 */
+	default long estimateCount(Class<?> domainType) {
+		return count(domainType);
+	}
+
 	/**
 	 * Loads a single entity identified by type and id.
 	 *
@@ -226,4 +393,89 @@ public interface DataAccessStrategy extends RelationResolver {
 	 * @since 2.0
 	 */
 	<T> Iterable<T> findAll(Class<T> domainType, Pageable pageable);
+
+	/**
+	 * Loads the entities of the given type following the given {@link Keyset} in the order of the given {@link Sort},
+	 * i.e. the next page of a keyset pagination. In contrast to selecting a page by offset the rows of previous pages
+	 * don't have to be read and skipped by the database. The default implementation loads all entities using
+	 * {@link #findAll(Class, Sort)} and skips those not following the {@link Keyset}.
+	 *
+	 * @param domainType the type of entities to load. Must not be {@code null}.
+	 * @param <T> the type of entities to load.
+	 * @param sort the sorting information. Must not be {@code null} and must be sorted.
+	 * @param keyset the values of the sort keys of the last entity of the previous page, or {@link Keyset#initial()} for
+	 *          the first page. Must not be {@code null}.
+	 * @param limit the maximum number of entities to load.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	@SuppressWarnings("unchecked")
+	default <T> Iterable<T> findAll(Class<T> domainType, Sort sort, Keyset keyset, int limit) {
+
+		List<Sort.Order> orders = sort.toList();
+		Assert.isTrue(keyset.size() <= orders.size(), "The keyset must not have more values than there are sort orders");
+
+		List<T> page = new ArrayList<>();
+		boolean following = keyset.isInitial();
+
+		for (T instance : findAll(domainType, sort)) {
+
+			if (page.size() >= limit) {
+				break;
+			}
+
+			// the entities are sorted, so once an entity follows the keyset, all the remaining ones do as well.
+			if (!following) {
+
+				BeanWrapper beanWrapper = new DirectFieldAccessFallbackBeanWrapper(instance);
+
+				int comparison = 0;
+				for (int i = 0; i < keyset.size() && comparison == 0; i++) {
+
+					Sort.Order order = orders.get(i);
+					Comparable<Object> value = (Comparable<Object>) beanWrapper.getPropertyValue(order.getProperty());
+
+					comparison = value == null ? -1 : value.compareTo(keyset.getValues().get(i));
+					comparison = order.isDescending() ? -comparison : comparison;
+				}
+
+				following = comparison > 0;
+			}
+
+			if (following) {
+				page.add(instance);
+			}
+		}
+
+		return page;
+	}
+
+	/**
+	 * Loads all entities of the given type as a {@link Stream} backed by an open database cursor. Entities get read as
+	 * the {@link Stream} gets consumed, so it has to be consumed within the transaction and connection it was created
+	 * with and must be closed after use in order to release the underlying resources. The default implementation streams
+	 * the result of {@link #findAll(Class)}, which gets loaded completely.
+	 *
+	 * @param domainType the type of entities to load. Must not be {@code null}.
+	 * @param <T> the type of entities to load.
+	 * @return Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	default <T> Stream<T> streamAll(Class<T> domainType) {
+		return StreamSupport.stream(findAll(domainType).spliterator(), false);
+	}
+
+	/**
+	 * Loads all entities of the given type, sorted, as a {@link Stream} backed by an open database cursor.
+	 *
+	 * @param domainType the type of entities to load. Must not be {@code null}.
+	 * @param <T> the type of entities to load.
+	 * @param sort the sorting information. Must not be {@code null}.
+	 * @return Guaranteed to be not {@code null}.
+	 * @see #streamAll(Class)
+	 * @since 2.1
+	 */
+	default <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+		return StreamSupport.stream(findAll(domainType, sort).spliterator(), false);
+	}
 }
@@ -17,19 +17,29 @@ package org.springframework.data.jdbc.core.convert;
 
 import static org.springframework.data.jdbc.core.convert.SqlGenerator.*;
 
+import java.lang.reflect.Array;
 import java.sql.JDBCType;
 import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.support.JdbcUtil;
@@ -37,15 +47,22 @@ import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.relational.core.dialect.InClause;
 import org.springframework.data.relational.core.dialect.LockClause;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Keyset;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
@@ -53,6 +70,7 @@ import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * The default {@link DataAccessStrategy} is to generate SQL statements based on meta data from the entity.
@@ -74,6 +92,10 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
 	private final NamedParameterJdbcOperations operations;
+	private final DataAccessOptions options;
+	private final BatchInsertOperations batchInsertOperations;
+	private final BatchRelationLoader batchRelationLoader;
+	private final Map<Class<?>, Optional<AggregateResultSetExtractor<?>>> aggregateResultSetExtractors = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a {@link DefaultDataAccessStrategy}
@@ -86,16 +108,37 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	 */
 	public DefaultDataAccessStrategy(SqlGeneratorSource sqlGeneratorSource, RelationalMappingContext context,
 			JdbcConverter converter, NamedParameterJdbcOperations operations) {
+		this(sqlGeneratorSource, context, converter, operations, DataAccessOptions.DEFAULT);
+	}
+
+	/**
+	 * Creates a {@link DefaultDataAccessStrategy} applying the given {@link DataAccessOptions}.
+	 *
+	 * @param sqlGeneratorSource must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @since 2.1
+	 */
+	public DefaultDataAccessStrategy(SqlGeneratorSource sqlGeneratorSource, RelationalMappingContext context,
+			JdbcConverter converter, NamedParameterJdbcOperations operations, DataAccessOptions options) {
 
 		Assert.notNull(sqlGeneratorSource, "SqlGeneratorSource must not be null");
 		Assert.notNull(context, "RelationalMappingContext must not be null");
 		Assert.notNull(converter, "JdbcConverter must not be null");
 		Assert.notNull(operations, "NamedParameterJdbcOperations must not be null");
+		Assert.notNull(options, "DataAccessOptions must not be null");
 
 		this.sqlGeneratorSource = sqlGeneratorSource;
 		this.context = context;
 		this.converter = converter;
 		this.operations = operations;
+		this.options = options;
+		this.batchInsertOperations = new BatchInsertOperations(sqlGeneratorSource, operations,
+				options.isCopyBulkInserts());
+		this.batchRelationLoader = new BatchRelationLoader(context, converter, sqlGeneratorSource, operations,
+				options.isInListPadding());
 	}
 
 	/*
@@ -108,17 +151,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		SqlGenerator sqlGenerator = sql(domainType);
 		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
 
-		SqlIdentifierParameterSource parameterSource = getParameterSource(instance, persistentEntity, "",
-				PersistentProperty::isIdProperty, getIdentifierProcessing());
-
-		identifier.forEach((name, value, type) -> addConvertedPropertyValue(parameterSource, name, value, type));
-
-		Object idValue = getIdValueOrNull(instance, persistentEntity);
-		if (idValue != null) {
-
-			RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
-			addConvertedPropertyValue(parameterSource, idProperty, idValue, idProperty.getColumnName());
-		}
+		SqlIdentifierParameterSource parameterSource = getInsertParameterSource(instance, persistentEntity, identifier);
 
 		KeyHolder holder = new GeneratedKeyHolder();
 
@@ -131,6 +164,26 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return getIdFromHolder(holder, persistentEntity);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#insert(java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <T> Object[] insert(List<InsertSubject<T>> insertSubjects, Class<T> domainType) {
+
+		Assert.notNull(insertSubjects, "InsertSubjects must not be null.");
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+
+		List<SqlIdentifierParameterSource> parameterSources = new ArrayList<>(insertSubjects.size());
+		for (InsertSubject<T> insertSubject : insertSubjects) {
+			parameterSources.add(
+					getInsertParameterSource(insertSubject.getInstance(), persistentEntity, insertSubject.getIdentifier()));
+		}
+
+		return batchInsertOperations.insert(persistentEntity, parameterSources);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#update(java.lang.Object, java.lang.Class)
@@ -139,8 +192,24 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	public <S> boolean update(S instance, Class<S> domainType) {
 
 		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
-		return operations.update(sql(domainType).getUpdate(),
+		Set<SqlIdentifier> columnsToUpdate = getColumnsToUpdate(Collections.singletonList(instance), persistentEntity);
+
+		if (columnsToUpdate != null && columnsToUpdate.isEmpty()) {
+
+			// nothing changed since the entity got loaded, but the row must still exist.
+			return existsById(getRequiredId(instance, persistentEntity), domainType);
+		}
+
+		String updateSql = columnsToUpdate == null //
+				? sql(domainType).getUpdate() //
+				: sql(domainType).getUpdate(columnsToUpdate);
+
+		boolean updated = update(domainType, updateSql,
 				getParameterSource(instance, persistentEntity, "", Predicates.includeAll(), getIdentifierProcessing())) != 0;
+
+		recordSnapshot(instance, persistentEntity);
+
+		return updated;
 	}
 
 	/*
@@ -157,7 +226,8 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 				Predicates.includeAll(), getIdentifierProcessing());
 		parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersion);
 
-		int affectedRows = operations.update(sql(domainType).getUpdateWithVersion(), parameterSource);
+		Set<SqlIdentifier> columnsToUpdate = getColumnsToUpdate(Collections.singletonList(instance), persistentEntity);
+		int affectedRows = update(domainType, getUpdateWithVersionSql(domainType, columnsToUpdate), parameterSource);
 
 		if (affectedRows == 0) {
 
@@ -165,9 +235,114 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 					String.format("Optimistic lock exception on saving entity of type %s.", persistentEntity.getName()));
 		}
 
+		recordSnapshot(instance, persistentEntity);
+
 		return true;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#update(java.util.List, java.lang.Class)
+	 */
+	@Override
+	public <S> boolean[] update(List<S> instances, Class<S> domainType) {
+
+		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
+		Set<SqlIdentifier> columnsToUpdate = getColumnsToUpdate(instances, persistentEntity);
+
+		if (columnsToUpdate != null && columnsToUpdate.isEmpty()) {
+
+			// nothing changed since the entities got loaded, but the rows must still exist.
+			boolean[] updated = new boolean[instances.size()];
+			for (int i = 0; i < instances.size(); i++) {
+				updated[i] = existsById(getRequiredId(instances.get(i), persistentEntity), domainType);
+			}
+			return updated;
+		}
+
+		SqlParameterSource[] batchArgs = new SqlParameterSource[instances.size()];
+		for (int i = 0; i < instances.size(); i++) {
+			batchArgs[i] = getParameterSource(instances.get(i), persistentEntity, "", Predicates.includeAll(),
+					getIdentifierProcessing());
+		}
+
+		String updateSql = columnsToUpdate == null //
+				? sql(domainType).getUpdate() //
+				: sql(domainType).getUpdate(columnsToUpdate);
+
+		boolean[] updated = toUpdated(operations.batchUpdate(updateSql, batchArgs),
+				i -> existsById(getRequiredId(instances.get(i), persistentEntity), domainType));
+
+		instances.forEach(instance -> recordSnapshot(instance, persistentEntity));
+
+		return updated;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#updateWithVersion(java.util.List, java.lang.Class, java.util.List)
+	 */
+	@Override
+	public <S> boolean[] updateWithVersion(List<S> instances, Class<S> domainType, List<Number> previousVersions) {
+
+		Assert.isTrue(instances.size() == previousVersions.size(),
+				"The number of previous versions must match the number of instances.");
+
+		RelationalPersistentEntity<S> persistentEntity = getRequiredPersistentEntity(domainType);
+
+		SqlParameterSource[] batchArgs = new SqlParameterSource[instances.size()];
+		for (int i = 0; i < instances.size(); i++) {
+
+			// Adjust update statement to set the new version and use the old version in where clause.
+			SqlIdentifierParameterSource parameterSource = getParameterSource(instances.get(i), persistentEntity, "",
+					Predicates.includeAll(), getIdentifierProcessing());
+			parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersions.get(i));
+
+			batchArgs[i] = parameterSource;
+		}
+
+		Set<SqlIdentifier> columnsToUpdate = getColumnsToUpdate(instances, persistentEntity);
+		boolean[] updated = toUpdated(
+				operations.batchUpdate(getUpdateWithVersionSql(domainType, columnsToUpdate), batchArgs),
+				i -> existsWithVersion(instances.get(i), persistentEntity));
+
+		for (boolean rowUpdated : updated) {
+
+			if (!rowUpdated) {
+				throw new OptimisticLockingFailureException(
+						String.format("Optimistic lock exception on saving entity of type %s.", persistentEntity.getName()));
+			}
+		}
+
+		instances.forEach(instance -> recordSnapshot(instance, persistentEntity));
+
+		return updated;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#upsert(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	public <T> void upsert(T instance, Class<T> domainType) {
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+
+		Assert.notNull(getIdValueOrNull(instance, persistentEntity), "The id of an entity to upsert must not be null");
+
+		if (!sqlGeneratorSource.getDialect().upsert().isSupported()) {
+
+			// without native support we fall back to an update followed by an insert if necessary.
+			if (!update(instance, domainType)) {
+				insert(instance, domainType, Identifier.empty());
+			}
+			return;
+		}
+
+		operations.update(sql(domainType).getUpsert(),
+				getInsertParameterSource(instance, persistentEntity, Identifier.empty()));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#delete(java.lang.Object, java.lang.Class)
@@ -176,6 +351,14 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	public void delete(Object id, Class<?> domainType) {
 
 		String deleteByIdSql = sql(domainType).getDeleteById();
+
+		if (options.isPositionalParameters()) {
+
+			PositionalSql positionalSql = sql(domainType).getPositional(deleteByIdSql);
+			operations.getJdbcOperations().update(positionalSql.getSql(), bindId(positionalSql, id, domainType));
+			return;
+		}
+
 		SqlParameterSource parameter = createIdParameterSource(id, domainType);
 
 		operations.update(deleteByIdSql, parameter);
@@ -194,7 +377,7 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 
 		SqlIdentifierParameterSource parameterSource = createIdParameterSource(id, domainType);
 		parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersion);
-		int affectedRows = operations.update(sql(domainType).getDeleteByIdAndVersion(), parameterSource);
+		int affectedRows = update(domainType, sql(domainType).getDeleteByIdAndVersion(), parameterSource);
 
 		if (affectedRows == 0) {
 			throw new OptimisticLockingFailureException(
@@ -202,6 +385,57 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#delete(java.util.List, java.lang.Class)
+	 */
+	@Override
+	public void delete(List<?> ids, Class<?> domainType) {
+
+		RelationalPersistentProperty idProperty = getRequiredPersistentEntity(domainType).getRequiredIdProperty();
+		String deleteByListSql = sql(domainType).getDeleteByList();
+
+		for (List<?> chunk : InClause.split(ids, getInClause().getMaxListSize())) {
+
+			SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+			addConvertedPropertyValuesAsList(parameterSource, idProperty, chunk, IDS_SQL_PARAMETER);
+
+			operations.update(deleteByListSql, parameterSource);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#deleteWithVersion(java.util.List, java.lang.Class, java.util.List)
+	 */
+	@Override
+	public <T> void deleteWithVersion(List<?> ids, Class<T> domainType, List<Number> previousVersions) {
+
+		Assert.notNull(ids, "Ids must not be null.");
+		Assert.isTrue(ids.size() == previousVersions.size(), "There must be a previous version for each id.");
+
+		RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+
+		SqlParameterSource[] batchArgs = new SqlParameterSource[ids.size()];
+		for (int i = 0; i < ids.size(); i++) {
+
+			SqlIdentifierParameterSource parameterSource = createIdParameterSource(ids.get(i), domainType);
+			parameterSource.addValue(VERSION_SQL_PARAMETER, previousVersions.get(i));
+			batchArgs[i] = parameterSource;
+		}
+
+		boolean[] deleted = toUpdated(operations.batchUpdate(sql(domainType).getDeleteByIdAndVersion(), batchArgs),
+				i -> !existsById(ids.get(i), domainType));
+
+		for (boolean rowDeleted : deleted) {
+
+			if (!rowDeleted) {
+				throw new OptimisticLockingFailureException(
+						String.format("Optimistic lock exception deleting entity of type %s.", persistentEntity.getName()));
+			}
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#delete(java.lang.Object, org.springframework.data.mapping.PropertyPath)
@@ -222,6 +456,27 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		operations.update(delete, parameters);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#delete(java.util.List, org.springframework.data.mapping.PersistentPropertyPath)
+	 */
+	@Override
+	public void delete(List<?> rootIds, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+
+		RelationalPersistentEntity<?> rootEntity = context
+				.getRequiredPersistentEntity(propertyPath.getBaseProperty().getOwner().getType());
+
+		String delete = sql(rootEntity.getType()).createDeleteInByPath(propertyPath);
+
+		for (List<?> chunk : InClause.split(rootIds, getInClause().getMaxListSize())) {
+
+			SqlIdentifierParameterSource parameters = new SqlIdentifierParameterSource(getIdentifierProcessing());
+			addConvertedPropertyValuesAsList(parameters, rootEntity.getRequiredIdProperty(), chunk, IDS_SQL_PARAMETER);
+
+			operations.update(delete, parameters);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#deleteAll(java.lang.Class)
@@ -254,6 +509,26 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		operations.query(acquireLockByIdSql, parameter, ResultSet::next);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#acquireLockById(java.util.List, org.springframework.data.relational.core.sql.LockMode, java.lang.Class)
+	 */
+	@Override
+	public <T> void acquireLockById(List<?> ids, LockMode lockMode, Class<T> domainType) {
+
+		RelationalPersistentProperty idProperty = getRequiredPersistentEntity(domainType).getRequiredIdProperty();
+		String acquireLockByListSql = sql(domainType).getAcquireLockByList(lockMode);
+
+		for (List<?> chunk : InClause.split(ids, getInClause().getMaxListSize())) {
+
+			SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+			addConvertedPropertyValuesAsList(parameterSource, idProperty, chunk, IDS_SQL_PARAMETER);
+
+			// reading all rows makes sure all of them get locked, even when the driver fetches rows lazily.
+			operations.query(acquireLockByListSql, parameterSource, (RowCallbackHandler) rs -> {});
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#acquireLockAll(org.springframework.data.relational.core.sql.LockMode, java.lang.Class)
@@ -279,6 +554,29 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return result;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#estimateCount(java.lang.Class)
+	 */
+	@Override
+	public long estimateCount(Class<?> domainType) {
+
+		String estimateCountSql = sql(domainType).getEstimateCount();
+
+		if (estimateCountSql != null) {
+
+			Long estimate = operations.getJdbcOperations().query(estimateCountSql,
+					(ResultSetExtractor<Long>) rs -> rs.next() ? rs.getLong(1) : null);
+
+			// tables without statistics, e.g. because they have never been analyzed, report no or a non-positive estimate
+			if (estimate != null && estimate > 0) {
+				return estimate;
+			}
+		}
+
+		return count(domainType);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findById(java.lang.Object, java.lang.Class)
@@ -288,13 +586,41 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	public <T> T findById(Object id, Class<T> domainType) {
 
 		String findOneSql = sql(domainType).getFindOne();
+
+		AggregateResultSetExtractor<T> aggregateResultSetExtractor = getAggregateResultSetExtractor(domainType);
+		if (aggregateResultSetExtractor != null) {
+
+			List<T> result = operations.query(sql(domainType).getFindOneAggregate(),
+					createIdParameterSource(id, domainType), aggregateResultSetExtractor);
+
+			return result == null || result.isEmpty() ? null : result.get(0);
+		}
+
+		if (options.isPositionalParameters() && !options.isBatchRelationLoading()) {
+
+			PositionalSql positionalSql = sql(domainType).getPositional(findOneSql);
+			return DataAccessUtils.singleResult(operations.getJdbcOperations().query(positionalSql.getSql(),
+					bindId(positionalSql, id, domainType), (RowMapper<T>) getEntityRowMapper(domainType)));
+		}
+
 		SqlIdentifierParameterSource parameter = createIdParameterSource(id, domainType);
 
-		try {
-			return operations.queryForObject(findOneSql, parameter, (RowMapper<T>) getEntityRowMapper(domainType));
-		} catch (EmptyResultDataAccessException e) {
-			return null;
+		if (!options.isBatchRelationLoading()) {
+
+			try {
+				return operations.queryForObject(findOneSql, parameter, (RowMapper<T>) getEntityRowMapper(domainType));
+			} catch (EmptyResultDataAccessException e) {
+				return null;
+			}
+		}
+
+		List<T> result = batchRelationLoader.query(findOneSql, parameter, getRequiredPersistentEntity(domainType));
+
+		if (result.size() > 1) {
+			throw new IncorrectResultSizeDataAccessException(1, result.size());
 		}
+
+		return result.isEmpty() ? null : result.get(0);
 	}
 
 	/*
@@ -304,6 +630,12 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> Iterable<T> findAll(Class<T> domainType) {
+
+		AggregateResultSetExtractor<T> aggregateResultSetExtractor = getAggregateResultSetExtractor(domainType);
+		if (aggregateResultSetExtractor != null) {
+			return operations.query(sql(domainType).getFindAllAggregate(), aggregateResultSetExtractor);
+		}
+
 		return operations.query(sql(domainType).getFindAll(), (RowMapper<T>) getEntityRowMapper(domainType));
 	}
 
@@ -312,7 +644,6 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#findAllById(java.lang.Iterable, java.lang.Class)
 	 */
 	@Override
-	@SuppressWarnings("unchecked")
 	public <T> Iterable<T> findAllById(Iterable<?> ids, Class<T> domainType) {
 
 		if (!ids.iterator().hasNext()) {
@@ -320,13 +651,46 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		}
 
 		RelationalPersistentProperty idProperty = getRequiredPersistentEntity(domainType).getRequiredIdProperty();
-		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+		AggregateResultSetExtractor<T> aggregateResultSetExtractor = getAggregateResultSetExtractor(domainType);
+
+		if (aggregateResultSetExtractor == null && options.isInListArrays() && getInClause().supportsArrayParameter()) {
+
+			SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+			addConvertedPropertyValuesAsArray(parameterSource, idProperty, ids, IDS_SQL_PARAMETER);
+
+			return findAllInList(sql(domainType).getFindAllInArray(), parameterSource, domainType);
+		}
 
-		addConvertedPropertyValuesAsList(parameterSource, idProperty, ids, IDS_SQL_PARAMETER);
+		List<Object> idList = new ArrayList<>();
+		ids.forEach(idList::add);
 
-		String findAllInListSql = sql(domainType).getFindAllInList();
+		List<T> result = new ArrayList<>();
+		for (List<?> chunk : InClause.split(idList, getInClause().getMaxListSize())) {
 
-		return operations.query(findAllInListSql, parameterSource, (RowMapper<T>) getEntityRowMapper(domainType));
+			SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+			addConvertedPropertyValuesAsList(parameterSource, idProperty, chunk, IDS_SQL_PARAMETER);
+
+			List<T> entities = aggregateResultSetExtractor != null //
+					? operations.query(sql(domainType).getFindAllInListAggregate(), parameterSource,
+							aggregateResultSetExtractor) //
+					: findAllInList(sql(domainType).getFindAllInList(), parameterSource, domainType);
+
+			if (entities != null) {
+				result.addAll(entities);
+			}
+		}
+
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> List<T> findAllInList(String sql, SqlParameterSource parameterSource, Class<T> domainType) {
+
+		if (options.isBatchRelationLoading()) {
+			return batchRelationLoader.query(sql, parameterSource, getRequiredPersistentEntity(domainType));
+		}
+
+		return operations.query(sql, parameterSource, (RowMapper<T>) getEntityRowMapper(domainType));
 	}
 
 	/*
@@ -371,9 +735,17 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	public <T> boolean existsById(Object id, Class<T> domainType) {
 
 		String existsSql = sql(domainType).getExists();
-		SqlParameterSource parameter = createIdParameterSource(id, domainType);
 
-		Boolean result = operations.queryForObject(existsSql, parameter, Boolean.class);
+		Boolean result;
+		if (options.isPositionalParameters()) {
+
+			PositionalSql positionalSql = sql(domainType).getPositional(existsSql);
+			result = DataAccessUtils.singleResult(operations.getJdbcOperations().query(positionalSql.getSql(),
+					bindId(positionalSql, id, domainType), new SingleColumnRowMapper<>(Boolean.class)));
+		} else {
+			result = operations.queryForObject(existsSql, createIdParameterSource(id, domainType), Boolean.class);
+		}
+
 		Assert.state(result != null, "The result of an exists query must not be null");
 
 		return result;
@@ -386,7 +758,15 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort) {
-		return operations.query(sql(domainType).getFindAll(sort), (RowMapper<T>) getEntityRowMapper(domainType));
+
+		String findAllSql = sql(domainType).getFindAll(sort);
+
+		if (options.isBatchRelationLoading()) {
+			return batchRelationLoader.query(findAllSql, EmptySqlParameterSource.INSTANCE,
+					getRequiredPersistentEntity(domainType));
+		}
+
+		return operations.query(findAllSql, (RowMapper<T>) getEntityRowMapper(domainType));
 	}
 
 	/*
@@ -396,7 +776,71 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> Iterable<T> findAll(Class<T> domainType, Pageable pageable) {
-		return operations.query(sql(domainType).getFindAll(pageable), (RowMapper<T>) getEntityRowMapper(domainType));
+
+		String findAllSql = sql(domainType).getFindAll(pageable);
+
+		if (options.isBatchRelationLoading()) {
+			return batchRelationLoader.query(findAllSql, EmptySqlParameterSource.INSTANCE,
+					getRequiredPersistentEntity(domainType));
+		}
+
+		return operations.query(findAllSql, (RowMapper<T>) getEntityRowMapper(domainType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findAll(java.lang.Class, org.springframework.data.domain.Sort, org.springframework.data.relational.core.query.Keyset, int)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort, Keyset keyset, int limit) {
+
+		String findAllSql = sql(domainType).getFindAll(sort, keyset, limit);
+
+		RelationalPersistentEntity<T> entity = getRequiredPersistentEntity(domainType);
+		SqlIdentifierParameterSource parameterSource = new SqlIdentifierParameterSource(getIdentifierProcessing());
+
+		List<Sort.Order> orders = sort.toList();
+		List<Object> values = keyset.getValues();
+		for (int i = 0; i < values.size(); i++) {
+
+			RelationalPersistentProperty property = entity.getRequiredPersistentProperty(orders.get(i).getProperty());
+			addConvertedPropertyValue(parameterSource, property, values.get(i), getKeysetParameter(i));
+		}
+
+		if (options.isBatchRelationLoading()) {
+			return batchRelationLoader.query(findAllSql, parameterSource, getRequiredPersistentEntity(domainType));
+		}
+
+		return operations.query(findAllSql, parameterSource, (RowMapper<T>) getEntityRowMapper(domainType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#streamAll(java.lang.Class)
+	 */
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+		return stream(sql(domainType).getFindAll(), domainType);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#streamAll(java.lang.Class, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType, Sort sort) {
+		return stream(sql(domainType).getFindAll(sort), domainType);
+	}
+
+	/**
+	 * Streams entities of the given type, mapping each row as it gets consumed. Relations get loaded per entity, since
+	 * neither batch relation loading nor single query loading is possible without reading the complete result first.
+	 */
+	@SuppressWarnings("unchecked")
+	private <T> Stream<T> stream(String sql, Class<T> domainType) {
+		return operations.queryForStream(sql, EmptySqlParameterSource.INSTANCE,
+				(RowMapper<T>) getEntityRowMapper(domainType));
 	}
 
 	private <S, T> SqlIdentifierParameterSource getParameterSource(@Nullable S instance,
@@ -437,6 +881,116 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return parameters;
 	}
 
+	private <T> SqlIdentifierParameterSource getInsertParameterSource(T instance,
+			RelationalPersistentEntity<T> persistentEntity, Identifier identifier) {
+
+		SqlIdentifierParameterSource parameterSource = getParameterSource(instance, persistentEntity, "",
+				PersistentProperty::isIdProperty, getIdentifierProcessing());
+
+		identifier.forEach((name, value, type) -> addConvertedPropertyValue(parameterSource, name, value, type));
+
+		Object idValue = getIdValueOrNull(instance, persistentEntity);
+		if (idValue != null) {
+
+			RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+			addConvertedPropertyValue(parameterSource, idProperty, idValue, idProperty.getColumnName());
+		}
+
+		return parameterSource;
+	}
+
+	/**
+	 * Determines the columns that need to be updated for the given instances, based on the {@link EntitySnapshots} of
+	 * the converter.
+	 *
+	 * @return the updateable columns that changed for any of the instances since they got loaded, or {@literal null} if
+	 *         all columns need to be updated.
+	 */
+	@Nullable
+	private <S> Set<SqlIdentifier> getColumnsToUpdate(List<S> instances,
+			RelationalPersistentEntity<S> persistentEntity) {
+
+		EntitySnapshots entitySnapshots = converter.getEntitySnapshots();
+
+		if (entitySnapshots == null) {
+			return null;
+		}
+
+		Set<SqlIdentifier> columnsToUpdate = new HashSet<>();
+		for (S instance : instances) {
+
+			Set<SqlIdentifier> changedColumns = entitySnapshots.getChangedColumns(persistentEntity, instance);
+			if (changedColumns == null) {
+				return null;
+			}
+			columnsToUpdate.addAll(changedColumns);
+		}
+
+		return sql(persistentEntity.getType()).getUpdateableColumns(columnsToUpdate);
+	}
+
+	private String getUpdateWithVersionSql(Class<?> domainType, @Nullable Set<SqlIdentifier> columnsToUpdate) {
+
+		// the version column always changes, so an empty set of columns means there is no information about changes.
+		return columnsToUpdate == null || columnsToUpdate.isEmpty() //
+				? sql(domainType).getUpdateWithVersion() //
+				: sql(domainType).getUpdateWithVersion(columnsToUpdate);
+	}
+
+	private <S> void recordSnapshot(S instance, RelationalPersistentEntity<S> persistentEntity) {
+
+		EntitySnapshots entitySnapshots = converter.getEntitySnapshots();
+
+		if (entitySnapshots != null) {
+			entitySnapshots.record(persistentEntity, instance);
+		}
+	}
+
+	/**
+	 * Converts the update counts of a batch into whether each element of the batch affected a row. Some JDBC drivers
+	 * report {@link Statement#SUCCESS_NO_INFO} instead of an update count. Such elements get checked using
+	 * {@code verification}, so an unknown update count never gets mistaken for a successful update.
+	 *
+	 * @param affectedRows the update counts as returned by the JDBC driver.
+	 * @param verification checks whether the element with the given index of the batch got applied.
+	 */
+	private static boolean[] toUpdated(int[] affectedRows, IntPredicate verification) {
+
+		boolean[] updated = new boolean[affectedRows.length];
+		for (int i = 0; i < affectedRows.length; i++) {
+			updated[i] = affectedRows[i] == Statement.SUCCESS_NO_INFO //
+					? verification.test(i) //
+					: affectedRows[i] != 0;
+		}
+
+		return updated;
+	}
+
+	/**
+	 * Checks whether the row of the given versioned entity exists with the version of the entity, i.e. whether an update
+	 * setting that version got applied.
+	 */
+	private <S> boolean existsWithVersion(S instance, RelationalPersistentEntity<S> persistentEntity) {
+
+		PersistentPropertyAccessor<S> propertyAccessor = persistentEntity.getPropertyAccessor(instance);
+
+		SqlIdentifierParameterSource parameterSource = createIdParameterSource(
+				getRequiredId(instance, persistentEntity), persistentEntity.getType());
+		parameterSource.addValue(VERSION_SQL_PARAMETER,
+				propertyAccessor.getProperty(persistentEntity.getRequiredVersionProperty()));
+
+		Boolean result = operations.queryForObject(sql(persistentEntity.getType()).getExistsByIdAndVersion(),
+				parameterSource, Boolean.class);
+
+		Assert.state(result != null, "The result of an exists query must not be null");
+
+		return result;
+	}
+
+	private static <S> Object getRequiredId(S instance, RelationalPersistentEntity<S> persistentEntity) {
+		return persistentEntity.getIdentifierAccessor(instance).getRequiredIdentifier();
+	}
+
 	@Nullable
 	@SuppressWarnings("unchecked")
 	private <S, ID> ID getIdValueOrNull(S instance, RelationalPersistentEntity<S> persistentEntity) {
@@ -476,12 +1030,36 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		}
 	}
 
-	private EntityRowMapper<?> getEntityRowMapper(Class<?> domainType) {
-		return new EntityRowMapper<>(getRequiredPersistentEntity(domainType), converter);
+	/**
+	 * @return an {@link AggregateResultSetExtractor} if single query loading is enabled and supported for the type.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private <T> AggregateResultSetExtractor<T> getAggregateResultSetExtractor(Class<T> domainType) {
+
+		if (!options.isSingleQueryLoading()) {
+			return null;
+		}
+
+		return (AggregateResultSetExtractor<T>) aggregateResultSetExtractors.computeIfAbsent(domainType, type -> {
+
+			RelationalPersistentEntity<T> persistentEntity = getRequiredPersistentEntity(domainType);
+
+			if (!AggregateResultSetExtractor.supports(context, persistentEntity)) {
+				return Optional.empty();
+			}
+
+			return Optional.of(
+					new AggregateResultSetExtractor<>(context, converter, persistentEntity, getIdentifierProcessing()));
+		}).orElse(null);
 	}
 
-	private EntityRowMapper<?> getEntityRowMapper(PersistentPropertyPathExtension path, Identifier identifier) {
-		return new EntityRowMapper<>(path, converter, identifier);
+	private RowMapper<?> getEntityRowMapper(Class<?> domainType) {
+		return new EntityRowMapper<>(getRequiredPersistentEntity(domainType), converter).forSingleExecution();
+	}
+
+	private RowMapper<?> getEntityRowMapper(PersistentPropertyPathExtension path, Identifier identifier) {
+		return new EntityRowMapper<>(path, converter, identifier).forSingleExecution();
 	}
 
 	private RowMapper<?> getMapEntityRowMapper(PersistentPropertyPathExtension path, Identifier identifier) {
@@ -489,7 +1067,38 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		SqlIdentifier keyColumn = path.getQualifierColumn();
 		Assert.notNull(keyColumn, () -> "KeyColumn must not be null for " + path);
 
-		return new MapEntityRowMapper<>(path, converter, identifier, keyColumn, getIdentifierProcessing());
+		return new MapEntityRowMapper<>(path, converter, identifier, keyColumn, getIdentifierProcessing())
+				.forSingleExecution();
+	}
+
+	/**
+	 * Executes an update using positional parameters if enabled and the values can be bound by position, otherwise using
+	 * named parameters.
+	 */
+	private int update(Class<?> domainType, String sql, SqlParameterSource parameterSource) {
+
+		if (options.isPositionalParameters()) {
+
+			PositionalSql positionalSql = sql(domainType).getPositional(sql);
+			if (positionalSql.canBind(parameterSource)) {
+				return operations.getJdbcOperations().update(positionalSql.getSql(), positionalSql.bind(parameterSource));
+			}
+		}
+
+		return operations.update(sql, parameterSource);
+	}
+
+	/**
+	 * Binds the converted id to a statement using no other parameter, without creating a {@link SqlParameterSource}.
+	 */
+	private PreparedStatementSetter bindId(PositionalSql positionalSql, Object id, Class<?> domainType) {
+
+		RelationalPersistentProperty idProperty = getRequiredPersistentEntity(domainType).getRequiredIdProperty();
+		JdbcValue jdbcValue = converter.writeJdbcValue(id, converter.getColumnType(idProperty),
+				converter.getSqlType(idProperty));
+
+		return positionalSql.bind(ID_SQL_PARAMETER.getReference(getIdentifierProcessing()), jdbcValue.getValue(),
+				JdbcUtil.sqlTypeFor(jdbcValue.getJdbcType()));
 	}
 
 	private <T> SqlIdentifierParameterSource createIdParameterSource(Object id, Class<T> domainType) {
@@ -509,6 +1118,10 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		return sqlGeneratorSource.getDialect().getIdentifierProcessing();
 	}
 
+	private InClause getInClause() {
+		return sqlGeneratorSource.getDialect().inClause();
+	}
+
 	private void addConvertedPropertyValue(SqlIdentifierParameterSource parameterSource,
 			RelationalPersistentProperty property, @Nullable Object value, SqlIdentifier name) {
 
@@ -555,7 +1168,38 @@ public class DefaultDataAccessStrategy implements DataAccessStrategy {
 		JDBCType jdbcType = jdbcValue.getJdbcType();
 		int typeNumber = jdbcType == null ? JdbcUtils.TYPE_UNKNOWN : jdbcType.getVendorTypeNumber();
 
-		parameterSource.addValue(paramName, convertedIds, typeNumber);
+		parameterSource.addValue(paramName, options.isInListPadding() //
+				? InClause.pad(convertedIds, getInClause().getMaxListSize()) //
+				: convertedIds, typeNumber);
+	}
+
+	/**
+	 * Adds the converted values as a single array, e.g. a {@link java.sql.Array} created by the {@link JdbcTypeFactory}.
+	 * The component type of the array is the column type of the property, so every converted value must be an instance
+	 * of it.
+	 */
+	private void addConvertedPropertyValuesAsArray(SqlIdentifierParameterSource parameterSource,
+			RelationalPersistentProperty property, Iterable<?> values, SqlIdentifier paramName) {
+
+		Class<?> columnType = ClassUtils.resolvePrimitiveIfNecessary(converter.getColumnType(property));
+		int sqlType = converter.getSqlType(property);
+
+		List<Object> convertedIds = new ArrayList<>();
+		for (Object id : values) {
+
+			Object convertedId = converter.writeJdbcValue(id, columnType, sqlType).getValue();
+
+			Assert.notNull(convertedId, "Ids must not be null");
+			Assert.isInstanceOf(columnType, convertedId,
+					String.format("Id of property %s must be converted to the column type", property.getName()));
+
+			convertedIds.add(convertedId);
+		}
+
+		Assert.state(!convertedIds.isEmpty(), "Ids must not be empty");
+
+		Object[] array = convertedIds.toArray((Object[]) Array.newInstance(columnType, 0));
+		addConvertedValue(parameterSource, array, paramName, array.getClass(), Types.ARRAY);
 	}
 
 	@SuppressWarnings("unchecked")
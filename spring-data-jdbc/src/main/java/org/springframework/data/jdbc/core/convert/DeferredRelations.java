@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+
+/**
+ * Collects collections and maps of referenced entities that a {@link JdbcConverter} didn't load while reading entities,
+ * so that they can be loaded for many entities at once, using a single query per property path instead of one query
+ * per entity.
+ * <p>
+ * Instances are not thread safe and are intended to be used for reading the result of a single query.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ * @see JdbcConverter#mapRow(org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension,
+ *      java.sql.ResultSet, Identifier, Object, DeferredRelations)
+ */
+public class DeferredRelations {
+
+	private Map<Group.Key, Group> pending = new LinkedHashMap<>();
+
+	/**
+	 * Registers a relation to be loaded later.
+	 *
+	 * @param path the path of the relation as it would be passed to {@link RelationResolver#findAllByPath}.
+	 * @param backReferenceColumn the column of the referenced entities referencing the parent entity.
+	 * @param parentId the id of the parent entity.
+	 * @param setter receives the referenced entities, once they are loaded.
+	 */
+	void add(PersistentPropertyPath<? extends RelationalPersistentProperty> path, SqlIdentifier backReferenceColumn,
+			Object parentId, Consumer<Iterable<Object>> setter) {
+
+		pending.computeIfAbsent(new Group.Key(path, backReferenceColumn), Group::new).add(parentId, setter);
+	}
+
+	boolean isEmpty() {
+		return pending.isEmpty();
+	}
+
+	/**
+	 * Returns the relations registered so far, grouped by path and back reference, and forgets about them. Loading these
+	 * relations might register further relations of the entities loaded.
+	 */
+	List<Group> takePending() {
+
+		List<Group> groups = new ArrayList<>(pending.values());
+		pending = new LinkedHashMap<>();
+
+		return groups;
+	}
+
+	/**
+	 * Relations with the same path and back reference, which therefore can be loaded using a single query.
+	 */
+	static class Group {
+
+		private final Key key;
+		private final Set<Object> parentIds = new LinkedHashSet<>();
+		private final List<Object> relationParentIds = new ArrayList<>();
+		private final List<Consumer<Iterable<Object>>> setters = new ArrayList<>();
+
+		private Group(Key key) {
+			this.key = key;
+		}
+
+		private void add(Object parentId, Consumer<Iterable<Object>> setter) {
+
+			parentIds.add(parentId);
+			relationParentIds.add(parentId);
+			setters.add(setter);
+		}
+
+		PersistentPropertyPath<? extends RelationalPersistentProperty> getPath() {
+			return key.path;
+		}
+
+		SqlIdentifier getBackReferenceColumn() {
+			return key.backReferenceColumn;
+		}
+
+		/**
+		 * @return the distinct ids of the parents in the order of registration.
+		 */
+		List<Object> getParentIds() {
+			return new ArrayList<>(parentIds);
+		}
+
+		/**
+		 * Hands the loaded entities to the parents.
+		 *
+		 * @param entitiesByParentId the referenced entities by the id of their parent. Parents without entry get an empty
+		 *          {@link Iterable}.
+		 */
+		void resolve(Map<Object, List<Object>> entitiesByParentId) {
+
+			for (int i = 0; i < setters.size(); i++) {
+				setters.get(i).accept(entitiesByParentId.getOrDefault(relationParentIds.get(i), Collections.emptyList()));
+			}
+		}
+
+		private static class Key {
+
+			private final PersistentPropertyPath<? extends RelationalPersistentProperty> path;
+			private final SqlIdentifier backReferenceColumn;
+
+			private Key(PersistentPropertyPath<? extends RelationalPersistentProperty> path,
+					SqlIdentifier backReferenceColumn) {
+
+				this.path = path;
+				this.backReferenceColumn = backReferenceColumn;
+			}
+
+			@Override
+			public boolean equals(Object o) {
+
+				if (this == o)
+					return true;
+				if (o == null || getClass() != o.getClass())
+					return false;
+				Key key = (Key) o;
+				return path.equals(key.path) && backReferenceColumn.equals(key.backReferenceColumn);
+			}
+
+			@Override
+			public int hashCode() {
+				return Objects.hash(path, backReferenceColumn);
+			}
+		}
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.relational.core.conversion.RelationalConverter;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Creates instances of an entity consisting of simple properties only, directly from a {@link ResultSetAccessor}.
+ * Everything that doesn't depend on the actual row gets resolved once: the columns to read, the types to convert to,
+ * the slots of the constructor arguments and the properties to set after construction. Per {@link java.sql.ResultSet}
+ * the column labels get translated into indexes, so reading a row is a loop over an array of indexes.
+ * <p>
+ * Instantiation and property access use the accessors of the mapping model, which by default get generated at runtime
+ * for every entity type, and skip the conversion already done while reading the values.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+class EntityMaterializer<T> {
+
+	private final RelationalPersistentEntity<T> entity;
+	private final RelationalConverter converter;
+
+	private final String[] columnLabels;
+	private final TypeInformation<?>[] types;
+	private final boolean[] skipIfAbsent;
+	private final Map<String, Integer> parameterSlots;
+	private final RelationalPersistentProperty[] propertiesToPopulate;
+	private final int[] populationSlots;
+
+	private EntityMaterializer(RelationalPersistentEntity<T> entity, RelationalConverter converter, ReadingPlan plan,
+			List<RelationalPersistentProperty> properties) {
+
+		this.entity = entity;
+		this.converter = converter;
+
+		int size = properties.size();
+		this.columnLabels = new String[size];
+		this.types = new TypeInformation<?>[size];
+		this.skipIfAbsent = new boolean[size];
+		this.parameterSlots = new HashMap<>();
+
+		Map<RelationalPersistentProperty, Integer> slots = new HashMap<>();
+		for (int i = 0; i < size; i++) {
+
+			RelationalPersistentProperty property = properties.get(i);
+
+			columnLabels[i] = plan.getColumnLabel(property);
+			types[i] = property.getTypeInformation();
+			skipIfAbsent[i] = !property.isCollectionLike();
+			parameterSlots.put(property.getName(), i);
+			slots.put(property, i);
+		}
+
+		List<RelationalPersistentProperty> toPopulate = entity.requiresPropertyPopulation()
+				? plan.getPropertiesToPopulate()
+				: new ArrayList<>();
+		this.propertiesToPopulate = toPopulate.toArray(new RelationalPersistentProperty[0]);
+		this.populationSlots = new int[propertiesToPopulate.length];
+
+		for (int i = 0; i < propertiesToPopulate.length; i++) {
+			populationSlots[i] = slots.get(propertiesToPopulate[i]);
+		}
+	}
+
+	/**
+	 * Creates an {@link EntityMaterializer} for the entity of the given {@link ReadingPlan} if the entity consists of
+	 * simple properties only.
+	 *
+	 * @param plan the plan providing the entity and the column labels. Must not be {@literal null}.
+	 * @param converter used for converting the values read and for creating instances. Must not be {@literal null}.
+	 * @return an {@link EntityMaterializer} or {@literal null} if the entity has to be read by the generic mapping code.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	static <T> EntityMaterializer<T> create(ReadingPlan plan, RelationalConverter converter) {
+
+		RelationalPersistentEntity<T> entity = (RelationalPersistentEntity<T>) plan.getEntity();
+
+		if (entity == null || !hasNamedParameters(entity)) {
+			return null;
+		}
+
+		List<RelationalPersistentProperty> properties = new ArrayList<>();
+		for (RelationalPersistentProperty property : entity) {
+
+			if (property.isEntity() || property.isEmbedded() || property.isMap()) {
+				return null;
+			}
+
+			properties.add(property);
+		}
+
+		return new EntityMaterializer<>(entity, converter, plan, properties);
+	}
+
+	private static boolean hasNamedParameters(RelationalPersistentEntity<?> entity) {
+
+		PreferredConstructor<?, RelationalPersistentProperty> constructor = entity.getPersistenceConstructor();
+
+		if (constructor == null) {
+			return true;
+		}
+
+		for (Parameter<Object, RelationalPersistentProperty> parameter : constructor.getParameters()) {
+
+			String name = parameter.getName();
+			if (name == null || entity.getPersistentProperty(name) == null) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Creates an instance from the current row of the {@link ResultSetAccessor}.
+	 *
+	 * @param accessor the {@link ResultSetAccessor} positioned on the row to read. Must not be {@literal null}.
+	 * @return the new instance. Guaranteed to be not {@literal null}.
+	 */
+	T materialize(ResultSetAccessor accessor) {
+
+		int[] indexes = accessor.getColumnIndexes(this, columnLabels);
+		Object[] values = new Object[indexes.length];
+
+		for (int i = 0; i < indexes.length; i++) {
+
+			if (indexes[i] > 0) {
+				values[i] = converter.readValue(accessor.getObject(indexes[i]), types[i]);
+			}
+		}
+
+		T instance = converter.createInstance(entity, parameter -> values[parameterSlots.get(parameter.getName())]);
+
+		if (propertiesToPopulate.length == 0) {
+			return instance;
+		}
+
+		// the values are converted already, so there is no need for a ConvertingPropertyAccessor
+		PersistentPropertyAccessor<T> propertyAccessor = entity.getPropertyAccessor(instance);
+
+		for (int i = 0; i < propertiesToPopulate.length; i++) {
+
+			int slot = populationSlots[i];
+
+			if (indexes[slot] > 0 || !skipIfAbsent[slot]) {
+				propertyAccessor.setProperty(propertiesToPopulate[i], values[slot]);
+			}
+		}
+
+		return propertyAccessor.getBean();
+	}
+}
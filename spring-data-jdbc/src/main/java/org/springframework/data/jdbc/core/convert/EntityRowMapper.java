@@ -20,6 +20,7 @@ import java.sql.ResultSet;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
 
 /**
  * Maps a {@link ResultSet} to an entity of type {@code T}, including entities referenced. This {@link RowMapper} might
@@ -38,14 +39,27 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	private final PersistentPropertyPathExtension path;
 	private final JdbcConverter converter;
 	private final Identifier identifier;
+	private final @Nullable DeferredRelations deferredRelations;
 
-	@SuppressWarnings("unchecked")
 	public EntityRowMapper(PersistentPropertyPathExtension path, JdbcConverter converter, Identifier identifier) {
+		this(path, converter, identifier, null);
+	}
+
+	/**
+	 * Creates a {@link EntityRowMapper} registering collections and maps of referenced entities with the given
+	 * {@link DeferredRelations} instead of loading them right away.
+	 *
+	 * @since 2.1
+	 */
+	@SuppressWarnings("unchecked")
+	EntityRowMapper(PersistentPropertyPathExtension path, JdbcConverter converter, Identifier identifier,
+			@Nullable DeferredRelations deferredRelations) {
 
 		this.entity = (RelationalPersistentEntity<T>) path.getLeafEntity();
 		this.path = path;
 		this.converter = converter;
 		this.identifier = identifier;
+		this.deferredRelations = deferredRelations;
 	}
 
 	public EntityRowMapper(RelationalPersistentEntity<T> entity, JdbcConverter converter) {
@@ -54,6 +68,7 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 		this.path = null;
 		this.converter = converter;
 		this.identifier = null;
+		this.deferredRelations = null;
 	}
 
 	/*
@@ -63,9 +78,60 @@ public class EntityRowMapper<T> implements RowMapper<T> {
 	@Override
 	public T mapRow(ResultSet resultSet, int rowNumber) {
 
+		if (converter instanceof BasicJdbcConverter) {
+			return mapRow(new ResultSetAccessor(resultSet), rowNumber);
+		}
+
+		if (path == null) {
+			return converter.mapRow(entity, resultSet, rowNumber);
+		}
+
+		return deferredRelations == null //
+				? converter.mapRow(path, resultSet, identifier, rowNumber) //
+				: converter.mapRow(path, resultSet, identifier, rowNumber, deferredRelations);
+	}
+
+	/**
+	 * Returns a {@link RowMapper} for the rows of a single query execution, which reads all rows of the
+	 * {@link ResultSet} using the same {@link ResultSetAccessor}, so the column index gets built only once instead of
+	 * once per row. Unlike the {@link EntityRowMapper} itself, the returned mapper must not be shared between query
+	 * executions.
+	 *
+	 * @return a {@link RowMapper} to be used for a single query execution. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	RowMapper<T> forSingleExecution() {
+		return converter instanceof BasicJdbcConverter ? new SingleExecutionRowMapper() : this;
+	}
+
+	private T mapRow(ResultSetAccessor accessor, int rowNumber) {
+
+		BasicJdbcConverter basicJdbcConverter = (BasicJdbcConverter) converter;
+
 		return path == null //
-				? converter.mapRow(entity, resultSet, rowNumber) //
-				: converter.mapRow(path, resultSet, identifier, rowNumber);
+				? basicJdbcConverter.mapRow(entity, accessor, rowNumber) //
+				: basicJdbcConverter.mapRow(path, accessor, identifier, rowNumber, deferredRelations);
 	}
 
+	/**
+	 * {@link RowMapper} keeping the {@link ResultSetAccessor} of the {@link ResultSet} of a single query execution.
+	 */
+	private class SingleExecutionRowMapper implements RowMapper<T> {
+
+		private @Nullable ResultSetAccessor accessor;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.jdbc.core.RowMapper#mapRow(java.sql.ResultSet, int)
+		 */
+		@Override
+		public T mapRow(ResultSet resultSet, int rowNumber) {
+
+			// the column index of the ResultSet only needs to be built for the first row.
+			ResultSetAccessor accessor = ResultSetAccessor.reuseOrCreate(this.accessor, resultSet);
+			this.accessor = accessor;
+
+			return EntityRowMapper.this.mapRow(accessor, rowNumber);
+		}
+	}
 }
@@ -0,0 +1,290 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * Keeps the column values of entities as they were loaded from the database, so that updates can be limited to the
+ * columns that actually changed. Snapshots are held per entity instance, compared by identity, and don't prevent the
+ * instances from being garbage collected.
+ * <p>
+ * Changes are detected by comparing the property values using {@link Objects#deepEquals(Object, Object)}. Arrays and
+ * collections get copied when taking the snapshot, but other mutable values, like {@link java.util.Date}, must not be
+ * modified in place in order for the modification to be detected. Replace them instead.
+ * <p>
+ * Snapshots recorded while transaction synchronization is active are bound to that transaction: unless the transaction
+ * commits they get discarded, since the recorded values may not match the state of the database after a rollback.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+public class EntitySnapshots {
+
+	private final RelationalMappingContext context;
+
+	private final Map<InstanceReference, Map<SqlIdentifier, Object>> snapshots = new ConcurrentHashMap<>();
+	private final ReferenceQueue<Object> collectedInstances = new ReferenceQueue<>();
+
+	/**
+	 * Creates a new {@link EntitySnapshots}.
+	 *
+	 * @param context the {@link RelationalMappingContext} used to determine the columns of entities. Must not be
+	 *          {@literal null}.
+	 */
+	public EntitySnapshots(RelationalMappingContext context) {
+
+		Assert.notNull(context, "RelationalMappingContext must not be null");
+
+		this.context = context;
+	}
+
+	/**
+	 * Records the current column values of the instance, replacing any previous snapshot of it.
+	 *
+	 * @param persistentEntity the entity describing the instance. Must not be {@literal null}.
+	 * @param instance the instance for which to take a snapshot. Must not be {@literal null}.
+	 */
+	public void record(RelationalPersistentEntity<?> persistentEntity, Object instance) {
+
+		Assert.notNull(persistentEntity, "PersistentEntity must not be null");
+		Assert.notNull(instance, "Instance must not be null");
+
+		Map<SqlIdentifier, Object> values = new HashMap<>();
+		collectValues(persistentEntity, instance, "", values);
+
+		expungeCollectedInstances();
+
+		InstanceReference reference = new InstanceReference(instance, collectedInstances);
+		snapshots.put(reference, values);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			getTransactionalSnapshots().add(reference);
+		}
+	}
+
+	/**
+	 * Determines the columns of which the values changed since the snapshot of the instance was recorded.
+	 *
+	 * @param persistentEntity the entity describing the instance. Must not be {@literal null}.
+	 * @param instance the instance to check for changes. Must not be {@literal null}.
+	 * @return the names of the changed columns, possibly empty. {@literal null} when no snapshot for the instance exists,
+	 *         in which case all columns must be considered changed.
+	 */
+	@Nullable
+	public Set<SqlIdentifier> getChangedColumns(RelationalPersistentEntity<?> persistentEntity, Object instance) {
+
+		Assert.notNull(persistentEntity, "PersistentEntity must not be null");
+		Assert.notNull(instance, "Instance must not be null");
+
+		expungeCollectedInstances();
+
+		Map<SqlIdentifier, Object> snapshot = snapshots.get(new InstanceReference(instance, null));
+
+		if (snapshot == null) {
+			return null;
+		}
+
+		Map<SqlIdentifier, Object> values = new HashMap<>();
+		collectValues(persistentEntity, instance, "", values);
+
+		Set<SqlIdentifier> changedColumns = new LinkedHashSet<>();
+		values.forEach((column, value) -> {
+
+			if (!snapshot.containsKey(column) || !Objects.deepEquals(snapshot.get(column), value)) {
+				changedColumns.add(column);
+			}
+		});
+
+		return changedColumns;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> void collectValues(RelationalPersistentEntity<T> persistentEntity, @Nullable Object instance,
+			String prefix, Map<SqlIdentifier, Object> values) {
+
+		PersistentPropertyAccessor<T> propertyAccessor = instance == null //
+				? null //
+				: persistentEntity.getPropertyAccessor((T) instance);
+
+		persistentEntity.doWithProperties((PropertyHandler<RelationalPersistentProperty>) property -> {
+
+			if (!property.isWritable() || (property.isEntity() && !property.isEmbedded())) {
+				return;
+			}
+
+			Object value = propertyAccessor == null ? null : propertyAccessor.getProperty(property);
+
+			if (property.isEmbedded()) {
+
+				collectValues(context.getRequiredPersistentEntity(property.getType()), value,
+						prefix + property.getEmbeddedPrefix(), values);
+			} else {
+				values.put(property.getColumnName().transform(prefix::concat), copyOf(value));
+			}
+		});
+	}
+
+	@Nullable
+	private static Object copyOf(@Nullable Object value) {
+
+		if (value == null) {
+			return null;
+		}
+
+		if (value.getClass().isArray()) {
+
+			int length = Array.getLength(value);
+			Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+			System.arraycopy(value, 0, copy, 0, length);
+			return copy;
+		}
+
+		if (value instanceof Set) {
+			return new HashSet<>((Set<?>) value);
+		}
+
+		if (value instanceof List) {
+			return new ArrayList<>((List<?>) value);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Returns the {@link TransactionalSnapshots} of the current transaction, registering them with the transaction if
+	 * necessary.
+	 */
+	private TransactionalSnapshots getTransactionalSnapshots() {
+
+		TransactionalSnapshots transactionalSnapshots = (TransactionalSnapshots) TransactionSynchronizationManager
+				.getResource(this);
+
+		if (transactionalSnapshots == null) {
+
+			transactionalSnapshots = new TransactionalSnapshots();
+			TransactionSynchronizationManager.bindResource(this, transactionalSnapshots);
+			TransactionSynchronizationManager.registerSynchronization(transactionalSnapshots);
+		}
+
+		return transactionalSnapshots;
+	}
+
+	private void expungeCollectedInstances() {
+
+		Reference<?> reference;
+		while ((reference = collectedInstances.poll()) != null) {
+			snapshots.remove(reference);
+		}
+	}
+
+	/**
+	 * The snapshots recorded during a transaction, which get discarded unless the transaction commits.
+	 */
+	private class TransactionalSnapshots implements TransactionSynchronization {
+
+		private final List<InstanceReference> references = new ArrayList<>();
+
+		void add(InstanceReference reference) {
+			references.add(reference);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.transaction.support.TransactionSynchronization#suspend()
+		 */
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResource(EntitySnapshots.this);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.transaction.support.TransactionSynchronization#resume()
+		 */
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(EntitySnapshots.this, this);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.transaction.support.TransactionSynchronization#afterCompletion(int)
+		 */
+		@Override
+		public void afterCompletion(int status) {
+
+			TransactionSynchronizationManager.unbindResourceIfPossible(EntitySnapshots.this);
+
+			if (status != STATUS_COMMITTED) {
+				references.forEach(snapshots::remove);
+			}
+		}
+	}
+
+	/**
+	 * Weak reference to an instance with identity semantics for {@link #equals(Object)} and {@link #hashCode()}.
+	 */
+	private static class InstanceReference extends WeakReference<Object> {
+
+		private final int hashCode;
+
+		InstanceReference(Object instance, @Nullable ReferenceQueue<Object> queue) {
+
+			super(instance, queue);
+			this.hashCode = System.identityHashCode(instance);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o)
+				return true;
+			if (!(o instanceof InstanceReference))
+				return false;
+			Object instance = get();
+			return instance != null && instance == ((InstanceReference) o).get();
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
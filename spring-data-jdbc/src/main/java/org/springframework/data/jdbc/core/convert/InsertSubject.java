@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.Objects;
+
+import org.springframework.util.Assert;
+
+/**
+ * The subject of an insert, described by the entity instance and its {@link Identifier}, where the latter contains
+ * information about data that needs to be considered for the insert but which is not part of the entity. Namely
+ * references back to a parent entity and key/index columns for entities that are stored in a {@link java.util.Map} or
+ * {@link java.util.List}.
+ *
+ * @param <T> the type of the entity to be inserted.
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+public final class InsertSubject<T> {
+
+	private final T instance;
+	private final Identifier identifier;
+
+	private InsertSubject(T instance, Identifier identifier) {
+
+		this.instance = instance;
+		this.identifier = identifier;
+	}
+
+	/**
+	 * Creates a new {@link InsertSubject} for the given instance and {@link Identifier}.
+	 *
+	 * @param instance the entity to be inserted. Must not be {@code null}.
+	 * @param identifier the back references and qualifiers of the entity. Must not be {@code null}.
+	 * @param <T> the type of the entity to be inserted.
+	 * @return a new {@link InsertSubject}. Guaranteed to be not {@code null}.
+	 */
+	public static <T> InsertSubject<T> describedBy(T instance, Identifier identifier) {
+
+		Assert.notNull(instance, "Instance must not be null");
+		Assert.notNull(identifier, "Identifier must not be null");
+
+		return new InsertSubject<>(instance, identifier);
+	}
+
+	public T getInstance() {
+		return instance;
+	}
+
+	public Identifier getIdentifier() {
+		return identifier;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o)
+			return true;
+		if (o == null || getClass() != o.getClass())
+			return false;
+		InsertSubject<?> that = (InsertSubject<?>) o;
+		return Objects.equals(instance, that.instance) && Objects.equals(identifier, that.identifier);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(instance, identifier);
+	}
+
+	@Override
+	public String toString() {
+		return "InsertSubject{" + "instance=" + instance + ", identifier=" + identifier + '}';
+	}
+}
@@ -29,8 +29,7 @@ import org.springframework.data.relational.core.sql.IdentifierProcessing;
  */
 class JdbcBackReferencePropertyValueProvider implements PropertyValueProvider<RelationalPersistentProperty> {
 
-	private final IdentifierProcessing identifierProcessing;
-	private final PersistentPropertyPathExtension basePath;
+	private final ReadingPlan readingPlan;
 	private final ResultSetAccessor resultSet;
 
 	/**
@@ -41,19 +40,26 @@ class JdbcBackReferencePropertyValueProvider implements PropertyValueProvider<Re
 	 */
 	JdbcBackReferencePropertyValueProvider(IdentifierProcessing identifierProcessing,
 			PersistentPropertyPathExtension basePath, ResultSetAccessor resultSet) {
+		this(new ReadingPlan(basePath, identifierProcessing), resultSet);
+	}
+
+	/**
+	 * @param readingPlan provides the column labels of the back references.
+	 * @param resultSet the {@link ResultSetAccessor} from which to obtain the actual values.
+	 * @since 2.1
+	 */
+	JdbcBackReferencePropertyValueProvider(ReadingPlan readingPlan, ResultSetAccessor resultSet) {
 
+		this.readingPlan = readingPlan;
 		this.resultSet = resultSet;
-		this.basePath = basePath;
-		this.identifierProcessing = identifierProcessing;
 	}
 
 	@Override
 	public <T> T getPropertyValue(RelationalPersistentProperty property) {
-		return (T) resultSet
-				.getObject(basePath.extendBy(property).getReverseColumnNameAlias().getReference(identifierProcessing));
+		return (T) resultSet.getObject(readingPlan.getBackReferenceLabel(property));
 	}
 
 	public JdbcBackReferencePropertyValueProvider extendBy(RelationalPersistentProperty property) {
-		return new JdbcBackReferencePropertyValueProvider(identifierProcessing, basePath.extendBy(property), resultSet);
+		return new JdbcBackReferencePropertyValueProvider(readingPlan.extendBy(property), resultSet);
 	}
 }
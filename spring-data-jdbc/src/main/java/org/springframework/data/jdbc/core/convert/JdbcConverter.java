@@ -67,6 +67,43 @@ public interface JdbcConverter extends RelationalConverter {
 	 */
 	<T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key);
 
+	/**
+	 * Read the current row from {@link ResultSet} to an {@link PersistentPropertyPathExtension#getActualType() entity},
+	 * like {@link #mapRow(PersistentPropertyPathExtension, ResultSet, Identifier, Object)}, but register collections and
+	 * maps of referenced entities with {@code deferredRelations} instead of loading them right away, where possible.
+	 * Registered relations must be loaded by the caller before the entity gets used.
+	 *
+	 * @param path path to the owning property.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param identifier entity identifier.
+	 * @param key primary key.
+	 * @param deferredRelations collects the relations to be loaded later. Must not be {@literal null}.
+	 * @return the entity read.
+	 * @since 2.1
+	 */
+	default <T> T mapRow(PersistentPropertyPathExtension path, ResultSet resultSet, Identifier identifier, Object key,
+			DeferredRelations deferredRelations) {
+		return mapRow(path, resultSet, identifier, key);
+	}
+
+	/**
+	 * Read the entity at the end of {@code path} from the current row of a {@link ResultSet} containing complete
+	 * aggregates, i.e. a {@link ResultSet} in which all columns are aliased by their path from the aggregate root.
+	 * Collections and maps of referenced entities get registered with {@code deferredRelations}.
+	 *
+	 * @param path path from the aggregate root to the entity to read. The empty path reads the aggregate root.
+	 * @param resultSet the {@link ResultSet} to read from.
+	 * @param key the list index or map key of the entity, or some other key identifying the row.
+	 * @param deferredRelations collects the relations to be populated later. Must not be {@literal null}.
+	 * @return the entity read.
+	 * @throws UnsupportedOperationException if the converter does not support reading complete aggregates.
+	 * @since 2.1
+	 */
+	default <T> T mapAggregateRow(PersistentPropertyPathExtension path, ResultSet resultSet, Object key,
+			DeferredRelations deferredRelations) {
+		throw new UnsupportedOperationException(getClass().getName() + " does not support reading complete aggregates");
+	}
+
 	/**
 	 * The type to be used to store this property in the database. Multidimensional arrays are unwrapped to reflect a
 	 * top-level array type (e.g. {@code String[][]} returns {@code String[]}).
@@ -85,4 +122,15 @@ public interface JdbcConverter extends RelationalConverter {
 	 * @since 2.0
 	 */
 	int getSqlType(RelationalPersistentProperty property);
+
+	/**
+	 * The {@link EntitySnapshots} in which the state of loaded entities gets recorded, if any.
+	 *
+	 * @return the {@link EntitySnapshots} or {@literal null} if no snapshots are taken.
+	 * @since 2.1
+	 */
+	@Nullable
+	default EntitySnapshots getEntitySnapshots() {
+		return null;
+	}
 }
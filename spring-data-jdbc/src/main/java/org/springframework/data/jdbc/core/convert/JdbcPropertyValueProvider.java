@@ -28,8 +28,7 @@ import org.springframework.data.relational.core.sql.IdentifierProcessing;
  */
 class JdbcPropertyValueProvider implements PropertyValueProvider<RelationalPersistentProperty> {
 
-	private final IdentifierProcessing identifierProcessing;
-	private final PersistentPropertyPathExtension basePath;
+	private final ReadingPlan readingPlan;
 	private final ResultSetAccessor resultSet;
 
 	/**
@@ -40,10 +39,18 @@ class JdbcPropertyValueProvider implements PropertyValueProvider<RelationalPersi
 	 */
 	JdbcPropertyValueProvider(IdentifierProcessing identifierProcessing, PersistentPropertyPathExtension basePath,
 			ResultSetAccessor resultSet) {
+		this(new ReadingPlan(basePath, identifierProcessing), resultSet);
+	}
+
+	/**
+	 * @param readingPlan provides the column labels of the properties.
+	 * @param resultSet the {@link ResultSetAccessor} from which to obtain the actual values.
+	 * @since 2.1
+	 */
+	JdbcPropertyValueProvider(ReadingPlan readingPlan, ResultSetAccessor resultSet) {
 
+		this.readingPlan = readingPlan;
 		this.resultSet = resultSet;
-		this.basePath = basePath;
-		this.identifierProcessing = identifierProcessing;
 	}
 
 	@Override
@@ -62,10 +69,10 @@ class JdbcPropertyValueProvider implements PropertyValueProvider<RelationalPersi
 	}
 
 	private String getColumnName(RelationalPersistentProperty property) {
-		return basePath.extendBy(property).getColumnAlias().getReference(identifierProcessing);
+		return readingPlan.getColumnLabel(property);
 	}
 
 	public JdbcPropertyValueProvider extendBy(RelationalPersistentProperty property) {
-		return new JdbcPropertyValueProvider(identifierProcessing, basePath.extendBy(property), resultSet);
+		return new JdbcPropertyValueProvider(readingPlan.extendBy(property), resultSet);
 	}
 }
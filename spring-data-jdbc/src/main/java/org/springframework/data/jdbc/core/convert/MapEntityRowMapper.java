@@ -37,27 +37,76 @@ class MapEntityRowMapper<T> implements RowMapper<Map.Entry<Object, T>> {
 	private final PersistentPropertyPathExtension path;
 	private final JdbcConverter converter;
 	private final Identifier identifier;
-	private final SqlIdentifier keyColumn;
-	private final IdentifierProcessing identifierProcessing;
+	private final String keyColumnLabel;
+	private final @Nullable DeferredRelations deferredRelations;
 
 	MapEntityRowMapper(PersistentPropertyPathExtension path, JdbcConverter converter, Identifier identifier,
 			SqlIdentifier keyColumn, IdentifierProcessing identifierProcessing) {
+		this(path, converter, identifier, keyColumn, identifierProcessing, null);
+	}
+
+	MapEntityRowMapper(PersistentPropertyPathExtension path, JdbcConverter converter, Identifier identifier,
+			SqlIdentifier keyColumn, IdentifierProcessing identifierProcessing,
+			@Nullable DeferredRelations deferredRelations) {
 
 		this.path = path;
 		this.converter = converter;
 		this.identifier = identifier;
-		this.keyColumn = keyColumn;
-		this.identifierProcessing = identifierProcessing;
+		this.keyColumnLabel = keyColumn.getReference(identifierProcessing);
+		this.deferredRelations = deferredRelations;
 	}
 
 	@Override
 	public Map.Entry<Object, T> mapRow(ResultSet rs, int rowNum) throws SQLException {
 
-		Object key = rs.getObject(keyColumn.getReference(identifierProcessing));
-		return new HashMap.SimpleEntry<>(key, mapEntity(rs, key));
+		Object key = rs.getObject(keyColumnLabel);
+		return new HashMap.SimpleEntry<>(key, mapEntity(rs, null, key));
+	}
+
+	/**
+	 * Returns a {@link RowMapper} for the rows of a single query execution, which reads all rows of the
+	 * {@link ResultSet} using the same {@link ResultSetAccessor}. The returned mapper must not be shared between query
+	 * executions.
+	 *
+	 * @see EntityRowMapper#forSingleExecution()
+	 */
+	RowMapper<Map.Entry<Object, T>> forSingleExecution() {
+		return converter instanceof BasicJdbcConverter ? new SingleExecutionRowMapper() : this;
+	}
+
+	private T mapEntity(ResultSet resultSet, @Nullable ResultSetAccessor accessor, Object key) {
+
+		if (converter instanceof BasicJdbcConverter) {
+
+			return ((BasicJdbcConverter) converter).mapRow(path,
+					accessor != null ? accessor : new ResultSetAccessor(resultSet), identifier, key, deferredRelations);
+		}
+
+		return deferredRelations == null //
+				? converter.mapRow(path, resultSet, identifier, key) //
+				: converter.mapRow(path, resultSet, identifier, key, deferredRelations);
 	}
 
-	private T mapEntity(ResultSet resultSet, Object key) {
-		return converter.mapRow(path, resultSet, identifier, key);
+	/**
+	 * {@link RowMapper} keeping the {@link ResultSetAccessor} of the {@link ResultSet} of a single query execution.
+	 */
+	private class SingleExecutionRowMapper implements RowMapper<Map.Entry<Object, T>> {
+
+		private @Nullable ResultSetAccessor accessor;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.jdbc.core.RowMapper#mapRow(java.sql.ResultSet, int)
+		 */
+		@Override
+		public Map.Entry<Object, T> mapRow(ResultSet rs, int rowNum) throws SQLException {
+
+			// the column index of the ResultSet only needs to be built for the first row.
+			ResultSetAccessor accessor = ResultSetAccessor.reuseOrCreate(this.accessor, rs);
+			this.accessor = accessor;
+
+			Object key = rs.getObject(keyColumnLabel);
+			return new HashMap.SimpleEntry<>(key, mapEntity(rs, accessor, key));
+		}
 	}
 }
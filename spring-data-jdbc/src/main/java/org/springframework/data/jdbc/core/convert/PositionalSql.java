@@ -0,0 +1,161 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A SQL statement with named parameters, parsed once into the equivalent statement using positional {@code ?}
+ * parameters and the names of the parameters in the order of their positions. Executing it only requires binding the
+ * values to the {@link java.sql.PreparedStatement}, without parsing the statement and substituting its parameters for
+ * each execution like {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations} does.
+ * <p>
+ * Named parameters get replaced by exactly one positional parameter each, so {@link Iterable} values, which would get
+ * expanded to a list of parameters, can't be bound.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+final class PositionalSql {
+
+	private final String sql;
+	private final String[] parameterNames;
+
+	private PositionalSql(String sql, String[] parameterNames) {
+
+		this.sql = sql;
+		this.parameterNames = parameterNames;
+	}
+
+	/**
+	 * Parses the given SQL statement using named parameters.
+	 *
+	 * @param namedSql the SQL statement using named parameters. Must not be {@literal null} or empty.
+	 * @return the statement using positional parameters. Guaranteed to be not {@literal null}.
+	 */
+	static PositionalSql of(String namedSql) {
+
+		Assert.hasText(namedSql, "SQL must not be empty");
+
+		ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(namedSql);
+		List<SqlParameter> parameters = NamedParameterUtils.buildSqlParameterList(parsedSql,
+				EmptySqlParameterSource.INSTANCE);
+
+		String[] parameterNames = new String[parameters.size()];
+		for (int i = 0; i < parameterNames.length; i++) {
+			parameterNames[i] = parameters.get(i).getName();
+		}
+
+		return new PositionalSql(NamedParameterUtils.substituteNamedParameters(parsedSql, null), parameterNames);
+	}
+
+	/**
+	 * @return the SQL statement using positional parameters. Guaranteed to be not {@literal null}.
+	 */
+	String getSql() {
+		return sql;
+	}
+
+	/**
+	 * @return the names of the parameters in the order of their positions. Guaranteed to be not {@literal null}.
+	 */
+	String[] getParameterNames() {
+		return parameterNames.clone();
+	}
+
+	/**
+	 * Checks whether the values of the given {@link SqlParameterSource} can be bound to this statement, which is the case
+	 * if it contains a value for each parameter and none of the values is an {@link Iterable}.
+	 *
+	 * @param parameterSource the values to bind. Must not be {@literal null}.
+	 * @return whether {@link #bind(SqlParameterSource)} can be used with the given values.
+	 */
+	boolean canBind(SqlParameterSource parameterSource) {
+
+		for (String name : parameterNames) {
+			if (!parameterSource.hasValue(name) || parameterSource.getValue(name) instanceof Iterable) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Creates a {@link PreparedStatementSetter} binding the values of the given {@link SqlParameterSource} by position.
+	 *
+	 * @param parameterSource the values to bind. Must not be {@literal null}.
+	 * @return a {@link PreparedStatementSetter}. Guaranteed to be not {@literal null}.
+	 * @see #canBind(SqlParameterSource)
+	 */
+	PreparedStatementSetter bind(SqlParameterSource parameterSource) {
+
+		Assert.notNull(parameterSource, "SqlParameterSource must not be null");
+
+		return ps -> {
+
+			for (int i = 0; i < parameterNames.length; i++) {
+
+				String name = parameterNames[i];
+				StatementCreatorUtils.setParameterValue(ps, i + 1, parameterSource.getSqlType(name),
+						parameterSource.getTypeName(name), parameterSource.getValue(name));
+			}
+		};
+	}
+
+	/**
+	 * Creates a {@link PreparedStatementSetter} binding a single value to all parameters of a statement, which must use
+	 * no other parameter than the one with the given name, like selecting or deleting by id.
+	 *
+	 * @param name the name of the parameter. Must not be {@literal null}.
+	 * @param value the value to bind. May be {@literal null}.
+	 * @param sqlType the SQL type of the value as defined by {@link java.sql.Types}.
+	 * @return a {@link PreparedStatementSetter}. Guaranteed to be not {@literal null}.
+	 */
+	PreparedStatementSetter bind(String name, @Nullable Object value, int sqlType) {
+
+		for (String parameterName : parameterNames) {
+			Assert.isTrue(parameterName.equals(name),
+					() -> String.format("Statement %s uses parameter %s besides %s", sql, parameterName, name));
+		}
+
+		return ps -> {
+
+			for (int i = 1; i <= parameterNames.length; i++) {
+				StatementCreatorUtils.setParameterValue(ps, i, sqlType, value);
+			}
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return sql;
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.lang.Nullable;
+
+/**
+ * Everything about reading the entity at a certain path that doesn't depend on the actual row: the column labels of
+ * its properties, the properties to be populated after construction and the plans for embedded and referenced
+ * entities. Plans get computed on first use and are cached by {@link BasicJdbcConverter}, so that mapping a row
+ * doesn't involve any path arithmetic.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+class ReadingPlan {
+
+	private final PersistentPropertyPathExtension path;
+	private final IdentifierProcessing identifierProcessing;
+	@Nullable private final RelationalPersistentEntity<?> entity;
+	private final List<RelationalPersistentProperty> propertiesToPopulate;
+
+	private final Map<RelationalPersistentProperty, String> columnLabels = new ConcurrentHashMap<>();
+	private final Map<RelationalPersistentProperty, String> backReferenceLabels = new ConcurrentHashMap<>();
+	private final Map<RelationalPersistentProperty, ReadingPlan> nestedPlans = new ConcurrentHashMap<>();
+
+	/**
+	 * @param path the path to the entity to read. Column labels get resolved relative to this path.
+	 * @param identifierProcessing used for converting column aliases to column labels.
+	 */
+	ReadingPlan(PersistentPropertyPathExtension path, IdentifierProcessing identifierProcessing) {
+
+		this.path = path;
+		this.identifierProcessing = identifierProcessing;
+		this.entity = path.getLeafEntity();
+		this.propertiesToPopulate = getPropertiesToPopulate(entity);
+	}
+
+	private static List<RelationalPersistentProperty> getPropertiesToPopulate(
+			@Nullable RelationalPersistentEntity<?> entity) {
+
+		if (entity == null) {
+			return Collections.emptyList();
+		}
+
+		PreferredConstructor<?, RelationalPersistentProperty> persistenceConstructor = entity.getPersistenceConstructor();
+
+		List<RelationalPersistentProperty> properties = new ArrayList<>();
+		for (RelationalPersistentProperty property : entity) {
+
+			if (persistenceConstructor == null || !persistenceConstructor.isConstructorParameter(property)) {
+				properties.add(property);
+			}
+		}
+
+		return Collections.unmodifiableList(properties);
+	}
+
+	PersistentPropertyPathExtension getPath() {
+		return path;
+	}
+
+	/**
+	 * @return the entity at the end of the path. {@literal null} if the path doesn't end in an entity.
+	 */
+	@Nullable
+	RelationalPersistentEntity<?> getEntity() {
+		return entity;
+	}
+
+	/**
+	 * @return the properties of the entity that don't get set by its persistence constructor.
+	 */
+	List<RelationalPersistentProperty> getPropertiesToPopulate() {
+		return propertiesToPopulate;
+	}
+
+	/**
+	 * @return the label of the column holding the value of the property.
+	 */
+	String getColumnLabel(RelationalPersistentProperty property) {
+		return get(columnLabels, property,
+				p -> path.extendBy(p).getColumnAlias().getReference(identifierProcessing));
+	}
+
+	/**
+	 * @return the label of the column holding the back reference of the entity referenced by the property.
+	 */
+	String getBackReferenceLabel(RelationalPersistentProperty property) {
+		return get(backReferenceLabels, property,
+				p -> path.extendBy(p).getReverseColumnNameAlias().getReference(identifierProcessing));
+	}
+
+	/**
+	 * @return the plan for the embedded or referenced entity of the property.
+	 */
+	ReadingPlan extendBy(RelationalPersistentProperty property) {
+		return get(nestedPlans, property, p -> new ReadingPlan(path.extendBy(p), identifierProcessing));
+	}
+
+	// avoids the locking of ConcurrentHashMap.computeIfAbsent for keys already present.
+	private static <T> T get(Map<RelationalPersistentProperty, T> cache, RelationalPersistentProperty property,
+			Function<RelationalPersistentProperty, T> function) {
+
+		T value = cache.get(property);
+		return value != null ? value : cache.computeIfAbsent(property, function);
+	}
+}
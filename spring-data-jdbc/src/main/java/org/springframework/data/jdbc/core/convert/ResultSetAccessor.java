@@ -18,6 +18,7 @@ package org.springframework.data.jdbc.core.convert;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -43,12 +44,36 @@ class ResultSetAccessor {
 
 	private final Map<String, Integer> indexLookUp;
 
+	/**
+	 * Column indexes by the exact labels requested so far, avoiding the case insensitive lookup for subsequent rows.
+	 */
+	private final Map<String, Integer> resolvedIndexes = new HashMap<>();
+
+	/**
+	 * Column indexes for a fixed set of labels by the owner of those labels.
+	 */
+	private final Map<Object, int[]> indexesByOwner = new HashMap<>();
+
 	ResultSetAccessor(ResultSet resultSet) {
 
 		this.resultSet = resultSet;
 		this.indexLookUp = indexColumns(resultSet);
 	}
 
+	/**
+	 * Returns the given {@link ResultSetAccessor} if it is for the given {@link ResultSet} or a new one. Since the column
+	 * index is the same for all rows of a {@link ResultSet}, this allows to obtain the {@link ResultSetMetaData} only
+	 * once per {@link ResultSet} instead of once per row.
+	 *
+	 * @param accessor a previously used accessor. May be {@literal null}.
+	 * @param resultSet the {@link ResultSet} to be read.
+	 * @return a {@link ResultSetAccessor} for {@code resultSet}. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	static ResultSetAccessor reuseOrCreate(@Nullable ResultSetAccessor accessor, ResultSet resultSet) {
+		return accessor != null && accessor.resultSet == resultSet ? accessor : new ResultSetAccessor(resultSet);
+	}
+
 	private static Map<String, Integer> indexColumns(ResultSet resultSet) {
 
 		try {
@@ -95,8 +120,61 @@ class ResultSetAccessor {
 		}
 	}
 
+	/**
+	 * Returns the value of the column with the given index.
+	 *
+	 * @param index the index of the column as returned by {@link #getColumnIndexes(Object, String[])}.
+	 * @return the value of the column. May be {@literal null}.
+	 * @see ResultSet#getObject(int)
+	 * @since 2.1
+	 */
+	@Nullable
+	Object getObject(int index) {
+
+		try {
+			return resultSet.getObject(index);
+		} catch (SQLException o_O) {
+			throw new MappingException(String.format("Could not read value of column %d from result set!", index), o_O);
+		}
+	}
+
+	/**
+	 * Returns the indexes of the columns with the given labels. Indexes of absent columns are {@literal -1}. The result
+	 * gets cached by {@code owner}, so {@code columnLabels} must always be the same for an owner.
+	 *
+	 * @param owner the owner of the labels, used as cache key.
+	 * @param columnLabels the labels of the columns to look up.
+	 * @return an array of the same length as {@code columnLabels}. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	int[] getColumnIndexes(Object owner, String[] columnLabels) {
+
+		int[] indexes = indexesByOwner.get(owner);
+
+		if (indexes == null) {
+
+			indexes = new int[columnLabels.length];
+			for (int i = 0; i < columnLabels.length; i++) {
+				indexes[i] = findColumnIndex(columnLabels[i]);
+			}
+
+			indexesByOwner.put(owner, indexes);
+		}
+
+		return indexes;
+	}
+
 	private int findColumnIndex(String columnName) {
-		return indexLookUp.getOrDefault(columnName, -1);
+
+		Integer index = resolvedIndexes.get(columnName);
+
+		if (index == null) {
+
+			index = indexLookUp.getOrDefault(columnName, -1);
+			resolvedIndexes.put(columnName, index);
+		}
+
+		return index;
 	}
 
 	/**
@@ -106,6 +184,6 @@ class ResultSetAccessor {
 	 * @return
 	 */
 	public boolean hasValue(String columnName) {
-		return indexLookUp.containsKey(columnName);
+		return findColumnIndex(columnName) > 0;
 	}
 }
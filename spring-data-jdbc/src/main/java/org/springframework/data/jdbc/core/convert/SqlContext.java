@@ -20,6 +20,7 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentEnti
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
+import org.springframework.util.Assert;
 
 /**
  * Utility to get from path to SQL DSL elements.
@@ -66,4 +67,14 @@ class SqlContext {
 	Column getReverseColumn(PersistentPropertyPathExtension path) {
 		return getTable(path).column(path.getReverseColumnName()).as(path.getReverseColumnNameAlias());
 	}
+
+	Column getQualifierColumn(PersistentPropertyPathExtension path) {
+
+		SqlIdentifier qualifierColumn = path.getQualifierColumn();
+		SqlIdentifier qualifierColumnAlias = path.getQualifierColumnAlias();
+
+		Assert.state(qualifierColumn != null && qualifierColumnAlias != null, () -> "No qualifier column for " + path);
+
+		return getTable(path).column(qualifierColumn).as(qualifierColumnAlias);
+	}
 }
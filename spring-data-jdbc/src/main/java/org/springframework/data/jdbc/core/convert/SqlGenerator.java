@@ -15,6 +15,7 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.repository.support.SimpleJdbcRepository;
@@ -22,19 +23,25 @@ import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.LimitClause;
 import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.dialect.ReturningClause;
+import org.springframework.data.relational.core.dialect.RowCountEstimate;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Keyset;
 import org.springframework.data.relational.core.sql.*;
 import org.springframework.data.relational.core.sql.render.RenderContext;
-import org.springframework.data.relational.core.sql.render.SqlRenderer;
+import org.springframework.data.relational.core.sql.render.Renderer;
 import org.springframework.data.util.Lazy;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -58,29 +65,61 @@ class SqlGenerator {
 	static final SqlIdentifier ID_SQL_PARAMETER = SqlIdentifier.unquoted("id");
 	static final SqlIdentifier IDS_SQL_PARAMETER = SqlIdentifier.unquoted("ids");
 	static final SqlIdentifier ROOT_ID_PARAMETER = SqlIdentifier.unquoted("rootId");
+	static final String KEYSET_SQL_PARAMETER_PREFIX = "keyset";
 
 	private static final Pattern parameterPattern = Pattern.compile("\\W");
+
+	// statements depending on arguments of unbounded variety, like sort orders, get cached up to this number per kind
+	private static final int STATEMENT_CACHE_SIZE = 256;
+
 	private final RelationalPersistentEntity<?> entity;
 	private final MappingContext<RelationalPersistentEntity<?>, RelationalPersistentProperty> mappingContext;
 	private final RenderContext renderContext;
+	private final Dialect dialect;
 
 	private final SqlContext sqlContext;
-	private final SqlRenderer sqlRenderer;
+	private final Renderer sqlRenderer;
 	private final Columns columns;
 
 	private final Lazy<String> findOneSql = Lazy.of(this::createFindOneSql);
 	private final Lazy<String> findAllSql = Lazy.of(this::createFindAllSql);
 	private final Lazy<String> findAllInListSql = Lazy.of(this::createFindAllInListSql);
+	private final Lazy<String> findAllInArraySql = Lazy.of(this::createFindAllInArraySql);
+	private final Lazy<String> findOneAggregateSql = Lazy.of(this::createFindOneAggregateSql);
+	private final Lazy<String> findAllAggregateSql = Lazy.of(this::createFindAllAggregateSql);
+	private final Lazy<String> findAllInListAggregateSql = Lazy.of(this::createFindAllInListAggregateSql);
+	private final ConcurrentLruCache<Sort, String> findAllSortedSql = new ConcurrentLruCache<>(STATEMENT_CACHE_SIZE,
+			this::createFindAllSortedSql);
+	private final ConcurrentLruCache<Sort, Function<Pageable, String>> findAllPagedSql = new ConcurrentLruCache<>(
+			STATEMENT_CACHE_SIZE, this::createFindAllPagedSql);
+	private final ConcurrentLruCache<FindAllByPropertyKey, String> findAllByPropertySql = new ConcurrentLruCache<>(
+			STATEMENT_CACHE_SIZE, this::createFindAllByPropertySql);
+	private final Map<LockMode, String> acquireLockByIdSql = new ConcurrentHashMap<>();
 
 	private final Lazy<String> existsSql = Lazy.of(this::createExistsSql);
+	private final Lazy<String> existsByIdAndVersionSql = Lazy.of(this::createExistsByIdAndVersionSql);
 	private final Lazy<String> countSql = Lazy.of(this::createCountSql);
+	private final Lazy<String> estimateCountSql = Lazy.of(this::createEstimateCountSql);
+
+	private final ConcurrentLruCache<Set<SqlIdentifier>, String> insertSql = new ConcurrentLruCache<>(
+			STATEMENT_CACHE_SIZE, this::createInsertSql);
+	private final Map<Set<SqlIdentifier>, Map<Integer, String>> multiRowInsertSql = new ConcurrentHashMap<>();
+	private final Map<Set<SqlIdentifier>, Map<Integer, String>> multiRowInsertReturningIdSql = new ConcurrentHashMap<>();
 
 	private final Lazy<String> updateSql = Lazy.of(this::createUpdateSql);
 	private final Lazy<String> updateWithVersionSql = Lazy.of(this::createUpdateWithVersionSql);
+	private final Lazy<String> upsertSql = Lazy.of(this::createUpsertSql);
+	private final Map<Set<SqlIdentifier>, String> partialUpdateSql = new ConcurrentHashMap<>();
+	private final Map<Set<SqlIdentifier>, String> partialUpdateWithVersionSql = new ConcurrentHashMap<>();
 
 	private final Lazy<String> deleteByIdSql = Lazy.of(this::createDeleteSql);
 	private final Lazy<String> deleteByIdAndVersionSql = Lazy.of(this::createDeleteByIdAndVersionSql);
 	private final Lazy<String> deleteByListSql = Lazy.of(this::createDeleteByListSql);
+	private final ConcurrentLruCache<PersistentPropertyPath<RelationalPersistentProperty>, String> deleteByPathSql //
+			= new ConcurrentLruCache<>(STATEMENT_CACHE_SIZE, this::createDeleteByPathSql);
+
+	private final ConcurrentLruCache<String, PositionalSql> positionalSql = new ConcurrentLruCache<>(
+			STATEMENT_CACHE_SIZE, PositionalSql::of);
 
 	/**
 	 * Create a new {@link SqlGenerator} given {@link RelationalMappingContext} and {@link RelationalPersistentEntity}.
@@ -92,13 +131,30 @@ class SqlGenerator {
 	 */
 	SqlGenerator(RelationalMappingContext mappingContext, JdbcConverter converter, RelationalPersistentEntity<?> entity,
 			Dialect dialect) {
+		this(mappingContext, converter, entity, dialect, new RenderContextFactory(dialect).createRenderer());
+	}
+
+	/**
+	 * Create a new {@link SqlGenerator} given {@link RelationalMappingContext} and {@link RelationalPersistentEntity}.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param sqlRenderer the {@link Renderer} used to render statements, using a {@link RenderContext} created for the
+	 *          {@link Dialect}. Must not be {@literal null}.
+	 * @since 2.1
+	 */
+	SqlGenerator(RelationalMappingContext mappingContext, JdbcConverter converter, RelationalPersistentEntity<?> entity,
+			Dialect dialect, Renderer sqlRenderer) {
 
 		this.mappingContext = mappingContext;
 		this.entity = entity;
 		this.sqlContext = new SqlContext(entity);
-		this.sqlRenderer = SqlRenderer.create(new RenderContextFactory(dialect).createRenderContext());
+		this.sqlRenderer = sqlRenderer;
 		this.columns = new Columns(entity, mappingContext, converter);
 		this.renderContext = new RenderContextFactory(dialect).createRenderContext();
+		this.dialect = dialect;
 	}
 
 	/**
@@ -147,7 +203,11 @@ class SqlGenerator {
 	}
 
 	private BindMarker getBindMarker(SqlIdentifier columnName) {
-		return SQL.bindMarker(":" + parameterPattern.matcher(renderReference(columnName)).replaceAll(""));
+		return SQL.bindMarker(renderBindMarker(columnName));
+	}
+
+	private String renderBindMarker(SqlIdentifier columnName) {
+		return ":" + parameterPattern.matcher(renderReference(columnName)).replaceAll("");
 	}
 
 	/**
@@ -160,6 +220,19 @@ class SqlGenerator {
 		return findAllInListSql.get();
 	}
 
+	/**
+	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships.
+	 * Results are filtered by comparing the id column to all elements of a single array parameter, using
+	 * {@code = ANY(…)}.
+	 *
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 * @see org.springframework.data.relational.core.dialect.InClause#supportsArrayParameter()
+	 */
+	String getFindAllInArray() {
+		return findAllInArraySql.get();
+	}
+
 	/**
 	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships.
 	 *
@@ -169,6 +242,41 @@ class SqlGenerator {
 		return findAllSql.get();
 	}
 
+	/**
+	 * Returns a query selecting complete aggregates, including collections and maps of referenced entities, by joining
+	 * all tables of the aggregate. Every column gets aliased by its path from the aggregate root. Back references and
+	 * list indexes or map keys get selected as well. Roots and their one-to-one relationships appear once per row of
+	 * their collections, so the result must be de-duplicated while reading it.
+	 *
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	String getFindAllAggregate() {
+		return findAllAggregateSql.get();
+	}
+
+	/**
+	 * Returns a query like {@link #getFindAllAggregate()} restricted to the aggregate with the id given by the parameter
+	 * {@code id}.
+	 *
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	String getFindOneAggregate() {
+		return findOneAggregateSql.get();
+	}
+
+	/**
+	 * Returns a query like {@link #getFindAllAggregate()} restricted to the aggregates with the ids given by the
+	 * parameter {@code ids}.
+	 *
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	String getFindAllInListAggregate() {
+		return findAllInListAggregateSql.get();
+	}
+
 	/**
 	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships,
 	 * sorted by the given parameter.
@@ -176,7 +284,7 @@ class SqlGenerator {
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
 	String getFindAll(Sort sort) {
-		return render(selectBuilder(Collections.emptyList(), sort, Pageable.unpaged()).build());
+		return findAllSortedSql.get(sort);
 	}
 
 	/**
@@ -186,7 +294,53 @@ class SqlGenerator {
 	 * @return a SQL statement. Guaranteed to be not {@code null}.
 	 */
 	String getFindAll(Pageable pageable) {
-		return render(selectBuilder(Collections.emptyList(), pageable.getSort(), pageable).build());
+
+		return pageable.isPaged() //
+				? findAllPagedSql.get(pageable.getSort()).apply(pageable) //
+				: getFindAll(pageable.getSort());
+	}
+
+	/**
+	 * Returns a query for selecting all simple properties of an entity, including those for one-to-one relationships,
+	 * sorted by the given parameter and limited to the first {@code limit} rows following the sort key values given by
+	 * the parameters {@link #getKeysetParameter(int) keyset0, keyset1, …}. Dialects supporting row value comparison get
+	 * a condition like {@code (k1, k2) > (:keyset0, :keyset1)} as long as all keys get sorted in the same direction, all
+	 * others the equivalent {@code k1 > :keyset0 OR (k1 = :keyset0 AND k2 > :keyset1)}.
+	 *
+	 * @param sort the sort keys. Must not be {@literal null} or unsorted.
+	 * @param keyset the values of the sort keys of the last row seen. Only the number of values is considered. Must not
+	 *          be {@literal null}.
+	 * @param limit the maximum number of rows to select.
+	 * @return a SQL statement. Guaranteed to be not {@code null}.
+	 * @since 2.1
+	 */
+	String getFindAll(Sort sort, Keyset keyset, int limit) {
+
+		List<Sort.Order> orders = sort.toList();
+
+		Assert.isTrue(!orders.isEmpty(), "Keyset pagination requires a sort");
+		Assert.isTrue(keyset.isInitial() || keyset.size() == orders.size(),
+				() -> String.format("The keyset %s must provide a value for each of the sort keys %s", keyset, sort));
+		Assert.isTrue(limit > 0, "The limit must be greater than zero");
+
+		SelectBuilder.SelectWhere select = selectBuilder();
+		SelectBuilder.SelectOrdered filtered = keyset.isInitial() //
+				? select //
+				: select.where(createKeysetCondition(orders));
+
+		return render(applyLimit(limit, filtered).orderBy(extractOrderByFields(sort)).build());
+	}
+
+	/**
+	 * Returns the name of the parameter to bind the sort key value with the given index to, when selecting by
+	 * {@link #getFindAll(Sort, Keyset, int) keyset}.
+	 *
+	 * @param index zero based index of the sort key.
+	 * @return the parameter name. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	static SqlIdentifier getKeysetParameter(int index) {
+		return SqlIdentifier.unquoted(KEYSET_SQL_PARAMETER_PREFIX + index);
 	}
 
 	/**
@@ -206,7 +360,14 @@ class SqlGenerator {
 		Assert.isTrue(keyColumn != null || !ordered,
 				"If the SQL statement should be ordered a keyColumn to order by must be provided.");
 
+		List<SqlIdentifier> backReferenceColumns = new ArrayList<>(parentIdentifier.toMap().keySet());
+		return findAllByPropertySql.get(new FindAllByPropertyKey(backReferenceColumns, keyColumn, ordered));
+	}
+
+	private String createFindAllByPropertySql(FindAllByPropertyKey key) {
+
 		Table table = getTable();
+		SqlIdentifier keyColumn = key.keyColumn;
 
 		SelectBuilder.SelectWhere builder = selectBuilder( //
 				keyColumn == null //
@@ -214,9 +375,45 @@ class SqlGenerator {
 						: Collections.singleton(keyColumn) //
 		);
 
-		Condition condition = buildConditionForBackReference(parentIdentifier, table);
+		Condition condition = buildConditionForBackReference(key.backReferenceColumns, table);
 		SelectBuilder.SelectWhereAndOr withWhereClause = builder.where(condition);
 
+		Select select = key.ordered //
+				? withWhereClause.orderBy(table.column(keyColumn).as(keyColumn)).build() //
+				: withWhereClause.build();
+
+		return render(select);
+	}
+
+	/**
+	 * Returns a query like {@link #getFindAllByProperty(Identifier, SqlIdentifier, boolean)}, but selecting the rows
+	 * referencing any of the entities with the ids given by the parameter {@code :ids}. The back reference column gets
+	 * selected in addition, so rows can be matched with the entity they reference.
+	 *
+	 * @param backReferenceColumn name of the column of the FK back to the referencing entity.
+	 * @param keyColumn if the property is of type {@link Map} or {@link List} this column contains the key.
+	 * @param ordered whether the SQL statement should include an ORDER BY for the keyColumn. If this is {@code true}, the
+	 *          keyColumn must not be {@code null}.
+	 * @return a SQL String.
+	 * @since 2.1
+	 */
+	String getFindAllInListByProperty(SqlIdentifier backReferenceColumn, @Nullable SqlIdentifier keyColumn,
+			boolean ordered) {
+
+		Assert.isTrue(keyColumn != null || !ordered,
+				"If the SQL statement should be ordered a keyColumn to order by must be provided.");
+
+		Table table = getTable();
+
+		List<SqlIdentifier> additionalColumns = new ArrayList<>();
+		additionalColumns.add(backReferenceColumn);
+		if (keyColumn != null) {
+			additionalColumns.add(keyColumn);
+		}
+
+		SelectBuilder.SelectWhereAndOr withWhereClause = selectBuilder(additionalColumns) //
+				.where(table.column(backReferenceColumn).in(getBindMarker(IDS_SQL_PARAMETER)));
+
 		Select select = ordered //
 				? withWhereClause.orderBy(table.column(keyColumn).as(keyColumn)).build() //
 				: withWhereClause.build();
@@ -224,10 +421,10 @@ class SqlGenerator {
 		return render(select);
 	}
 
-	private Condition buildConditionForBackReference(Identifier parentIdentifier, Table table) {
+	private Condition buildConditionForBackReference(List<SqlIdentifier> backReferenceColumns, Table table) {
 
 		Condition condition = null;
-		for (SqlIdentifier backReferenceColumn : parentIdentifier.toMap().keySet()) {
+		for (SqlIdentifier backReferenceColumn : backReferenceColumns) {
 
 			Condition newCondition = table.column(backReferenceColumn).isEqualTo(getBindMarker(backReferenceColumn));
 			condition = condition == null ? newCondition : condition.and(newCondition);
@@ -238,6 +435,18 @@ class SqlGenerator {
 		return condition;
 	}
 
+	/**
+	 * Returns the given statement, created by this {@link SqlGenerator}, parsed into a statement using positional
+	 * parameters. The result gets cached, so each statement only gets parsed once.
+	 *
+	 * @param sql a statement using named parameters. Must not be {@literal null}.
+	 * @return the statement using positional parameters. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	PositionalSql getPositional(String sql) {
+		return positionalSql.get(sql);
+	}
+
 	/**
 	 * Create a {@code SELECT COUNT(id) FROM … WHERE :id = …} statement.
 	 *
@@ -247,6 +456,16 @@ class SqlGenerator {
 		return existsSql.get();
 	}
 
+	/**
+	 * Create a {@code SELECT COUNT(id) FROM … WHERE :id = … and :___oldOptimisticLockingVersion = ...} statement.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	String getExistsByIdAndVersion() {
+		return existsByIdAndVersionSql.get();
+	}
+
 	/**
 	 * Create a {@code SELECT … FROM … WHERE :id = …} statement.
 	 *
@@ -263,7 +482,18 @@ class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getAcquireLockById(LockMode lockMode) {
-		return this.createAcquireLockById(lockMode);
+		return acquireLockByIdSql.computeIfAbsent(lockMode, this::createAcquireLockById);
+	}
+
+	/**
+	 * Create a {@code SELECT id FROM … WHERE id IN (:ids) (LOCK CLAUSE)} statement.
+	 *
+	 * @param lockMode Lock clause mode.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	String getAcquireLockByList(LockMode lockMode) {
+		return this.createAcquireLock(lockMode, getIdColumn().in(getBindMarker(IDS_SQL_PARAMETER)));
 	}
 
 	/**
@@ -282,7 +512,73 @@ class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String getInsert(Set<SqlIdentifier> additionalColumns) {
-		return createInsertSql(additionalColumns);
+		return insertSql.get(additionalColumns);
+	}
+
+	/**
+	 * Create a multi-row {@code INSERT INTO … (…) VALUES (…), (…)} statement inserting the given number of rows. The
+	 * bind markers of each row are suffixed with the index of the row, see {@link #getRowParameterName(String, int)}.
+	 * Statements get cached, so callers should limit themselves to a few distinct numbers of rows.
+	 *
+	 * @param additionalColumns columns to insert in addition to the insertable columns of the entity.
+	 * @param rows the number of rows to insert. Must be greater than zero.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	String getInsert(Set<SqlIdentifier> additionalColumns, int rows) {
+
+		Assert.isTrue(rows > 0, "The number of rows must be greater than zero");
+
+		return multiRowInsertSql //
+				.computeIfAbsent(additionalColumns, columns -> new ConcurrentHashMap<>()) //
+				.computeIfAbsent(rows, numberOfRows -> createInsertSql(additionalColumns, numberOfRows));
+	}
+
+	/**
+	 * Create a multi-row {@code INSERT} statement like {@link #getInsert(Set, int)}, which additionally returns the id
+	 * of each inserted row as a result set, using the {@link Dialect#returning() returning clause} of the dialect.
+	 *
+	 * @param additionalColumns columns to insert in addition to the insertable columns of the entity.
+	 * @param rows the number of rows to insert. Must be greater than zero.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @throws UnsupportedOperationException if the dialect doesn't support returning values from inserts.
+	 * @since 2.1
+	 */
+	String getInsertReturningId(Set<SqlIdentifier> additionalColumns, int rows) {
+
+		return multiRowInsertReturningIdSql //
+				.computeIfAbsent(additionalColumns, columns -> new ConcurrentHashMap<>()) //
+				.computeIfAbsent(rows, numberOfRows -> createInsertReturningIdSql(additionalColumns, numberOfRows));
+	}
+
+	/**
+	 * Create a {@code COPY … (…) FROM STDIN} statement for the given columns, as supported by PostgreSQL.
+	 *
+	 * @param columns the columns to copy, in the order in which their values get provided. Must not be empty.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	String getCopyIn(List<SqlIdentifier> columns) {
+
+		Assert.notEmpty(columns, "Columns must not be empty");
+
+		IdentifierProcessing identifierProcessing = renderContext.getIdentifierProcessing();
+
+		return String.format("COPY %s (%s) FROM STDIN", entity.getTableName().toSql(identifierProcessing),
+				columns.stream().map(cn -> cn.toSql(identifierProcessing)).collect(Collectors.joining(", ")));
+	}
+
+	/**
+	 * Determines the name of a parameter for a row of a multi-row insert.
+	 *
+	 * @param parameterName the name of the parameter used for a single row insert.
+	 * @param row the index of the row, starting with zero.
+	 * @return the name of the parameter for the given row.
+	 * @since 2.1
+	 * @see #getInsert(Set, int)
+	 */
+	static String getRowParameterName(String parameterName, int row) {
+		return parameterPattern.matcher(parameterName).replaceAll("") + "_" + row;
 	}
 
 	/**
@@ -303,6 +599,60 @@ class SqlGenerator {
 		return updateWithVersionSql.get();
 	}
 
+	/**
+	 * Create a {@code UPDATE … SET …} statement, which only sets the given columns. Columns that aren't updateable get
+	 * ignored. The statements get cached for each set of columns.
+	 *
+	 * @param columnsToUpdate the columns to set. Must not be {@literal null}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	String getUpdate(Set<SqlIdentifier> columnsToUpdate) {
+		return partialUpdateSql.computeIfAbsent(getUpdateableColumns(columnsToUpdate),
+				columnNames -> render(createBaseUpdate(columnNames).build()));
+	}
+
+	/**
+	 * Create a {@code UPDATE … SET … WHERE ID = :id and VERSION_COLUMN = :___oldOptimisticLockingVersion } statement,
+	 * which only sets the given columns. Columns that aren't updateable get ignored. The statements get cached for each
+	 * set of columns.
+	 *
+	 * @param columnsToUpdate the columns to set. Must not be {@literal null}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	String getUpdateWithVersion(Set<SqlIdentifier> columnsToUpdate) {
+		return partialUpdateWithVersionSql.computeIfAbsent(getUpdateableColumns(columnsToUpdate),
+				this::createUpdateWithVersionSql);
+	}
+
+	/**
+	 * Create a statement that inserts a row or updates it, if a row with the same id already exists, using the
+	 * {@link Dialect#upsert() upsert statement} of the dialect.
+	 *
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @throws UnsupportedOperationException if the dialect doesn't support upserts.
+	 * @since 2.1
+	 */
+	String getUpsert() {
+		return upsertSql.get();
+	}
+
+	/**
+	 * Restricts the given columns to those that are updateable, keeping the order of the updateable columns.
+	 *
+	 * @param columnsToUpdate the columns to restrict. Must not be {@literal null}.
+	 * @return the updateable columns among {@code columnsToUpdate}. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	Set<SqlIdentifier> getUpdateableColumns(Set<SqlIdentifier> columnsToUpdate) {
+
+		Set<SqlIdentifier> updateableColumns = new LinkedHashSet<>(columns.getUpdateableColumns());
+		updateableColumns.retainAll(columnsToUpdate);
+
+		return updateableColumns;
+	}
+
 	/**
 	 * Create a {@code SELECT COUNT(*) FROM …} statement.
 	 *
@@ -312,6 +662,19 @@ class SqlGenerator {
 		return countSql.get();
 	}
 
+	/**
+	 * Create a statement selecting the estimated number of rows of the table from the statistics of the database.
+	 *
+	 * @return the statement as a {@link String} or {@literal null} if the dialect doesn't support estimating the number
+	 *         of rows.
+	 * @see org.springframework.data.relational.core.dialect.Dialect#rowCountEstimate()
+	 * @since 2.1
+	 */
+	@Nullable
+	String getEstimateCount() {
+		return estimateCountSql.getNullable();
+	}
+
 	/**
 	 * Create a {@code DELETE FROM … WHERE :id = …} statement.
 	 *
@@ -365,6 +728,23 @@ class SqlGenerator {
 	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
 	 */
 	String createDeleteByPath(PersistentPropertyPath<RelationalPersistentProperty> path) {
+		return deleteByPathSql.get(path);
+	}
+
+	/**
+	 * Create a {@code DELETE} query and filter by {@link PersistentPropertyPath}, deleting the entities referenced by any
+	 * of the roots given by the {@code :ids} parameter.
+	 *
+	 * @param path must not be {@literal null}.
+	 * @return the statement as a {@link String}. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	String createDeleteInByPath(PersistentPropertyPath<RelationalPersistentProperty> path) {
+		return createDeleteByPathAndCriteria(new PersistentPropertyPathExtension(mappingContext, path),
+				filterColumn -> filterColumn.in(getBindMarker(IDS_SQL_PARAMETER)));
+	}
+
+	private String createDeleteByPathSql(PersistentPropertyPath<RelationalPersistentProperty> path) {
 		return createDeleteByPathAndCriteria(new PersistentPropertyPathExtension(mappingContext, path),
 				filterColumn -> filterColumn.isEqualTo(getBindMarker(ROOT_ID_PARAMETER)));
 	}
@@ -378,13 +758,17 @@ class SqlGenerator {
 	}
 
 	private String createAcquireLockById(LockMode lockMode) {
+		return createAcquireLock(lockMode, getIdColumn().isEqualTo(getBindMarker(ID_SQL_PARAMETER)));
+	}
+
+	private String createAcquireLock(LockMode lockMode, Condition condition) {
 
 		Table table = this.getTable();
 
 		Select select = StatementBuilder //
 			.select(getIdColumn()) //
 			.from(table) //
-			.where(getIdColumn().isEqualTo(getBindMarker(ID_SQL_PARAMETER))) //
+			.where(condition) //
 			.lock(lockMode) //
 			.build();
 
@@ -408,6 +792,35 @@ class SqlGenerator {
 		return render(selectBuilder().build());
 	}
 
+	private String createFindAllSortedSql(Sort sort) {
+		return render(selectBuilder(Collections.emptyList(), sort, Pageable.unpaged()).build());
+	}
+
+	/**
+	 * Renders the paged statement for the given {@link Sort} once, with the limit clause of a sample page, and splits it
+	 * around that clause. Rendering the statement for an actual page only requires rendering the limit clause for it
+	 * then, so the page size and offset don't have to be part of the cache key.
+	 */
+	private Function<Pageable, String> createFindAllPagedSql(Sort sort) {
+
+		PageRequest samplePage = PageRequest.of(0, 1, sort);
+		String sql = render(selectBuilder(Collections.emptyList(), sort, samplePage).build());
+
+		LimitClause limitClause = dialect.limit();
+		String sampleClause = limitClause.getLimitOffset(samplePage.getPageSize(), samplePage.getOffset());
+		int index = sql.lastIndexOf(sampleClause);
+
+		if (index < 0) {
+			// the dialect renders the limit clause in a way that doesn't allow reuse
+			return pageable -> render(selectBuilder(Collections.emptyList(), sort, pageable).build());
+		}
+
+		String prefix = sql.substring(0, index);
+		String suffix = sql.substring(index + sampleClause.length());
+
+		return pageable -> prefix + limitClause.getLimitOffset(pageable.getPageSize(), pageable.getOffset()) + suffix;
+	}
+
 	private SelectBuilder.SelectWhere selectBuilder() {
 		return selectBuilder(Collections.emptyList());
 	}
@@ -450,6 +863,59 @@ class SqlGenerator {
 		return (SelectBuilder.SelectWhere) baseSelect;
 	}
 
+	private String createFindOneAggregateSql() {
+		return render(aggregateSelectBuilder().where(getIdColumn().isEqualTo(getBindMarker(ID_SQL_PARAMETER))).build());
+	}
+
+	private String createFindAllAggregateSql() {
+		return render(aggregateSelectBuilder().build());
+	}
+
+	private String createFindAllInListAggregateSql() {
+		return render(aggregateSelectBuilder().where(getIdColumn().in(getBindMarker(IDS_SQL_PARAMETER))).build());
+	}
+
+	private SelectBuilder.SelectWhere aggregateSelectBuilder() {
+
+		Table table = getTable();
+
+		List<Expression> columnExpressions = new ArrayList<>();
+
+		List<Join> joinTables = new ArrayList<>();
+		for (PersistentPropertyPath<RelationalPersistentProperty> path : mappingContext
+				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
+
+			PersistentPropertyPathExtension extPath = new PersistentPropertyPathExtension(mappingContext, path);
+
+			// members of embedded entities get selected by their own paths.
+			if (extPath.isEmbedded()) {
+				continue;
+			}
+
+			if (!extPath.isEntity()) {
+
+				columnExpressions.add(sqlContext.getColumn(extPath));
+				continue;
+			}
+
+			// every referenced entity gets joined, including those in collections and maps.
+			joinTables.add(createJoin(extPath));
+			columnExpressions.add(sqlContext.getReverseColumn(extPath));
+
+			if (extPath.isQualified()) {
+				columnExpressions.add(sqlContext.getQualifierColumn(extPath));
+			}
+		}
+
+		SelectBuilder.SelectJoin baseSelect = StatementBuilder.select(columnExpressions).from(table);
+
+		for (Join join : joinTables) {
+			baseSelect = baseSelect.leftOuterJoin(join.joinTable).on(join.joinColumn).equals(join.parentId);
+		}
+
+		return (SelectBuilder.SelectWhere) baseSelect;
+	}
+
 	private SelectBuilder.SelectOrdered selectBuilder(Collection<SqlIdentifier> keyColumns, Sort sort,
 			Pageable pageable) {
 
@@ -478,6 +944,59 @@ class SqlGenerator {
 		return (SelectBuilder.SelectOrdered) limitResult;
 	}
 
+	private SelectBuilder.SelectOrdered applyLimit(int limit, SelectBuilder.SelectOrdered select) {
+
+		Assert.isTrue(select instanceof SelectBuilder.SelectLimitOffset,
+				() -> String.format("Can't apply limit clause to statement of type %s", select.getClass()));
+
+		SelectBuilder.SelectLimitOffset limitResult = ((SelectBuilder.SelectLimitOffset) select).limit(limit);
+
+		Assert.state(limitResult instanceof SelectBuilder.SelectOrdered, String.format(
+				"The result of applying the limit-clause must be of type SelectOrdered in order to apply the order-by-clause but is of type %s.",
+				select.getClass()));
+
+		return (SelectBuilder.SelectOrdered) limitResult;
+	}
+
+	private Condition createKeysetCondition(List<Sort.Order> orders) {
+
+		List<Expression> keyColumns = new ArrayList<>(orders.size());
+		List<Expression> keyValues = new ArrayList<>(orders.size());
+		for (int i = 0; i < orders.size(); i++) {
+
+			keyColumns.add(getSortColumn(orders.get(i)));
+			keyValues.add(getBindMarker(getKeysetParameter(i)));
+		}
+
+		boolean ascending = orders.get(0).isAscending();
+		boolean sameDirection = orders.stream().allMatch(order -> order.isAscending() == ascending);
+
+		if (orders.size() == 1 || (sameDirection && dialect.supportsRowValueComparison())) {
+
+			Expression left = orders.size() == 1 ? keyColumns.get(0) : RowValue.create(keyColumns);
+			Expression right = orders.size() == 1 ? keyValues.get(0) : RowValue.create(keyValues);
+
+			return ascending ? Conditions.isGreater(left, right) : Conditions.isLess(left, right);
+		}
+
+		// expands (k1, k2, k3) > (v1, v2, v3) to k1 > v1 OR (k1 = v1 AND k2 > v2) OR (k1 = v1 AND k2 = v2 AND k3 > v3)
+		Condition condition = null;
+		for (int i = 0; i < orders.size(); i++) {
+
+			Condition term = orders.get(i).isAscending() //
+					? Conditions.isGreater(keyColumns.get(i), keyValues.get(i)) //
+					: Conditions.isLess(keyColumns.get(i), keyValues.get(i));
+
+			for (int j = i - 1; j >= 0; j--) {
+				term = Conditions.isEqual(keyColumns.get(j), keyValues.get(j)).and(term);
+			}
+
+			condition = condition == null ? term : condition.or(Conditions.nest(term));
+		}
+
+		return condition;
+	}
+
 	/**
 	 * Create a {@link Column} for {@link PersistentPropertyPathExtension}.
 	 *
@@ -520,6 +1039,11 @@ class SqlGenerator {
 			return null;
 		}
 
+		return createJoin(path);
+	}
+
+	private Join createJoin(PersistentPropertyPathExtension path) {
+
 		Table currentTable = sqlContext.getTable(path);
 
 		PersistentPropertyPathExtension idDefiningParentPath = path.getIdDefiningParentPath();
@@ -539,6 +1063,14 @@ class SqlGenerator {
 		return render(select);
 	}
 
+	private String createFindAllInArraySql() {
+
+		Expression anyOfIds = SimpleFunction.create("ANY", Collections.singletonList(getBindMarker(IDS_SQL_PARAMETER)));
+		Select select = selectBuilder().where(getIdColumn().isEqualTo(anyOfIds)).build();
+
+		return render(select);
+	}
+
 	private String createExistsSql() {
 
 		Table table = getTable();
@@ -552,6 +1084,20 @@ class SqlGenerator {
 		return render(select);
 	}
 
+	private String createExistsByIdAndVersionSql() {
+
+		Table table = getTable();
+
+		Select select = StatementBuilder //
+				.select(Functions.count(getIdColumn())) //
+				.from(table) //
+				.where(getIdColumn().isEqualTo(getBindMarker(ID_SQL_PARAMETER)) //
+						.and(getVersionColumn().isEqualTo(SQL.bindMarker(":" + renderReference(VERSION_SQL_PARAMETER))))) //
+				.build();
+
+		return render(select);
+	}
+
 	private String createCountSql() {
 
 		Table table = getTable();
@@ -564,46 +1110,133 @@ class SqlGenerator {
 		return render(select);
 	}
 
+	@Nullable
+	private String createEstimateCountSql() {
+
+		RowCountEstimate estimate = dialect.rowCountEstimate();
+
+		return estimate.isSupported() //
+				? estimate.getEstimateQuery(entity.getTableName(), renderContext.getIdentifierProcessing()) //
+				: null;
+	}
+
 	private String createInsertSql(Set<SqlIdentifier> additionalColumns) {
 
+		InsertBuilder.InsertIntoColumnsAndValuesWithBuild insert = createInsertColumns(additionalColumns);
+
+		InsertBuilder.InsertValuesWithBuild insertWithValues = null;
+		for (SqlIdentifier cn : getColumnNamesForInsert(additionalColumns)) {
+			insertWithValues = (insertWithValues == null ? insert : insertWithValues).values(getBindMarker(cn));
+		}
+
+		return render(insertWithValues == null ? insert.build() : insertWithValues.build());
+	}
+
+	private String createInsertSql(Set<SqlIdentifier> additionalColumns, int rows) {
+
+		Set<SqlIdentifier> columnNamesForInsert = getColumnNamesForInsert(additionalColumns);
+
+		Assert.isTrue(!columnNamesForInsert.isEmpty(), "A multi-row insert requires at least one column");
+
+		InsertBuilder.InsertValues insertValues = createInsertColumns(additionalColumns);
+		InsertBuilder.InsertValuesWithBuild insertWithValues = null;
+
+		for (int row = 0; row < rows; row++) {
+
+			for (SqlIdentifier cn : columnNamesForInsert) {
+
+				insertWithValues = insertValues.value(SQL.bindMarker(":" + getRowParameterName(renderReference(cn), row)));
+				insertValues = insertWithValues;
+			}
+
+			if (row < rows - 1) {
+				insertValues = insertWithValues.nextRow();
+			}
+		}
+
+		Assert.state(insertWithValues != null, "There must be values to insert");
+
+		return render(insertWithValues.build());
+	}
+
+	private InsertBuilder.InsertIntoColumnsAndValuesWithBuild createInsertColumns(Set<SqlIdentifier> additionalColumns) {
+
 		Table table = getTable();
 
+		InsertBuilder.InsertIntoColumnsAndValuesWithBuild insert = Insert.builder().into(table);
+
+		for (SqlIdentifier cn : getColumnNamesForInsert(additionalColumns)) {
+			insert = insert.column(table.column(cn));
+		}
+
+		return insert;
+	}
+
+	private Set<SqlIdentifier> getColumnNamesForInsert(Set<SqlIdentifier> additionalColumns) {
+
 		Set<SqlIdentifier> columnNamesForInsert = new TreeSet<>(Comparator.comparing(SqlIdentifier::getReference));
 		columnNamesForInsert.addAll(columns.getInsertableColumns());
 		columnNamesForInsert.addAll(additionalColumns);
 
-		InsertBuilder.InsertIntoColumnsAndValuesWithBuild insert = Insert.builder().into(table);
+		return columnNamesForInsert;
+	}
 
-		for (SqlIdentifier cn : columnNamesForInsert) {
-			insert = insert.column(table.column(cn));
-		}
+	private String createInsertReturningIdSql(Set<SqlIdentifier> additionalColumns, int rows) {
 
-		InsertBuilder.InsertValuesWithBuild insertWithValues = null;
-		for (SqlIdentifier cn : columnNamesForInsert) {
-			insertWithValues = (insertWithValues == null ? insert : insertWithValues).values(getBindMarker(cn));
+		ReturningClause returningClause = dialect.returning();
+
+		String insert = getInsert(additionalColumns, rows);
+		String returning = returningClause.getReturning(
+				Collections.singletonList(entity.getIdColumn().toSql(renderContext.getIdentifierProcessing())));
+
+		if (returningClause.getClausePosition() == ReturningClause.Position.AFTER_VALUES) {
+			return insert + " " + returning;
 		}
 
-		return render(insertWithValues == null ? insert.build() : insertWithValues.build());
+		int valuesIndex = insert.indexOf(" VALUES (");
+		Assert.state(valuesIndex >= 0, () -> "Insert statement without VALUES: " + insert);
+
+		return insert.substring(0, valuesIndex) + " " + returning + insert.substring(valuesIndex);
+	}
+
+	private String createUpsertSql() {
+
+		List<SqlIdentifier> columnNames = new ArrayList<>();
+		columnNames.add(entity.getIdColumn());
+		columnNames.addAll(columns.getInsertableColumns());
+
+		IdentifierProcessing identifierProcessing = renderContext.getIdentifierProcessing();
+
+		return dialect.upsert().getUpsert( //
+				entity.getTableName().toSql(identifierProcessing), //
+				Collections.singletonList(entity.getIdColumn().toSql(identifierProcessing)), //
+				columnNames.stream().map(cn -> cn.toSql(identifierProcessing)).collect(Collectors.toList()), //
+				columnNames.stream().map(this::renderBindMarker).collect(Collectors.toList()) //
+		);
 	}
 
 	private String createUpdateSql() {
-		return render(createBaseUpdate().build());
+		return render(createBaseUpdate(columns.getUpdateableColumns()).build());
 	}
 
 	private String createUpdateWithVersionSql() {
+		return createUpdateWithVersionSql(columns.getUpdateableColumns());
+	}
+
+	private String createUpdateWithVersionSql(Set<SqlIdentifier> columnsToUpdate) {
 
-		Update update = createBaseUpdate() //
+		Update update = createBaseUpdate(columnsToUpdate) //
 				.and(getVersionColumn().isEqualTo(SQL.bindMarker(":" + renderReference(VERSION_SQL_PARAMETER)))) //
 				.build();
 
 		return render(update);
 	}
 
-	private UpdateBuilder.UpdateWhereAndOr createBaseUpdate() {
+	private UpdateBuilder.UpdateWhereAndOr createBaseUpdate(Set<SqlIdentifier> columnsToUpdate) {
 
 		Table table = getTable();
 
-		List<AssignValue> assignments = columns.getUpdateableColumns() //
+		List<AssignValue> assignments = columnsToUpdate //
 				.stream() //
 				.map(columnName -> Assignments.value( //
 						table.column(columnName), //
@@ -711,10 +1344,13 @@ class SqlGenerator {
 	}
 
 	private OrderByField orderToOrderByField(Sort.Order order) {
+		return OrderByField.from(getSortColumn(order), order.getDirection());
+	}
+
+	private Column getSortColumn(Sort.Order order) {
 
 		SqlIdentifier columnName = this.entity.getRequiredPersistentProperty(order.getProperty()).getColumnName();
-		Column column = Column.create(columnName, this.getTable());
-		return OrderByField.from(column, order.getDirection());
+		return Column.create(columnName, this.getTable());
 	}
 
 	/**
@@ -776,6 +1412,45 @@ class SqlGenerator {
 		}
 	}
 
+	/**
+	 * Cache key for {@link #getFindAllByProperty(Identifier, SqlIdentifier, boolean)}, consisting of the column names
+	 * of the {@link Identifier} only, since its values get bound as parameters.
+	 */
+	private static final class FindAllByPropertyKey {
+
+		private final List<SqlIdentifier> backReferenceColumns;
+		private final @Nullable SqlIdentifier keyColumn;
+		private final boolean ordered;
+
+		FindAllByPropertyKey(List<SqlIdentifier> backReferenceColumns, @Nullable SqlIdentifier keyColumn, boolean ordered) {
+
+			this.backReferenceColumns = backReferenceColumns;
+			this.keyColumn = keyColumn;
+			this.ordered = ordered;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+
+			FindAllByPropertyKey that = (FindAllByPropertyKey) o;
+			return ordered == that.ordered && backReferenceColumns.equals(that.backReferenceColumns)
+					&& Objects.equals(keyColumn, that.keyColumn);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(backReferenceColumns, keyColumn, ordered);
+		}
+	}
+
 	/**
 	 * Value object encapsulating column name caches.
 	 *
@@ -19,6 +19,9 @@ import java.util.Map;
 
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.render.Renderer;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ConcurrentReferenceHashMap;
 
@@ -36,6 +39,7 @@ public class SqlGeneratorSource {
 	private final RelationalMappingContext context;
 	private final JdbcConverter converter;
 	private final Dialect dialect;
+	private final @Nullable Renderer renderer;
 
 	public SqlGeneratorSource(RelationalMappingContext context, JdbcConverter converter, Dialect dialect) {
 
@@ -46,6 +50,33 @@ public class SqlGeneratorSource {
 		this.context = context;
 		this.converter = converter;
 		this.dialect = dialect;
+		this.renderer = null;
+	}
+
+	/**
+	 * Creates a new {@link SqlGeneratorSource} whose {@link SqlGenerator}s render statements using the given
+	 * {@link Renderer}, e.g. a {@link org.springframework.data.relational.core.sql.render.SinglePassSqlRenderer}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param renderer must not be {@literal null}. Should use a
+	 *          {@link org.springframework.data.relational.core.sql.render.RenderContext} created by a
+	 *          {@link org.springframework.data.relational.core.dialect.RenderContextFactory} for the {@link Dialect}.
+	 * @since 2.1
+	 */
+	public SqlGeneratorSource(RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
+			Renderer renderer) {
+
+		Assert.notNull(context, "Context must not be null.");
+		Assert.notNull(converter, "Converter must not be null.");
+		Assert.notNull(dialect, "Dialect must not be null.");
+		Assert.notNull(renderer, "Renderer must not be null.");
+
+		this.context = context;
+		this.converter = converter;
+		this.dialect = dialect;
+		this.renderer = renderer;
 	}
 
 	/**
@@ -58,7 +89,13 @@ public class SqlGeneratorSource {
 
 	SqlGenerator getSqlGenerator(Class<?> domainType) {
 
-		return CACHE.computeIfAbsent(domainType,
-				t -> new SqlGenerator(context, converter, context.getRequiredPersistentEntity(t), dialect));
+		return CACHE.computeIfAbsent(domainType, t -> {
+
+			RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(t);
+
+			return renderer == null //
+					? new SqlGenerator(context, converter, entity, dialect) //
+					: new SqlGenerator(context, converter, entity, dialect, renderer);
+		});
 	}
 }
@@ -30,6 +30,7 @@ import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.CascadingDataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.DataAccessOptions;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.DelegatingDataAccessStrategy;
@@ -41,6 +42,7 @@ import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Keyset;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
@@ -90,24 +92,38 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 	public static DataAccessStrategy createCombinedAccessStrategy(RelationalMappingContext context,
 			JdbcConverter converter, NamedParameterJdbcOperations operations, SqlSession sqlSession,
 			NamespaceStrategy namespaceStrategy, Dialect dialect) {
+		return createCombinedAccessStrategy(context, converter, operations, sqlSession, namespaceStrategy,
+				new SqlGeneratorSource(context, converter, dialect), DataAccessOptions.DEFAULT);
+	}
+
+	/**
+	 * Create a {@link DataAccessStrategy} that first checks for queries defined by MyBatis and if it doesn't find one
+	 * uses a {@link DefaultDataAccessStrategy} using the given {@link SqlGeneratorSource} and configured by the given
+	 * {@link DataAccessOptions}.
+	 *
+	 * @since 2.1
+	 */
+	public static DataAccessStrategy createCombinedAccessStrategy(RelationalMappingContext context,
+			JdbcConverter converter, NamedParameterJdbcOperations operations, SqlSession sqlSession,
+			NamespaceStrategy namespaceStrategy, SqlGeneratorSource sqlGeneratorSource, DataAccessOptions options) {
 
 		// the DefaultDataAccessStrategy needs a reference to the returned DataAccessStrategy. This creates a dependency
 		// cycle. In order to create it, we need something that allows to defer closing the cycle until all the elements are
 		// created. That is the purpose of the DelegatingAccessStrategy.
 		DelegatingDataAccessStrategy delegatingDataAccessStrategy = new DelegatingDataAccessStrategy();
 		MyBatisDataAccessStrategy myBatisDataAccessStrategy = new MyBatisDataAccessStrategy(sqlSession,
-				dialect.getIdentifierProcessing());
+				sqlGeneratorSource.getDialect().getIdentifierProcessing());
 		myBatisDataAccessStrategy.setNamespaceStrategy(namespaceStrategy);
 
 		CascadingDataAccessStrategy cascadingDataAccessStrategy = new CascadingDataAccessStrategy(
 				asList(myBatisDataAccessStrategy, delegatingDataAccessStrategy));
 
-		SqlGeneratorSource sqlGeneratorSource = new SqlGeneratorSource(context, converter, dialect);
 		DefaultDataAccessStrategy defaultDataAccessStrategy = new DefaultDataAccessStrategy( //
 				sqlGeneratorSource, //
 				context, //
 				converter, //
-				operations //
+				operations, //
+				options //
 		);
 
 		delegatingDataAccessStrategy.setDelegate(defaultDataAccessStrategy);
@@ -365,6 +381,21 @@ public class MyBatisDataAccessStrategy implements DataAccessStrategy {
 				new MyBatisContext(null, null, domainType, additionalContext));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.core.convert.DataAccessStrategy#findAll(java.lang.Class, org.springframework.data.domain.Sort, org.springframework.data.relational.core.query.Keyset, int)
+	 */
+	@Override
+	public <T> Iterable<T> findAll(Class<T> domainType, Sort sort, Keyset keyset, int limit) {
+
+		Map<String, Object> additionalContext = new HashMap<>();
+		additionalContext.put("sort", sort);
+		additionalContext.put("keyset", keyset);
+		additionalContext.put("limit", limit);
+		return sqlSession().selectList(namespace(domainType) + ".findAllAfterKeyset",
+				new MyBatisContext(null, null, domainType, additionalContext));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.jdbc.core.DataAccessStrategy#count(java.lang.Class)
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.Keyset;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.PagingAndSortingRepository;
+
+/**
+ * Extension of {@link PagingAndSortingRepository} additionally providing keyset pagination: pages get selected by the
+ * values of the sort keys of the last entity of the previous page instead of by an offset, so the database doesn't
+ * have to read and skip the rows of all previous pages.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ * @see Keyset
+ */
+@NoRepositoryBean
+public interface KeysetPagingRepository<T, ID> extends PagingAndSortingRepository<T, ID> {
+
+	/**
+	 * Returns the entities following the given {@link Keyset} in the order of the given {@link Sort}. The sort must be
+	 * unique, e.g. by ending with the id, and the sort keys must not be {@literal null}.
+	 *
+	 * @param sort the sorting information. Must not be {@literal null} and must be sorted.
+	 * @param keyset the values of the sort keys of the last entity of the previous page or {@link Keyset#initial()} for
+	 *          the first page. Must not be {@literal null}.
+	 * @param limit the maximum number of entities to return.
+	 * @return Guaranteed to be not {@literal null}.
+	 */
+	Iterable<T> findAll(Sort sort, Keyset keyset, int limit);
+}
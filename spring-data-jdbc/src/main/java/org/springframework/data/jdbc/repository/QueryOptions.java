@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Settings applied to the {@link Statement} executing a repository query: the fetch size, the maximum number of rows
+ * and the query timeout. Negative values mean that the setting is not configured and the default of the JDBC driver
+ * applies.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ * @see org.springframework.data.jdbc.repository.query.QueryHints
+ */
+public final class QueryOptions {
+
+	/**
+	 * An instance not configuring any setting.
+	 */
+	public static final QueryOptions NONE = new QueryOptions(-1, -1, -1);
+
+	private final int fetchSize;
+	private final int maxRows;
+	private final int timeout;
+
+	private QueryOptions(int fetchSize, int maxRows, int timeout) {
+
+		this.fetchSize = fetchSize;
+		this.maxRows = maxRows;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Creates a new {@link QueryOptions} instance.
+	 *
+	 * @param fetchSize the number of rows to fetch per round trip. See {@link Statement#setFetchSize(int)}.
+	 * @param maxRows the maximum number of rows returned. See {@link Statement#setMaxRows(int)}.
+	 * @param timeout the query timeout in seconds. See {@link Statement#setQueryTimeout(int)}.
+	 * @return a {@link QueryOptions} instance. Guaranteed to be not {@literal null}.
+	 */
+	public static QueryOptions of(int fetchSize, int maxRows, int timeout) {
+		return new QueryOptions(fetchSize, maxRows, timeout);
+	}
+
+	public QueryOptions withFetchSize(int fetchSize) {
+		return new QueryOptions(fetchSize, maxRows, timeout);
+	}
+
+	public QueryOptions withMaxRows(int maxRows) {
+		return new QueryOptions(fetchSize, maxRows, timeout);
+	}
+
+	public QueryOptions withTimeout(int timeout) {
+		return new QueryOptions(fetchSize, maxRows, timeout);
+	}
+
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	public int getMaxRows() {
+		return maxRows;
+	}
+
+	public int getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * @return {@literal true} if none of the settings is configured.
+	 */
+	public boolean isEmpty() {
+		return fetchSize < 0 && maxRows < 0 && timeout < 0;
+	}
+
+	/**
+	 * Combines this instance with defaults.
+	 *
+	 * @param defaults the {@link QueryOptions} to use for settings not configured in this instance. Must not be
+	 *          {@literal null}.
+	 * @return a {@link QueryOptions} instance. Guaranteed to be not {@literal null}.
+	 */
+	public QueryOptions withDefaults(QueryOptions defaults) {
+
+		return new QueryOptions( //
+				fetchSize < 0 ? defaults.fetchSize : fetchSize, //
+				maxRows < 0 ? defaults.maxRows : maxRows, //
+				timeout < 0 ? defaults.timeout : timeout //
+		);
+	}
+
+	/**
+	 * Applies the configured settings to the given {@link Statement}.
+	 *
+	 * @param statement the {@link Statement} to configure. Must not be {@literal null}.
+	 * @throws SQLException when the JDBC driver rejects a setting.
+	 */
+	public void applyTo(Statement statement) throws SQLException {
+
+		if (fetchSize >= 0) {
+			statement.setFetchSize(fetchSize);
+		}
+
+		if (maxRows >= 0) {
+			statement.setMaxRows(maxRows);
+		}
+
+		if (timeout >= 0) {
+			statement.setQueryTimeout(timeout);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+
+		QueryOptions that = (QueryOptions) o;
+		return fetchSize == that.fetchSize && maxRows == that.maxRows && timeout == that.timeout;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * (31 * fetchSize + maxRows) + timeout;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "QueryOptions{fetchSize=" + fetchSize + ", maxRows=" + maxRows + ", timeout=" + timeout + '}';
+	}
+}
@@ -25,6 +25,7 @@ import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
 import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
+import org.springframework.data.jdbc.core.convert.DataAccessOptions;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.DefaultJdbcTypeFactory;
@@ -33,9 +34,12 @@ import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
 import org.springframework.data.jdbc.core.convert.SqlGeneratorSource;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.repository.QueryOptions;
 import org.springframework.data.relational.core.conversion.RelationalConverter;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
 import org.springframework.data.relational.core.mapping.NamingStrategy;
+import org.springframework.data.relational.core.sql.render.Renderer;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 
 /**
@@ -75,22 +79,24 @@ public class AbstractJdbcConfiguration {
 	 *
 	 * @see #jdbcMappingContext(Optional, JdbcCustomConversions)
 	 * @see #jdbcCustomConversions()
+	 * @see #jdbcDataAccessOptions(Dialect)
 	 * @return must not be {@literal null}.
 	 */
 	@Bean
 	public JdbcConverter jdbcConverter(JdbcMappingContext mappingContext, NamedParameterJdbcOperations operations,
-			@Lazy RelationResolver relationResolver, JdbcCustomConversions conversions, Dialect dialect) {
+			@Lazy RelationResolver relationResolver, JdbcCustomConversions conversions, Dialect dialect,
+			DataAccessOptions options) {
 
 		DefaultJdbcTypeFactory jdbcTypeFactory = new DefaultJdbcTypeFactory(operations.getJdbcOperations());
 
 		return new BasicJdbcConverter(mappingContext, relationResolver, conversions, jdbcTypeFactory,
-			dialect.getIdentifierProcessing());
+				dialect.getIdentifierProcessing(), options);
 	}
 
 	/**
 	 * Register custom {@link Converter}s in a {@link JdbcCustomConversions} object if required. These
 	 * {@link JdbcCustomConversions} will be registered with the
-	 * {@link #jdbcConverter(JdbcMappingContext, NamedParameterJdbcOperations, RelationResolver, JdbcCustomConversions, Dialect)}.
+	 * {@link #jdbcConverter(JdbcMappingContext, NamedParameterJdbcOperations, RelationResolver, JdbcCustomConversions, Dialect, DataAccessOptions)}.
 	 * Returns an empty {@link JdbcCustomConversions} instance by default.
 	 *
 	 * @return will never be {@literal null}.
@@ -121,13 +127,64 @@ public class AbstractJdbcConfiguration {
 	 * Override this method to register a bean of type {@link DataAccessStrategy} if your use case requires a more
 	 * specialized {@link DataAccessStrategy}.
 	 *
+	 * @see #jdbcDataAccessOptions(Dialect)
+	 * @see #jdbcSqlRenderer(Dialect)
 	 * @return will never be {@literal null}.
 	 */
 	@Bean
 	public DataAccessStrategy dataAccessStrategyBean(NamedParameterJdbcOperations operations, JdbcConverter jdbcConverter,
-			JdbcMappingContext context, Dialect dialect) {
-		return new DefaultDataAccessStrategy(new SqlGeneratorSource(context, jdbcConverter, dialect), context,
-				jdbcConverter, operations);
+			JdbcMappingContext context, Dialect dialect, DataAccessOptions options, Renderer renderer) {
+		return new DefaultDataAccessStrategy(new SqlGeneratorSource(context, jdbcConverter, dialect, renderer), context,
+				jdbcConverter, operations, options);
+	}
+
+	/**
+	 * Register the {@link DataAccessOptions} enabling optional optimizations of the {@link DefaultDataAccessStrategy},
+	 * the {@link BasicJdbcConverter} and derived queries. Override this method to enable them, possibly depending on the
+	 * {@link Dialect} in use. Returns {@link DataAccessOptions#DEFAULT} by default, which enables none of them.
+	 *
+	 * @param dialect the {@link Dialect} in use.
+	 * @return will never be {@literal null}.
+	 * @since 2.1
+	 */
+	@Bean
+	public DataAccessOptions jdbcDataAccessOptions(Dialect dialect) {
+		return DataAccessOptions.DEFAULT;
+	}
+
+	/**
+	 * Register the default {@link QueryOptions} for repository query methods. These apply to all settings not configured
+	 * by a {@link org.springframework.data.jdbc.repository.query.QueryHints} annotation on the query method. Override
+	 * this method to configure, for example, a fetch size appropriate for the {@link Dialect} in use. Returns
+	 * {@link QueryOptions#NONE} by default.
+	 *
+	 * @param dialect the {@link Dialect} in use.
+	 * @return will never be {@literal null}.
+	 * @since 2.1
+	 */
+	@Bean
+	public QueryOptions jdbcQueryOptions(Dialect dialect) {
+		return QueryOptions.NONE;
+	}
+
+	/**
+	 * Register the {@link Renderer} used to render the SQL statements of the {@link DefaultDataAccessStrategy} and of
+	 * derived queries. Returns a {@link org.springframework.data.relational.core.sql.render.SqlRenderer} by default.
+	 * Override this method to use a different {@link Renderer}, e.g. a
+	 * {@link org.springframework.data.relational.core.sql.render.SinglePassSqlRenderer}, which renders the same SQL with
+	 * fewer allocations:
+	 *
+	 * <pre class="code">
+	 * return SinglePassSqlRenderer.create(new RenderContextFactory(dialect).createRenderContext());
+	 * </pre>
+	 *
+	 * @param dialect the {@link Dialect} in use.
+	 * @return will never be {@literal null}.
+	 * @since 2.1
+	 */
+	@Bean
+	public Renderer jdbcSqlRenderer(Dialect dialect) {
+		return new RenderContextFactory(dialect).createRenderer();
 	}
 
 	/**
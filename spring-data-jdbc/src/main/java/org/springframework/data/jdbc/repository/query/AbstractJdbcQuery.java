@@ -15,14 +15,30 @@
  */
 package org.springframework.data.jdbc.repository.query;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.data.jdbc.repository.QueryOptions;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlProvider;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -39,8 +55,17 @@ import org.springframework.util.Assert;
  */
 public abstract class AbstractJdbcQuery implements RepositoryQuery {
 
+	private static final int PARSED_SQL_CACHE_SIZE = 256;
+
 	private final JdbcQueryMethod queryMethod;
 	private final NamedParameterJdbcOperations operations;
+	private final QueryOptions queryOptions;
+
+	/**
+	 * The parsed SQL statements for applying {@link QueryOptions}. Most queries use a single statement, derived queries
+	 * one per shape of their arguments.
+	 */
+	private final Map<String, ParsedSql> parsedSqlCache = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new {@link AbstractJdbcQuery} for the given {@link JdbcQueryMethod}, {@link NamedParameterJdbcOperations}
@@ -62,6 +87,7 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 
 		this.queryMethod = queryMethod;
 		this.operations = operations;
+		this.queryOptions = queryMethod.getQueryOptions();
 	}
 
 	/*
@@ -89,7 +115,11 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 			return createModifyingQueryExecutor();
 		}
 
-		if (queryMethod.isCollectionQuery() || queryMethod.isStreamQuery()) {
+		if (queryMethod.isStreamQuery()) {
+			return extractor != null ? getQueryExecution(extractor) : streamQuery(rowMapper);
+		}
+
+		if (queryMethod.isCollectionQuery() || queryMethod.isSliceQuery() || queryMethod.isPageQuery()) {
 			return extractor != null ? getQueryExecution(extractor) : collectionQuery(rowMapper);
 		}
 
@@ -100,7 +130,9 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 
 		return (query, parameters) -> {
 
-			int updatedCount = operations.update(query, parameters);
+			int updatedCount = queryOptions.isEmpty() //
+					? operations.update(query, parameters) //
+					: operations.getJdbcOperations().update(createStatementCreator(query, parameters));
 			Class<?> returnedObjectType = queryMethod.getReturnedObjectType();
 
 			return (returnedObjectType == boolean.class || returnedObjectType == Boolean.class) ? updatedCount != 0
@@ -108,9 +140,15 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 		};
 	}
 
-	private JdbcQueryExecution<Object> singleObjectQuery(RowMapper<?> rowMapper) {
+	JdbcQueryExecution<Object> singleObjectQuery(RowMapper<?> rowMapper) {
 
 		return (query, parameters) -> {
+
+			if (!queryOptions.isEmpty()) {
+				return DataAccessUtils.singleResult(operations.getJdbcOperations()
+						.query(createStatementCreator(query, parameters), new RowMapperResultSetExtractor<>(rowMapper, 1)));
+			}
+
 			try {
 				return operations.queryForObject(query, parameters, rowMapper);
 			} catch (EmptyResultDataAccessException e) {
@@ -123,8 +161,93 @@ public abstract class AbstractJdbcQuery implements RepositoryQuery {
 		return getQueryExecution(new RowMapperResultSetExtractor<>(rowMapper));
 	}
 
+	/**
+	 * Creates a {@link JdbcQueryExecution} returning a {@link Stream} backed by the open {@link java.sql.ResultSet}, so
+	 * rows get mapped as the {@link Stream} gets consumed. The {@link Stream} must be closed after use.
+	 */
+	private <T> JdbcQueryExecution<Stream<T>> streamQuery(RowMapper<T> rowMapper) {
+		return (query, parameters) -> queryOptions.isEmpty() //
+				? operations.queryForStream(query, parameters, rowMapper) //
+				: operations.getJdbcOperations().queryForStream(createStatementCreator(query, parameters), rowMapper);
+	}
+
 	private <T> JdbcQueryExecution<T> getQueryExecution(ResultSetExtractor<T> resultSetExtractor) {
-		return (query, parameters) -> operations.query(query, parameters, resultSetExtractor);
+		return (query, parameters) -> queryOptions.isEmpty() //
+				? operations.query(query, parameters, resultSetExtractor) //
+				: operations.getJdbcOperations().query(createStatementCreator(query, parameters), resultSetExtractor);
+	}
+
+	/**
+	 * Creates a {@link PreparedStatementCreator} for a query with named parameters, just like
+	 * {@link org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate} does, but with the {@link QueryOptions}
+	 * of the query method applied to the {@link PreparedStatement}.
+	 */
+	private PreparedStatementCreator createStatementCreator(String query, SqlParameterSource parameters) {
+
+		ParsedSql parsedSql = getParsedSql(query);
+		String sql = NamedParameterUtils.substituteNamedParameters(parsedSql, parameters);
+		List<SqlParameter> declaredParameters = NamedParameterUtils.buildSqlParameterList(parsedSql, parameters);
+		Object[] values = NamedParameterUtils.buildValueArray(parsedSql, parameters, null);
+
+		PreparedStatementCreator creator = new PreparedStatementCreatorFactory(sql, declaredParameters)
+				.newPreparedStatementCreator(values);
+
+		return new QueryOptionsApplyingStatementCreator(creator, queryOptions);
+	}
+
+	private ParsedSql getParsedSql(String query) {
+
+		ParsedSql parsedSql = parsedSqlCache.get(query);
+
+		if (parsedSql == null) {
+
+			parsedSql = NamedParameterUtils.parseSqlStatement(query);
+			if (parsedSqlCache.size() < PARSED_SQL_CACHE_SIZE) {
+				parsedSqlCache.putIfAbsent(query, parsedSql);
+			}
+		}
+
+		return parsedSql;
+	}
+
+	/**
+	 * Decorates a {@link PreparedStatementCreator} with the application of {@link QueryOptions}. Implements
+	 * {@link SqlProvider} and {@link ParameterDisposer} so logging and cleanup of the delegate still work.
+	 */
+	private static class QueryOptionsApplyingStatementCreator
+			implements PreparedStatementCreator, SqlProvider, ParameterDisposer {
+
+		private final PreparedStatementCreator delegate;
+		private final QueryOptions queryOptions;
+
+		QueryOptionsApplyingStatementCreator(PreparedStatementCreator delegate, QueryOptions queryOptions) {
+
+			this.delegate = delegate;
+			this.queryOptions = queryOptions;
+		}
+
+		@Override
+		public PreparedStatement createPreparedStatement(Connection connection) throws SQLException {
+
+			PreparedStatement statement = delegate.createPreparedStatement(connection);
+			queryOptions.applyTo(statement);
+
+			return statement;
+		}
+
+		@Override
+		@Nullable
+		public String getSql() {
+			return delegate instanceof SqlProvider ? ((SqlProvider) delegate).getSql() : null;
+		}
+
+		@Override
+		public void cleanupParameters() {
+
+			if (delegate instanceof ParameterDisposer) {
+				((ParameterDisposer) delegate).cleanupParameters();
+			}
+		}
 	}
 
 }
@@ -16,6 +16,7 @@
 package org.springframework.data.jdbc.repository.query;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -39,11 +40,12 @@ import org.springframework.data.relational.core.sql.Select;
 import org.springframework.data.relational.core.sql.SelectBuilder;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
-import org.springframework.data.relational.core.sql.render.SqlRenderer;
+import org.springframework.data.relational.core.sql.render.Renderer;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalQueryCreator;
 import org.springframework.data.repository.query.Parameters;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -65,7 +67,9 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 	private final RelationalParameterAccessor accessor;
 	private final QueryMapper queryMapper;
 	private final RelationalEntityMetadata<?> entityMetadata;
-	private final RenderContextFactory renderContextFactory;
+	private final Renderer renderer;
+	private final boolean isSliceQuery;
+	private final @Nullable ReturnedType returnedType;
 
 	/**
 	 * Creates new instance of this class with the given {@link PartTree}, {@link JdbcConverter}, {@link Dialect},
@@ -80,19 +84,49 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 	 */
 	JdbcQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
 			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor) {
+		this(context, tree, converter, dialect, entityMetadata, accessor, false, null, false,
+				new RenderContextFactory(dialect).createRenderer());
+	}
+
+	/**
+	 * Creates new instance of this class with the given {@link PartTree}, {@link JdbcConverter}, {@link Dialect},
+	 * {@link RelationalEntityMetadata} and {@link RelationalParameterAccessor}.
+	 *
+	 * @param context
+	 * @param tree part tree, must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param entityMetadata relational entity metadata, must not be {@literal null}.
+	 * @param accessor parameter metadata provider, must not be {@literal null}.
+	 * @param isSliceQuery whether the query is for a {@link org.springframework.data.domain.Slice}, which selects one
+	 *          row more than the page size in order to determine whether there is a next slice.
+	 * @param returnedType the type returned by the query. If it is a projection requiring only some properties of the
+	 *          entity, only the columns of these get selected. May be {@literal null}, selecting all columns.
+	 * @param inListPadding whether the values of {@code IN} conditions get padded to limit the number of distinct
+	 *          statements.
+	 * @param renderer the {@link Renderer} used to render the query, using a render context created for the
+	 *          {@link Dialect}. Must not be {@literal null}.
+	 * @since 2.1
+	 */
+	JdbcQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter, Dialect dialect,
+			RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor, boolean isSliceQuery,
+			@Nullable ReturnedType returnedType, boolean inListPadding, Renderer renderer) {
 		super(tree, accessor);
 
 		Assert.notNull(converter, "JdbcConverter must not be null");
 		Assert.notNull(dialect, "Dialect must not be null");
 		Assert.notNull(entityMetadata, "Relational entity metadata must not be null");
+		Assert.notNull(renderer, "Renderer must not be null");
 
 		this.context = context;
 		this.tree = tree;
 		this.accessor = accessor;
 
 		this.entityMetadata = entityMetadata;
-		this.queryMapper = new QueryMapper(dialect, converter);
-		this.renderContextFactory = new RenderContextFactory(dialect);
+		this.queryMapper = new QueryMapper(dialect, converter, inListPadding);
+		this.renderer = renderer;
+		this.isSliceQuery = isSliceQuery;
+		this.returnedType = returnedType;
 	}
 
 	/**
@@ -166,12 +200,33 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 
 		Select select = selectOrderBuilder.build();
 
-		String sql = SqlRenderer.create(renderContextFactory.createRenderContext()).render(select);
+		String sql = renderer.render(select);
 
 		return new ParametrizedQuery(sql, parameterSource);
 	}
 
-	private SelectBuilder.SelectOrdered applyOrderBy(Sort sort, RelationalPersistentEntity<?> entity, Table table,
+	/**
+	 * Maps the given {@link Criteria} to the values to bind only, without creating the SQL statement. The names of the
+	 * parameters are the same as the ones of a statement created by {@link #complete(Criteria, Sort)} for arguments of
+	 * the same shape.
+	 *
+	 * @param criteria {@link Criteria} to be applied to query. May be {@literal null}.
+	 * @return the {@link MapSqlParameterSource} holding the values to bind. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	MapSqlParameterSource createParameterSource(@Nullable Criteria criteria) {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+
+		if (criteria != null) {
+			queryMapper.getMappedObject(parameterSource, criteria, Table.create(entityMetadata.getTableName()),
+					entityMetadata.getTableEntity());
+		}
+
+		return parameterSource;
+	}
+
+	SelectBuilder.SelectOrdered applyOrderBy(Sort sort, RelationalPersistentEntity<?> entity, Table table,
 			SelectBuilder.SelectOrdered selectOrdered) {
 
 		return sort.isSorted() ? //
@@ -187,7 +242,7 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 				: whereBuilder;
 	}
 
-	private SelectBuilder.SelectWhere applyLimitAndOffset(SelectBuilder.SelectLimitOffset limitOffsetBuilder) {
+	SelectBuilder.SelectWhere applyLimitAndOffset(SelectBuilder.SelectLimitOffset limitOffsetBuilder) {
 
 		if (tree.isExistsProjection()) {
 			limitOffsetBuilder = limitOffsetBuilder.limit(1);
@@ -197,13 +252,15 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 
 		Pageable pageable = accessor.getPageable();
 		if (pageable.isPaged()) {
-			limitOffsetBuilder = limitOffsetBuilder.limit(pageable.getPageSize()).offset(pageable.getOffset());
+
+			int limit = isSliceQuery ? pageable.getPageSize() + 1 : pageable.getPageSize();
+			limitOffsetBuilder = limitOffsetBuilder.limit(limit).offset(pageable.getOffset());
 		}
 
 		return (SelectBuilder.SelectWhere) limitOffsetBuilder;
 	}
 
-	private SelectBuilder.SelectLimitOffset createSelectClause(RelationalPersistentEntity<?> entity, Table table) {
+	SelectBuilder.SelectLimitOffset createSelectClause(RelationalPersistentEntity<?> entity, Table table) {
 
 		SelectBuilder.SelectJoin builder;
 		if (tree.isExistsProjection()) {
@@ -225,10 +282,17 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		RelationalPersistentEntity<?> entity = entityMetadata.getTableEntity();
 		SqlContext sqlContext = new SqlContext(entity);
 
+		List<String> projectedProperties = getProjectedProperties();
+
 		List<Join> joinTables = new ArrayList<>();
 		for (PersistentPropertyPath<RelationalPersistentProperty> path : context
 				.findPersistentPropertyPaths(entity.getType(), p -> true)) {
 
+			// a projection only requires the columns of the properties it consists of
+			if (!projectedProperties.isEmpty() && !projectedProperties.contains(path.getBaseProperty().getName())) {
+				continue;
+			}
+
 			PersistentPropertyPathExtension extPath = new PersistentPropertyPathExtension(context, path);
 
 			// add a join if necessary
@@ -253,6 +317,17 @@ class JdbcQueryCreator extends RelationalQueryCreator<ParametrizedQuery> {
 		return baseSelect;
 	}
 
+	/**
+	 * @return the names of the properties a projection returned by the query consists of. An empty list if all columns
+	 *         have to be selected.
+	 */
+	private List<String> getProjectedProperties() {
+
+		return returnedType != null && returnedType.needsCustomConstruction() //
+				? returnedType.getInputProperties() //
+				: Collections.emptyList();
+	}
+
 	/**
 	 * Create a {@link Column} for {@link PersistentPropertyPathExtension}.
 	 *
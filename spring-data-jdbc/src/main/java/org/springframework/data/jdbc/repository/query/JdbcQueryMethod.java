@@ -22,6 +22,7 @@ import java.util.Optional;
 
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.jdbc.repository.QueryOptions;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -35,6 +36,7 @@ import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
@@ -53,17 +55,34 @@ public class JdbcQueryMethod extends QueryMethod {
 	private final MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext;
 	private final Map<Class<? extends Annotation>, Optional<Annotation>> annotationCache;
 	private final NamedQueries namedQueries;
+	private final QueryOptions defaultQueryOptions;
 	private @Nullable RelationalEntityMetadata<?> metadata;
 
 	// TODO: Remove NamedQueries and put it into JdbcQueryLookupStrategy
 	public JdbcQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
 			NamedQueries namedQueries,
 			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext) {
+		this(method, metadata, factory, namedQueries, mappingContext, QueryOptions.NONE);
+	}
+
+	/**
+	 * @param defaultQueryOptions the {@link QueryOptions} to use for settings not configured by a {@link QueryHints}
+	 *          annotation. Must not be {@literal null}.
+	 * @since 2.1
+	 */
+	public JdbcQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
+			NamedQueries namedQueries,
+			MappingContext<? extends RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext,
+			QueryOptions defaultQueryOptions) {
 
 		super(method, metadata, factory);
+
+		Assert.notNull(defaultQueryOptions, "Default QueryOptions must not be null");
+
 		this.namedQueries = namedQueries;
 		this.method = method;
 		this.mappingContext = mappingContext;
+		this.defaultQueryOptions = defaultQueryOptions;
 		this.annotationCache = new ConcurrentReferenceHashMap<>();
 	}
 
@@ -183,6 +202,20 @@ public class JdbcQueryMethod extends QueryMethod {
 		return getMergedAnnotationAttribute("resultSetExtractorClass");
 	}
 
+	/**
+	 * Returns the {@link QueryOptions} configured by a {@link QueryHints} annotation, combined with the defaults.
+	 *
+	 * @return Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	public QueryOptions getQueryOptions() {
+
+		return doFindAnnotation(QueryHints.class) //
+				.map(hints -> QueryOptions.of(hints.fetchSize(), hints.maxRows(), hints.timeout())) //
+				.orElse(QueryOptions.NONE) //
+				.withDefaults(defaultQueryOptions);
+	}
+
 	/**
 	 * Returns whether the query method is a modifying one.
 	 *
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.sql.render.Renderer;
+import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
+import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link JdbcQueryCreator} for a derived query whose SQL statement is already known from a previous execution with
+ * arguments of the same shape. It only maps the arguments to the values to bind and neither builds nor renders the
+ * statement.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+class ParameterBindingQueryCreator extends JdbcQueryCreator {
+
+	private final String sql;
+
+	ParameterBindingQueryCreator(RelationalMappingContext context, PartTree tree, JdbcConverter converter,
+			Dialect dialect, RelationalEntityMetadata<?> entityMetadata, RelationalParameterAccessor accessor,
+			boolean inListPadding, Renderer renderer, String sql) {
+
+		super(context, tree, converter, dialect, entityMetadata, accessor, false, null, inListPadding, renderer);
+
+		Assert.hasText(sql, "SQL must not be empty");
+
+		this.sql = sql;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.repository.query.JdbcQueryCreator#complete(org.springframework.data.relational.core.query.Criteria, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	protected ParametrizedQuery complete(@Nullable Criteria criteria, Sort sort) {
+		return new ParametrizedQuery(sql, createParameterSource(criteria));
+	}
+}
@@ -16,19 +16,39 @@
 package org.springframework.data.jdbc.repository.query;
 
 import java.sql.ResultSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.InClause;
+import org.springframework.data.relational.core.dialect.LimitClause;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.sql.render.Renderer;
 import org.springframework.data.relational.repository.query.RelationalEntityMetadata;
 import org.springframework.data.relational.repository.query.RelationalParameterAccessor;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
 import org.springframework.data.repository.query.Parameters;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -40,12 +60,20 @@ import org.springframework.util.Assert;
  */
 public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 
+	// the number of statements cached per query method, for different shapes of arguments
+	private static final int SQL_CACHE_SIZE = 256;
+
 	private final RelationalMappingContext context;
 	private final Parameters<?, ?> parameters;
 	private final Dialect dialect;
 	private final JdbcConverter converter;
 	private final PartTree tree;
+	private final @Nullable ReturnedType returnedType;
 	private final JdbcQueryExecution<?> execution;
+	private final JdbcQueryExecution<Object> countExecution;
+	private final boolean inListPadding;
+	private final Renderer renderer;
+	private final Map<QueryShape, SqlTemplate> sqlCache = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates a new {@link PartTreeJdbcQuery}.
@@ -59,6 +87,31 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 	 */
 	public PartTreeJdbcQuery(RelationalMappingContext context, JdbcQueryMethod queryMethod, Dialect dialect,
 			JdbcConverter converter, NamedParameterJdbcOperations operations, RowMapper<Object> rowMapper) {
+		this(context, queryMethod, dialect, converter, operations, rowMapper, QueryMappingConfiguration.EMPTY, false,
+				new RenderContextFactory(dialect).createRenderer());
+	}
+
+	/**
+	 * Creates a new {@link PartTreeJdbcQuery}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param queryMethod must not be {@literal null}.
+	 * @param dialect must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param rowMapper must not be {@literal null}.
+	 * @param queryMappingConfiguration the {@link RowMapper}s configured by type. Closed interface projections of simple
+	 *          properties get read without materializing the entity, unless a {@link RowMapper} is configured for the
+	 *          projection type. Must not be {@literal null}.
+	 * @param inListPadding whether the values of {@code IN} conditions get padded to the next power of two, so lists of
+	 *          different sizes result in fewer distinct statements.
+	 * @param renderer the {@link Renderer} used to render the derived queries, using a render context created by a
+	 *          {@link RenderContextFactory} for the {@link Dialect}. Must not be {@literal null}.
+	 * @since 2.1
+	 */
+	public PartTreeJdbcQuery(RelationalMappingContext context, JdbcQueryMethod queryMethod, Dialect dialect,
+			JdbcConverter converter, NamedParameterJdbcOperations operations, RowMapper<Object> rowMapper,
+			QueryMappingConfiguration queryMappingConfiguration, boolean inListPadding, Renderer renderer) {
 
 		super(queryMethod, operations, rowMapper);
 
@@ -66,18 +119,36 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 		Assert.notNull(queryMethod, "JdbcQueryMethod must not be null");
 		Assert.notNull(dialect, "Dialect must not be null");
 		Assert.notNull(converter, "JdbcConverter must not be null");
+		Assert.notNull(queryMappingConfiguration, "QueryMappingConfiguration must not be null");
+		Assert.notNull(renderer, "Renderer must not be null");
 
 		this.context = context;
 		this.parameters = queryMethod.getParameters();
 		this.dialect = dialect;
 		this.converter = converter;
+		this.inListPadding = inListPadding;
+		this.renderer = renderer;
 
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
 		JdbcQueryCreator.validate(this.tree, this.parameters, this.converter.getMappingContext());
 
 		ResultSetExtractor<Boolean> extractor = tree.isExistsProjection() ? (ResultSet::next) : null;
 
-		this.execution = getQueryExecution(queryMethod, extractor, rowMapper);
+		// closed interface projections of simple properties get read without materializing the entity, other interface
+		// projections require the complete entity and therefore all its columns. A configured RowMapper takes precedence
+		// and may read any of the columns.
+		ResultProcessor processor = queryMethod.getResultProcessor();
+		ReturnedType returnedType = processor.getReturnedType();
+		boolean configuredRowMapper = queryMappingConfiguration.getRowMapper(returnedType.getReturnedType()) != null;
+		ProjectingRowMapper projectingRowMapper = configuredRowMapper ? null
+				: ProjectingRowMapper.create(processor, context, converter,
+						queryMethod.getEntityInformation().getTableEntity(), dialect.getIdentifierProcessing());
+
+		this.returnedType = !configuredRowMapper
+				&& (projectingRowMapper != null || !returnedType.getReturnedType().isInterface()) ? returnedType : null;
+		this.execution = getQueryExecution(queryMethod, extractor,
+				projectingRowMapper != null ? projectingRowMapper : rowMapper);
+		this.countExecution = singleObjectQuery((rs, rowNum) -> rs.getLong(1));
 	}
 
 	private Sort getDynamicSort(RelationalParameterAccessor accessor) {
@@ -95,13 +166,283 @@ public class PartTreeJdbcQuery extends AbstractJdbcQuery {
 				values);
 
 		ParametrizedQuery query = createQuery(accessor);
-		return this.execution.execute(query.getQuery(), query.getParameterSource());
+		return getQueryExecution(accessor).execute(query.getQuery(), query.getParameterSource());
+	}
+
+	@SuppressWarnings("unchecked")
+	private JdbcQueryExecution<?> getQueryExecution(RelationalParametersParameterAccessor accessor) {
+
+		if (getQueryMethod().isSliceQuery()) {
+			return new SliceQueryExecution<>((JdbcQueryExecution<List<Object>>) execution, accessor.getPageable());
+		}
+
+		if (getQueryMethod().isPageQuery()) {
+			return new PageQueryExecution<>((JdbcQueryExecution<List<Object>>) execution, accessor.getPageable(),
+					() -> count(accessor));
+		}
+
+		return execution;
 	}
 
+	/**
+	 * Creates the {@link ParametrizedQuery} for the given arguments. The SQL statement only depends on the shape of the
+	 * arguments, i.e. which of them are {@literal null}, the sizes of collections, the dynamic {@link Sort} and the
+	 * {@link Pageable}. It gets cached per shape, so for arguments of a known shape only the values to bind get mapped.
+	 *
+	 * @param accessor the arguments of the query method. Must not be {@literal null}.
+	 * @return the {@link ParametrizedQuery}. Guaranteed to be not {@literal null}.
+	 */
 	protected ParametrizedQuery createQuery(RelationalParametersParameterAccessor accessor) {
 
 		RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
-		JdbcQueryCreator queryCreator = new JdbcQueryCreator(context, tree, converter, dialect, entityMetadata, accessor);
-		return queryCreator.createQuery(getDynamicSort(accessor));
+		Sort sort = getDynamicSort(accessor);
+		QueryShape shape = QueryShape.of(parameters, accessor, sort,
+				inListPadding ? dialect.inClause().getMaxListSize() : 0);
+		SqlTemplate template = sqlCache.get(shape);
+
+		if (template != null) {
+
+			JdbcQueryCreator queryCreator = new ParameterBindingQueryCreator(context, tree, converter, dialect,
+					entityMetadata, accessor, inListPadding, renderer, template.render(accessor.getPageable()));
+			return queryCreator.createQuery(sort);
+		}
+
+		JdbcQueryCreator queryCreator = new JdbcQueryCreator(context, tree, converter, dialect, entityMetadata, accessor,
+				getQueryMethod().isSliceQuery(), returnedType, inListPadding, renderer);
+		ParametrizedQuery query = queryCreator.createQuery(sort);
+
+		template = SqlTemplate.of(query.getQuery(), accessor.getPageable(), getQueryMethod().isSliceQuery(),
+				dialect.limit());
+		if (template != null && sqlCache.size() < SQL_CACHE_SIZE) {
+			sqlCache.putIfAbsent(shape, template);
+		}
+
+		return query;
+	}
+
+	ParametrizedQuery createCountQuery(RelationalParametersParameterAccessor accessor) {
+
+		RelationalEntityMetadata<?> entityMetadata = getQueryMethod().getEntityInformation();
+		JdbcCountQueryCreator queryCreator = new JdbcCountQueryCreator(context, tree, converter, dialect, entityMetadata,
+				accessor, inListPadding, renderer);
+		return queryCreator.createQuery(Sort.unsorted());
+	}
+
+	private long count(RelationalParametersParameterAccessor accessor) {
+
+		ParametrizedQuery countQuery = createCountQuery(accessor);
+		Object count = countExecution.execute(countQuery.getQuery(), countQuery.getParameterSource());
+
+		return count == null ? 0 : ((Number) count).longValue();
+	}
+
+	/**
+	 * The shape of the arguments of a query method invocation, determining the SQL statement of the derived query:
+	 * whether each bindable argument is {@literal null}, the sizes of {@link Iterable} arguments, which get bound as one
+	 * parameter per element, the dynamic {@link Sort} and whether the query is paged.
+	 */
+	private static final class QueryShape {
+
+		private static final int NULL = -1;
+		private static final int SINGLE_VALUE = -2;
+
+		private final int[] arguments;
+		private final Sort sort;
+		private final boolean paged;
+
+		private QueryShape(int[] arguments, Sort sort, boolean paged) {
+
+			this.arguments = arguments;
+			this.sort = sort;
+			this.paged = paged;
+		}
+
+		/**
+		 * @param maxPaddedListSize the maximum size of {@code IN} lists if they get padded, {@literal 0} otherwise.
+		 */
+		static QueryShape of(Parameters<?, ?> parameters, RelationalParameterAccessor accessor, Sort sort,
+				int maxPaddedListSize) {
+
+			int[] arguments = new int[parameters.getBindableParameters().getNumberOfParameters()];
+
+			for (int i = 0; i < arguments.length; i++) {
+
+				int shape = shapeOf(accessor.getBindableValue(i));
+				arguments[i] = shape >= 0 && shape <= maxPaddedListSize ? InClause.getPaddedSize(shape, maxPaddedListSize)
+						: shape;
+			}
+
+			return new QueryShape(arguments, sort, accessor.getPageable().isPaged());
+		}
+
+		private static int shapeOf(@Nullable Object value) {
+
+			if (value == null) {
+				return NULL;
+			}
+
+			if (value instanceof Collection) {
+				return ((Collection<?>) value).size();
+			}
+
+			if (value instanceof Iterable) {
+
+				int size = 0;
+				for (Object ignored : (Iterable<?>) value) {
+					size++;
+				}
+				return size;
+			}
+
+			return SINGLE_VALUE;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+
+			QueryShape that = (QueryShape) o;
+			return paged == that.paged && Arrays.equals(arguments, that.arguments) && sort.equals(that.sort);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * (31 * Arrays.hashCode(arguments) + sort.hashCode()) + (paged ? 1 : 0);
+		}
+	}
+
+	/**
+	 * The SQL statement of a derived query for a {@link QueryShape}. The limit and offset of a paged query get rendered
+	 * as literals, so the statement gets split around the limit clause, which gets rendered for each {@link Pageable}.
+	 */
+	private static final class SqlTemplate {
+
+		private final String prefix;
+		private final @Nullable String suffix;
+		private final boolean isSliceQuery;
+		private final LimitClause limitClause;
+
+		private SqlTemplate(String prefix, @Nullable String suffix, boolean isSliceQuery, LimitClause limitClause) {
+
+			this.prefix = prefix;
+			this.suffix = suffix;
+			this.isSliceQuery = isSliceQuery;
+			this.limitClause = limitClause;
+		}
+
+		/**
+		 * @return a {@link SqlTemplate} or {@literal null} if the limit clause can't be found in the statement of a paged
+		 *         query.
+		 */
+		@Nullable
+		static SqlTemplate of(String sql, Pageable pageable, boolean isSliceQuery, LimitClause limitClause) {
+
+			if (pageable.isUnpaged()) {
+				return new SqlTemplate(sql, null, isSliceQuery, limitClause);
+			}
+
+			String clause = limitClause.getLimitOffset(getLimit(pageable, isSliceQuery), pageable.getOffset());
+			int index = sql.lastIndexOf(clause);
+
+			if (index < 0) {
+				return null;
+			}
+
+			return new SqlTemplate(sql.substring(0, index), sql.substring(index + clause.length()), isSliceQuery,
+					limitClause);
+		}
+
+		String render(Pageable pageable) {
+
+			if (suffix == null) {
+				return prefix;
+			}
+
+			return prefix + limitClause.getLimitOffset(getLimit(pageable, isSliceQuery), pageable.getOffset()) + suffix;
+		}
+
+		private static long getLimit(Pageable pageable, boolean isSliceQuery) {
+			return isSliceQuery ? pageable.getPageSize() + 1 : pageable.getPageSize();
+		}
+	}
+
+	/**
+	 * {@link JdbcQueryExecution} returning a {@link Slice}. The query selects one row more than the page size, which
+	 * tells whether there is a next {@link Slice} without counting all rows.
+	 */
+	static class SliceQueryExecution<T> implements JdbcQueryExecution<Slice<T>> {
+
+		private final JdbcQueryExecution<? extends List<T>> delegate;
+		private final Pageable pageable;
+
+		SliceQueryExecution(JdbcQueryExecution<? extends List<T>> delegate, Pageable pageable) {
+
+			this.delegate = delegate;
+			this.pageable = pageable;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.jdbc.repository.query.JdbcQueryExecution#execute(java.lang.String, org.springframework.jdbc.core.namedparam.SqlParameterSource)
+		 */
+		@Override
+		public Slice<T> execute(String query, SqlParameterSource parameter) {
+
+			List<T> result = delegate.execute(query, parameter);
+			Assert.state(result != null, "The result of a collection query must not be null");
+
+			if (pageable.isUnpaged() || result.size() <= pageable.getPageSize()) {
+				return new SliceImpl<>(result, pageable, false);
+			}
+
+			return new SliceImpl<>(result.subList(0, pageable.getPageSize()), pageable, true);
+		}
+	}
+
+	/**
+	 * {@link JdbcQueryExecution} returning a {@link Page}. The total number of rows only gets counted if it can't be
+	 * determined from the page itself, i.e. unless the page is the first or the last one and contains fewer elements
+	 * than the page size.
+	 */
+	static class PageQueryExecution<T> implements JdbcQueryExecution<Page<T>> {
+
+		private final JdbcQueryExecution<? extends List<T>> delegate;
+		private final Pageable pageable;
+		private final LongSupplier countSupplier;
+
+		PageQueryExecution(JdbcQueryExecution<? extends List<T>> delegate, Pageable pageable, LongSupplier countSupplier) {
+
+			this.delegate = delegate;
+			this.pageable = pageable;
+			this.countSupplier = countSupplier;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.jdbc.repository.query.JdbcQueryExecution#execute(java.lang.String, org.springframework.jdbc.core.namedparam.SqlParameterSource)
+		 */
+		@Override
+		public Page<T> execute(String query, SqlParameterSource parameter) {
+
+			List<T> result = delegate.execute(query, parameter);
+			Assert.state(result != null, "The result of a collection query must not be null");
+
+			return PageableExecutionUtils.getPage(result, pageable, countSupplier);
+		}
 	}
 }
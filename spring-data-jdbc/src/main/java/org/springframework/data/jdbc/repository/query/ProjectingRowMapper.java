@@ -0,0 +1,123 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.jdbc.core.convert.JdbcConverter;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.data.repository.query.ReturnedType;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link RowMapper} for closed interface projections consisting of simple properties of the entity only. The values of
+ * the projected properties get read into a {@link Map} backing the projection, so no instance of the entity gets
+ * created and none of its relations gets loaded.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+class ProjectingRowMapper implements RowMapper<Object> {
+
+	private final ResultProcessor processor;
+	private final JdbcConverter converter;
+
+	private final String[] propertyNames;
+	private final String[] columnLabels;
+	private final TypeInformation<?>[] types;
+
+	private ProjectingRowMapper(ResultProcessor processor, JdbcConverter converter, String[] propertyNames,
+			String[] columnLabels, TypeInformation<?>[] types) {
+
+		this.processor = processor;
+		this.converter = converter;
+		this.propertyNames = propertyNames;
+		this.columnLabels = columnLabels;
+		this.types = types;
+	}
+
+	/**
+	 * Creates a {@link ProjectingRowMapper} for the type returned by the {@link ResultProcessor} if it is a closed
+	 * interface projection of simple properties of the given entity.
+	 *
+	 * @param processor the {@link ResultProcessor} of the query method. Must not be {@literal null}.
+	 * @param context the mapping context. Must not be {@literal null}.
+	 * @param converter used for converting the values read. Must not be {@literal null}.
+	 * @param entity the entity queried. Must not be {@literal null}.
+	 * @param identifierProcessing used for determining the column labels. Must not be {@literal null}.
+	 * @return a {@link ProjectingRowMapper} or {@literal null} if the returned type can't be read by this mapper.
+	 */
+	@Nullable
+	static ProjectingRowMapper create(ResultProcessor processor, RelationalMappingContext context,
+			JdbcConverter converter, RelationalPersistentEntity<?> entity, IdentifierProcessing identifierProcessing) {
+
+		ReturnedType returnedType = processor.getReturnedType();
+
+		if (!returnedType.getReturnedType().isInterface() || !returnedType.needsCustomConstruction()) {
+			return null;
+		}
+
+		List<String> inputProperties = returnedType.getInputProperties();
+
+		int size = inputProperties.size();
+		String[] propertyNames = new String[size];
+		String[] columnLabels = new String[size];
+		TypeInformation<?>[] types = new TypeInformation<?>[size];
+
+		for (int i = 0; i < size; i++) {
+
+			RelationalPersistentProperty property = entity.getPersistentProperty(inputProperties.get(i));
+
+			if (property == null || property.isEntity() || property.isCollectionLike() || property.isMap()) {
+				return null;
+			}
+
+			propertyNames[i] = property.getName();
+			columnLabels[i] = new PersistentPropertyPathExtension(context, entity).extendBy(property).getColumnAlias()
+					.getReference(identifierProcessing);
+			types[i] = property.getTypeInformation();
+		}
+
+		return new ProjectingRowMapper(processor, converter, propertyNames, columnLabels, types);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.jdbc.core.RowMapper#mapRow(java.sql.ResultSet, int)
+	 */
+	@Override
+	public Object mapRow(ResultSet rs, int rowNum) throws SQLException {
+
+		Map<String, Object> values = new HashMap<>(propertyNames.length);
+
+		for (int i = 0; i < propertyNames.length; i++) {
+			values.put(propertyNames[i], converter.readValue(rs.getObject(columnLabels[i]), types[i]));
+		}
+
+		return processor.processResult(values);
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation to configure the {@link java.sql.Statement} executing the query of a repository method, derived from the
+ * method name or declared using {@link Query}. Negative values leave the respective setting to the defaults configured
+ * as {@link org.springframework.data.jdbc.repository.QueryOptions} or to the JDBC driver.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+public @interface QueryHints {
+
+	/**
+	 * The number of rows to fetch per round trip to the database.
+	 *
+	 * @see java.sql.Statement#setFetchSize(int)
+	 */
+	int fetchSize() default -1;
+
+	/**
+	 * The maximum number of rows to return.
+	 *
+	 * @see java.sql.Statement#setMaxRows(int)
+	 */
+	int maxRows() default -1;
+
+	/**
+	 * The query timeout in seconds.
+	 *
+	 * @see java.sql.Statement#setQueryTimeout(int)
+	 */
+	int timeout() default -1;
+}
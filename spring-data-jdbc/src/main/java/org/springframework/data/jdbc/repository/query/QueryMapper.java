@@ -34,6 +34,7 @@ import org.springframework.data.mapping.context.InvalidPersistentPropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.Escaper;
+import org.springframework.data.relational.core.dialect.InClause;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.query.CriteriaDefinition;
@@ -61,6 +62,7 @@ class QueryMapper {
 	private final JdbcConverter converter;
 	private final Dialect dialect;
 	private final MappingContext<? extends RelationalPersistentEntity<?>, RelationalPersistentProperty> mappingContext;
+	private final boolean inListPadding;
 
 	/**
 	 * Creates a new {@link QueryMapper} with the given {@link JdbcConverter}.
@@ -68,8 +70,21 @@ class QueryMapper {
 	 * @param dialect must not be {@literal null}.
 	 * @param converter must not be {@literal null}.
 	 */
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	QueryMapper(Dialect dialect, JdbcConverter converter) {
+		this(dialect, converter, false);
+	}
+
+	/**
+	 * Creates a new {@link QueryMapper} with the given {@link JdbcConverter}.
+	 *
+	 * @param dialect must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param inListPadding whether the values of {@code IN} conditions get padded using
+	 *          {@link InClause#pad(List, int)}, so lists of different sizes result in fewer distinct statements.
+	 * @since 2.1
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	QueryMapper(Dialect dialect, JdbcConverter converter, boolean inListPadding) {
 
 		Assert.notNull(dialect, "Dialect must not be null!");
 		Assert.notNull(converter, "JdbcConverter must not be null!");
@@ -77,6 +92,7 @@ class QueryMapper {
 		this.converter = converter;
 		this.dialect = dialect;
 		this.mappingContext = (MappingContext) converter.getMappingContext();
+		this.inListPadding = inListPadding;
 	}
 
 	/**
@@ -418,15 +434,21 @@ class QueryMapper {
 
 			if (mappedValue instanceof Iterable) {
 
-				List<Expression> expressions = new ArrayList<>(
+				List<Object> values = new ArrayList<>(
 						mappedValue instanceof Collection ? ((Collection<?>) mappedValue).size() : 10);
+				((Iterable<?>) mappedValue).forEach(values::add);
 
-				for (Object o : (Iterable<?>) mappedValue) {
+				int maxListSize = dialect.inClause().getMaxListSize();
+				if (values.size() > maxListSize) {
+					return createChunkedInCondition(comparator, columnExpression, values, maxListSize, sqlType,
+							parameterSource, column);
+				}
 
-					expressions.add(bind(o, sqlType, parameterSource, column.getName().getReference()));
+				if (inListPadding) {
+					values = InClause.pad(values, maxListSize);
 				}
 
-				condition = Conditions.in(columnExpression, expressions.toArray(new Expression[0]));
+				condition = createInCondition(columnExpression, values, sqlType, parameterSource, column);
 
 			} else {
 
@@ -493,6 +515,45 @@ class QueryMapper {
 		}
 	}
 
+	/**
+	 * Splits {@code values} into {@code IN} lists of at most {@code maxListSize} values combined with {@code OR}, or for
+	 * {@code NOT IN} into {@code NOT IN} lists combined with {@code AND}. This keeps each list within the limit of the
+	 * dialect, while the total number of bind parameters of the statement is still limited by the database.
+	 */
+	private Condition createChunkedInCondition(Comparator comparator, Expression columnExpression, List<Object> values,
+			int maxListSize, int sqlType, MapSqlParameterSource parameterSource, Column column) {
+
+		Condition condition = null;
+
+		for (int i = 0; i < values.size(); i += maxListSize) {
+
+			List<Object> chunk = values.subList(i, Math.min(i + maxListSize, values.size()));
+			Condition in = createInCondition(columnExpression, chunk, sqlType, parameterSource, column);
+
+			if (comparator == Comparator.NOT_IN) {
+				in = in.not();
+				condition = condition == null ? in : condition.and(in);
+			} else {
+				condition = condition == null ? in : condition.or(in);
+			}
+		}
+
+		return Conditions.nest(condition);
+	}
+
+	private Condition createInCondition(Expression columnExpression, List<Object> values, int sqlType,
+			MapSqlParameterSource parameterSource, Column column) {
+
+		List<Expression> expressions = new ArrayList<>(values.size());
+
+		for (Object o : values) {
+
+			expressions.add(bind(o, sqlType, parameterSource, column.getName().getReference()));
+		}
+
+		return Conditions.in(columnExpression, expressions.toArray(new Expression[0]));
+	}
+
 	Field createPropertyField(@Nullable RelationalPersistentEntity<?> entity, SqlIdentifier key) {
 		return entity == null ? new Field(key) : new MetadataBackedField(key, entity, mappingContext, converter);
 	}
@@ -23,16 +23,19 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jdbc.core.convert.EntityRowMapper;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
+import org.springframework.data.jdbc.repository.QueryOptions;
 import org.springframework.data.jdbc.repository.query.JdbcQueryMethod;
 import org.springframework.data.jdbc.repository.query.PartTreeJdbcQuery;
 import org.springframework.data.jdbc.repository.query.StringBasedJdbcQuery;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.event.AfterLoadCallback;
 import org.springframework.data.relational.core.mapping.event.AfterLoadEvent;
+import org.springframework.data.relational.core.sql.render.Renderer;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryCreationException;
@@ -63,10 +66,21 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 	private final Dialect dialect;
 	private final QueryMappingConfiguration queryMappingConfiguration;
 	private final NamedParameterJdbcOperations operations;
+	private final QueryOptions queryOptions;
+	private final boolean inListPadding;
+	private final Renderer renderer;
 
 	public JdbcQueryLookupStrategy(ApplicationEventPublisher publisher, @Nullable EntityCallbacks callbacks,
 			RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
 			QueryMappingConfiguration queryMappingConfiguration, NamedParameterJdbcOperations operations) {
+		this(publisher, callbacks, context, converter, dialect, queryMappingConfiguration, operations, QueryOptions.NONE,
+				false, new RenderContextFactory(dialect).createRenderer());
+	}
+
+	JdbcQueryLookupStrategy(ApplicationEventPublisher publisher, @Nullable EntityCallbacks callbacks,
+			RelationalMappingContext context, JdbcConverter converter, Dialect dialect,
+			QueryMappingConfiguration queryMappingConfiguration, NamedParameterJdbcOperations operations,
+			QueryOptions queryOptions, boolean inListPadding, Renderer renderer) {
 
 		Assert.notNull(publisher, "ApplicationEventPublisher must not be null");
 		Assert.notNull(context, "RelationalMappingContextPublisher must not be null");
@@ -74,6 +88,8 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 		Assert.notNull(dialect, "Dialect must not be null");
 		Assert.notNull(queryMappingConfiguration, "QueryMappingConfiguration must not be null");
 		Assert.notNull(operations, "NamedParameterJdbcOperations must not be null");
+		Assert.notNull(queryOptions, "QueryOptions must not be null");
+		Assert.notNull(renderer, "Renderer must not be null");
 
 		this.publisher = publisher;
 		this.callbacks = callbacks;
@@ -82,6 +98,9 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 		this.dialect = dialect;
 		this.queryMappingConfiguration = queryMappingConfiguration;
 		this.operations = operations;
+		this.queryOptions = queryOptions;
+		this.inListPadding = inListPadding;
+		this.renderer = renderer;
 	}
 
 	/*
@@ -93,7 +112,7 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 			ProjectionFactory projectionFactory, NamedQueries namedQueries) {
 
 		JdbcQueryMethod queryMethod = new JdbcQueryMethod(method, repositoryMetadata, projectionFactory, namedQueries,
-				context);
+				context, queryOptions);
 
 		try {
 			if (namedQueries.hasQuery(queryMethod.getNamedQueryName()) || queryMethod.hasAnnotatedQuery()) {
@@ -101,7 +120,8 @@ class JdbcQueryLookupStrategy implements QueryLookupStrategy {
 				RowMapper<?> mapper = queryMethod.isModifyingQuery() ? null : createMapper(queryMethod);
 				return new StringBasedJdbcQuery(queryMethod, operations, mapper, converter);
 			} else {
-				return new PartTreeJdbcQuery(context, queryMethod, dialect, converter, operations, createMapper(queryMethod));
+				return new PartTreeJdbcQuery(context, queryMethod, dialect, converter, operations, createMapper(queryMethod),
+						queryMappingConfiguration, inListPadding, renderer);
 			}
 		} catch (Exception e) {
 			throw QueryCreationException.create(queryMethod, e.getMessage());
@@ -22,10 +22,13 @@ import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
+import org.springframework.data.jdbc.repository.QueryOptions;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.render.Renderer;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -55,6 +58,9 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 	private final Dialect dialect;
 
 	private QueryMappingConfiguration queryMappingConfiguration = QueryMappingConfiguration.EMPTY;
+	private QueryOptions queryOptions = QueryOptions.NONE;
+	private boolean inListPadding;
+	private @Nullable Renderer renderer;
 	private EntityCallbacks entityCallbacks;
 
 	/**
@@ -97,6 +103,39 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 		this.queryMappingConfiguration = queryMappingConfiguration;
 	}
 
+	/**
+	 * @param queryOptions the defaults for settings not configured by the
+	 *          {@link org.springframework.data.jdbc.repository.query.QueryHints} of a query method. Must not be
+	 *          {@literal null}, consider {@link QueryOptions#NONE} instead.
+	 * @since 2.1
+	 */
+	public void setQueryOptions(QueryOptions queryOptions) {
+
+		Assert.notNull(queryOptions, "QueryOptions must not be null!");
+
+		this.queryOptions = queryOptions;
+	}
+
+	/**
+	 * @param inListPadding whether the values of {@code IN} conditions of derived queries get padded to the next power of
+	 *          two, so lists of different sizes result in fewer distinct statements.
+	 * @since 2.1
+	 * @see org.springframework.data.relational.core.dialect.InClause#pad(java.util.List, int)
+	 */
+	public void setInListPadding(boolean inListPadding) {
+		this.inListPadding = inListPadding;
+	}
+
+	/**
+	 * @param renderer the {@link Renderer} used to render derived queries, using a render context created by a
+	 *          {@link RenderContextFactory} for the {@link Dialect}. Can be {@literal null}, defaulting to
+	 *          {@link RenderContextFactory#createRenderer()}.
+	 * @since 2.1
+	 */
+	public void setRenderer(@Nullable Renderer renderer) {
+		this.renderer = renderer;
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public <T, ID> EntityInformation<T, ID> getEntityInformation(Class<T> aClass) {
@@ -143,7 +182,8 @@ public class JdbcRepositoryFactory extends RepositoryFactorySupport {
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
 
 		return Optional.of(new JdbcQueryLookupStrategy(publisher, entityCallbacks, context, converter, dialect,
-				queryMappingConfiguration, operations));
+				queryMappingConfiguration, operations, queryOptions, inListPadding,
+				renderer != null ? renderer : new RenderContextFactory(dialect).createRenderer()));
 	}
 
 	/**
@@ -21,14 +21,17 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.data.jdbc.core.convert.DataAccessOptions;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.DefaultDataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.SqlGeneratorSource;
 import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
+import org.springframework.data.jdbc.repository.QueryOptions;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.sql.render.Renderer;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.data.repository.core.support.TransactionalRepositoryFactoryBeanSupport;
@@ -54,9 +57,12 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 	private JdbcConverter converter;
 	private DataAccessStrategy dataAccessStrategy;
 	private QueryMappingConfiguration queryMappingConfiguration = QueryMappingConfiguration.EMPTY;
+	private QueryOptions queryOptions = QueryOptions.NONE;
+	private DataAccessOptions dataAccessOptions = DataAccessOptions.DEFAULT;
 	private NamedParameterJdbcOperations operations;
 	private EntityCallbacks entityCallbacks;
 	private Dialect dialect;
+	private Renderer renderer;
 
 	/**
 	 * Creates a new {@link JdbcRepositoryFactoryBean} for the given repository interface.
@@ -88,6 +94,9 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		JdbcRepositoryFactory jdbcRepositoryFactory = new JdbcRepositoryFactory(dataAccessStrategy, mappingContext,
 				converter, dialect, publisher, operations);
 		jdbcRepositoryFactory.setQueryMappingConfiguration(queryMappingConfiguration);
+		jdbcRepositoryFactory.setQueryOptions(queryOptions);
+		jdbcRepositoryFactory.setInListPadding(dataAccessOptions.isInListPadding());
+		jdbcRepositoryFactory.setRenderer(renderer);
 		jdbcRepositoryFactory.setEntityCallbacks(entityCallbacks);
 
 		return jdbcRepositoryFactory;
@@ -121,6 +130,38 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 		this.queryMappingConfiguration = queryMappingConfiguration;
 	}
 
+	/**
+	 * @param queryOptions can be {@literal null}. {@link #afterPropertiesSet()} defaults to {@link QueryOptions#NONE} if
+	 *          {@literal null}.
+	 * @since 2.1
+	 */
+	@Autowired(required = false)
+	public void setQueryOptions(QueryOptions queryOptions) {
+		this.queryOptions = queryOptions;
+	}
+
+	/**
+	 * @param dataAccessOptions can be {@literal null}. {@link #afterPropertiesSet()} defaults to
+	 *          {@link DataAccessOptions#DEFAULT} if {@literal null}.
+	 * @since 2.1
+	 */
+	@Autowired(required = false)
+	public void setDataAccessOptions(DataAccessOptions dataAccessOptions) {
+		this.dataAccessOptions = dataAccessOptions;
+	}
+
+	/**
+	 * @param renderer the {@link Renderer} used to render derived queries and, if no {@link DataAccessStrategy} is
+	 *          configured, the statements of the {@link DefaultDataAccessStrategy}. Can be {@literal null}, defaulting to
+	 *          the {@link Renderer} created by a
+	 *          {@link org.springframework.data.relational.core.dialect.RenderContextFactory} for the {@link Dialect}.
+	 * @since 2.1
+	 */
+	@Autowired(required = false)
+	public void setRenderer(Renderer renderer) {
+		this.renderer = renderer;
+	}
+
 	public void setJdbcOperations(NamedParameterJdbcOperations operations) {
 		this.operations = operations;
 	}
@@ -155,6 +196,10 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 			this.operations = beanFactory.getBean(NamedParameterJdbcOperations.class);
 		}
 
+		if (this.dataAccessOptions == null) {
+			this.dataAccessOptions = DataAccessOptions.DEFAULT;
+		}
+
 		if (this.dataAccessStrategy == null) {
 
 			Assert.state(beanFactory != null, "If no DataAccessStrategy is set a BeanFactory must be available.");
@@ -164,10 +209,11 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 
 						Assert.state(this.dialect != null, "Dialect is required and must not be null!");
 
-						SqlGeneratorSource sqlGeneratorSource = new SqlGeneratorSource(this.mappingContext, this.converter,
-								this.dialect);
+						SqlGeneratorSource sqlGeneratorSource = this.renderer == null //
+								? new SqlGeneratorSource(this.mappingContext, this.converter, this.dialect) //
+								: new SqlGeneratorSource(this.mappingContext, this.converter, this.dialect, this.renderer);
 						return new DefaultDataAccessStrategy(sqlGeneratorSource, this.mappingContext, this.converter,
-								this.operations);
+								this.operations, this.dataAccessOptions);
 					});
 		}
 
@@ -175,6 +221,10 @@ public class JdbcRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extend
 			this.queryMappingConfiguration = QueryMappingConfiguration.EMPTY;
 		}
 
+		if (this.queryOptions == null) {
+			this.queryOptions = QueryOptions.NONE;
+		}
+
 		if (beanFactory != null) {
 			entityCallbacks = EntityCallbacks.create(beanFactory);
 		}
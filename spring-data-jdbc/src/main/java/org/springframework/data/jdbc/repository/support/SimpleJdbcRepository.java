@@ -19,14 +19,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.JdbcAggregateOperations;
+import org.springframework.data.jdbc.repository.KeysetPagingRepository;
 import org.springframework.data.mapping.PersistentEntity;
-import org.springframework.data.repository.PagingAndSortingRepository;
-import org.springframework.data.util.Streamable;
+import org.springframework.data.relational.core.query.Keyset;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Default implementation of the {@link org.springframework.data.repository.CrudRepository} interface.
@@ -36,7 +35,7 @@ import java.util.stream.Collectors;
  * @author Milan Milanov
  */
 @Transactional(readOnly = true)
-public class SimpleJdbcRepository<T, ID> implements PagingAndSortingRepository<T, ID> {
+public class SimpleJdbcRepository<T, ID> implements KeysetPagingRepository<T, ID> {
 
 	private final JdbcAggregateOperations entityOperations;
 	private final PersistentEntity<T, ?> entity;
@@ -67,10 +66,7 @@ public class SimpleJdbcRepository<T, ID> implements PagingAndSortingRepository<T
 	@Transactional
 	@Override
 	public <S extends T> Iterable<S> saveAll(Iterable<S> entities) {
-
-		return Streamable.of(entities).stream() //
-				.map(this::save) //
-				.collect(Collectors.toList());
+		return entityOperations.saveAll(entities);
 	}
 
 	/*
@@ -144,9 +140,8 @@ public class SimpleJdbcRepository<T, ID> implements PagingAndSortingRepository<T
 	 */
 	@Transactional
 	@Override
-	@SuppressWarnings("unchecked")
 	public void deleteAll(Iterable<? extends T> entities) {
-		entities.forEach(it -> entityOperations.delete(it, (Class<T>) it.getClass()));
+		entityOperations.deleteAll(entities, entity.getType());
 	}
 
 	@Transactional
@@ -172,4 +167,13 @@ public class SimpleJdbcRepository<T, ID> implements PagingAndSortingRepository<T
 	public Page<T> findAll(Pageable pageable) {
 		return entityOperations.findAll(entity.getType(), pageable);
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.jdbc.repository.KeysetPagingRepository#findAll(org.springframework.data.domain.Sort, org.springframework.data.relational.core.query.Keyset, int)
+	 */
+	@Override
+	public Iterable<T> findAll(Sort sort, Keyset keyset, int limit) {
+		return entityOperations.findAll(entity.getType(), sort, keyset, limit);
+	}
 }
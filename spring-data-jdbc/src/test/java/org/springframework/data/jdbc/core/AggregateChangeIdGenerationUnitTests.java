@@ -383,7 +383,18 @@ public class AggregateChangeIdGenerationUnitTests {
 		@Override
 		public Object answer(InvocationOnMock invocation) throws Throwable {
 
-			if (!invocation.getMethod().getReturnType().equals(Object.class)) {
+			Class<?> returnType = invocation.getMethod().getReturnType();
+
+			if (returnType.equals(Object[].class)) {
+
+				Object[] ids = new Object[invocation.<List<?>> getArgument(0).size()];
+				for (int i = 0; i < ids.length; i++) {
+					ids[i] = id++;
+				}
+				return ids;
+			}
+
+			if (!returnType.equals(Object.class)) {
 				throw new UnsupportedOperationException("This mock does not support this invocation: " + invocation);
 			}
 
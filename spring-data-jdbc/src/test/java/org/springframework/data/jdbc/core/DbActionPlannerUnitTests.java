@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core;
+
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.conversion.DbAction;
+import org.springframework.data.relational.core.conversion.MutableAggregateChange;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+
+/**
+ * Unit tests for {@link DbActionPlanner}.
+ *
+ * @author Tobias Lindner
+ */
+public class DbActionPlannerUnitTests {
+
+	RelationalMappingContext context = new RelationalMappingContext();
+
+	DummyEntity root = new DummyEntity();
+	MutableAggregateChange<DummyEntity> aggregateChange = MutableAggregateChange.forSave(root);
+	DbAction.InsertRoot<DummyEntity> rootInsert = new DbAction.InsertRoot<>(root);
+
+	@Test
+	public void interleavedInsertsGetGroupedByPath() {
+
+		DbAction.Insert<?> element1 = createInsert(rootInsert, "elements", new Element(), 0);
+		DbAction.Insert<?> child1 = createInsert(element1, "elements.children", new Child(), 0);
+		DbAction.Insert<?> element2 = createInsert(rootInsert, "elements", new Element(), 1);
+		DbAction.Insert<?> child2 = createInsert(element2, "elements.children", new Child(), 0);
+
+		aggregateChange.addAction(rootInsert);
+		aggregateChange.addAction(element1);
+		aggregateChange.addAction(child1);
+		aggregateChange.addAction(element2);
+		aggregateChange.addAction(child2);
+
+		List<DbAction<?>> planned = DbActionPlanner.plan(aggregateChange);
+
+		assertThat(planned).containsExactly(rootInsert, element1, element2, child1, child2);
+	}
+
+	@Test
+	public void insertsDontGetMovedAcrossOtherActions() {
+
+		DbAction.Insert<?> element1 = createInsert(rootInsert, "elements", new Element(), 0);
+		DbAction.Insert<?> child1 = createInsert(element1, "elements.children", new Child(), 0);
+		DbAction.Delete<?> delete = new DbAction.Delete<>(23L,
+				context.getPersistentPropertyPath("elements", DummyEntity.class));
+		DbAction.Insert<?> element2 = createInsert(rootInsert, "elements", new Element(), 1);
+
+		aggregateChange.addAction(rootInsert);
+		aggregateChange.addAction(element1);
+		aggregateChange.addAction(child1);
+		aggregateChange.addAction(delete);
+		aggregateChange.addAction(element2);
+
+		List<DbAction<?>> planned = DbActionPlanner.plan(aggregateChange);
+
+		assertThat(planned).containsExactly(rootInsert, element1, child1, delete, element2);
+	}
+
+	private DbAction.Insert<?> createInsert(DbAction.WithEntity<?> parent, String path, Object value, Object key) {
+
+		return new DbAction.Insert<>(value, context.getPersistentPropertyPath(path, DummyEntity.class), parent,
+				singletonMap(context.getPersistentPropertyPath(path, DummyEntity.class), key));
+	}
+
+	private static class DummyEntity {
+
+		@Id Long id;
+		List<Element> elements;
+	}
+
+	private static class Element {
+
+		@Id Long id;
+		List<Child> children;
+	}
+
+	private static class Child {
+
+		@Id Long id;
+	}
+}
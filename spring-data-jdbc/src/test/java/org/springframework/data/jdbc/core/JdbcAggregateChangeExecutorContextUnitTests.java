@@ -15,6 +15,7 @@
  */
 package org.springframework.data.jdbc.core;
 
+import static java.util.Arrays.*;
 import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -34,9 +35,12 @@ import org.springframework.data.jdbc.core.convert.JdbcIdentifierBuilder;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PersistentPropertyPaths;
 import org.springframework.data.relational.core.conversion.DbAction;
+import org.springframework.data.relational.core.conversion.MutableAggregateChange;
+import org.springframework.data.relational.core.conversion.RelationalEntityDeleteWriter;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.lang.Nullable;
 
 /**
@@ -135,6 +139,89 @@ public class JdbcAggregateChangeExecutorContextUnitTests {
 		assertThat(content.id).isEqualTo(24L);
 	}
 
+	@Test
+	public void consecutiveInsertsOfSamePathGetBatched() {
+
+		Content content1 = new Content();
+		Content content2 = new Content();
+
+		when(accessStrategy.insert(root, DummyEntity.class, Identifier.empty())).thenReturn(23L);
+		when(accessStrategy.insert(anyList(), eq(Content.class))).thenReturn(new Object[] { 24L, 25L });
+
+		DbAction.InsertRoot<DummyEntity> rootInsert = new DbAction.InsertRoot<>(root);
+		MutableAggregateChange<DummyEntity> aggregateChange = MutableAggregateChange.forSave(root);
+		aggregateChange.addAction(rootInsert);
+		aggregateChange.addAction(createInsert(rootInsert, "list", content1, 0));
+		aggregateChange.addAction(createInsert(rootInsert, "list", content2, 1));
+
+		executor.execute(aggregateChange);
+
+		verify(accessStrategy).insert(anyList(), eq(Content.class));
+		verify(accessStrategy, never()).insert(any(Content.class), eq(Content.class), any(Identifier.class));
+
+		assertThat(root.id).isEqualTo(23L);
+		assertThat(content1.id).isEqualTo(24L);
+		assertThat(content2.id).isEqualTo(25L);
+	}
+
+	@Test
+	public void rootInsertsOfMultipleAggregatesGetBatched() {
+
+		DummyEntity other = new DummyEntity();
+		Content content1 = new Content();
+		Content content2 = new Content();
+
+		when(accessStrategy.insert(anyList(), eq(DummyEntity.class))).thenReturn(new Object[] { 23L, 42L });
+		when(accessStrategy.insert(anyList(), eq(Content.class))).thenReturn(new Object[] { 24L, 43L });
+
+		DbAction.InsertRoot<DummyEntity> rootInsert = new DbAction.InsertRoot<>(root);
+		MutableAggregateChange<DummyEntity> change = MutableAggregateChange.forSave(root);
+		change.addAction(rootInsert);
+		change.addAction(createInsert(rootInsert, "content", content1, null));
+
+		DbAction.InsertRoot<DummyEntity> otherInsert = new DbAction.InsertRoot<>(other);
+		MutableAggregateChange<DummyEntity> otherChange = MutableAggregateChange.forSave(other);
+		otherChange.addAction(otherInsert);
+		otherChange.addAction(createInsert(otherInsert, "content", content2, null));
+
+		List<DummyEntity> roots = executor.executeAll(asList(change, otherChange));
+
+		verify(accessStrategy).insert(anyList(), eq(DummyEntity.class));
+		verify(accessStrategy).insert(anyList(), eq(Content.class));
+		verifyNoMoreInteractions(accessStrategy);
+
+		assertThat(roots).containsExactly(root, other);
+		assertThat(root.id).isEqualTo(23L);
+		assertThat(root.version).isEqualTo(1L);
+		assertThat(other.id).isEqualTo(42L);
+		assertThat(content1.id).isEqualTo(24L);
+		assertThat(content2.id).isEqualTo(43L);
+	}
+
+	@Test
+	public void deletesOfMultipleAggregatesGetCombined() {
+
+		RelationalEntityDeleteWriter deleteWriter = new RelationalEntityDeleteWriter(context);
+
+		root.id = 23L;
+		root.version = 1L;
+		MutableAggregateChange<DummyEntity> change = MutableAggregateChange.forDelete(DummyEntity.class, root);
+		deleteWriter.write(root.id, change);
+
+		DummyEntity other = new DummyEntity();
+		other.id = 42L;
+		other.version = 2L;
+		MutableAggregateChange<DummyEntity> otherChange = MutableAggregateChange.forDelete(DummyEntity.class, other);
+		deleteWriter.write(other.id, otherChange);
+
+		executor.executeAll(asList(change, otherChange));
+
+		verify(accessStrategy).acquireLockById(asList(23L, 42L), LockMode.PESSIMISTIC_WRITE, DummyEntity.class);
+		verify(accessStrategy, times(2)).delete(eq(asList(23L, 42L)), any(PersistentPropertyPath.class));
+		verify(accessStrategy).deleteWithVersion(asList(23L, 42L), DummyEntity.class, asList((Number) 1L, 2L));
+		verifyNoMoreInteractions(accessStrategy);
+	}
+
 	DbAction.Insert<?> createInsert(DbAction.WithEntity<?> parent, String propertyName, Object value,
 			@Nullable Object key) {
 
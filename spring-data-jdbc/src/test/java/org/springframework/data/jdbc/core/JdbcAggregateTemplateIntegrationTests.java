@@ -373,6 +373,29 @@ public class JdbcAggregateTemplateIntegrationTests {
 				.withCauseInstanceOf(IncorrectUpdateSemanticsDataAccessException.class);
 	}
 
+	@Test
+	public void upsertInsertsAndThenUpdatesAnAggregateWithAssignedId() {
+
+		AssignedIdAggregate aggregate = new AssignedIdAggregate();
+		aggregate.id = 4711L;
+		aggregate.name = "inserted";
+
+		template.upsert(aggregate);
+
+		assertThat(template.findById(4711L, AssignedIdAggregate.class)) //
+				.extracting(a -> a.name) //
+				.isEqualTo("inserted");
+
+		aggregate.name = "updated";
+
+		template.upsert(aggregate);
+
+		assertThat(template.findById(4711L, AssignedIdAggregate.class)) //
+				.extracting(a -> a.name) //
+				.isEqualTo("updated");
+		assertThat(template.count(AssignedIdAggregate.class)).isEqualTo(1);
+	}
+
 	@Test // DATAJDBC-112
 	public void replaceReferencedEntity() {
 
@@ -1087,6 +1110,11 @@ public class JdbcAggregateTemplateIntegrationTests {
 		Map<String, NoIdMapChain3> chain3 = new HashMap<>();
 	}
 
+	static class AssignedIdAggregate {
+		@Id Long id;
+		String name;
+	}
+
 	static class WithReadOnly {
 		@Id Long id;
 		String name;
@@ -23,6 +23,9 @@ import static org.mockito.Mockito.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
+import java.util.Iterator;
+import java.util.stream.Stream;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -31,10 +34,12 @@ import org.mockito.junit.MockitoJUnitRunner;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
+import org.springframework.data.jdbc.core.convert.Identifier;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
 import org.springframework.data.mapping.callback.EntityCallbacks;
@@ -111,6 +116,21 @@ public class JdbcAggregateTemplateUnitTests {
 		assertThat(last).isEqualTo(third);
 	}
 
+	@Test
+	public void saveAllInsertsNewAggregateEvenIfBeforeConvertCallbackSetsTheId() {
+
+		SampleEntity first = new SampleEntity(null, "Alfred");
+		SampleEntity second = new SampleEntity(23L, "Alfred");
+
+		when(callbacks.callback(any(Class.class), any(), any())).thenReturn(second);
+
+		template.saveAll(singletonList(first));
+
+		verify(callbacks).callback(BeforeConvertCallback.class, first);
+		verify(dataAccessStrategy).insert(eq(second), eq(SampleEntity.class), any(Identifier.class));
+		verify(dataAccessStrategy, never()).update(any(), any());
+	}
+
 	@Test // DATAJDBC-393
 	public void callbackOnDelete() {
 
@@ -191,6 +211,63 @@ public class JdbcAggregateTemplateUnitTests {
 		assertThat(all).containsExactly(alfred2, neumann2);
 	}
 
+	@Test
+	public void pageNotFilledDoesNotGetCounted() {
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+		SampleEntity neumann = new SampleEntity(42L, "Neumann");
+
+		when(dataAccessStrategy.findAll(SampleEntity.class, PageRequest.of(0, 20))).thenReturn(asList(alfred, neumann));
+		when(callbacks.callback(any(Class.class), any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+
+		Page<SampleEntity> page = template.findAll(SampleEntity.class, PageRequest.of(0, 20));
+
+		assertThat(page.getTotalElements()).isEqualTo(2);
+		verify(dataAccessStrategy, never()).count(SampleEntity.class);
+		verify(dataAccessStrategy, never()).estimateCount(SampleEntity.class);
+	}
+
+	@Test
+	public void fullPageUsesEstimatedCountWhenConfigured() {
+
+		SampleEntity alfred = new SampleEntity(23L, "Alfred");
+		SampleEntity neumann = new SampleEntity(42L, "Neumann");
+
+		template.setEstimatedPageTotals(true);
+		when(dataAccessStrategy.findAll(SampleEntity.class, PageRequest.of(0, 2))).thenReturn(asList(alfred, neumann));
+		when(dataAccessStrategy.estimateCount(SampleEntity.class)).thenReturn(100L);
+		when(callbacks.callback(any(Class.class), any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+
+		Page<SampleEntity> page = template.findAll(SampleEntity.class, PageRequest.of(0, 2));
+
+		assertThat(page.getTotalElements()).isEqualTo(100);
+		verify(dataAccessStrategy, never()).count(SampleEntity.class);
+	}
+
+	@Test
+	public void callbackOnLoadStreamedGetsTriggeredPerConsumedElement() {
+
+		SampleEntity alfred1 = new SampleEntity(23L, "Alfred");
+		SampleEntity alfred2 = new SampleEntity(23L, "Alfred E.");
+
+		SampleEntity neumann1 = new SampleEntity(42L, "Neumann");
+		SampleEntity neumann2 = new SampleEntity(42L, "Alfred E. Neumann");
+
+		when(dataAccessStrategy.streamAll(SampleEntity.class)).thenReturn(Stream.of(alfred1, neumann1));
+
+		when(callbacks.callback(any(Class.class), eq(alfred1), any())).thenReturn(alfred2);
+		when(callbacks.callback(any(Class.class), eq(neumann1), any())).thenReturn(neumann2);
+
+		Iterator<SampleEntity> all = template.streamAll(SampleEntity.class).iterator();
+
+		assertThat(all.next()).isEqualTo(alfred2);
+		verify(callbacks).callback(AfterLoadCallback.class, alfred1);
+		verify(callbacks, never()).callback(AfterLoadCallback.class, neumann1);
+
+		assertThat(all.next()).isEqualTo(neumann2);
+		verify(callbacks).callback(AfterLoadCallback.class, neumann1);
+	}
+
 	@Data
 	@AllArgsConstructor
 	private static class SampleEntity {
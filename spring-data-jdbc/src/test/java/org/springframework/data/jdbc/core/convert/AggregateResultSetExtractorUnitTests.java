@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+
+/**
+ * Unit tests for {@link AggregateResultSetExtractor}.
+ *
+ * @author Tobias Lindner
+ */
+public class AggregateResultSetExtractorUnitTests {
+
+	static final List<String> COLUMNS = asList("ID", "NAME", "LIST_NAME", "LIST_PARENT", "LIST_PARENT_KEY", "SET_ID",
+			"SET_NAME", "SET_PARENT");
+
+	RelationalMappingContext context = new JdbcMappingContext();
+	RelationResolver relationResolver = mock(RelationResolver.class);
+	JdbcConverter converter = new BasicJdbcConverter(context, relationResolver, new JdbcCustomConversions(),
+			JdbcTypeFactory.unsupported(), IdentifierProcessing.ANSI);
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void assemblesAggregatesFromJoinedRows() throws SQLException {
+
+		ResultSet resultSet = mockResultSet(COLUMNS, //
+				1L, "one", "b", 1L, 1, 11L, "x", 1L, //
+				1L, "one", "a", 1L, 0, 11L, "x", 1L, //
+				1L, "one", "b", 1L, 1, 12L, "y", 1L, //
+				1L, "one", "a", 1L, 0, 12L, "y", 1L, //
+				2L, "two", null, null, null, null, null, null);
+
+		AggregateResultSetExtractor<Parent> extractor = new AggregateResultSetExtractor<>(context, converter,
+				(RelationalPersistentEntity<Parent>) context.getRequiredPersistentEntity(Parent.class),
+				IdentifierProcessing.ANSI);
+
+		List<Parent> parents = extractor.extractData(resultSet);
+
+		assertThat(parents).extracting(p -> p.name).containsExactly("one", "two");
+		assertThat(parents.get(0).list).extracting(c -> c.name).containsExactly("a", "b");
+		assertThat(parents.get(0).set).extracting(e -> e.id).containsExactlyInAnyOrder(11L, 12L);
+		assertThat(parents.get(1).list).isEmpty();
+		assertThat(parents.get(1).set).isEmpty();
+
+		verifyNoMoreInteractions(relationResolver);
+	}
+
+	@Test
+	public void aggregatesWithSetsOfEntitiesWithoutIdAreNotSupported() {
+
+		assertThat(AggregateResultSetExtractor.supports(context, context.getRequiredPersistentEntity(Parent.class)))
+				.isTrue();
+		assertThat(AggregateResultSetExtractor.supports(context,
+				context.getRequiredPersistentEntity(ParentWithSetOfChildren.class))).isFalse();
+	}
+
+	private static ResultSet mockResultSet(List<String> columns, Object... values) throws SQLException {
+
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+		when(metaData.getColumnCount()).thenReturn(columns.size());
+		when(metaData.getColumnLabel(anyInt())).thenAnswer(invocation -> columns.get(invocation.<Integer> getArgument(0) - 1));
+
+		int[] row = { -1 };
+
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getMetaData()).thenReturn(metaData);
+		when(resultSet.next()).thenAnswer(invocation -> ++row[0] * columns.size() < values.length);
+		when(resultSet.getObject(anyInt()))
+				.thenAnswer(invocation -> values[row[0] * columns.size() + invocation.<Integer> getArgument(0) - 1]);
+		when(resultSet.getObject(anyString())).thenAnswer(invocation -> values[row[0] * columns.size()
+				+ columns.indexOf(invocation.<String> getArgument(0).toUpperCase())]);
+
+		return resultSet;
+	}
+
+	static class Parent {
+
+		@Id Long id;
+		String name;
+		List<Child> list;
+		Set<Element> set;
+	}
+
+	static class Child {
+		String name;
+	}
+
+	static class Element {
+
+		@Id Long id;
+		String name;
+	}
+
+	static class ParentWithSetOfChildren {
+
+		@Id Long id;
+		Set<Child> children;
+	}
+}
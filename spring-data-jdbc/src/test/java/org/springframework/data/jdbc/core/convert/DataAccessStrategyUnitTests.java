@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import lombok.AllArgsConstructor;
+
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.relational.core.query.Keyset;
+
+/**
+ * Unit tests for the default methods of {@link DataAccessStrategy}.
+ *
+ * @author Tobias Lindner
+ */
+public class DataAccessStrategyUnitTests {
+
+	DataAccessStrategy strategy = mock(DataAccessStrategy.class, CALLS_REAL_METHODS);
+
+	@Test
+	public void insertOfMultipleInstancesInsertsEachInstance() {
+
+		doReturn(1L).when(strategy).insert("one", String.class, Identifier.empty());
+		doReturn(2L).when(strategy).insert("two", String.class, Identifier.empty());
+
+		Object[] ids = strategy.insert(asList(InsertSubject.describedBy("one", Identifier.empty()),
+				InsertSubject.describedBy("two", Identifier.empty())), String.class);
+
+		assertThat(ids).containsExactly(1L, 2L);
+	}
+
+	@Test
+	public void updateOfMultipleInstancesUpdatesEachInstance() {
+
+		doReturn(true).when(strategy).update("one", String.class);
+		doReturn(false).when(strategy).update("two", String.class);
+
+		assertThat(strategy.update(asList("one", "two"), String.class)).containsExactly(true, false);
+	}
+
+	@Test
+	public void upsertInsertsWhenUpdateDoesNotAffectARow() {
+
+		doReturn(false).when(strategy).update("one", String.class);
+		doReturn(null).when(strategy).insert("one", String.class, Identifier.empty());
+
+		strategy.upsert("one", String.class);
+
+		verify(strategy).insert("one", String.class, Identifier.empty());
+	}
+
+	@Test
+	public void estimateCountCounts() {
+
+		doReturn(23L).when(strategy).count(String.class);
+
+		assertThat(strategy.estimateCount(String.class)).isEqualTo(23L);
+	}
+
+	@Test
+	public void streamAllStreamsTheResultOfFindAll() {
+
+		doReturn(asList("one", "two")).when(strategy).findAll(String.class);
+
+		assertThat(strategy.streamAll(String.class).collect(Collectors.toList())).containsExactly("one", "two");
+	}
+
+	@Test
+	public void findAllWithKeysetSkipsEntitiesNotFollowingTheKeyset() {
+
+		Sort sort = Sort.by("name").and(Sort.by(Sort.Direction.DESC, "id"));
+		doReturn(asList(new Person(3L, "a"), new Person(2L, "b"), new Person(1L, "b"), new Person(4L, "c"),
+				new Person(5L, "d"))).when(strategy).findAll(Person.class, sort);
+
+		assertThat(strategy.findAll(Person.class, sort, Keyset.of("b", 2L), 2)) //
+				.extracting(p -> p.id) //
+				.containsExactly(1L, 4L);
+	}
+
+	@Test
+	public void findAllWithInitialKeysetStartsWithTheFirstEntity() {
+
+		Sort sort = Sort.by("id");
+		doReturn(asList(new Person(1L, "a"), new Person(2L, "b"), new Person(3L, "c"))).when(strategy)
+				.findAll(Person.class, sort);
+
+		assertThat(strategy.findAll(Person.class, sort, Keyset.initial(), 2)) //
+				.extracting(p -> p.id) //
+				.containsExactly(1L, 2L);
+	}
+
+	@AllArgsConstructor
+	static class Person {
+
+		Long id;
+		String name;
+	}
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import static java.util.Arrays.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -24,8 +25,19 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 
 import lombok.Value;
 import org.junit.Before;
@@ -33,15 +45,25 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 
 import org.springframework.core.convert.converter.Converter;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.convert.ReadingConverter;
 import org.springframework.data.convert.WritingConverter;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.KeyHolder;
@@ -181,12 +203,546 @@ public class DefaultDataAccessStrategyUnitTests {
 		assertThat(paramSourceCaptor.getValue().getValue("id")).isEqualTo(rawId);
 	}
 
+	@Test
+	public void insertOfMultipleEntitiesUsesSingleBatch() {
+
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<SqlParameterSource[]> batchArgsCaptor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+
+		Object[] ids = accessStrategy.insert(asList( //
+				InsertSubject.describedBy(new DummyEntity(ORIGINAL_ID), Identifier.empty()), //
+				InsertSubject.describedBy(new DummyEntity(ORIGINAL_ID + 1), Identifier.empty())), //
+				DummyEntity.class);
+
+		verify(namedJdbcOperations).batchUpdate(sqlCaptor.capture(), batchArgsCaptor.capture());
+
+		assertThat(sqlCaptor.getValue()) //
+				.containsSubsequence("INSERT INTO \"DUMMY_ENTITY\" (", "\"ID\"", ") VALUES (", ":id", ")");
+		assertThat(batchArgsCaptor.getValue()).extracting(it -> it.getValue("id")).containsExactly(ORIGINAL_ID,
+				ORIGINAL_ID + 1);
+		assertThat(ids).containsExactly(null, null);
+	}
+
+	@Test
+	public void insertOfManyEntitiesWithoutGeneratedIdsUsesMultiRowInsert() {
+
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+		ArgumentCaptor<SqlParameterSource[]> batchArgsCaptor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+
+		List<InsertSubject<DummyEntity>> insertSubjects = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			insertSubjects.add(InsertSubject.describedBy(new DummyEntity(ORIGINAL_ID + i), Identifier.empty()));
+		}
+
+		accessStrategy.insert(insertSubjects, DummyEntity.class);
+
+		verify(namedJdbcOperations, times(2)).batchUpdate(sqlCaptor.capture(), batchArgsCaptor.capture());
+
+		assertThat(sqlCaptor.getAllValues().get(0)) //
+				.startsWith("INSERT INTO \"DUMMY_ENTITY\" (\"ID\") VALUES (:id_0), (:id_1), ") //
+				.endsWith("(:id_7)");
+		assertThat(batchArgsCaptor.getAllValues().get(0)).hasSize(1);
+		assertThat(batchArgsCaptor.getAllValues().get(0)[0].getValue("id_7")).isEqualTo(ORIGINAL_ID + 7);
+
+		// the remaining rows get inserted using a batch of single row inserts.
+		assertThat(sqlCaptor.getAllValues().get(1)).isEqualTo("INSERT INTO \"DUMMY_ENTITY\" (\"ID\") VALUES (:id)");
+		assertThat(batchArgsCaptor.getAllValues().get(1)).extracting(it -> it.getValue("id"))
+				.containsExactly(ORIGINAL_ID + 8, ORIGINAL_ID + 9);
+	}
+
+	@Test
+	public void insertOfManyEntitiesWithGeneratedIdsUsesReturningClauseOfTheDialect() {
+
+		DefaultDataAccessStrategy postgresAccessStrategy = new DefaultDataAccessStrategy( //
+				new SqlGeneratorSource(context, converter, PostgresDialect.INSTANCE), //
+				context, //
+				converter, //
+				namedJdbcOperations);
+
+		List<Object> generatedIds = new ArrayList<>();
+		List<InsertSubject<EntityWithBoolean>> insertSubjects = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+
+			generatedIds.add(ORIGINAL_ID + i);
+			insertSubjects.add(InsertSubject.describedBy(new EntityWithBoolean(null, true), Identifier.empty()));
+		}
+
+		when(namedJdbcOperations.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(generatedIds);
+
+		Object[] ids = postgresAccessStrategy.insert(insertSubjects, EntityWithBoolean.class);
+
+		verify(namedJdbcOperations).query(
+				eq("INSERT INTO \"entity_with_boolean\" (\"flag\") VALUES (:flag_0), (:flag_1), (:flag_2), (:flag_3), "
+						+ "(:flag_4), (:flag_5), (:flag_6), (:flag_7) RETURNING \"id\""),
+				any(SqlParameterSource.class), any(RowMapper.class));
+		assertThat(ids).containsExactly(generatedIds.toArray());
+	}
+
+	@Test
+	public void generatedIdsGetAssignedToTheRowsInTheOrderReturnedByTheDialect() throws SQLException {
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		returnGeneratedKeysFromBatch(108L, 109L);
+
+		DefaultDataAccessStrategy postgresAccessStrategy = new DefaultDataAccessStrategy( //
+				new SqlGeneratorSource(context, converter, PostgresDialect.INSTANCE), //
+				context, //
+				converter, //
+				namedJdbcOperations);
+
+		List<InsertSubject<EntityWithBoolean>> insertSubjects = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			insertSubjects.add(InsertSubject.describedBy(new EntityWithBoolean(null, i % 3 == 0), Identifier.empty()));
+		}
+
+		when(namedJdbcOperations.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(asList(100L, 101L, 102L, 103L, 104L, 105L, 106L, 107L));
+
+		Object[] ids = postgresAccessStrategy.insert(insertSubjects, EntityWithBoolean.class);
+
+		// the first eight rows share a statement returning their ids, the remaining two get inserted by a batch.
+		assertThat(ids).containsExactly(100L, 101L, 102L, 103L, 104L, 105L, 106L, 107L, 108L, 109L);
+
+		verify(namedJdbcOperations).query(anyString(), paramSourceCaptor.capture(), any(RowMapper.class));
+		for (int i = 0; i < 8; i++) {
+			assertThat(paramSourceCaptor.getValue().getValue("flag_" + i)).isEqualTo(i % 3 == 0);
+		}
+	}
+
+	@Test
+	public void generatedIdsGetReturnedBySingleRowInsertsWhenTheDialectDoesNotPreserveTheRowOrder() {
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		when(namedJdbcOperations.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(asList(100L), asList(101L), asList(102L), asList(103L), asList(104L), asList(105L), asList(106L),
+						asList(107L));
+
+		DefaultDataAccessStrategy sqlServerAccessStrategy = new DefaultDataAccessStrategy( //
+				new SqlGeneratorSource(context, converter, SqlServerDialect.INSTANCE), //
+				context, //
+				converter, //
+				namedJdbcOperations);
+
+		Object[] ids = sqlServerAccessStrategy.insert(entityWithBooleanInsertSubjects(8), EntityWithBoolean.class);
+
+		assertThat(ids).containsExactly(100L, 101L, 102L, 103L, 104L, 105L, 106L, 107L);
+		verify(namedJdbcOperations, times(8)).query(
+				eq("INSERT INTO \"ENTITY_WITH_BOOLEAN\" (\"FLAG\") OUTPUT INSERTED.\"ID\" VALUES (:FLAG_0)"),
+				any(SqlParameterSource.class), any(RowMapper.class));
+		verify(jdbcOperations, never()).execute(any(PreparedStatementCreator.class), any(PreparedStatementCallback.class));
+	}
+
+	@Test
+	public void generatedIdsGetObtainedRowByRowWhenTheDriverDoesNotReturnKeysForBatches() throws SQLException {
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		PreparedStatement statement = executePreparedStatementsOn(mock(Connection.class));
+		when(statement.executeUpdate()).thenReturn(1);
+		when(statement.getGeneratedKeys()).thenReturn(generatedKeys(100L), generatedKeys(101L), generatedKeys(102L));
+
+		DefaultDataAccessStrategy hsqlDbAccessStrategy = new DefaultDataAccessStrategy( //
+				new SqlGeneratorSource(context, converter, HsqlDbDialect.INSTANCE), //
+				context, //
+				converter, //
+				namedJdbcOperations);
+
+		Object[] ids = hsqlDbAccessStrategy.insert(entityWithBooleanInsertSubjects(3), EntityWithBoolean.class);
+
+		assertThat(ids).containsExactly(100L, 101L, 102L);
+		verify(statement, times(3)).executeUpdate();
+		verify(statement, never()).executeBatch();
+	}
+
+	@Test
+	public void batchGetsRepeatedRowByRowWhenTheDriverReturnsTooFewGeneratedKeys() throws SQLException {
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = executePreparedStatementsOn(connection);
+		when(statement.executeBatch()).thenReturn(new int[] { 1, 1 });
+		when(statement.executeUpdate()).thenReturn(1);
+		when(statement.getGeneratedKeys()).thenReturn(generatedKeys(200L), generatedKeys(108L), generatedKeys(109L));
+
+		Object[] ids = createPostgresAccessStrategy().insert(entityWithBooleanInsertSubjects(2), EntityWithBoolean.class);
+
+		assertThat(ids).containsExactly(108L, 109L);
+		verify(connection).rollback(any(Savepoint.class));
+		verify(statement, times(2)).executeUpdate();
+	}
+
+	@Test
+	public void batchWithTooFewGeneratedKeysFailsOutsideOfATransaction() throws SQLException {
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		Connection connection = mock(Connection.class);
+		when(connection.getAutoCommit()).thenReturn(true);
+		PreparedStatement statement = executePreparedStatementsOn(connection);
+		when(statement.executeBatch()).thenReturn(new int[] { 1, 1 });
+		when(statement.getGeneratedKeys()).thenReturn(generatedKeys(200L));
+
+		DefaultDataAccessStrategy postgresAccessStrategy = createPostgresAccessStrategy();
+
+		assertThatExceptionOfType(DataRetrievalFailureException.class).isThrownBy(
+				() -> postgresAccessStrategy.insert(entityWithBooleanInsertSubjects(2), EntityWithBoolean.class));
+		verify(connection, never()).setSavepoint();
+		verify(statement, never()).executeUpdate();
+	}
+
+	@Test
+	public void batchOfInsertsWithoutGeneratedIdsGetsCopiedWhenEnabled() {
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		when(jdbcOperations.execute(any(ConnectionCallback.class))).thenReturn(true);
+
+		DefaultDataAccessStrategy postgresAccessStrategy = createPostgresAccessStrategy(
+				DataAccessOptions.DEFAULT.withCopyBulkInserts(true));
+
+		postgresAccessStrategy.insert(dummyEntityInsertSubjects(10), DummyEntity.class);
+
+		verify(jdbcOperations).execute(any(ConnectionCallback.class));
+		verify(namedJdbcOperations, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+	}
+
+	@Test
+	public void batchOfInsertsFallsBackToInsertStatementsWhenRowsCannotBeCopied() {
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+		when(jdbcOperations.execute(any(ConnectionCallback.class))).thenReturn(false);
+
+		DefaultDataAccessStrategy postgresAccessStrategy = createPostgresAccessStrategy(
+				DataAccessOptions.DEFAULT.withCopyBulkInserts(true));
+
+		postgresAccessStrategy.insert(dummyEntityInsertSubjects(8), DummyEntity.class);
+
+		verify(jdbcOperations).execute(any(ConnectionCallback.class));
+		verify(namedJdbcOperations).batchUpdate(
+				startsWith("INSERT INTO \"dummy_entity\" (\"id\") VALUES (:id_0), (:id_1)"),
+				any(SqlParameterSource[].class));
+	}
+
+	@Test
+	public void batchOfInsertsDoesNotGetCopiedUnlessEnabled() {
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+
+		createPostgresAccessStrategy().insert(dummyEntityInsertSubjects(8), DummyEntity.class);
+
+		verify(jdbcOperations, never()).execute(any(ConnectionCallback.class));
+		verify(namedJdbcOperations).batchUpdate(
+				startsWith("INSERT INTO \"dummy_entity\" (\"id\") VALUES (:id_0), (:id_1)"),
+				any(SqlParameterSource[].class));
+	}
+
+	@Test
+	public void batchOfInsertsDoesNotGetCopiedForOtherDialects() {
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+
+		createAccessStrategy(DataAccessOptions.DEFAULT.withCopyBulkInserts(true)) //
+				.insert(dummyEntityInsertSubjects(8), DummyEntity.class);
+
+		verify(jdbcOperations, never()).execute(any(ConnectionCallback.class));
+		verify(namedJdbcOperations).batchUpdate(
+				startsWith("INSERT INTO \"DUMMY_ENTITY\" (\"ID\") VALUES (:id_0), (:id_1)"),
+				any(SqlParameterSource[].class));
+	}
+
+	@Test
+	public void batchOfInsertsWithGeneratedIdsDoesNotGetCopied() {
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+
+		DefaultDataAccessStrategy postgresAccessStrategy = createPostgresAccessStrategy(
+				DataAccessOptions.DEFAULT.withCopyBulkInserts(true));
+
+		List<InsertSubject<EntityWithBoolean>> insertSubjects = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			insertSubjects.add(InsertSubject.describedBy(new EntityWithBoolean(null, true), Identifier.empty()));
+		}
+
+		when(namedJdbcOperations.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(asList(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L));
+
+		postgresAccessStrategy.insert(insertSubjects, EntityWithBoolean.class);
+
+		verify(jdbcOperations, never()).execute(any(ConnectionCallback.class));
+		verify(namedJdbcOperations).query(endsWith("RETURNING \"id\""), any(SqlParameterSource.class),
+				any(RowMapper.class));
+	}
+
+	@Test
+	public void updateOfAnUnchangedEntityChecksThatTheRowExists() {
+
+		DataAccessOptions options = DataAccessOptions.DEFAULT.withEntitySnapshots(true);
+		converter = new BasicJdbcConverter(context, new DelegatingDataAccessStrategy(), new JdbcCustomConversions(),
+				new DefaultJdbcTypeFactory(jdbcOperations), HsqlDbDialect.INSTANCE.getIdentifierProcessing(), options);
+		DefaultDataAccessStrategy snapshottingAccessStrategy = createAccessStrategy(options);
+
+		EntityWithBoolean entity = new EntityWithBoolean(ORIGINAL_ID, true);
+		converter.getEntitySnapshots().record(context.getRequiredPersistentEntity(EntityWithBoolean.class), entity);
+
+		when(namedJdbcOperations.queryForObject(anyString(), any(SqlParameterSource.class), eq(Boolean.class)))
+				.thenReturn(false);
+
+		assertThat(snapshottingAccessStrategy.update(entity, EntityWithBoolean.class)).isFalse();
+		verify(namedJdbcOperations).queryForObject(startsWith("SELECT COUNT("), any(SqlParameterSource.class),
+				eq(Boolean.class));
+		verify(namedJdbcOperations, never()).update(anyString(), any(SqlParameterSource.class));
+	}
+
+	@Test
+	public void deleteOfMultipleVersionedEntitiesFailsWhenAnyVersionCheckFails() {
+
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenReturn(new int[] { 1, 0 });
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> accessStrategy.deleteWithVersion(asList(ORIGINAL_ID, ORIGINAL_ID + 1), VersionedEntity.class,
+						asList((Number) 1L, 2L)));
+	}
+
+	@Test
+	public void deleteOfMultipleVersionedEntitiesChecksTheRowsAreGoneWhenDriverReportsNoRowCounts() {
+
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO });
+		when(namedJdbcOperations.queryForObject(anyString(), any(SqlParameterSource.class), eq(Boolean.class)))
+				.thenReturn(false);
+
+		accessStrategy.deleteWithVersion(asList(ORIGINAL_ID, ORIGINAL_ID + 1), VersionedEntity.class,
+				asList((Number) 1L, 2L));
+
+		verify(namedJdbcOperations, times(2)).queryForObject(startsWith("SELECT COUNT("), paramSourceCaptor.capture(),
+				eq(Boolean.class));
+		assertThat(paramSourceCaptor.getAllValues()).extracting(it -> it.getValue("id")).containsExactly(ORIGINAL_ID,
+				ORIGINAL_ID + 1);
+	}
+
+	@Test
+	public void deleteOfMultipleVersionedEntitiesFailsWhenDriverReportsNoRowCountAndTheRowStillExists() {
+
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO });
+		when(namedJdbcOperations.queryForObject(anyString(), any(SqlParameterSource.class), eq(Boolean.class)))
+				.thenReturn(false, true);
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> accessStrategy.deleteWithVersion(asList(ORIGINAL_ID, ORIGINAL_ID + 1), VersionedEntity.class,
+						asList((Number) 1L, 2L)));
+	}
+
+	@Test
+	public void updateOfMultipleVersionedEntitiesFailsWhenDriverReportsNoRowCountAndTheVersionDidNotChange() {
+
+		VersionedEntity first = new VersionedEntity();
+		first.id = ORIGINAL_ID;
+		first.version = 2L;
+		VersionedEntity second = new VersionedEntity();
+		second.id = ORIGINAL_ID + 1;
+		second.version = 3L;
+
+		when(namedJdbcOperations.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+				.thenReturn(new int[] { 1, Statement.SUCCESS_NO_INFO });
+		when(namedJdbcOperations.queryForObject(anyString(), any(SqlParameterSource.class), eq(Boolean.class)))
+				.thenReturn(false);
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class).isThrownBy(() -> accessStrategy
+				.updateWithVersion(asList(first, second), VersionedEntity.class, asList((Number) 1L, 2L)));
+
+		// only the row with the unknown update count gets checked for the new version
+		verify(namedJdbcOperations).queryForObject(
+				contains("\"VERSION\" = :___oldOptimisticLockingVersion"), paramSourceCaptor.capture(), eq(Boolean.class));
+		assertThat(paramSourceCaptor.getValue().getValue("id")).isEqualTo(ORIGINAL_ID + 1);
+		assertThat(paramSourceCaptor.getValue().getValue("___oldOptimisticLockingVersion")).isEqualTo(3L);
+	}
+
+	@Test
+	public void deleteOfManyIdsGetsSplitIntoInListsOfLimitedSize() {
+
+		List<Long> ids = new ArrayList<>();
+		for (long i = 0; i < 1500; i++) {
+			ids.add(i);
+		}
+
+		accessStrategy.delete(ids, DummyEntity.class);
+
+		verify(namedJdbcOperations, times(2)).update(eq("DELETE FROM \"DUMMY_ENTITY\" WHERE \"DUMMY_ENTITY\".\"ID\" IN (:ids)"),
+				paramSourceCaptor.capture());
+		assertThat(paramSourceCaptor.getAllValues()).extracting(it -> ((List<?>) it.getValue("ids")).size())
+				.containsExactly(1000, 500);
+	}
+
+	@Test
+	public void deleteByIdBindsIdByPositionWhenConfigured() throws SQLException {
+
+		when(namedJdbcOperations.getJdbcOperations()).thenReturn(jdbcOperations);
+
+		createAccessStrategy(DataAccessOptions.DEFAULT.withPositionalParameters(true)) //
+				.delete(ORIGINAL_ID, DummyEntity.class);
+
+		ArgumentCaptor<PreparedStatementSetter> setterCaptor = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+		verify(jdbcOperations).update(eq("DELETE FROM \"DUMMY_ENTITY\" WHERE \"DUMMY_ENTITY\".\"ID\" = ?"),
+				setterCaptor.capture());
+		verify(namedJdbcOperations, never()).update(anyString(), any(SqlParameterSource.class));
+
+		PreparedStatement ps = mock(PreparedStatement.class);
+		setterCaptor.getValue().setValues(ps);
+		verify(ps).setObject(1, ORIGINAL_ID, Types.BIGINT);
+	}
+
+	@Test
+	public void padsInListsWhenConfigured() {
+
+		createAccessStrategy(DataAccessOptions.DEFAULT.withInListPadding(true)) //
+				.findAllById(asList(1L, 2L, 3L), DummyEntity.class);
+
+		verify(namedJdbcOperations).query(anyString(), paramSourceCaptor.capture(), any(RowMapper.class));
+		assertThat((List<?>) paramSourceCaptor.getValue().getValue("ids")).containsExactly(1L, 2L, 3L, 3L);
+	}
+
+	@Test
+	public void findAllByIdBindsIdsAsArrayWhenConfiguredAndSupported() {
+
+		Array array = mock(Array.class);
+		when(jdbcOperations.execute(any(ConnectionCallback.class))).thenReturn(array);
+
+		createPostgresAccessStrategy(DataAccessOptions.DEFAULT.withInListArrays(true)) //
+				.findAllById(asList(1L, 2L, 3L), DummyEntity.class);
+
+		ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+		verify(namedJdbcOperations).query(sqlCaptor.capture(), paramSourceCaptor.capture(), any(RowMapper.class));
+		assertThat(sqlCaptor.getValue()).endsWith("WHERE \"dummy_entity\".\"id\" = ANY(:ids)");
+		assertThat(paramSourceCaptor.getValue().getValue("ids")).isSameAs(array);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findAllByIdCreatesArrayOfTheIdColumnType() throws SQLException {
+
+		DefaultDataAccessStrategy postgresAccessStrategy = createPostgresAccessStrategy(
+				DataAccessOptions.DEFAULT.withInListArrays(true));
+
+		postgresAccessStrategy.findAllById(asList(1L, 2L, 3L), DummyEntity.class);
+
+		ArgumentCaptor<ConnectionCallback<Array>> callbackCaptor = ArgumentCaptor.forClass(ConnectionCallback.class);
+		verify(jdbcOperations).execute(callbackCaptor.capture());
+
+		Connection connection = mock(Connection.class);
+		callbackCaptor.getValue().doInConnection(connection);
+
+		verify(connection).createArrayOf(eq("BIGINT"), aryEq(new Long[] { 1L, 2L, 3L }));
+	}
+
+	@Test
+	public void findAllByIdRejectsNullIdsWhenBindingAnArray() {
+
+		DefaultDataAccessStrategy postgresAccessStrategy = createPostgresAccessStrategy(
+				DataAccessOptions.DEFAULT.withInListArrays(true));
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> postgresAccessStrategy.findAllById(asList(1L, null, 3L), DummyEntity.class));
+	}
+
+	private DefaultDataAccessStrategy createPostgresAccessStrategy() {
+		return createPostgresAccessStrategy(DataAccessOptions.DEFAULT);
+	}
+
+	private DefaultDataAccessStrategy createPostgresAccessStrategy(DataAccessOptions options) {
+		return createAccessStrategy(PostgresDialect.INSTANCE, options);
+	}
+
+	private DefaultDataAccessStrategy createAccessStrategy(DataAccessOptions options) {
+		return createAccessStrategy(HsqlDbDialect.INSTANCE, options);
+	}
+
+	private DefaultDataAccessStrategy createAccessStrategy(Dialect dialect, DataAccessOptions options) {
+
+		return new DefaultDataAccessStrategy( //
+				new SqlGeneratorSource(context, converter, dialect), //
+				context, //
+				converter, //
+				namedJdbcOperations, //
+				options);
+	}
+
+	private static List<InsertSubject<DummyEntity>> dummyEntityInsertSubjects(int count) {
+
+		List<InsertSubject<DummyEntity>> insertSubjects = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			insertSubjects.add(InsertSubject.describedBy(new DummyEntity(ORIGINAL_ID + i), Identifier.empty()));
+		}
+		return insertSubjects;
+	}
+
+	private static List<InsertSubject<EntityWithBoolean>> entityWithBooleanInsertSubjects(int count) {
+
+		List<InsertSubject<EntityWithBoolean>> insertSubjects = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			insertSubjects.add(InsertSubject.describedBy(new EntityWithBoolean(null, true), Identifier.empty()));
+		}
+		return insertSubjects;
+	}
+
+	/**
+	 * Lets a batch of inserts executed via {@link JdbcOperations#execute(PreparedStatementCreator,
+	 * PreparedStatementCallback)} return the given generated keys.
+	 */
+	private void returnGeneratedKeysFromBatch(Object... keys) throws SQLException {
+
+		PreparedStatement statement = executePreparedStatementsOn(mock(Connection.class));
+		when(statement.executeBatch()).thenReturn(new int[keys.length]);
+		when(statement.getGeneratedKeys()).thenReturn(generatedKeys(keys));
+	}
+
+	/**
+	 * Lets statements executed via {@link JdbcOperations#execute(PreparedStatementCreator, PreparedStatementCallback)}
+	 * use the returned {@link PreparedStatement} of the given {@link Connection}.
+	 */
+	@SuppressWarnings("unchecked")
+	private PreparedStatement executePreparedStatementsOn(Connection connection) throws SQLException {
+
+		when(connection.setSavepoint()).thenReturn(mock(Savepoint.class));
+
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(statement.getConnection()).thenReturn(connection);
+
+		when(jdbcOperations.execute(any(PreparedStatementCreator.class), any(PreparedStatementCallback.class)))
+				.thenAnswer(invocation -> invocation.<PreparedStatementCallback<int[]>> getArgument(1)
+						.doInPreparedStatement(statement));
+
+		return statement;
+	}
+
+	private static ResultSet generatedKeys(Object... keys) throws SQLException {
+
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+		when(metaData.getColumnCount()).thenReturn(1);
+		when(metaData.getColumnLabel(1)).thenReturn("id");
+
+		Boolean[] hasNext = new Boolean[keys.length];
+		Arrays.fill(hasNext, 0, keys.length - 1, true);
+		hasNext[keys.length - 1] = false;
+
+		ResultSet keyResultSet = mock(ResultSet.class);
+		when(keyResultSet.getMetaData()).thenReturn(metaData);
+		when(keyResultSet.next()).thenReturn(true, hasNext);
+		when(keyResultSet.getObject(1)).thenReturn(keys[0], Arrays.copyOfRange(keys, 1, keys.length));
+
+		return keyResultSet;
+	}
+
 	@RequiredArgsConstructor
 	private static class DummyEntity {
 
 		@Id private final Long id;
 	}
 
+	private static class VersionedEntity {
+
+		@Id Long id;
+		@Version Long version;
+	}
+
 	@AllArgsConstructor
 	private static class EntityWithBoolean {
 
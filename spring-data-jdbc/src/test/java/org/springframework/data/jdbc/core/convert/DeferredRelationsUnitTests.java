@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.jdbc.core.PropertyPathTestingUtils.*;
+import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+
+/**
+ * Unit tests for {@link DeferredRelations}.
+ *
+ * @author Tobias Lindner
+ */
+public class DeferredRelationsUnitTests {
+
+	RelationalMappingContext context = new JdbcMappingContext();
+	PersistentPropertyPath<RelationalPersistentProperty> path = toPath("children", Parent.class, context);
+	DeferredRelations deferredRelations = new DeferredRelations();
+
+	@Test
+	public void relationsOfTheSamePathGetGroupedWithDistinctParentIds() {
+
+		deferredRelations.add(path, quoted("PARENT"), 1L, entities -> {});
+		deferredRelations.add(path, quoted("PARENT"), 2L, entities -> {});
+		deferredRelations.add(path, quoted("PARENT"), 1L, entities -> {});
+
+		List<DeferredRelations.Group> groups = deferredRelations.takePending();
+
+		assertThat(groups).hasSize(1);
+		assertThat(groups.get(0).getParentIds()).containsExactly(1L, 2L);
+		assertThat(deferredRelations.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void resolvingHandsTheEntitiesToTheirParents() {
+
+		Map<Object, Iterable<Object>> resolved = new HashMap<>();
+
+		deferredRelations.add(path, quoted("PARENT"), 1L, entities -> resolved.put(1L, entities));
+		deferredRelations.add(path, quoted("PARENT"), 2L, entities -> resolved.put(2L, entities));
+
+		Map<Object, List<Object>> entitiesByParentId = new HashMap<>();
+		entitiesByParentId.put(1L, asList("one", "two"));
+
+		deferredRelations.takePending().get(0).resolve(entitiesByParentId);
+
+		assertThat(resolved.get(1L)).containsExactly("one", "two");
+		assertThat(resolved.get(2L)).isEmpty();
+	}
+
+	static class Parent {
+
+		@Id Long id;
+		List<Child> children;
+	}
+
+	static class Child {
+		String name;
+	}
+}
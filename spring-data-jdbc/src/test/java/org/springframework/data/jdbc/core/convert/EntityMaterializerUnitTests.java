@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+
+/**
+ * Unit tests for {@link EntityMaterializer}.
+ *
+ * @author Tobias Lindner
+ */
+public class EntityMaterializerUnitTests {
+
+	RelationalMappingContext context = new JdbcMappingContext();
+	BasicJdbcConverter converter = new BasicJdbcConverter(context, mock(RelationResolver.class),
+			new JdbcCustomConversions(), JdbcTypeFactory.unsupported(), IdentifierProcessing.ANSI);
+
+	@Test
+	public void createsInstancesUsingConstructorAndSetters() throws SQLException {
+
+		ResultSet resultSet = mockResultSet(asList("ID", "NAME", "AGE"), //
+				1, "Alfred", 23L, //
+				2, "Bertha", 42L);
+		ResultSetAccessor accessor = new ResultSetAccessor(resultSet);
+		EntityMaterializer<Person> materializer = EntityMaterializer.create(planFor(Person.class), converter);
+
+		assertThat(materializer).isNotNull();
+
+		resultSet.next();
+		Person first = materializer.materialize(accessor);
+		resultSet.next();
+		Person second = materializer.materialize(accessor);
+
+		assertThat(first.id).isEqualTo(1L);
+		assertThat(first.name).isEqualTo("Alfred");
+		assertThat(first.age).isEqualTo(23);
+		assertThat(second.id).isEqualTo(2L);
+		assertThat(second.age).isEqualTo(42);
+		verify(resultSet, times(1)).getMetaData();
+	}
+
+	@Test
+	public void absentColumnsDoNotOverwriteDefaults() throws SQLException {
+
+		ResultSet resultSet = mockResultSet(asList("ID"), 1L);
+		ResultSetAccessor accessor = new ResultSetAccessor(resultSet);
+		EntityMaterializer<WithDefault> materializer = EntityMaterializer.create(planFor(WithDefault.class), converter);
+
+		resultSet.next();
+		WithDefault instance = materializer.materialize(accessor);
+
+		assertThat(instance.id).isEqualTo(1L);
+		assertThat(instance.name).isEqualTo("default");
+	}
+
+	@Test
+	public void entitiesReferencingOtherEntitiesAreNotSupported() {
+		assertThat(EntityMaterializer.<WithReference> create(planFor(WithReference.class), converter)).isNull();
+	}
+
+	private ReadingPlan planFor(Class<?> type) {
+		return new ReadingPlan(new PersistentPropertyPathExtension(context, context.getRequiredPersistentEntity(type)),
+				IdentifierProcessing.ANSI);
+	}
+
+	private static ResultSet mockResultSet(List<String> columns, Object... values) throws SQLException {
+
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+		when(metaData.getColumnCount()).thenReturn(columns.size());
+		when(metaData.getColumnLabel(anyInt())).thenAnswer(invocation -> columns.get(invocation.<Integer> getArgument(0) - 1));
+
+		int[] row = { -1 };
+
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getMetaData()).thenReturn(metaData);
+		when(resultSet.next()).thenAnswer(invocation -> ++row[0] * columns.size() < values.length);
+		when(resultSet.getObject(anyInt()))
+				.thenAnswer(invocation -> values[row[0] * columns.size() + invocation.<Integer> getArgument(0) - 1]);
+
+		return resultSet;
+	}
+
+	static class Person {
+
+		@Id final Long id;
+		final String name;
+		int age;
+
+		Person(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	static class WithDefault {
+
+		@Id Long id;
+		String name = "default";
+	}
+
+	static class WithReference {
+
+		@Id Long id;
+		WithDefault reference;
+	}
+}
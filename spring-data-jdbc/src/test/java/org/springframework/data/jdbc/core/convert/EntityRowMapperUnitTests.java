@@ -62,6 +62,7 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentEnti
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.repository.query.Param;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.util.Assert;
 import org.springframework.util.LinkedCaseInsensitiveMap;
 
@@ -102,6 +103,44 @@ public class EntityRowMapperUnitTests {
 				.containsExactly(ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
 	}
 
+	@Test
+	public void columnIndexGetsBuiltOncePerResultSetOfASingleExecution() throws SQLException {
+
+		ResultSet rs = mockResultSet(asList("ID", "NAME"), //
+				ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha", //
+				24L, "beta");
+		RowMapper<Trivial> rowMapper = createRowMapper(Trivial.class).forSingleExecution();
+
+		rs.next();
+		Trivial first = rowMapper.mapRow(rs, 0);
+		rs.next();
+		Trivial second = rowMapper.mapRow(rs, 1);
+
+		assertThat(first.name).isEqualTo("alpha");
+		assertThat(second.name).isEqualTo("beta");
+		verify(rs, times(1)).getMetaData();
+	}
+
+	@Test
+	public void sharedRowMapperDoesNotHoldOnToResultSets() throws SQLException {
+
+		EntityRowMapper<Trivial> rowMapper = createRowMapper(Trivial.class);
+
+		ResultSet first = mockResultSet(asList("ID", "NAME"), ID_FOR_ENTITY_NOT_REFERENCING_MAP, "alpha");
+		ResultSet second = mockResultSet(asList("NAME", "ID"), "beta", 24L);
+
+		first.next();
+		second.next();
+
+		// rows of different executions may get mapped in any order, like when the mapper is used by concurrent queries.
+		assertThat(rowMapper.mapRow(first, 0).name).isEqualTo("alpha");
+		assertThat(rowMapper.mapRow(second, 0).name).isEqualTo("beta");
+		assertThat(rowMapper.mapRow(first, 0).name).isEqualTo("alpha");
+
+		// the only state of the mapper is its configuration.
+		assertThat(rowMapper).hasNoNullFieldsOrPropertiesExcept("path", "identifier", "deferredRelations");
+	}
+
 	@Test // DATAJDBC-181
 	public void namingStrategyGetsHonored() throws SQLException {
 
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+/**
+ * Unit tests for {@link EntitySnapshots}.
+ *
+ * @author Tobias Lindner
+ */
+public class EntitySnapshotsUnitTests {
+
+	RelationalMappingContext context = new JdbcMappingContext();
+	RelationalPersistentEntity<?> persistentEntity = context.getRequiredPersistentEntity(DummyEntity.class);
+	EntitySnapshots snapshots = new EntitySnapshots(context);
+
+	@Test
+	public void withoutSnapshotChangedColumnsAreUnknown() {
+		assertThat(snapshots.getChangedColumns(persistentEntity, new DummyEntity())).isNull();
+	}
+
+	@Test
+	public void unchangedEntityHasNoChangedColumns() {
+
+		DummyEntity entity = new DummyEntity();
+		entity.name = "name";
+
+		snapshots.record(persistentEntity, entity);
+
+		assertThat(snapshots.getChangedColumns(persistentEntity, entity)).isEmpty();
+	}
+
+	@Test
+	public void detectsChangedColumns() {
+
+		DummyEntity entity = new DummyEntity();
+		entity.name = "name";
+		entity.content = new byte[] { 1, 2 };
+
+		snapshots.record(persistentEntity, entity);
+
+		entity.name = "other name";
+		entity.content[0] = 3;
+
+		assertThat(snapshots.getChangedColumns(persistentEntity, entity)).containsExactlyInAnyOrder( //
+				persistentEntity.getRequiredPersistentProperty("name").getColumnName(), //
+				persistentEntity.getRequiredPersistentProperty("content").getColumnName());
+	}
+
+	@Test
+	public void snapshotsAreBoundToTheInstance() {
+
+		DummyEntity entity = new DummyEntity();
+		entity.id = 23L;
+
+		DummyEntity equalEntity = new DummyEntity();
+		equalEntity.id = 23L;
+
+		snapshots.record(persistentEntity, entity);
+
+		assertThat(snapshots.getChangedColumns(persistentEntity, equalEntity)).isNull();
+	}
+
+	@Test
+	public void snapshotsRecordedInARolledBackTransactionGetDiscarded() {
+
+		DummyEntity entity = new DummyEntity();
+		entity.name = "name";
+
+		completeTransaction(() -> snapshots.record(persistentEntity, entity), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		assertThat(snapshots.getChangedColumns(persistentEntity, entity)).isNull();
+	}
+
+	@Test
+	public void snapshotsRecordedInACommittedTransactionGetKept() {
+
+		DummyEntity entity = new DummyEntity();
+		entity.name = "name";
+
+		completeTransaction(() -> snapshots.record(persistentEntity, entity), TransactionSynchronization.STATUS_COMMITTED);
+
+		assertThat(snapshots.getChangedColumns(persistentEntity, entity)).isEmpty();
+		assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+	}
+
+	private static void completeTransaction(Runnable action, int status) {
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+
+			action.run();
+			TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+					status);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	static class DummyEntity {
+
+		@Id Long id;
+		String name;
+		byte[] content;
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof DummyEntity && ((DummyEntity) o).id.equals(id);
+		}
+
+		@Override
+		public int hashCode() {
+			return id.hashCode();
+		}
+	}
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * Unit tests for {@link PositionalSql}.
+ *
+ * @author Tobias Lindner
+ */
+public class PositionalSqlUnitTests {
+
+	PositionalSql positionalSql = PositionalSql
+			.of("UPDATE \"DUMMY\" SET \"NAME\" = :name, \"AGE\" = :age WHERE \"DUMMY\".\"ID\" = :id");
+
+	@Test
+	public void replacesNamedParametersByPositionalOnes() {
+
+		assertThat(positionalSql.getSql())
+				.isEqualTo("UPDATE \"DUMMY\" SET \"NAME\" = ?, \"AGE\" = ? WHERE \"DUMMY\".\"ID\" = ?");
+		assertThat(positionalSql.getParameterNames()).containsExactly("name", "age", "id");
+	}
+
+	@Test
+	public void bindsValuesOfParameterSourceByPosition() throws SQLException {
+
+		MapSqlParameterSource parameterSource = new MapSqlParameterSource() //
+				.addValue("id", 23L, Types.BIGINT) //
+				.addValue("name", "Alfred", Types.VARCHAR) //
+				.addValue("age", 42, Types.INTEGER);
+		PreparedStatement ps = mock(PreparedStatement.class);
+
+		positionalSql.bind(parameterSource).setValues(ps);
+
+		verify(ps).setString(1, "Alfred");
+		verify(ps).setObject(2, 42, Types.INTEGER);
+		verify(ps).setObject(3, 23L, Types.BIGINT);
+	}
+
+	@Test
+	public void bindsSingleValueToAllPositionsOfTheParameter() throws SQLException {
+
+		PositionalSql positionalSql = PositionalSql.of("SELECT 1 FROM \"DUMMY\" WHERE \"ID\" = :id OR \"OTHER_ID\" = :id");
+		PreparedStatement ps = mock(PreparedStatement.class);
+
+		positionalSql.bind("id", 23L, Types.BIGINT).setValues(ps);
+
+		verify(ps).setObject(1, 23L, Types.BIGINT);
+		verify(ps).setObject(2, 23L, Types.BIGINT);
+	}
+
+	@Test
+	public void rejectsSingleValueForStatementWithOtherParameters() {
+		assertThatIllegalArgumentException().isThrownBy(() -> positionalSql.bind("id", 23L, Types.BIGINT));
+	}
+
+	@Test
+	public void cannotBindIterableOrMissingValues() {
+
+		MapSqlParameterSource complete = new MapSqlParameterSource() //
+				.addValue("id", 23L) //
+				.addValue("name", "Alfred") //
+				.addValue("age", 42);
+
+		assertThat(positionalSql.canBind(complete)).isTrue();
+		assertThat(positionalSql.canBind(new MapSqlParameterSource("id", 23L))).isFalse();
+		assertThat(positionalSql.canBind(complete.addValue("name", Arrays.asList("Alfred", "Bertha")))).isFalse();
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Date;
+
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jdbc.testing.DatabaseProfileValueSource;
+import org.springframework.data.jdbc.testing.TestConfiguration;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.test.annotation.IfProfileValue;
+import org.springframework.test.annotation.ProfileValueSourceConfiguration;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.rules.SpringClassRule;
+import org.springframework.test.context.junit4.rules.SpringMethodRule;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link PostgresCopyOperations} against a PostgreSQL database.
+ *
+ * @author Tobias Lindner
+ */
+@ContextConfiguration
+@Transactional
+@ProfileValueSourceConfiguration(DatabaseProfileValueSource.class)
+@IfProfileValue(name = "current.database.is.not.postgres", value = "false")
+public class PostgresCopyOperationsIntegrationTests {
+
+	static final String COPY_SQL = "COPY COPY_TARGET (ID, WITH_TIME_ZONE, WITHOUT_TIME_ZONE) FROM STDIN";
+
+	@ClassRule public static final SpringClassRule classRule = new SpringClassRule();
+	@Rule public SpringMethodRule methodRule = new SpringMethodRule();
+
+	@Autowired NamedParameterJdbcOperations template;
+
+	@Test
+	public void copiedTimestampsKeepTheirInstantIndependentOfTheSessionTimeZone() {
+
+		JdbcOperations operations = template.getJdbcOperations();
+
+		// a time zone with an unusual offset, so it differs from the one of the JVM running the test.
+		operations.execute("SET LOCAL TIME ZONE 'Pacific/Chatham'");
+
+		Timestamp timestamp = Timestamp.from(Instant.parse("2020-03-01T10:15:30.123456Z"));
+		Date date = Date.from(Instant.parse("2020-07-01T22:45:00.5Z"));
+
+		boolean copied = new PostgresCopyOperations(operations).copyIn(COPY_SQL,
+				asList("id", "withTimeZone", "withoutTimeZone"), asList( //
+						new MapSqlParameterSource("id", 1L) //
+								.addValue("withTimeZone", timestamp) //
+								.addValue("withoutTimeZone", timestamp), //
+						new MapSqlParameterSource("id", 2L) //
+								.addValue("withTimeZone", date) //
+								.addValue("withoutTimeZone", date)));
+
+		assertThat(copied).isTrue();
+		assertThat(selectTimestamps(1L)).containsExactly(timestamp, timestamp);
+		assertThat(selectTimestamps(2L)).containsExactly(new Timestamp(date.getTime()), new Timestamp(date.getTime()));
+	}
+
+	private Timestamp[] selectTimestamps(long id) {
+
+		return template.queryForObject("SELECT WITH_TIME_ZONE, WITHOUT_TIME_ZONE FROM COPY_TARGET WHERE ID = :id",
+				new MapSqlParameterSource("id", id),
+				(rs, rowNum) -> new Timestamp[] { rs.getTimestamp(1), rs.getTimestamp(2) });
+	}
+
+	@Configuration
+	@Import(TestConfiguration.class)
+	static class Config {}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+/**
+ * Unit tests for {@link PostgresCopyOperations}.
+ *
+ * @author Tobias Lindner
+ */
+public class PostgresCopyOperationsUnitTests {
+
+	static final String COPY_SQL = "COPY person (id, name) FROM STDIN";
+
+	JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+	Connection connection = mock(Connection.class);
+	PGConnection pgConnection = mock(PGConnection.class);
+	CopyManager copyManager = mock(CopyManager.class);
+	CopyIn copyIn = mock(CopyIn.class);
+
+	PostgresCopyOperations copyOperations = new PostgresCopyOperations(jdbcOperations);
+
+	@Before
+	public void before() throws SQLException {
+
+		when(jdbcOperations.execute(any(ConnectionCallback.class)))
+				.thenAnswer(invocation -> invocation.<ConnectionCallback<?>> getArgument(0).doInConnection(connection));
+		when(connection.isWrapperFor(PGConnection.class)).thenReturn(true);
+		when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+		when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+		when(copyManager.copyIn(anyString())).thenReturn(copyIn);
+	}
+
+	@Test
+	public void copiesRowsAsLinesOfTheTextFormat() throws SQLException {
+
+		boolean copied = copyOperations.copyIn(COPY_SQL, asList("id", "name"), asList( //
+				new MapSqlParameterSource("id", 1L).addValue("name", "Alfred"), //
+				new MapSqlParameterSource("id", 2L).addValue("name", null)));
+
+		assertThat(copied).isTrue();
+		verify(copyManager).copyIn(COPY_SQL);
+
+		ArgumentCaptor<byte[]> lines = ArgumentCaptor.forClass(byte[].class);
+		verify(copyIn, times(2)).writeToCopy(lines.capture(), eq(0), anyInt());
+		assertThat(lines.getAllValues()).extracting(bytes -> new String(bytes, StandardCharsets.UTF_8))
+				.containsExactly("1\tAlfred\n", "2\t\\N\n");
+		verify(copyIn).endCopy();
+	}
+
+	@Test
+	public void doesNotCopyRowsWithValuesWithoutTextRepresentation() {
+
+		List<MapSqlParameterSource> rows = asList( //
+				new MapSqlParameterSource("id", 1L).addValue("name", "Alfred"), //
+				new MapSqlParameterSource("id", 2L).addValue("name", new Object()));
+
+		assertThat(copyOperations.copyIn(COPY_SQL, asList("id", "name"), rows)).isFalse();
+		verify(jdbcOperations, never()).execute(any(ConnectionCallback.class));
+	}
+
+	@Test
+	public void doesNotCopyWithoutPostgresConnection() throws SQLException {
+
+		when(connection.isWrapperFor(PGConnection.class)).thenReturn(false);
+
+		assertThat(copyOperations.copyIn(COPY_SQL, asList("id", "name"),
+				asList(new MapSqlParameterSource("id", 1L).addValue("name", "Alfred")))).isFalse();
+		verify(connection, never()).unwrap(any());
+	}
+
+	@Test
+	public void cancelsCopyWhenWritingFails() throws SQLException {
+
+		doThrow(new SQLException("broken pipe")).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+		when(copyIn.isActive()).thenReturn(true);
+
+		assertThatExceptionOfType(SQLException.class).isThrownBy(() -> copyOperations.copyIn(COPY_SQL,
+				asList("id", "name"), asList(new MapSqlParameterSource("id", 1L).addValue("name", "Alfred"))));
+
+		verify(copyIn).cancelCopy();
+		verify(copyIn, never()).endCopy();
+	}
+
+	@Test
+	public void nullGetsRenderedAsNullMarker() {
+		assertThat(render(null)).isEqualTo("\\N");
+	}
+
+	@Test
+	public void specialCharactersGetEscaped() {
+		assertThat(render("a\tb\nc\rd\\e")).isEqualTo("a\\tb\\nc\\rd\\\\e");
+	}
+
+	@Test
+	public void booleansAndNumbersGetRenderedAsText() {
+
+		assertThat(render(true)).isEqualTo("t");
+		assertThat(render(false)).isEqualTo("f");
+		assertThat(render(23L)).isEqualTo("23");
+	}
+
+	@Test
+	public void byteArraysGetRenderedInHexFormat() {
+		assertThat(render(new byte[] { 1, (byte) 0xab })).isEqualTo("\\\\x01ab");
+	}
+
+	@Test
+	public void timestampsGetRenderedWithAnExplicitOffset() {
+
+		Instant instant = Instant.parse("2020-03-01T10:15:30.123456789Z");
+
+		String rendered = render(Timestamp.from(instant));
+
+		assertThat(rendered).matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{6}(Z|[+-]\\d{2}:\\d{2})");
+		assertThat(OffsetDateTime.parse(rendered).toInstant()).isEqualTo(instant.truncatedTo(ChronoUnit.MICROS));
+	}
+
+	@Test
+	public void datesGetRenderedWithAnExplicitOffset() {
+
+		Instant instant = Instant.parse("2020-03-01T10:15:30.123Z");
+
+		assertThat(OffsetDateTime.parse(render(Date.from(instant))).toInstant()).isEqualTo(instant);
+	}
+
+	private static String render(Object value) {
+
+		StringBuilder line = new StringBuilder();
+		PostgresCopyOperations.appendValue(line, value);
+		return line.toString();
+	}
+}
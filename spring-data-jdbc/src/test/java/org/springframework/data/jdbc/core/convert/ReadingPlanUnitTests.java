@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.jdbc.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.mapping.Embedded;
+import org.springframework.data.relational.core.mapping.Embedded.OnEmpty;
+import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
+import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+
+/**
+ * Unit tests for {@link ReadingPlan}.
+ *
+ * @author Tobias Lindner
+ */
+public class ReadingPlanUnitTests {
+
+	RelationalMappingContext context = new JdbcMappingContext();
+	RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(Parent.class);
+	ReadingPlan plan = new ReadingPlan(new PersistentPropertyPathExtension(context, entity), IdentifierProcessing.ANSI);
+
+	@Test
+	public void propertiesSetByTheConstructorDoNotGetPopulated() {
+
+		assertThat(plan.getPropertiesToPopulate()).extracting(p -> p.getName()) //
+				.containsExactlyInAnyOrder("name", "embedded", "child");
+	}
+
+	@Test
+	public void columnLabelsOfNestedPlansAreRelativeToThePlansPath() {
+
+		ReadingPlan embedded = plan.extendBy(entity.getRequiredPersistentProperty("embedded"));
+		ReadingPlan child = plan.extendBy(entity.getRequiredPersistentProperty("child"));
+
+		assertThat(plan.getColumnLabel(entity.getRequiredPersistentProperty("name"))).isEqualTo("NAME");
+		assertThat(embedded.getColumnLabel(embedded.getEntity().getRequiredPersistentProperty("name")))
+				.isEqualTo("E_NAME");
+		assertThat(child.getColumnLabel(child.getEntity().getRequiredPersistentProperty("name"))).isEqualTo("CHILD_NAME");
+		assertThat(plan.getBackReferenceLabel(entity.getRequiredPersistentProperty("child"))).isEqualTo("CHILD_PARENT");
+	}
+
+	@Test
+	public void nestedPlansGetReused() {
+
+		assertThat(plan.extendBy(entity.getRequiredPersistentProperty("child")))
+				.isSameAs(plan.extendBy(entity.getRequiredPersistentProperty("child")));
+	}
+
+	static class Parent {
+
+		@Id final Long id;
+		String name;
+		@Embedded(onEmpty = OnEmpty.USE_NULL, prefix = "e_") Embeddable embedded;
+		Child child;
+
+		Parent(Long id) {
+			this.id = id;
+		}
+	}
+
+	static class Embeddable {
+		String name;
+	}
+
+	static class Child {
+		String name;
+	}
+}
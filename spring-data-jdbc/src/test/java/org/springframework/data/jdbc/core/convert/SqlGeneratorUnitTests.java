@@ -15,10 +15,13 @@
  */
 package org.springframework.data.jdbc.core.convert;
 
+import static java.util.Arrays.*;
 import static java.util.Collections.*;
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 import static org.springframework.data.relational.core.sql.SqlIdentifier.*;
 
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -38,12 +41,15 @@ import org.springframework.data.jdbc.core.mapping.PersistentPropertyPathTestUtil
 import org.springframework.data.relational.core.dialect.AnsiDialect;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.NamingStrategy;
 import org.springframework.data.relational.core.mapping.PersistentPropertyPathExtension;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
 import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Keyset;
 import org.springframework.data.relational.core.sql.Aliased;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
@@ -108,6 +114,26 @@ public class SqlGeneratorUnitTests {
 				.doesNotContain("Element AS elements"));
 	}
 
+	@Test
+	public void findOneAggregate() {
+
+		String sql = sqlGenerator.getFindOneAggregate();
+
+		SoftAssertions.assertSoftly(softly -> softly //
+				.assertThat(sql) //
+				.startsWith("SELECT") //
+				.contains("dummy_entity.id1 AS id1,") //
+				.contains("ref.x_l1id AS ref_x_l1id") //
+				.contains("ref.dummy_entity AS ref_dummy_entity") //
+				.contains("elements.x_id AS elements_x_id") //
+				.contains("elements.dummy_entity AS elements_dummy_entity") //
+				.contains("mappedElements.dummy_entity_key AS mappedElements_dummy_entity_key") //
+				.contains(" FROM dummy_entity") //
+				.contains("LEFT OUTER JOIN element AS elements ON elements.dummy_entity = dummy_entity.id1") //
+				.contains("LEFT OUTER JOIN element AS mappedElements ON mappedElements.dummy_entity = dummy_entity.id1") //
+				.endsWith("WHERE dummy_entity.id1 = :id"));
+	}
+
 	@Test // DATAJDBC-493
 	public void getAcquireLockById() {
 
@@ -122,6 +148,16 @@ public class SqlGeneratorUnitTests {
 				.doesNotContain("Element AS elements"));
 	}
 
+	@Test
+	public void getAcquireLockByList() {
+
+		String sql = sqlGenerator.getAcquireLockByList(LockMode.PESSIMISTIC_WRITE);
+
+		assertThat(sql).startsWith("SELECT") //
+				.contains("WHERE dummy_entity.id1 IN (:ids)") //
+				.contains("FOR UPDATE");
+	}
+
 	@Test // DATAJDBC-493
 	public void getAcquireLockAll() {
 
@@ -152,6 +188,15 @@ public class SqlGeneratorUnitTests {
 				"DELETE FROM second_level_referenced_entity WHERE second_level_referenced_entity.referenced_entity IN (SELECT referenced_entity.x_l1id FROM referenced_entity WHERE referenced_entity.dummy_entity = :rootId)");
 	}
 
+	@Test
+	public void cascadingDeleteByPathAndListOfRootIdsSecondLevel() {
+
+		String sql = sqlGenerator.createDeleteInByPath(getPath("ref.further", DummyEntity.class));
+
+		assertThat(sql).isEqualTo(
+				"DELETE FROM second_level_referenced_entity WHERE second_level_referenced_entity.referenced_entity IN (SELECT referenced_entity.x_l1id FROM referenced_entity WHERE referenced_entity.dummy_entity IN (:ids))");
+	}
+
 	@Test // DATAJDBC-112
 	public void deleteAll() {
 
@@ -290,6 +335,99 @@ public class SqlGeneratorUnitTests {
 				"LIMIT 10");
 	}
 
+	@Test
+	public void pagedStatementsDifferInTheLimitClauseOnly() {
+
+		Sort sort = Sort.by("name");
+		String firstPage = sqlGenerator.getFindAll(PageRequest.of(0, 10, sort));
+		String fourthPage = sqlGenerator.getFindAll(PageRequest.of(3, 10, sort));
+
+		assertThat(fourthPage).isEqualTo(firstPage.replace(NonQuotingDialect.INSTANCE.limit().getLimitOffset(10, 0),
+				NonQuotingDialect.INSTANCE.limit().getLimitOffset(10, 30)));
+	}
+
+	@Test
+	public void pagedStatementsRenderTheSyntheticOrderOfSqlServer() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, SqlServerDialect.INSTANCE);
+
+		sqlGenerator.getFindAll(PageRequest.of(0, 10));
+		String sql = sqlGenerator.getFindAll(PageRequest.of(2, 20));
+
+		assertThat(sql).contains("ROW_NUMBER() over (ORDER BY (SELECT 1)) AS __relational_row_number__") //
+				.endsWith("ORDER BY __relational_row_number__ OFFSET 40 ROWS FETCH NEXT 20 ROWS ONLY");
+	}
+
+	@Test
+	public void statementsDependingOnArgumentsGetCached() {
+
+		assertThat(sqlGenerator.getFindAll(Sort.by("name"))).isSameAs(sqlGenerator.getFindAll(Sort.by("name")));
+		assertThat(sqlGenerator.getInsert(emptySet())).isSameAs(sqlGenerator.getInsert(emptySet()));
+		assertThat(sqlGenerator.getFindAllByProperty(BACKREF, null, false))
+				.isSameAs(sqlGenerator.getFindAllByProperty(BACKREF, null, false));
+		assertThat(sqlGenerator.createDeleteByPath(getPath("ref", DummyEntity.class)))
+				.isSameAs(sqlGenerator.createDeleteByPath(getPath("ref", DummyEntity.class)));
+		assertThat(sqlGenerator.getAcquireLockById(LockMode.PESSIMISTIC_READ))
+				.isSameAs(sqlGenerator.getAcquireLockById(LockMode.PESSIMISTIC_READ));
+	}
+
+	@Test
+	public void findAllFirstPageByKeyset() {
+
+		String sql = sqlGenerator.getFindAll(Sort.by("name", "id"), Keyset.initial(), 10);
+
+		assertThat(sql).doesNotContain("WHERE") //
+				.contains("ORDER BY x_name ASC, id1 ASC", "LIMIT 10") //
+				.doesNotContain("OFFSET");
+	}
+
+	@Test
+	public void findAllByKeysetExpandsComparisonWithoutRowValueSupport() {
+
+		String sql = sqlGenerator.getFindAll(Sort.by("name", "id"), Keyset.of("Alfred", 23L), 10);
+
+		assertThat(sql).contains(
+				"WHERE dummy_entity.x_name > :keyset0 OR (dummy_entity.x_name = :keyset0 AND dummy_entity.id1 > :keyset1)", //
+				"ORDER BY x_name ASC, id1 ASC", //
+				"LIMIT 10");
+	}
+
+	@Test
+	public void findAllByKeysetUsesRowValueComparisonIfSupported() {
+
+		Dialect dialect = spy(NonQuotingDialect.INSTANCE);
+		doReturn(true).when(dialect).supportsRowValueComparison();
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, dialect);
+
+		String sql = sqlGenerator.getFindAll(Sort.by(Sort.Direction.DESC, "name", "id"), Keyset.of("Alfred", 23L), 10);
+
+		assertThat(sql).contains( //
+				"WHERE (dummy_entity.x_name, dummy_entity.id1) < (:keyset0, :keyset1)", //
+				"ORDER BY x_name DESC, id1 DESC", //
+				"LIMIT 10");
+	}
+
+	@Test
+	public void findAllByKeysetExpandsComparisonForMixedSortDirections() {
+
+		Dialect dialect = spy(NonQuotingDialect.INSTANCE);
+		doReturn(true).when(dialect).supportsRowValueComparison();
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, dialect);
+
+		String sql = sqlGenerator.getFindAll(Sort.by(Sort.Order.desc("name"), Sort.Order.asc("id")),
+				Keyset.of("Alfred", 23L), 10);
+
+		assertThat(sql).contains(
+				"WHERE dummy_entity.x_name < :keyset0 OR (dummy_entity.x_name = :keyset0 AND dummy_entity.id1 > :keyset1)");
+	}
+
+	@Test
+	public void findAllByKeysetRequiresAValuePerSortKey() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> sqlGenerator.getFindAll(Sort.by("name", "id"), Keyset.of("Alfred"), 10));
+	}
+
 	@Test // DATAJDBC-131, DATAJDBC-111
 	public void findAllByProperty() {
 
@@ -372,6 +510,22 @@ public class SqlGeneratorUnitTests {
 				+ "WHERE dummy_entity.backref = :backref " + "ORDER BY key-column");
 	}
 
+	@Test
+	public void findAllInListByPropertyWithKeyOrdered() {
+
+		String sql = sqlGenerator.getFindAllInListByProperty(unquoted("backref"), unquoted("key-column"), true);
+
+		assertThat(sql).isEqualTo("SELECT dummy_entity.id1 AS id1, dummy_entity.x_name AS x_name, " //
+				+ "dummy_entity.x_other AS x_other, " //
+				+ "ref.x_l1id AS ref_x_l1id, ref.x_content AS ref_x_content, "
+				+ "ref_further.x_l2id AS ref_further_x_l2id, ref_further.x_something AS ref_further_x_something, " //
+				+ "dummy_entity.backref AS backref, dummy_entity.key-column AS key-column " //
+				+ "FROM dummy_entity " //
+				+ "LEFT OUTER JOIN referenced_entity AS ref ON ref.dummy_entity = dummy_entity.id1 " //
+				+ "LEFT OUTER JOIN second_level_referenced_entity AS ref_further ON ref_further.referenced_entity = ref.x_l1id " //
+				+ "WHERE dummy_entity.backref IN (:ids) " + "ORDER BY key-column");
+	}
+
 	@Test // DATAJDBC-219
 	public void updateWithVersion() {
 
@@ -387,6 +541,20 @@ public class SqlGeneratorUnitTests {
 				"\"X_VERSION\" = :___oldOptimisticLockingVersion");
 	}
 
+	@Test
+	public void existsByIdAndVersion() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(VersionedEntity.class, AnsiDialect.INSTANCE);
+
+		assertThat(sqlGenerator.getExistsByIdAndVersion()).containsSubsequence( //
+				"SELECT COUNT(", //
+				"FROM \"VERSIONED_ENTITY\"", //
+				"WHERE", //
+				"\"id1\" = :id", //
+				"AND", //
+				"\"X_VERSION\" = :___oldOptimisticLockingVersion");
+	}
+
 	@Test // DATAJDBC-264
 	public void getInsertForEmptyColumnList() {
 
@@ -408,6 +576,18 @@ public class SqlGeneratorUnitTests {
 				+ "(\"test\"\"_@123\") " + "VALUES (:test_123)");
 	}
 
+	@Test
+	public void getMultiRowInsertForQuotedColumnName() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithQuotedColumnName.class, AnsiDialect.INSTANCE);
+
+		String insert = sqlGenerator.getInsert(emptySet(), 2);
+
+		assertThat(insert).isEqualTo("INSERT INTO \"ENTITY_WITH_QUOTED_COLUMN_NAME\" " //
+				+ "(\"test\"\"_@123\") " + "VALUES (:test_123_0), (:test_123_1)");
+		assertThat(sqlGenerator.getInsert(emptySet(), 2)).isSameAs(insert);
+	}
+
 	@Test // DATAJDBC-266
 	public void joinForOneToOneWithoutIdIncludesTheBackReferenceOfTheOuterJoin() {
 
@@ -432,6 +612,77 @@ public class SqlGeneratorUnitTests {
 				"\"id1\" = :id1");
 	}
 
+	@Test
+	public void partialUpdateOnlySetsGivenUpdateableColumns() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, AnsiDialect.INSTANCE);
+		RelationalPersistentEntity<?> entity = context.getRequiredPersistentEntity(DummyEntity.class);
+		SqlIdentifier nameColumn = entity.getRequiredPersistentProperty("name").getColumnName();
+
+		String update = sqlGenerator.getUpdate(new HashSet<>(asList(nameColumn, entity.getIdColumn())));
+
+		assertThat(update).isEqualToIgnoringCase("UPDATE \"DUMMY_ENTITY\" " //
+				+ "SET \"X_NAME\" = :x_name " //
+				+ "WHERE \"DUMMY_ENTITY\".\"id1\" = :id1");
+		assertThat(sqlGenerator.getUpdate(singleton(nameColumn))).isSameAs(update);
+	}
+
+	@Test
+	public void upsertUsesTheUpsertStatementOfTheDialect() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, PostgresDialect.INSTANCE);
+
+		assertThat(sqlGenerator.getUpsert()).isEqualToIgnoringCase( //
+				"INSERT INTO \"ENTITY_WITH_READ_ONLY_PROPERTY\" (\"X_ID\", \"X_NAME\") VALUES (:X_ID, :X_NAME) " //
+						+ "ON CONFLICT (\"X_ID\") DO UPDATE SET \"X_NAME\" = EXCLUDED.\"X_NAME\"");
+	}
+
+	@Test
+	public void multiRowInsertReturningIdAppendsReturningClauseOfTheDialect() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, PostgresDialect.INSTANCE);
+
+		assertThat(sqlGenerator.getInsertReturningId(emptySet(), 2)).isEqualToIgnoringCase( //
+				"INSERT INTO \"ENTITY_WITH_READ_ONLY_PROPERTY\" (\"X_NAME\") VALUES (:X_NAME_0), (:X_NAME_1) " //
+						+ "RETURNING \"X_ID\"");
+	}
+
+	@Test
+	public void multiRowInsertReturningIdInsertsOutputClauseBeforeValues() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, SqlServerDialect.INSTANCE);
+
+		assertThat(sqlGenerator.getInsertReturningId(emptySet(), 2)).isEqualToIgnoringCase( //
+				"INSERT INTO \"ENTITY_WITH_READ_ONLY_PROPERTY\" (\"X_NAME\") OUTPUT INSERTED.\"X_ID\" " //
+						+ "VALUES (:X_NAME_0), (:X_NAME_1)");
+	}
+
+	@Test
+	public void multiRowInsertReturningIdIsNotSupportedWithoutSupportOfTheDialect() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, AnsiDialect.INSTANCE);
+
+		assertThatThrownBy(() -> sqlGenerator.getInsertReturningId(emptySet(), 2))
+				.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	public void copyInListsTheColumnsInTheGivenOrder() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(EntityWithReadOnlyProperty.class, PostgresDialect.INSTANCE);
+
+		assertThat(sqlGenerator.getCopyIn(asList(SqlIdentifier.quoted("X_NAME"), SqlIdentifier.quoted("X_ID"))))
+				.isEqualToIgnoringCase("COPY \"entity_with_read_only_property\" (\"X_NAME\", \"X_ID\") FROM STDIN");
+	}
+
+	@Test
+	public void upsertIsNotSupportedWithoutSupportOfTheDialect() {
+
+		SqlGenerator sqlGenerator = createSqlGenerator(DummyEntity.class, AnsiDialect.INSTANCE);
+
+		assertThatThrownBy(sqlGenerator::getUpsert).isInstanceOf(UnsupportedOperationException.class);
+	}
+
 	@Test // DATAJDBC-324
 	public void readOnlyPropertyExcludedFromQuery_when_generateUpdateSql() {
 
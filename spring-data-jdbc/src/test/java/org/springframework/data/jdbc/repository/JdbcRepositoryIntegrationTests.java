@@ -26,6 +26,7 @@ import java.sql.ResultSet;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.ClassRule;
@@ -382,6 +383,31 @@ public class JdbcRepositoryIntegrationTests {
 		assertThat(repository.countByName(one.getName())).isEqualTo(2);
 	}
 
+	@Test
+	public void derivedQueryReturningStreamMapsRowsWhileTheStreamGetsConsumed() {
+
+		repository.saveAll(asList(createDummyEntity(), createDummyEntity()));
+		eventListener.events.clear();
+
+		try (Stream<DummyEntity> entities = repository.streamByName("Entity Name")) {
+
+			assertThat(eventListener.events).isEmpty();
+			assertThat(entities).extracting(DummyEntity::getName).containsExactly("Entity Name", "Entity Name");
+		}
+
+		assertThat(eventListener.events).hasSize(2).hasOnlyElementsOfType(AfterLoadEvent.class);
+	}
+
+	@Test
+	public void queryMethodReturningStreamGetsConsumedAndClosed() {
+
+		repository.saveAll(asList(createDummyEntity(), createDummyEntity()));
+
+		try (Stream<DummyEntity> entities = repository.streamAllWithSql()) {
+			assertThat(entities).extracting(DummyEntity::getName).containsExactly("Entity Name", "Entity Name");
+		}
+	}
+
 	private static DummyEntity createDummyEntity() {
 
 		DummyEntity entity = new DummyEntity();
@@ -411,6 +437,11 @@ public class JdbcRepositoryIntegrationTests {
 		boolean existsByName(String name);
 
 		int countByName(String name);
+
+		Stream<DummyEntity> streamByName(String name);
+
+		@Query("SELECT * FROM DUMMY_ENTITY")
+		Stream<DummyEntity> streamAllWithSql();
 	}
 
 	@Data
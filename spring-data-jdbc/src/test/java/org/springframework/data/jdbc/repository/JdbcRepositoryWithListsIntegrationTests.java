@@ -24,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.ClassRule;
 import org.junit.Rule;
@@ -138,6 +139,31 @@ public class JdbcRepositoryWithListsIntegrationTests {
 				.containsExactly(tuple(entity.id, entity.content.size()));
 	}
 
+	@Test
+	public void saveAssignsTheGeneratedIdsOfManyElementsToTheMatchingElements() {
+
+		DummyEntity entity = createDummyEntity();
+		for (int i = 0; i < 10; i++) {
+			entity.content.add(createElement("element " + i));
+		}
+
+		entity = repository.save(entity);
+
+		assertThat(entity.content) //
+				.extracting(e -> e.id) //
+				.doesNotContainNull() //
+				.doesNotHaveDuplicates();
+
+		DummyEntity reloaded = repository.findById(entity.id).orElseThrow(AssertionFailedError::new);
+
+		// every element got the id of its own row, so id and content still match after reloading
+		assertThat(reloaded.content) //
+				.extracting(e -> e.id, e -> e.content) //
+				.containsExactlyElementsOf(entity.content.stream() //
+						.map(e -> tuple(e.id, e.content)) //
+						.collect(Collectors.toList()));
+	}
+
 	@Test // DATAJDBC-130
 	@IfProfileValue(name = "current.database.is.not.mssql", value = "true") // DATAJDBC-278
 	public void updateList() {
@@ -28,12 +28,17 @@ import org.springframework.context.annotation.AnnotationConfigApplicationContext
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jdbc.core.JdbcAggregateTemplate;
+import org.springframework.data.jdbc.core.convert.DataAccessOptions;
 import org.springframework.data.jdbc.core.convert.DataAccessStrategy;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcCustomConversions;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
 import org.springframework.data.relational.core.dialect.Dialect;
 import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.sql.render.Renderer;
+import org.springframework.data.relational.core.sql.render.SinglePassSqlRenderer;
+import org.springframework.data.relational.core.sql.render.SqlRenderer;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -63,6 +68,48 @@ public class AbstractJdbcConfigurationIntegrationTests {
 		}, AbstractJdbcConfigurationUnderTest.class, Infrastructure.class);
 	}
 
+	@Test
+	public void appliesTheConfiguredDataAccessOptions() {
+
+		assertApplicationContext(context -> {
+
+			assertThat(context.getBean(DataAccessOptions.class).isEntitySnapshots()).isTrue();
+			assertThat(context.getBean(JdbcConverter.class).getEntitySnapshots()).isNotNull();
+
+		}, ConfigurationWithDataAccessOptions.class, Infrastructure.class);
+	}
+
+	@Test
+	public void enablesNoDataAccessOptionsByDefault() {
+
+		assertApplicationContext(context -> {
+
+			assertThat(context.getBean(DataAccessOptions.class)).isEqualTo(DataAccessOptions.DEFAULT);
+			assertThat(context.getBean(JdbcConverter.class).getEntitySnapshots()).isNull();
+
+		}, AbstractJdbcConfigurationUnderTest.class, Infrastructure.class);
+	}
+
+	@Test
+	public void usesTheConfiguredRenderer() {
+
+		assertApplicationContext(context -> {
+
+			assertThat(context.getBean(Renderer.class)).isInstanceOf(SinglePassSqlRenderer.class);
+
+		}, ConfigurationWithRenderer.class, Infrastructure.class);
+	}
+
+	@Test
+	public void usesSqlRendererByDefault() {
+
+		assertApplicationContext(context -> {
+
+			assertThat(context.getBean(Renderer.class)).isInstanceOf(SqlRenderer.class);
+
+		}, AbstractJdbcConfigurationUnderTest.class, Infrastructure.class);
+	}
+
 	protected static void assertApplicationContext(Consumer<ConfigurableApplicationContext> verification,
 			Class<?>... configurationClasses) {
 
@@ -95,4 +142,22 @@ public class AbstractJdbcConfigurationIntegrationTests {
 		}
 	}
 
+	static class ConfigurationWithDataAccessOptions extends AbstractJdbcConfigurationUnderTest {
+
+		@Override
+		@Bean
+		public DataAccessOptions jdbcDataAccessOptions(Dialect dialect) {
+			return DataAccessOptions.DEFAULT.withEntitySnapshots(true);
+		}
+	}
+
+	static class ConfigurationWithRenderer extends AbstractJdbcConfigurationUnderTest {
+
+		@Override
+		@Bean
+		public Renderer jdbcSqlRenderer(Dialect dialect) {
+			return SinglePassSqlRenderer.create(new RenderContextFactory(dialect).createRenderContext());
+		}
+	}
+
 }
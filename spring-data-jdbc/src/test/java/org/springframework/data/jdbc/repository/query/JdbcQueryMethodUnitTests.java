@@ -28,6 +28,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.repository.QueryOptions;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -119,9 +120,31 @@ public class JdbcQueryMethodUnitTests {
 		assertThat(queryMethod.getDeclaredQuery()).isEqualTo(null);
 	}
 
+	@Test
+	public void queryHintsGetCombinedWithDefaults() throws NoSuchMethodException {
+
+		Method method = JdbcQueryMethodUnitTests.class.getDeclaredMethod("queryMethodWithHints");
+		JdbcQueryMethod queryMethod = new JdbcQueryMethod(method, metadata, mock(ProjectionFactory.class), namedQueries,
+				mappingContext, QueryOptions.of(10, 1000, 30));
+
+		assertThat(queryMethod.getQueryOptions()).isEqualTo(QueryOptions.of(500, 1000, 5));
+	}
+
+	@Test
+	public void queryOptionsAreEmptyWithoutHintsAndDefaults() throws NoSuchMethodException {
+
+		JdbcQueryMethod queryMethod = createJdbcQueryMethod("queryMethod");
+
+		assertThat(queryMethod.getQueryOptions().isEmpty()).isTrue();
+	}
+
 	@Query(value = QUERY, rowMapperClass = CustomRowMapper.class)
 	private void queryMethod() {}
 
+	@QueryHints(fetchSize = 500, timeout = 5)
+	@Query(value = QUERY)
+	private void queryMethodWithHints() {}
+
 	@Query(name = QUERY_NAME)
 	private void queryMethodName() {}
 
@@ -16,38 +16,56 @@
 package org.springframework.data.jdbc.repository.query;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import lombok.AllArgsConstructor;
 
 import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
 import org.springframework.data.jdbc.core.mapping.AggregateReference;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.jdbc.repository.QueryMappingConfiguration;
+import org.springframework.data.jdbc.repository.config.DefaultQueryMappingConfiguration;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
 import org.springframework.data.relational.core.mapping.Embedded;
 import org.springframework.data.relational.core.mapping.MappedCollection;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.render.Renderer;
 import org.springframework.data.relational.repository.query.RelationalParametersParameterAccessor;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.data.repository.core.support.PropertiesBasedNamedQueries;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 /**
  * Unit tests for {@link PartTreeJdbcQuery}.
@@ -134,6 +152,133 @@ public class PartTreeJdbcQueryUnitTests {
 				"SELECT " + TABLE + ".\"ID\" FROM " + TABLE + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name LIMIT 1");
 	}
 
+	@Test
+	public void createsQueryFetchingOneRowMoreThanTheSizeOfASlice() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findSliceByFirstName", String.class, Pageable.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { "John", PageRequest.of(1, 10) }));
+
+		assertThat(query.getQuery())
+				.isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name LIMIT 11 OFFSET 10");
+	}
+
+	@Test
+	public void sliceExecutionDropsTheAdditionalRowAndReportsANextSlice() {
+
+		List<String> rows = Arrays.asList("0", "1", "2", "3");
+		PartTreeJdbcQuery.SliceQueryExecution<String> execution = new PartTreeJdbcQuery.SliceQueryExecution<>(
+				(query, parameters) -> rows, PageRequest.of(1, 3));
+
+		Slice<String> slice = execution.execute("some sql", new MapSqlParameterSource());
+
+		assertThat(slice.getContent()).containsExactly("0", "1", "2");
+		assertThat(slice.hasNext()).isTrue();
+		assertThat(slice.getPageable()).isEqualTo(PageRequest.of(1, 3));
+	}
+
+	@Test
+	public void sliceExecutionReportsNoNextSliceWithoutTheAdditionalRow() {
+
+		List<String> rows = Arrays.asList("0", "1", "2");
+		PartTreeJdbcQuery.SliceQueryExecution<String> execution = new PartTreeJdbcQuery.SliceQueryExecution<>(
+				(query, parameters) -> rows, PageRequest.of(1, 3));
+
+		Slice<String> slice = execution.execute("some sql", new MapSqlParameterSource());
+
+		assertThat(slice.getContent()).containsExactly("0", "1", "2");
+		assertThat(slice.hasNext()).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executesSliceQueryFetchingOneAdditionalRow() throws Exception {
+
+		NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
+		when(operations.query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class)))
+				.thenReturn(Arrays.asList("a", "b", "c"));
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findSliceByFirstName", String.class, Pageable.class);
+		PartTreeJdbcQuery jdbcQuery = new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
+				operations, mock(RowMapper.class));
+
+		Slice<?> slice = (Slice<?>) jdbcQuery.execute(new Object[] { "John", PageRequest.of(1, 2) });
+
+		verify(operations).query(eq(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name LIMIT 3 OFFSET 2"),
+				any(SqlParameterSource.class), any(ResultSetExtractor.class));
+		assertThat(slice.getContent()).containsExactly("a", "b");
+		assertThat(slice.hasNext()).isTrue();
+	}
+
+	@Test
+	public void createsCountQueryForPage() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findPageByFirstName", String.class, Pageable.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		RelationalParametersParameterAccessor accessor = getAccessor(queryMethod,
+				new Object[] { "John", PageRequest.of(1, 10, Sort.by("lastName")) });
+
+		assertThat(jdbcQuery.createQuery(accessor).getQuery()).endsWith("LIMIT 10 OFFSET 10");
+		assertThat(jdbcQuery.createCountQuery(accessor).getQuery())
+				.isEqualTo("SELECT COUNT(*) FROM " + TABLE + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
+	}
+
+	@Test
+	public void reusesStatementForArgumentsOfTheSameShape() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		ParametrizedQuery first = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John" }));
+		ParametrizedQuery second = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "Jane" }));
+
+		assertThat(second.getQuery()).isSameAs(first.getQuery());
+		assertThat(second.getParameterSource().getValue("first_name")).isEqualTo("Jane");
+	}
+
+	@Test
+	public void createsDifferentStatementsForNullAndNonNullArguments() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John" }));
+		ParametrizedQuery isNull = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { null }));
+		ParametrizedQuery isEqual = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "Jane" }));
+
+		assertThat(isNull.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" IS NULL");
+		assertThat(isEqual.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
+	}
+
+	@Test
+	public void createsDifferentStatementsForCollectionsOfDifferentSize() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByAgeIn", Collection.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { Collections.singleton(25) }));
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { Arrays.asList(25, 30) }));
+
+		assertThat(query.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"AGE\" IN (:age, :age1)");
+		assertThat(query.getParameterSource().getValue("age1")).isEqualTo(30);
+	}
+
+	@Test
+	public void rendersLimitClauseOfEachPageForReusedStatement() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findSliceByFirstName", String.class, Pageable.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+
+		jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John", PageRequest.of(0, 10) }));
+		ParametrizedQuery query = jdbcQuery
+				.createQuery(getAccessor(queryMethod, new Object[] { "Jane", PageRequest.of(2, 20) }));
+
+		assertThat(query.getQuery())
+				.isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name LIMIT 21 OFFSET 40");
+		assertThat(query.getParameterSource().getValue("first_name")).isEqualTo("Jane");
+	}
+
 	@Test // DATAJDBC-318
 	public void createsQueryToFindAllEntitiesByTwoStringAttributes() throws Exception {
 
@@ -560,6 +705,99 @@ public class PartTreeJdbcQueryUnitTests {
 			"SELECT COUNT(*) FROM " + TABLE + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name");
 	}
 
+	@Test
+	public void createsQuerySelectingTheColumnsOfAClosedInterfaceProjectionOnly() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findNamesByAge", Integer.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { 30 }));
+
+		assertThat(query.getQuery()).isEqualTo("SELECT " + TABLE + ".\"LAST_NAME\" AS \"LAST_NAME\", " + TABLE
+				+ ".\"FIRST_NAME\" AS \"FIRST_NAME\" FROM " + TABLE + " WHERE " + TABLE + ".\"AGE\" = :age");
+	}
+
+	@Test
+	public void createsQuerySelectingAllColumnsForAProjectionIncludingAnEntity() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findNameAndHatedByAge", Integer.class);
+		PartTreeJdbcQuery jdbcQuery = createQuery(queryMethod);
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { 30 }));
+
+		assertThat(query.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"AGE\" = :age");
+	}
+
+	@Test
+	public void createsQuerySelectingAllColumnsForAProjectionWithConfiguredRowMapper() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findNamesByAge", Integer.class);
+		QueryMappingConfiguration configuration = new DefaultQueryMappingConfiguration()
+				.registerRowMapper(UserNames.class, mock(RowMapper.class));
+		PartTreeJdbcQuery jdbcQuery = new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
+				mock(NamedParameterJdbcOperations.class), mock(RowMapper.class), configuration, false,
+				new RenderContextFactory(H2Dialect.INSTANCE).createRenderer());
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { 30 }));
+
+		assertThat(query.getQuery()).isEqualTo(BASE_SELECT + " WHERE " + TABLE + ".\"AGE\" = :age");
+	}
+
+	@Test
+	public void rendersQueryUsingTheGivenRenderer() throws Exception {
+
+		Renderer renderer = mock(Renderer.class);
+		when(renderer.render(any(Select.class))).thenReturn("SELECT 1");
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findAllByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
+				mock(NamedParameterJdbcOperations.class), mock(RowMapper.class), QueryMappingConfiguration.EMPTY, false,
+				renderer);
+		ParametrizedQuery query = jdbcQuery.createQuery(getAccessor(queryMethod, new Object[] { "John" }));
+
+		assertThat(query.getQuery()).isEqualTo("SELECT 1");
+	}
+
+	@Test
+	public void mapsRowsToClosedInterfaceProjection() throws Exception {
+
+		JdbcQueryMethod queryMethod = getQueryMethod("findNamesByAge", Integer.class);
+		ProjectingRowMapper rowMapper = ProjectingRowMapper.create(queryMethod.getResultProcessor(), mappingContext,
+				converter, mappingContext.getRequiredPersistentEntity(User.class), H2Dialect.INSTANCE.getIdentifierProcessing());
+
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.getObject("FIRST_NAME")).thenReturn("John");
+		when(resultSet.getObject("LAST_NAME")).thenReturn("Doe");
+
+		assertThat(rowMapper).isNotNull();
+
+		UserNames names = (UserNames) rowMapper.mapRow(resultSet, 0);
+
+		assertThat(names.getFirstName()).isEqualTo("John");
+		assertThat(names.getLastName()).isEqualTo("Doe");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void streamsResultOfDerivedQueryFromTheDatabaseCursor() throws Exception {
+
+		NamedParameterJdbcOperations operations = mock(NamedParameterJdbcOperations.class);
+		RowMapper<Object> rowMapper = mock(RowMapper.class);
+		AtomicBoolean closed = new AtomicBoolean();
+		when(operations.queryForStream(anyString(), any(SqlParameterSource.class), eq(rowMapper)))
+				.thenReturn(Stream.<Object> of("John", "Jane").onClose(() -> closed.set(true)));
+
+		JdbcQueryMethod queryMethod = getQueryMethod("streamByFirstName", String.class);
+		PartTreeJdbcQuery jdbcQuery = new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
+				operations, rowMapper);
+
+		try (Stream<?> result = (Stream<?>) jdbcQuery.execute(new Object[] { "John" })) {
+			assertThat(result).containsExactly("John", "Jane");
+		}
+
+		assertThat(closed).isTrue();
+		verify(operations).queryForStream(eq(BASE_SELECT + " WHERE " + TABLE + ".\"FIRST_NAME\" = :first_name"),
+				any(SqlParameterSource.class), eq(rowMapper));
+		verify(operations, never()).query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class));
+	}
+
 	private PartTreeJdbcQuery createQuery(JdbcQueryMethod queryMethod) {
 		return new PartTreeJdbcQuery(mappingContext, queryMethod, H2Dialect.INSTANCE, converter,
 				mock(NamedParameterJdbcOperations.class), mock(RowMapper.class));
@@ -580,6 +818,12 @@ public class PartTreeJdbcQueryUnitTests {
 
 		List<User> findAllByFirstName(String firstName);
 
+		Stream<User> streamByFirstName(String firstName);
+
+		Slice<User> findSliceByFirstName(String firstName, Pageable pageable);
+
+		Page<User> findPageByFirstName(String firstName, Pageable pageable);
+
 		List<User> findAllByHated(Hobby hobby);
 
 		List<User> findAllByHobbies(Object hobbies);
@@ -653,6 +897,24 @@ public class PartTreeJdbcQueryUnitTests {
 		User findByAnotherEmbeddedList(Object list);
 
 		long countByFirstName(String name);
+
+		List<UserNames> findNamesByAge(Integer age);
+
+		List<UserNameAndHated> findNameAndHatedByAge(Integer age);
+	}
+
+	interface UserNames {
+
+		String getFirstName();
+
+		String getLastName();
+	}
+
+	interface UserNameAndHated {
+
+		String getFirstName();
+
+		Hobby getHated();
 	}
 
 	@Table("users")
@@ -28,6 +28,9 @@ import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
 import org.springframework.data.jdbc.core.mapping.JdbcMappingContext;
+import org.springframework.data.relational.core.dialect.AnsiDialect;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.InClause;
 import org.springframework.data.relational.core.dialect.PostgresDialect;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.query.Criteria;
@@ -293,6 +296,45 @@ public class QueryMapperUnitTests {
 		assertThat(condition).hasToString("person.\"NAME\" NOT IN (?[:name], ?[:name1], ?[:name2])");
 	}
 
+	@Test
+	public void padsInListWhenConfigured() {
+
+		QueryMapper mapper = new QueryMapper(PostgresDialect.INSTANCE, converter, true);
+		Criteria criteria = Criteria.where("name").in("a", "b", "c");
+
+		Condition condition = mapper.getMappedObject(parameterSource, criteria, Table.create("person"),
+				context.getRequiredPersistentEntity(Person.class));
+
+		assertThat(condition).hasToString("person.\"NAME\" IN (?[:name], ?[:name1], ?[:name2], ?[:name3])");
+		assertThat(parameterSource.getValue("name3")).isEqualTo("c");
+	}
+
+	@Test
+	public void splitsInListsExceedingTheMaximumListSizeOfTheDialect() {
+
+		QueryMapper mapper = new QueryMapper(dialectWithMaxListSize(2), converter, true);
+		Criteria criteria = Criteria.where("name").in("a", "b", "c");
+
+		Condition condition = mapper.getMappedObject(parameterSource, criteria, Table.create("person"),
+				context.getRequiredPersistentEntity(Person.class));
+
+		assertThat(condition).hasToString("(person.\"NAME\" IN (?[:name], ?[:name1]) OR person.\"NAME\" IN (?[:name2]))");
+		assertThat(parameterSource.getValue("name2")).isEqualTo("c");
+	}
+
+	@Test
+	public void splitsNotInListsExceedingTheMaximumListSizeOfTheDialect() {
+
+		QueryMapper mapper = new QueryMapper(dialectWithMaxListSize(2), converter, false);
+		Criteria criteria = Criteria.where("name").notIn("a", "b", "c");
+
+		Condition condition = mapper.getMappedObject(parameterSource, criteria, Table.create("person"),
+				context.getRequiredPersistentEntity(Person.class));
+
+		assertThat(condition)
+				.hasToString("(person.\"NAME\" NOT IN (?[:name], ?[:name1]) AND person.\"NAME\" NOT IN (?[:name2]))");
+	}
+
 	@Test // DATAJDBC-318
 	public void shouldMapIsGt() {
 
@@ -371,6 +413,17 @@ public class QueryMapperUnitTests {
 				context.getRequiredPersistentEntity(Person.class));
 	}
 
+	private static Dialect dialectWithMaxListSize(int maxListSize) {
+
+		return new AnsiDialect() {
+
+			@Override
+			public InClause inClause() {
+				return () -> maxListSize;
+			}
+		};
+	}
+
 	static class Person {
 
 		String name;
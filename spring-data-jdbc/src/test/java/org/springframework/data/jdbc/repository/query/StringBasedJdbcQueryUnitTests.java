@@ -16,25 +16,36 @@
 package org.springframework.data.jdbc.repository.query;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.jdbc.core.convert.BasicJdbcConverter;
 import org.springframework.data.jdbc.core.convert.JdbcConverter;
 import org.springframework.data.jdbc.core.convert.RelationResolver;
+import org.springframework.data.jdbc.repository.QueryOptions;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 import org.springframework.data.relational.repository.query.RelationalParameters;
 import org.springframework.data.repository.query.DefaultParameters;
 import org.springframework.data.repository.query.Parameters;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcOperations;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 /**
  * Unit tests for {@link StringBasedJdbcQuery}.
@@ -62,6 +73,7 @@ public class StringBasedJdbcQueryUnitTests {
 		Parameters<?, ?> parameters = new RelationalParameters(
 				StringBasedJdbcQueryUnitTests.class.getDeclaredMethod("dummyMethod"));
 		doReturn(parameters).when(queryMethod).getParameters();
+		doReturn(QueryOptions.NONE).when(queryMethod).getQueryOptions();
 
 		this.defaultRowMapper = mock(RowMapper.class);
 		this.operations = mock(NamedParameterJdbcOperations.class);
@@ -145,6 +157,49 @@ public class StringBasedJdbcQueryUnitTests {
 						"RowMapper is not expected to be custom");
 	}
 
+	@Test
+	public void queryOptionsGetAppliedToTheStatement() throws SQLException {
+
+		JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+		doReturn(jdbcOperations).when(operations).getJdbcOperations();
+		doReturn("some sql statement").when(queryMethod).getDeclaredQuery();
+		doReturn(QueryOptions.of(100, -1, 5)).when(queryMethod).getQueryOptions();
+
+		new StringBasedJdbcQuery(queryMethod, operations, defaultRowMapper, converter).execute(new Object[] {});
+
+		ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+		verify(jdbcOperations).query(creator.capture(), any(ResultSetExtractor.class));
+
+		Connection connection = mock(Connection.class);
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(connection.prepareStatement("some sql statement")).thenReturn(statement);
+
+		assertThat(creator.getValue().createPreparedStatement(connection)).isSameAs(statement);
+		verify(statement).setFetchSize(100);
+		verify(statement, never()).setMaxRows(anyInt());
+		verify(statement).setQueryTimeout(5);
+	}
+
+	@Test
+	public void streamQueryReturnsStreamReadingFromTheDatabaseCursor() {
+
+		doReturn("some sql statement").when(queryMethod).getDeclaredQuery();
+		doReturn(true).when(queryMethod).isStreamQuery();
+
+		AtomicBoolean closed = new AtomicBoolean();
+		doReturn(Stream.of("one", "two").onClose(() -> closed.set(true))).when(operations)
+				.queryForStream(eq("some sql statement"), any(SqlParameterSource.class), eq(defaultRowMapper));
+
+		StringBasedJdbcQuery query = new StringBasedJdbcQuery(queryMethod, operations, defaultRowMapper, converter);
+
+		try (Stream<?> result = (Stream<?>) query.execute(new Object[] {})) {
+			assertThat(result).containsExactly("one", "two");
+		}
+
+		assertThat(closed).isTrue();
+		verify(operations, never()).query(anyString(), any(SqlParameterSource.class), any(ResultSetExtractor.class));
+	}
+
 	/**
 	 * The whole purpose of this method is to easily generate a {@link DefaultParameters} instance during test setup.
 	 */
@@ -15,10 +15,13 @@
  */
 package org.springframework.data.jdbc.repository.support;
 
+import static java.util.Arrays.*;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -48,5 +51,30 @@ public class SimpleJdbcRepositoryUnitTests {
 		assertThat(repository.save(new Sample())).isEqualTo(expected);
 	}
 
+	@Test
+	public void saveAllDelegatesToOperations() {
+
+		SimpleJdbcRepository<Sample, Object> repository = new SimpleJdbcRepository<>(operations, entity);
+
+		List<Sample> expected = asList(new Sample(), new Sample());
+		doReturn(expected).when(operations).saveAll(any());
+
+		assertThat(repository.saveAll(asList(new Sample(), new Sample()))).isEqualTo(expected);
+		verify(operations, never()).save(any());
+	}
+
+	@Test
+	public void deleteAllDelegatesToOperations() {
+
+		SimpleJdbcRepository<Sample, Object> repository = new SimpleJdbcRepository<>(operations, entity);
+		doReturn(Sample.class).when(entity).getType();
+
+		List<Sample> samples = asList(new Sample(), new Sample());
+		repository.deleteAll(samples);
+
+		verify(operations).deleteAll(samples, Sample.class);
+		verify(operations, never()).delete(any(), any());
+	}
+
 	static class Sample {}
 }
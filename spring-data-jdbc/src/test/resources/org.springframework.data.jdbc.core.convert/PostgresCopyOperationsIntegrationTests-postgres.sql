@@ -0,0 +1,2 @@
+DROP TABLE COPY_TARGET;
+CREATE TABLE COPY_TARGET (ID BIGINT PRIMARY KEY, WITH_TIME_ZONE TIMESTAMP WITH TIME ZONE, WITHOUT_TIME_ZONE TIMESTAMP);
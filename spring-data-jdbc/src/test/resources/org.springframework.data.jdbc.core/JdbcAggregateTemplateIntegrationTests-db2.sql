@@ -35,6 +35,7 @@ DROP TABLE NO_ID_LIST_CHAIN4;
 
 DROP TABLE WITH_READ_ONLY;
 DROP TABLE VERSIONED_AGGREGATE;
+DROP TABLE ASSIGNED_ID_AGGREGATE;
 
 CREATE TABLE LEGO_SET
 (
@@ -343,3 +344,9 @@ CREATE TABLE VERSIONED_AGGREGATE
   ID BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 1) PRIMARY KEY,
   VERSION BIGINT
 );
+
+CREATE TABLE ASSIGNED_ID_AGGREGATE
+(
+    ID   BIGINT NOT NULL PRIMARY KEY,
+    NAME VARCHAR(100)
+);
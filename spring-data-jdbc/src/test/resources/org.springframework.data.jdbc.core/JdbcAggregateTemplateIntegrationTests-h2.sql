@@ -303,3 +303,9 @@ CREATE TABLE WITH_READ_ONLY
     NAME      VARCHAR(200),
     READ_ONLY VARCHAR(200) DEFAULT 'from-db'
 );
+
+CREATE TABLE ASSIGNED_ID_AGGREGATE
+(
+    ID   BIGINT PRIMARY KEY,
+    NAME VARCHAR(100)
+);
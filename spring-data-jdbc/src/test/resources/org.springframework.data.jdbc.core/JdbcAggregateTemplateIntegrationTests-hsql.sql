@@ -305,3 +305,9 @@ CREATE TABLE VERSIONED_AGGREGATE
   ID BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH 1) PRIMARY KEY,
   VERSION BIGINT
 );
+
+CREATE TABLE ASSIGNED_ID_AGGREGATE
+(
+    ID   BIGINT PRIMARY KEY,
+    NAME VARCHAR(100)
+);
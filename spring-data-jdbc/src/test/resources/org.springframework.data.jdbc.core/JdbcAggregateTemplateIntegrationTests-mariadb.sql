@@ -290,3 +290,9 @@ CREATE TABLE VERSIONED_AGGREGATE
   ID BIGINT AUTO_INCREMENT PRIMARY KEY,
   VERSION BIGINT
 );
+
+CREATE TABLE ASSIGNED_ID_AGGREGATE
+(
+    ID   BIGINT PRIMARY KEY,
+    NAME VARCHAR(100)
+);
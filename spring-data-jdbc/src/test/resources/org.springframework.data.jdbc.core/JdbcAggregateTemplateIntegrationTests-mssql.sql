@@ -298,3 +298,10 @@ CREATE TABLE VERSIONED_AGGREGATE
   ID BIGINT IDENTITY PRIMARY KEY,
   VERSION BIGINT
 );
+
+DROP TABLE IF EXISTS ASSIGNED_ID_AGGREGATE;
+CREATE TABLE ASSIGNED_ID_AGGREGATE
+(
+    ID   BIGINT PRIMARY KEY,
+    NAME VARCHAR(100)
+);
@@ -12,6 +12,7 @@ DROP TABLE CHAIN2;
 DROP TABLE CHAIN1;
 DROP TABLE CHAIN0;
 DROP TABLE WITH_READ_ONLY;
+DROP TABLE ASSIGNED_ID_AGGREGATE;
 
 CREATE TABLE LEGO_SET
 (
@@ -318,3 +319,9 @@ CREATE TABLE WITH_READ_ONLY
     NAME      VARCHAR(200),
     READ_ONLY VARCHAR(200) DEFAULT 'from-db'
 );
+
+CREATE TABLE ASSIGNED_ID_AGGREGATE
+(
+    ID   BIGINT PRIMARY KEY,
+    NAME VARCHAR(100)
+);
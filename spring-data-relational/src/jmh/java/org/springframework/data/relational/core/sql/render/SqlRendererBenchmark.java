@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Insert;
+import org.springframework.data.relational.core.sql.OrderByField;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.Update;
+
+/**
+ * Benchmarks comparing {@link SqlRenderer} and {@link SinglePassSqlRenderer}. Run with {@code -prof gc} to compare the
+ * allocation rates as well.
+ *
+ * @author Tobias Lindner
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlRendererBenchmark {
+
+	Renderer sqlRenderer;
+	Renderer singlePassRenderer;
+
+	Select select;
+	Insert insert;
+	Update update;
+
+	@Setup
+	public void setUp() {
+
+		RenderContext context = new RenderContextFactory(PostgresDialect.INSTANCE).createRenderContext();
+
+		sqlRenderer = SqlRenderer.create(context);
+		singlePassRenderer = SinglePassSqlRenderer.create(context);
+
+		Table employee = SQL.table("employee");
+		Table department = Table.create("department").as("dep");
+		Column id = employee.column("id");
+		Column name = employee.column("name");
+		Column age = employee.column("age");
+
+		select = Select.builder() //
+				.select(id, name, age, department.column("name").as("department_name")) //
+				.from(employee) //
+				.join(department).on(employee.column("department_id")).equals(department.column("id")) //
+				.limitOffset(20, 40) //
+				.where(name.like(SQL.bindMarker(":name")) //
+						.and(age.between(SQL.bindMarker(":min"), SQL.bindMarker(":max"))) //
+						.and(id.in(SQL.bindMarker(":id_0"), SQL.bindMarker(":id_1"), SQL.bindMarker(":id_2")))) //
+				.orderBy(OrderByField.from(name).asc()) //
+				.build();
+
+		insert = Insert.builder().into(employee) //
+				.columns(id, name, age) //
+				.values(SQL.bindMarker(":id"), SQL.bindMarker(":name"), SQL.bindMarker(":age")) //
+				.build();
+
+		update = StatementBuilder.update(employee) //
+				.set(name.set(SQL.bindMarker(":name")), age.set(SQL.bindMarker(":age"))) //
+				.where(id.isEqualTo(SQL.bindMarker(":id"))) //
+				.build();
+	}
+
+	@Benchmark
+	public String selectWithSqlRenderer() {
+		return sqlRenderer.render(select);
+	}
+
+	@Benchmark
+	public String selectWithSinglePassRenderer() {
+		return singlePassRenderer.render(select);
+	}
+
+	@Benchmark
+	public String insertWithSqlRenderer() {
+		return sqlRenderer.render(insert);
+	}
+
+	@Benchmark
+	public String insertWithSinglePassRenderer() {
+		return singlePassRenderer.render(insert);
+	}
+
+	@Benchmark
+	public String updateWithSqlRenderer() {
+		return sqlRenderer.render(update);
+	}
+
+	@Benchmark
+	public String updateWithSinglePassRenderer() {
+		return singlePassRenderer.render(update);
+	}
+}
@@ -115,7 +115,7 @@ public interface DbAction<T> {
 	 *
 	 * @param <T> type of the entity for which this represents a database interaction.
 	 */
-	final class Update<T> implements WithEntity<T> {
+	final class Update<T> implements WithEntity<T>, WithPropertyPath<T> {
 
 		private final T entity;
 		private final PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
@@ -133,6 +133,11 @@ public interface DbAction<T> {
 			return this.propertyPath;
 		}
 
+		@Override
+		public Class<T> getEntityType() {
+			return WithEntity.super.getEntityType();
+		}
+
 		public String toString() {
 			return "DbAction.Update(entity=" + this.getEntity() + ", propertyPath=" + this.getPropertyPath() + ")";
 		}
@@ -160,6 +165,30 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents an upsert statement for the root of an aggregate, i.e. an insert which turns into an update if the root
+	 * already exists in the database. The id of the root must be set.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 2.1
+	 */
+	final class UpsertRoot<T> implements WithEntity<T> {
+
+		private final T entity;
+
+		public UpsertRoot(T entity) {
+			this.entity = entity;
+		}
+
+		public T getEntity() {
+			return this.entity;
+		}
+
+		public String toString() {
+			return "DbAction.UpsertRoot(entity=" + this.getEntity() + ")";
+		}
+	}
+
 	/**
 	 * Represents a merge statement for a single entity that is not the root of an aggregate.
 	 *
@@ -231,6 +260,38 @@ public interface DbAction<T> {
 		}
 	}
 
+	/**
+	 * Represents a delete statement for a single entity that is not the root of an aggregate, identified by its id.
+	 * <p>
+	 * Note that deletes for entities referencing the deleted entity are to be represented by separate {@link DbAction}s.
+	 *
+	 * @param <T> type of the entity for which this represents a database interaction.
+	 * @since 2.1
+	 */
+	final class DeleteById<T> implements WithPropertyPath<T> {
+
+		private final Object id;
+
+		private final PersistentPropertyPath<RelationalPersistentProperty> propertyPath;
+
+		public DeleteById(Object id, PersistentPropertyPath<RelationalPersistentProperty> propertyPath) {
+			this.id = id;
+			this.propertyPath = propertyPath;
+		}
+
+		public Object getId() {
+			return this.id;
+		}
+
+		public PersistentPropertyPath<RelationalPersistentProperty> getPropertyPath() {
+			return this.propertyPath;
+		}
+
+		public String toString() {
+			return "DbAction.DeleteById(id=" + this.getId() + ", propertyPath=" + this.getPropertyPath() + ")";
+		}
+	}
+
 	/**
 	 * Represents a delete statement for a aggregate root when only the ID is known.
 	 * <p>
@@ -19,6 +19,7 @@ import java.util.List;
 
 import org.springframework.data.convert.EntityWriter;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
+import org.springframework.lang.Nullable;
 
 /**
  * Converts an aggregate represented by its root into an {@link MutableAggregateChange}. Does not perform any isNew
@@ -46,4 +47,21 @@ public class RelationalEntityUpdateWriter implements EntityWriter<Object, Mutabl
 		List<DbAction<?>> actions = new WritingContext(context, root, aggregateChange).update();
 		actions.forEach(aggregateChange::addAction);
 	}
+
+	/**
+	 * Converts the aggregate into {@link DbAction}s by comparing it to its previous state. Only referenced entities that
+	 * actually changed get written to the database, as long as they can be identified by their id. Referenced entities
+	 * without an id still get deleted and inserted again.
+	 *
+	 * @param root the aggregate root to be written. Must not be {@code null}.
+	 * @param previousRoot the previous state of the aggregate, typically as currently stored in the database. If
+	 *          {@literal null} the result is the same as for {@link #write(Object, MutableAggregateChange)}.
+	 * @param aggregateChange the {@link MutableAggregateChange} to which to add the actions. Must not be {@code null}.
+	 * @since 2.1
+	 */
+	public void write(Object root, @Nullable Object previousRoot, MutableAggregateChange<?> aggregateChange) {
+
+		List<DbAction<?>> actions = new WritingContext(context, root, aggregateChange).update(previousRoot);
+		actions.forEach(aggregateChange::addAction);
+	}
 }
@@ -19,9 +19,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PersistentPropertyPath;
 import org.springframework.data.mapping.PersistentPropertyPaths;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
@@ -48,6 +51,7 @@ class WritingContext {
 	private final PersistentPropertyPaths<?, RelationalPersistentProperty> paths;
 	private final Map<PathNode, DbAction<?>> previousActions = new HashMap<>();
 	private final Map<PersistentPropertyPath<RelationalPersistentProperty>, List<PathNode>> nodesCache = new HashMap<>();
+	private final Map<PersistentPropertyPath<RelationalPersistentProperty>, List<PathNode>> previousNodesCache = new HashMap<>();
 
 	WritingContext(RelationalMappingContext context, Object root, MutableAggregateChange<?> aggregateChange) {
 
@@ -88,6 +92,65 @@ class WritingContext {
 		return actions;
 	}
 
+	/**
+	 * Creates the {@link DbAction}s for updating the aggregate by comparing it to its previous state, typically as
+	 * currently stored in the database. Entities referenced via a path on which every entity has an id get matched by
+	 * their id and only changed entities get updated, new ones inserted and missing ones deleted. For all other paths all
+	 * referenced entities get deleted and inserted again, just as for {@link #update()}.
+	 *
+	 * @param previous the previous state of the aggregate. If {@literal null} this is equivalent to {@link #update()}.
+	 * @return List of {@link DbAction}s
+	 * @since 2.1
+	 */
+	List<DbAction<?>> update(@Nullable Object previous) {
+
+		if (previous == null) {
+			return update();
+		}
+
+		List<DbAction<?>> actions = new ArrayList<>();
+		actions.add(setRootAction(new DbAction.UpdateRoot<>(entity)));
+
+		List<DbAction<?>> updates = new ArrayList<>();
+		List<DbAction<?>> deletes = new ArrayList<>();
+		List<DbAction<?>> inserts = new ArrayList<>();
+
+		paths.forEach(path -> {
+
+			if (isIdentifiedAlongPath(path)) {
+
+				List<DbAction<?>> pathDeletes = new ArrayList<>();
+				updateDifferentially(path, previous, updates, pathDeletes, inserts);
+				deletes.addAll(0, pathDeletes);
+			} else {
+
+				deletes.add(0, deleteReferenced(path));
+				inserts.addAll(insertAll(path));
+			}
+		});
+
+		actions.addAll(updates);
+		actions.addAll(deletes);
+		actions.addAll(inserts);
+		return actions;
+	}
+
+	/**
+	 * Upserts the aggregate root, which works independently of the root already existing in the database. Since
+	 * referenced entities might exist in the database, they get deleted and inserted again.
+	 *
+	 * @return List of {@link DbAction}s
+	 * @since 2.1
+	 */
+	List<DbAction<?>> upsert() {
+
+		List<DbAction<?>> actions = new ArrayList<>();
+		actions.add(setRootAction(new DbAction.UpsertRoot<>(entity)));
+		actions.addAll(deleteReferenced());
+		actions.addAll(insertReferenced());
+		return actions;
+	}
+
 	List<DbAction<?>> save() {
 
 		List<DbAction<?>> actions = new ArrayList<>();
@@ -105,6 +168,81 @@ class WritingContext {
 		return actions;
 	}
 
+	/**
+	 * Checks if the entities along the path, apart from embedded ones, all have an id, so they can be matched with their
+	 * previous state.
+	 */
+	private boolean isIdentifiedAlongPath(PersistentPropertyPath<RelationalPersistentProperty> path) {
+
+		PersistentPropertyPath<RelationalPersistentProperty> currentPath = path;
+
+		while (!currentPath.isEmpty()) {
+
+			RelationalPersistentProperty property = currentPath.getRequiredLeafProperty();
+			if (!property.isEmbedded() && !context.getRequiredPersistentEntity(property.getActualType()).hasIdProperty()) {
+				return false;
+			}
+			currentPath = currentPath.getParentPath();
+		}
+
+		return true;
+	}
+
+	/**
+	 * Checks if two nodes of the same path are referenced by the same parent entity, under the same key or index.
+	 */
+	private boolean isSamePosition(PathNode node, PathNode previousNode) {
+
+		if (node.getPath().getRequiredLeafProperty().isQualified()
+				&& !Objects.equals(((Pair<?, ?>) node.getValue()).getFirst(), ((Pair<?, ?>) previousNode.getValue()).getFirst())) {
+			return false;
+		}
+
+		PathNode parent = node.getParent();
+		PathNode previousParent = previousNode.getParent();
+
+		if (parent == null || previousParent == null) {
+			return parent == previousParent;
+		}
+
+		RelationalPersistentEntity<?> parentEntity = context
+				.getRequiredPersistentEntity(parent.getPath().getRequiredLeafProperty().getActualType());
+
+		return Objects.equals(parentEntity.getIdentifierAccessor(parent.getActualValue()).getIdentifier(),
+				parentEntity.getIdentifierAccessor(previousParent.getActualValue()).getIdentifier());
+	}
+
+	/**
+	 * Compares the values of all properties stored in the table of the entity, i.e. all properties that aren't references
+	 * to other entities, including those of embedded entities.
+	 */
+	private boolean hasEqualValues(RelationalPersistentEntity<?> persistentEntity, @Nullable Object value,
+			@Nullable Object previousValue) {
+
+		if (value == null || previousValue == null) {
+			return value == previousValue;
+		}
+
+		PersistentPropertyAccessor<?> accessor = persistentEntity.getPropertyAccessor(value);
+		PersistentPropertyAccessor<?> previousAccessor = persistentEntity.getPropertyAccessor(previousValue);
+
+		for (RelationalPersistentProperty property : persistentEntity) {
+
+			if (property.isEmbedded()) {
+
+				if (!hasEqualValues(context.getRequiredPersistentEntity(property.getActualType()),
+						accessor.getProperty(property), previousAccessor.getProperty(property))) {
+					return false;
+				}
+			} else if (!property.isEntity()
+					&& !Objects.deepEquals(accessor.getProperty(property), previousAccessor.getProperty(property))) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	private boolean isNew(Object o) {
 		return context.getRequiredPersistentEntity(o.getClass()).isNew(o);
 	}
@@ -120,47 +258,94 @@ class WritingContext {
 		return actions;
 	}
 
-	@SuppressWarnings("unchecked")
 	private List<DbAction<?>> insertAll(PersistentPropertyPath<RelationalPersistentProperty> path) {
 
 		List<DbAction<?>> actions = new ArrayList<>();
 
-		from(path).forEach(node -> {
+		from(path).forEach(node -> actions.add(insert(node)));
+
+		return actions;
+	}
+
+	private List<DbAction<?>> deleteReferenced() {
 
-			DbAction.WithEntity<?> parentAction = getAction(node.getParent());
-			DbAction.Insert<Object> insert;
-			if (node.getPath().getRequiredLeafProperty().isQualified()) {
+		List<DbAction<?>> deletes = new ArrayList<>();
+		paths.forEach(path -> deletes.add(0, deleteReferenced(path)));
 
-				Pair<Object, Object> value = (Pair) node.getValue();
-				Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers = new HashMap<>();
-				qualifiers.put(node.getPath(), value.getFirst());
+		return deletes;
+	}
 
-				RelationalPersistentEntity<?> parentEntity = context.getRequiredPersistentEntity(parentAction.getEntityType());
+	/// Operations on a single path
 
-				if (!parentEntity.hasIdProperty() && parentAction instanceof DbAction.Insert) {
-					qualifiers.putAll(((DbAction.Insert<?>) parentAction).getQualifiers());
-				}
-				insert = new DbAction.Insert<>(value.getSecond(), path, parentAction, qualifiers);
+	private void updateDifferentially(PersistentPropertyPath<RelationalPersistentProperty> path, Object previous,
+			List<DbAction<?>> updates, List<DbAction<?>> deletes, List<DbAction<?>> inserts) {
+
+		RelationalPersistentEntity<?> leafEntity = context
+				.getRequiredPersistentEntity(path.getRequiredLeafProperty().getActualType());
 
+		Map<Object, PathNode> previousNodes = new LinkedHashMap<>();
+		from(path, previous, previousNodesCache).forEach(node -> {
+
+			Object id = leafEntity.getIdentifierAccessor(node.getActualValue()).getIdentifier();
+			if (id != null) {
+				previousNodes.put(id, node);
+			}
+		});
+
+		from(path).forEach(node -> {
+
+			Object value = node.getActualValue();
+			Object id = leafEntity.getIdentifierAccessor(value).getIdentifier();
+			PathNode previousNode = id == null ? null : previousNodes.remove(id);
+
+			if (previousNode == null) {
+
+				inserts.add(insert(node));
+			} else if (getAction(node.getParent()) instanceof DbAction.Insert || !isSamePosition(node, previousNode)) {
+
+				// the entity moved, so it has to be stored again, just like everything it references
+				deletes.add(new DbAction.DeleteById<>(id, path));
+				inserts.add(insert(node));
 			} else {
-				insert = new DbAction.Insert<>(node.getValue(), path, parentAction, new HashMap<>());
+
+				DbAction.Update<Object> update = new DbAction.Update<>(value, path);
+				// also registered when unchanged, so entities referencing this one have an action to depend on.
+				previousActions.put(node, update);
+
+				if (!hasEqualValues(leafEntity, value, previousNode.getActualValue())) {
+					updates.add(update);
+				}
 			}
-			previousActions.put(node, insert);
-			actions.add(insert);
 		});
 
-		return actions;
+		previousNodes.keySet().forEach(id -> deletes.add(new DbAction.DeleteById<>(id, path)));
 	}
 
-	private List<DbAction<?>> deleteReferenced() {
+	@SuppressWarnings("unchecked")
+	private DbAction.Insert<Object> insert(PathNode node) {
 
-		List<DbAction<?>> deletes = new ArrayList<>();
-		paths.forEach(path -> deletes.add(0, deleteReferenced(path)));
+		DbAction.WithEntity<?> parentAction = getAction(node.getParent());
+		DbAction.Insert<Object> insert;
+		if (node.getPath().getRequiredLeafProperty().isQualified()) {
 
-		return deletes;
-	}
+			Pair<Object, Object> value = (Pair) node.getValue();
+			Map<PersistentPropertyPath<RelationalPersistentProperty>, Object> qualifiers = new HashMap<>();
+			qualifiers.put(node.getPath(), value.getFirst());
 
-	/// Operations on a single path
+			RelationalPersistentEntity<?> parentEntity = context.getRequiredPersistentEntity(parentAction.getEntityType());
+
+			if (!parentEntity.hasIdProperty() && parentAction instanceof DbAction.Insert) {
+				qualifiers.putAll(((DbAction.Insert<?>) parentAction).getQualifiers());
+			}
+			insert = new DbAction.Insert<>(value.getSecond(), node.getPath(), parentAction, qualifiers);
+
+		} else {
+			insert = new DbAction.Insert<>(node.getValue(), node.getPath(), parentAction, new HashMap<>());
+		}
+		previousActions.put(node, insert);
+
+		return insert;
+	}
 
 	private DbAction.Delete<?> deleteReferenced(PersistentPropertyPath<RelationalPersistentProperty> path) {
 
@@ -197,12 +382,17 @@ class WritingContext {
 	}
 
 	private List<PathNode> from(PersistentPropertyPath<RelationalPersistentProperty> path) {
+		return from(path, entity, nodesCache);
+	}
+
+	private List<PathNode> from(PersistentPropertyPath<RelationalPersistentProperty> path, Object rootValue,
+			Map<PersistentPropertyPath<RelationalPersistentProperty>, List<PathNode>> nodesCache) {
 
 		List<PathNode> nodes = new ArrayList<>();
 
 		if (isDirectlyReferencedByRootIgnoringEmbeddables(path)) {
 
-			Object value = getFromRootValue(path);
+			Object value = getFromRootValue(path, rootValue);
 			nodes.addAll(createNodes(path, null, value));
 
 		} else {
@@ -243,13 +433,13 @@ class WritingContext {
 	}
 
 	@Nullable
-	private Object getFromRootValue(PersistentPropertyPath<RelationalPersistentProperty> path) {
+	private Object getFromRootValue(PersistentPropertyPath<RelationalPersistentProperty> path, Object rootValue) {
 
 		if (path.getLength() == 0) {
-			return entity;
+			return rootValue;
 		}
 
-		Object parent = getFromRootValue(path.getParentPath());
+		Object parent = getFromRootValue(path.getParentPath(), rootValue);
 		if (parent == null) {
 			return null;
 		}
@@ -81,6 +81,15 @@ public class Db2Dialect extends AbstractDialect {
 		return LIMIT_CLAUSE;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#upsert()
+	 */
+	@Override
+	public UpsertStatement upsert() {
+		return MergeUpsertStatement.INSTANCE;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.dialect.Dialect#lock()
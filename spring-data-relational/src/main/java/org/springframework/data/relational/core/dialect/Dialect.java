@@ -45,6 +45,70 @@ public interface Dialect {
 	 */
 	LockClause lock();
 
+	/**
+	 * Return the {@link UpsertStatement} used by this dialect.
+	 *
+	 * @return the {@link UpsertStatement} used by this dialect. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	default UpsertStatement upsert() {
+		return UpsertStatement.Unsupported.INSTANCE;
+	}
+
+	/**
+	 * Return the {@link ReturningClause} used by this dialect.
+	 *
+	 * @return the {@link ReturningClause} used by this dialect. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	default ReturningClause returning() {
+		return ReturningClause.Unsupported.INSTANCE;
+	}
+
+	/**
+	 * Return the {@link RowCountEstimate} used by this dialect.
+	 *
+	 * @return the {@link RowCountEstimate} used by this dialect. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	default RowCountEstimate rowCountEstimate() {
+		return RowCountEstimate.Unsupported.INSTANCE;
+	}
+
+	/**
+	 * Return the {@link InClause} used by this dialect.
+	 *
+	 * @return the {@link InClause} used by this dialect. Guaranteed to be not {@literal null}.
+	 * @since 2.1
+	 */
+	default InClause inClause() {
+		return InClause.Default.INSTANCE;
+	}
+
+	/**
+	 * Returns whether this dialect supports comparing row values, e.g. {@code (col1, col2) > (?, ?)}. Dialects not
+	 * supporting it get such comparisons expanded into equivalent {@code OR} conditions.
+	 *
+	 * @return {@literal true} if row value comparisons are supported.
+	 * @since 2.1
+	 * @see org.springframework.data.relational.core.sql.RowValue
+	 */
+	default boolean supportsRowValueComparison() {
+		return false;
+	}
+
+	/**
+	 * Returns whether the JDBC driver returns one generated key per row, in the order of the batch, when fetching the
+	 * generated keys after executing a batch of inserts. Dialects returning {@literal false} get the generated keys of
+	 * multiple inserts obtained by executing the inserts one by one.
+	 *
+	 * @return {@literal true} if generated keys can be obtained from a batch of inserts.
+	 * @since 2.1
+	 */
+	default boolean supportsBatchedGeneratedKeys() {
+		return false;
+	}
+
 	/**
 	 * Returns the array support object that describes how array-typed columns are supported by this dialect.
 	 *
@@ -87,6 +87,15 @@ public class H2Dialect extends AbstractDialect {
 		return LIMIT_CLAUSE;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#upsert()
+	 */
+	@Override
+	public UpsertStatement upsert() {
+		return MergeUpsertStatement.INSTANCE;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.dialect.Dialect#lock()
@@ -96,6 +105,24 @@ public class H2Dialect extends AbstractDialect {
 		return AnsiDialect.LOCK_CLAUSE;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#supportsRowValueComparison()
+	 */
+	@Override
+	public boolean supportsRowValueComparison() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#supportsBatchedGeneratedKeys()
+	 */
+	@Override
+	public boolean supportsBatchedGeneratedKeys() {
+		return true;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.dialect.Dialect#getArraySupport()
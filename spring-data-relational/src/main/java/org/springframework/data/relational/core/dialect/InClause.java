@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Dialect-specific limits and alternatives for {@code IN} conditions with a list of bind parameters, like
+ * {@code id IN (?, ?, ?)}.
+ * <p>
+ * Each list size results in a different statement, which defeats statement caches of JDBC drivers and execution plan
+ * caches of databases. Padding lists to a few bucket sizes using {@link #pad(List, int)} limits the number of different
+ * statements.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+public interface InClause {
+
+	/**
+	 * Returns the maximum number of values in a single {@code IN} list. Longer lists have to be split into multiple
+	 * statements.
+	 *
+	 * @return the maximum number of values in an {@code IN} list.
+	 */
+	int getMaxListSize();
+
+	/**
+	 * Returns whether the dialect supports comparing a column to all elements of a single array parameter, like
+	 * {@code id = ANY(?)}, which results in the same statement for any number of values.
+	 *
+	 * @return {@literal true} if comparing to an array parameter is supported.
+	 */
+	default boolean supportsArrayParameter() {
+		return false;
+	}
+
+	/**
+	 * Returns the size an {@code IN} list of the given size gets padded to, the next power of two, but at most
+	 * {@code maxListSize}.
+	 *
+	 * @param size the number of values.
+	 * @param maxListSize the maximum number of values in an {@code IN} list.
+	 * @return the padded size.
+	 */
+	static int getPaddedSize(int size, int maxListSize) {
+
+		Assert.isTrue(size <= maxListSize, "Size must not exceed the maximum size of IN lists");
+
+		if (size <= 1) {
+			return size;
+		}
+
+		int padded = Integer.highestOneBit(size - 1) << 1;
+		return Math.min(padded, maxListSize);
+	}
+
+	/**
+	 * Pads the given values to the size returned by {@link #getPaddedSize(int, int)} by repeating the last value, which
+	 * doesn't change the result of an {@code IN} or {@code NOT IN} condition.
+	 *
+	 * @param values the values of an {@code IN} list. Must not be {@literal null}.
+	 * @param maxListSize the maximum number of values in an {@code IN} list.
+	 * @return the padded values. The given list if no padding is required.
+	 */
+	static <T> List<T> pad(List<T> values, int maxListSize) {
+
+		Assert.notNull(values, "Values must not be null");
+
+		int paddedSize = getPaddedSize(values.size(), maxListSize);
+
+		if (paddedSize == values.size()) {
+			return values;
+		}
+
+		List<T> padded = new ArrayList<>(paddedSize);
+		padded.addAll(values);
+
+		T last = values.get(values.size() - 1);
+		while (padded.size() < paddedSize) {
+			padded.add(last);
+		}
+
+		return padded;
+	}
+
+	/**
+	 * Splits the given values into consecutive lists of at most {@code maxListSize} values, one for each statement.
+	 *
+	 * @param values the values of an {@code IN} list. Must not be {@literal null}.
+	 * @param maxListSize the maximum number of values in an {@code IN} list.
+	 * @return views of the given list. Empty if there are no values.
+	 */
+	static <T> List<List<T>> split(List<T> values, int maxListSize) {
+
+		Assert.notNull(values, "Values must not be null");
+		Assert.isTrue(maxListSize > 0, "The maximum size of IN lists must be positive");
+
+		List<List<T>> chunks = new ArrayList<>();
+		for (int i = 0; i < values.size(); i += maxListSize) {
+			chunks.add(values.subList(i, Math.min(values.size(), i + maxListSize)));
+		}
+
+		return chunks;
+	}
+
+	/**
+	 * Default {@link InClause} for dialects limiting {@code IN} lists to 1000 values, the limit of Oracle, and not
+	 * supporting array parameters.
+	 */
+	enum Default implements InClause {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.InClause#getMaxListSize()
+		 */
+		@Override
+		public int getMaxListSize() {
+			return 1000;
+		}
+	}
+}
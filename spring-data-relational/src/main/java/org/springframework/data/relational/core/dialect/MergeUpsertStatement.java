@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link UpsertStatement} using the SQL standard {@code MERGE} statement, as supported by SQL Server, DB2, H2 and
+ * HSQLDB.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+class MergeUpsertStatement implements UpsertStatement {
+
+	/**
+	 * Instance for databases that don't require a statement terminator.
+	 */
+	static final MergeUpsertStatement INSTANCE = new MergeUpsertStatement("");
+
+	private static final String TARGET = "t";
+	private static final String SOURCE = "s";
+	private static final String SOURCE_COLUMN = "n";
+
+	private final String terminator;
+
+	/**
+	 * @param terminator appended to the statement. SQL Server for example requires {@code MERGE} to be terminated by a
+	 *          semicolon.
+	 */
+	MergeUpsertStatement(String terminator) {
+		this.terminator = terminator;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.UpsertStatement#isSupported()
+	 */
+	@Override
+	public boolean isSupported() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.UpsertStatement#getUpsert(java.lang.String, java.util.List, java.util.List, java.util.List)
+	 */
+	@Override
+	public String getUpsert(String table, List<String> keyColumns, List<String> columns, List<String> values) {
+
+		Assert.isTrue(columns.size() == values.size(), "There must be a value for each column");
+
+		// the values get used directly in the ON, SET and INSERT clauses instead of a VALUES source, so bind markers get
+		// typed by the columns they are compared with or assigned to. DB2 and HSQLDB reject untyped bind markers.
+		StringJoiner on = new StringJoiner(" AND ");
+		keyColumns.forEach(column -> on.add(TARGET + "." + column + " = " + values.get(columns.indexOf(column))));
+
+		StringJoiner set = new StringJoiner(", ");
+		for (int i = 0; i < columns.size(); i++) {
+
+			if (!keyColumns.contains(columns.get(i))) {
+				set.add(columns.get(i) + " = " + values.get(i));
+			}
+		}
+
+		StringBuilder merge = new StringBuilder() //
+				.append("MERGE INTO ").append(table).append(" ").append(TARGET) //
+				.append(" USING (VALUES (1)) ").append(SOURCE).append(" (").append(SOURCE_COLUMN).append(")") //
+				.append(" ON ").append(on);
+
+		if (set.length() > 0) {
+			merge.append(" WHEN MATCHED THEN UPDATE SET ").append(set);
+		}
+
+		return merge //
+				.append(" WHEN NOT MATCHED THEN INSERT (").append(String.join(", ", columns)).append(")") //
+				.append(" VALUES (").append(String.join(", ", values)).append(")") //
+				.append(terminator) //
+				.toString();
+	}
+}
@@ -15,9 +15,13 @@
  */
 package org.springframework.data.relational.core.dialect;
 
+import java.util.List;
+import java.util.StringJoiner;
+
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.LetterCasing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.Quoting;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.util.Assert;
 import org.springframework.data.relational.core.sql.LockOptions;
 
@@ -135,6 +139,69 @@ public class MySqlDialect extends AbstractDialect {
 		}
 	};
 
+	private static final UpsertStatement UPSERT_STATEMENT = new UpsertStatement() {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.UpsertStatement#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.UpsertStatement#getUpsert(java.lang.String, java.util.List, java.util.List, java.util.List)
+		 */
+		@Override
+		public String getUpsert(String table, List<String> keyColumns, List<String> columns, List<String> values) {
+
+			StringJoiner set = new StringJoiner(", ");
+			columns.stream() //
+					.filter(column -> !keyColumns.contains(column)) //
+					.forEach(column -> set.add(column + " = VALUES(" + column + ")"));
+
+			if (set.length() == 0) {
+				// MySQL has no "do nothing", so we use a no-op update instead.
+				set.add(keyColumns.get(0) + " = " + keyColumns.get(0));
+			}
+
+			return String.format("INSERT INTO %s (%s) VALUES (%s) ON DUPLICATE KEY UPDATE %s", table,
+					String.join(", ", columns), String.join(", ", values), set);
+		}
+	};
+
+	private static final RowCountEstimate ROW_COUNT_ESTIMATE = new RowCountEstimate() {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.RowCountEstimate#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.RowCountEstimate#getEstimateQuery(org.springframework.data.relational.core.sql.SqlIdentifier, org.springframework.data.relational.core.sql.IdentifierProcessing)
+		 */
+		@Override
+		public String getEstimateQuery(SqlIdentifier tableName, IdentifierProcessing identifierProcessing) {
+
+			List<SqlIdentifier> parts = tableName.toList();
+			String table = parts.get(parts.size() - 1).getReference(identifierProcessing);
+			String schema = parts.size() > 1 //
+					? RowCountEstimate.toLiteral(parts.get(0).getReference(identifierProcessing)) //
+					: "DATABASE()";
+
+			// TABLE_ROWS is an estimate for InnoDB tables, maintained by the table statistics
+			return "SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = " + schema + " AND TABLE_NAME = "
+					+ RowCountEstimate.toLiteral(table);
+		}
+	};
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.dialect.Dialect#limit()
@@ -153,6 +220,42 @@ public class MySqlDialect extends AbstractDialect {
 		return LOCK_CLAUSE;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#rowCountEstimate()
+	 */
+	@Override
+	public RowCountEstimate rowCountEstimate() {
+		return ROW_COUNT_ESTIMATE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#supportsRowValueComparison()
+	 */
+	@Override
+	public boolean supportsRowValueComparison() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#supportsBatchedGeneratedKeys()
+	 */
+	@Override
+	public boolean supportsBatchedGeneratedKeys() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#upsert()
+	 */
+	@Override
+	public UpsertStatement upsert() {
+		return UPSERT_STATEMENT;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.dialect.Dialect#getIdentifierProcessing()
@@ -16,6 +16,7 @@
 package org.springframework.data.relational.core.dialect;
 
 import java.util.List;
+import java.util.StringJoiner;
 
 import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.IdentifierProcessing.LetterCasing;
@@ -82,6 +83,123 @@ public class PostgresDialect extends AbstractDialect {
 		}
 	};
 
+	private static final UpsertStatement UPSERT_STATEMENT = new UpsertStatement() {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.UpsertStatement#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.UpsertStatement#getUpsert(java.lang.String, java.util.List, java.util.List, java.util.List)
+		 */
+		@Override
+		public String getUpsert(String table, List<String> keyColumns, List<String> columns, List<String> values) {
+
+			StringJoiner set = new StringJoiner(", ");
+			columns.stream() //
+					.filter(column -> !keyColumns.contains(column)) //
+					.forEach(column -> set.add(column + " = EXCLUDED." + column));
+
+			return String.format("INSERT INTO %s (%s) VALUES (%s) ON CONFLICT (%s) %s", table, String.join(", ", columns),
+					String.join(", ", values), String.join(", ", keyColumns),
+					set.length() == 0 ? "DO NOTHING" : "DO UPDATE SET " + set);
+		}
+	};
+
+	private static final RowCountEstimate ROW_COUNT_ESTIMATE = new RowCountEstimate() {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.RowCountEstimate#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.RowCountEstimate#getEstimateQuery(org.springframework.data.relational.core.sql.SqlIdentifier, org.springframework.data.relational.core.sql.IdentifierProcessing)
+		 */
+		@Override
+		public String getEstimateQuery(SqlIdentifier tableName, IdentifierProcessing identifierProcessing) {
+
+			// reltuples is -1 (0 before Postgres 14) for tables that have never been vacuumed or analyzed
+			return "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass("
+					+ RowCountEstimate.toLiteral(tableName.toSql(identifierProcessing)) + ")";
+		}
+	};
+
+	private static final ReturningClause RETURNING_CLAUSE = new ReturningClause() {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.ReturningClause#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.ReturningClause#isRowOrderPreserving()
+		 */
+		@Override
+		public boolean isRowOrderPreserving() {
+
+			// a plain INSERT … VALUES … RETURNING processes the rows of the VALUES list one after the other and emits the
+			// RETURNING row of each as soon as it got inserted.
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.ReturningClause#getReturning(java.util.List)
+		 */
+		@Override
+		public String getReturning(List<String> columns) {
+			return "RETURNING " + String.join(", ", columns);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.ReturningClause#getClausePosition()
+		 */
+		@Override
+		public Position getClausePosition() {
+			return Position.AFTER_VALUES;
+		}
+	};
+
+	private static final InClause IN_CLAUSE = new InClause() {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.InClause#getMaxListSize()
+		 */
+		@Override
+		public int getMaxListSize() {
+			// the wire protocol limits the number of bind parameters of a statement to 32767
+			return 32767;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.InClause#supportsArrayParameter()
+		 */
+		@Override
+		public boolean supportsArrayParameter() {
+			return true;
+		}
+	};
+
 	private final PostgresArrayColumns ARRAY_COLUMNS = new PostgresArrayColumns();
 
 	/*
@@ -104,6 +222,60 @@ public class PostgresDialect extends AbstractDialect {
 		return LOCK_CLAUSE;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#upsert()
+	 */
+	@Override
+	public UpsertStatement upsert() {
+		return UPSERT_STATEMENT;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#returning()
+	 */
+	@Override
+	public ReturningClause returning() {
+		return RETURNING_CLAUSE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#rowCountEstimate()
+	 */
+	@Override
+	public RowCountEstimate rowCountEstimate() {
+		return ROW_COUNT_ESTIMATE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#inClause()
+	 */
+	@Override
+	public InClause inClause() {
+		return IN_CLAUSE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#supportsRowValueComparison()
+	 */
+	@Override
+	public boolean supportsRowValueComparison() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#supportsBatchedGeneratedKeys()
+	 */
+	@Override
+	public boolean supportsBatchedGeneratedKeys() {
+		return true;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.dialect.Dialect#getArraySupport()
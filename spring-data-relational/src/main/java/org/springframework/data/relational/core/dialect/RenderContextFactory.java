@@ -19,7 +19,9 @@ import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.render.NamingStrategies;
 import org.springframework.data.relational.core.sql.render.RenderContext;
 import org.springframework.data.relational.core.sql.render.RenderNamingStrategy;
+import org.springframework.data.relational.core.sql.render.Renderer;
 import org.springframework.data.relational.core.sql.render.SelectRenderContext;
+import org.springframework.data.relational.core.sql.render.SqlRenderer;
 import org.springframework.util.Assert;
 
 /**
@@ -70,6 +72,19 @@ public class RenderContextFactory {
 		return new DialectRenderContext(namingStrategy, dialect.getIdentifierProcessing(), select);
 	}
 
+	/**
+	 * Returns a {@link SqlRenderer} using a {@link RenderContext} configured with {@link Dialect} specifics. Other
+	 * {@link Renderer} implementations, like
+	 * {@link org.springframework.data.relational.core.sql.render.SinglePassSqlRenderer}, can be created for the
+	 * {@link #createRenderContext() RenderContext} directly.
+	 *
+	 * @return the {@link Renderer}.
+	 * @since 2.1
+	 */
+	public Renderer createRenderer() {
+		return SqlRenderer.create(createRenderContext());
+	}
+
 	/**
 	 * {@link RenderContext} derived from {@link Dialect} specifics.
 	 */
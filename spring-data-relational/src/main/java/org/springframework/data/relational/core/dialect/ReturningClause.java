@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.List;
+
+/**
+ * A clause representing Dialect-specific means to return values of inserted rows, like {@code RETURNING} or
+ * {@code OUTPUT}, as a result set of the {@code INSERT} statement. This allows obtaining the generated keys of
+ * multi-row inserts in a single round trip.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+public interface ReturningClause {
+
+	/**
+	 * Returns {@literal true} if the dialect supports returning values from {@code INSERT} statements.
+	 *
+	 * @return {@literal true} if the dialect supports returning values from {@code INSERT} statements.
+	 */
+	boolean isSupported();
+
+	/**
+	 * Returns whether the rows returned by the {@link #getReturning(List) clause} are guaranteed to be in the order of
+	 * the rows of the {@code VALUES} list. Only then the returned values, like generated ids, can get assigned to the
+	 * inserted entities by position. Dialects that return the rows in an unspecified order may still support returning
+	 * values, but inserts requiring generated ids then use the clause for single-row inserts only.
+	 *
+	 * @return {@literal true} if the returned rows are in the order of the inserted rows. {@literal false} by default.
+	 */
+	default boolean isRowOrderPreserving() {
+		return false;
+	}
+
+	/**
+	 * Returns the clause returning the values of the given columns for each inserted row. Whether the rows get returned
+	 * in the order of the inserted rows is indicated by {@link #isRowOrderPreserving()}.
+	 *
+	 * @param columns the rendered names of the columns to return. Must not be empty.
+	 * @return the rendered clause.
+	 * @throws UnsupportedOperationException if returning values is not supported.
+	 */
+	String getReturning(List<String> columns);
+
+	/**
+	 * Returns the {@link Position} where to apply the {@link #getReturning(List) clause}.
+	 */
+	Position getClausePosition();
+
+	/**
+	 * Enumeration of where to render the clause within the {@code INSERT} statement.
+	 */
+	enum Position {
+
+		/**
+		 * Render the clause between the column list and the {@code VALUES}.
+		 */
+		BEFORE_VALUES,
+
+		/**
+		 * Append the clause at the end of the statement.
+		 */
+		AFTER_VALUES
+	}
+
+	/**
+	 * Default {@link ReturningClause} implementation for dialects that do not support returning values from inserts.
+	 */
+	enum Unsupported implements ReturningClause {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.ReturningClause#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.ReturningClause#getReturning(java.util.List)
+		 */
+		@Override
+		public String getReturning(List<String> columns) {
+			throw new UnsupportedOperationException("Returning values from inserts not supported");
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.ReturningClause#getClausePosition()
+		 */
+		@Override
+		public Position getClausePosition() {
+			throw new UnsupportedOperationException("Returning values from inserts not supported");
+		}
+	}
+}
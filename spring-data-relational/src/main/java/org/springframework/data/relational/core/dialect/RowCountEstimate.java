@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+
+/**
+ * Dialect-specific query for the estimated number of rows of a table, taken from the statistics the database maintains
+ * for its query planner. Such an estimate is much cheaper than a {@code SELECT COUNT(*)}, which has to scan the table
+ * or an index on databases using MVCC, but may deviate from the actual number of rows.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+public interface RowCountEstimate {
+
+	/**
+	 * Returns {@literal true} if the dialect supports estimating the number of rows of a table.
+	 *
+	 * @return {@literal true} if the dialect supports estimating the number of rows of a table.
+	 */
+	boolean isSupported();
+
+	/**
+	 * Returns a query selecting the estimated number of rows of the given table as a single numeric value. The result
+	 * is negative or empty if there is no estimate available, e.g. because the table has not been analyzed yet.
+	 *
+	 * @param tableName the name of the table. Must not be {@literal null}.
+	 * @param identifierProcessing the {@link IdentifierProcessing} used for rendering the table name.
+	 * @return the rendered query.
+	 * @throws UnsupportedOperationException if estimating the number of rows is not supported.
+	 */
+	String getEstimateQuery(SqlIdentifier tableName, IdentifierProcessing identifierProcessing);
+
+	/**
+	 * Renders a {@link String} as SQL string literal.
+	 *
+	 * @param value the value to render. Must not be {@literal null}.
+	 * @return the value enclosed in single quotes, with contained single quotes escaped.
+	 */
+	static String toLiteral(String value) {
+		return "'" + value.replace("'", "''") + "'";
+	}
+
+	/**
+	 * Default {@link RowCountEstimate} implementation for dialects that do not support estimating the number of rows.
+	 */
+	enum Unsupported implements RowCountEstimate {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.RowCountEstimate#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.RowCountEstimate#getEstimateQuery(org.springframework.data.relational.core.sql.SqlIdentifier, org.springframework.data.relational.core.sql.IdentifierProcessing)
+		 */
+		@Override
+		public String getEstimateQuery(SqlIdentifier tableName, IdentifierProcessing identifierProcessing) {
+			throw new UnsupportedOperationException("Estimating the number of rows not supported");
+		}
+	}
+}
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.relational.core.dialect;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.springframework.data.relational.core.sql.LockOptions;
 import org.springframework.data.relational.core.sql.render.SelectRenderContext;
 import org.springframework.data.util.Lazy;
@@ -24,6 +27,7 @@ import org.springframework.data.util.Lazy;
  *
  * @author Mark Paluch
  * @author Myeonghyeon Lee
+ * @author Jens Schauder
  * @since 1.1
  */
 public class SqlServerDialect extends AbstractDialect {
@@ -35,6 +39,49 @@ public class SqlServerDialect extends AbstractDialect {
 
 	protected SqlServerDialect() {}
 
+	private static final UpsertStatement UPSERT_STATEMENT = new MergeUpsertStatement(";");
+
+	private static final ReturningClause RETURNING_CLAUSE = new ReturningClause() {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.ReturningClause#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.ReturningClause#isRowOrderPreserving()
+		 */
+		@Override
+		public boolean isRowOrderPreserving() {
+
+			// SQL Server documents no order for the rows of an OUTPUT clause, so generated ids can't be matched by position.
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.ReturningClause#getReturning(java.util.List)
+		 */
+		@Override
+		public String getReturning(List<String> columns) {
+			return columns.stream().map(column -> "INSERTED." + column).collect(Collectors.joining(", ", "OUTPUT ", ""));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.ReturningClause#getClausePosition()
+		 */
+		@Override
+		public Position getClausePosition() {
+			return Position.BEFORE_VALUES;
+		}
+	};
+
 	private static final LimitClause LIMIT_CLAUSE = new LimitClause() {
 
 		/*
@@ -105,6 +152,19 @@ public class SqlServerDialect extends AbstractDialect {
 		}
 	};
 
+	private static final InClause IN_CLAUSE = new InClause() {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.InClause#getMaxListSize()
+		 */
+		@Override
+		public int getMaxListSize() {
+			// statements are limited to 2100 parameters, leaving some for other conditions
+			return 2000;
+		}
+	};
+
 	private final Lazy<SelectRenderContext> selectRenderContext = Lazy
 			.of(() -> new SqlServerSelectRenderContext(getAfterFromTable(), getAfterOrderBy()));
 
@@ -117,6 +177,24 @@ public class SqlServerDialect extends AbstractDialect {
 		return LIMIT_CLAUSE;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#upsert()
+	 */
+	@Override
+	public UpsertStatement upsert() {
+		return UPSERT_STATEMENT;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#returning()
+	 */
+	@Override
+	public ReturningClause returning() {
+		return RETURNING_CLAUSE;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.dialect.Dialect#lock()
@@ -126,6 +204,15 @@ public class SqlServerDialect extends AbstractDialect {
 		return LOCK_CLAUSE;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.dialect.Dialect#inClause()
+	 */
+	@Override
+	public InClause inClause() {
+		return IN_CLAUSE;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.dialect.Dialect#getLikeEscaper()
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import java.util.List;
+
+/**
+ * A statement representing a Dialect-specific {@code UPSERT}, i.e. an insert that turns into an update when a row with
+ * the same key already exists.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+public interface UpsertStatement {
+
+	/**
+	 * Returns {@literal true} if the dialect supports upserts as a single statement.
+	 *
+	 * @return {@literal true} if the dialect supports upserts as a single statement.
+	 */
+	boolean isSupported();
+
+	/**
+	 * Returns the {@code UPSERT} statement for a single row. All arguments are expected to be rendered SQL.
+	 *
+	 * @param table the table to insert into or update.
+	 * @param keyColumns the columns identifying an existing row, typically the id column. Must not be empty.
+	 * @param columns all columns to store, including the {@code keyColumns}.
+	 * @param values the values, typically bind markers, in the order of {@code columns}.
+	 * @return the rendered upsert statement.
+	 * @throws UnsupportedOperationException if upserts are not supported.
+	 */
+	String getUpsert(String table, List<String> keyColumns, List<String> columns, List<String> values);
+
+	/**
+	 * Default {@link UpsertStatement} implementation for dialects that do not support upserts.
+	 */
+	enum Unsupported implements UpsertStatement {
+
+		INSTANCE;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.UpsertStatement#isSupported()
+		 */
+		@Override
+		public boolean isSupported() {
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.dialect.UpsertStatement#getUpsert(java.lang.String, java.util.List, java.util.List, java.util.List)
+		 */
+		@Override
+		public String getUpsert(String table, List<String> keyColumns, List<String> columns, List<String> values) {
+			throw new UnsupportedOperationException("Upsert not supported");
+		}
+	}
+}
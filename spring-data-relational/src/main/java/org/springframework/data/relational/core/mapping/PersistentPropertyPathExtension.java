@@ -300,6 +300,19 @@ public class PersistentPropertyPathExtension {
 		return path == null ? SqlIdentifier.EMPTY : path.getRequiredLeafProperty().getKeyColumn();
 	}
 
+	/**
+	 * The alias used in select for the column used for the list index or map key of the leaf property of this path.
+	 *
+	 * @return May be {@literal null}.
+	 * @since 2.1
+	 */
+	@Nullable
+	public SqlIdentifier getQualifierColumnAlias() {
+
+		SqlIdentifier qualifierColumn = getQualifierColumn();
+		return path == null || qualifierColumn == null ? qualifierColumn : prefixWithTableAlias(qualifierColumn);
+	}
+
 	/**
 	 * The type of the qualifier column of the leaf property of this path or {@literal null} if this is not applicable.
 	 *
@@ -442,7 +455,7 @@ public class PersistentPropertyPathExtension {
 		if (o == null || getClass() != o.getClass()) return false;
 		PersistentPropertyPathExtension that = (PersistentPropertyPathExtension) o;
 		return entity.equals(that.entity) &&
-				path.equals(that.path);
+				Objects.equals(path, that.path);
 	}
 
 	@Override
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.query;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+
+/**
+ * The values of the sort keys of the last row of a page, used for keyset pagination (also known as seek method): the
+ * next page gets selected by the rows following these values in the {@link Sort} order instead of skipping a number
+ * of rows using an offset. The database can then use an index on the sort keys to seek directly to the first row of
+ * the page, no matter how deep the page is.
+ * <p/>
+ * The values must be given in the order of the {@link Sort} they refer to and must not be {@literal null}. In order
+ * to not skip or repeat rows the {@link Sort} must be unique, e.g. by ending with the id.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+public final class Keyset {
+
+	private static final Keyset INITIAL = new Keyset(Collections.emptyList());
+
+	private final List<Object> values;
+
+	private Keyset(List<Object> values) {
+		this.values = values;
+	}
+
+	/**
+	 * Returns the {@link Keyset} for selecting the first page.
+	 *
+	 * @return a {@link Keyset} without values. Guaranteed to be not {@literal null}.
+	 */
+	public static Keyset initial() {
+		return INITIAL;
+	}
+
+	/**
+	 * Creates a new {@link Keyset} for selecting the rows following the given sort key values.
+	 *
+	 * @param values the values of the sort keys of the last row already seen, in the order of the {@link Sort}. Must
+	 *          not be {@literal null} and must not contain {@literal null} values.
+	 * @return a {@link Keyset}. Guaranteed to be not {@literal null}.
+	 */
+	public static Keyset of(Object... values) {
+
+		Assert.notNull(values, "Values must not be null");
+		Assert.noNullElements(values, "Values must not contain null elements");
+
+		return values.length == 0 ? INITIAL : new Keyset(Collections.unmodifiableList(Arrays.asList(values.clone())));
+	}
+
+	/**
+	 * @return {@literal true} if this {@link Keyset} selects the first page.
+	 */
+	public boolean isInitial() {
+		return values.isEmpty();
+	}
+
+	/**
+	 * @return the sort key values. Guaranteed to be not {@literal null}.
+	 */
+	public List<Object> getValues() {
+		return values;
+	}
+
+	/**
+	 * @return the number of sort key values.
+	 */
+	public int size() {
+		return values.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+
+		return values.equals(((Keyset) o).values);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return values.hashCode();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "Keyset" + values;
+	}
+}
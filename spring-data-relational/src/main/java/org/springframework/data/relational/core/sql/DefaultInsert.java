@@ -32,12 +32,22 @@ class DefaultInsert implements Insert {
 
 	private final Into into;
 	private final List<Column> columns;
-	private final Values values;
+	private final List<Values> values;
+
+	DefaultInsert(@Nullable Table into, List<Column> columns, List<List<Expression>> rows) {
+
+		Assert.notEmpty(rows, "Rows must not be empty!");
 
-	DefaultInsert(@Nullable Table into, List<Column> columns, List<Expression> values) {
 		this.into = new Into(into);
 		this.columns = new ArrayList<>(columns);
-		this.values = new Values(new ArrayList<>(values));
+		this.values = new ArrayList<>(rows.size());
+
+		for (List<Expression> row : rows) {
+
+			Assert.isTrue(row.size() == rows.get(0).size(), "All rows must have the same number of values!");
+
+			this.values.add(new Values(new ArrayList<>(row)));
+		}
 	}
 
 	/* 
@@ -53,7 +63,7 @@ class DefaultInsert implements Insert {
 
 		into.visit(visitor);
 		columns.forEach(it -> it.visit(visitor));
-		values.visit(visitor);
+		values.forEach(it -> it.visit(visitor));
 
 		visitor.leave(this);
 	}
@@ -73,7 +83,13 @@ class DefaultInsert implements Insert {
 			builder.append(" (").append(StringUtils.collectionToDelimitedString(this.columns, ", ")).append(")");
 		}
 
-		builder.append(" ").append(this.values);
+		builder.append(" VALUES(");
+
+		for (int i = 0; i < this.values.size(); i++) {
+			builder.append(i == 0 ? "" : "), (").append(this.values.get(i).getRow());
+		}
+
+		builder.append(")");
 
 		return builder.toString();
 	}
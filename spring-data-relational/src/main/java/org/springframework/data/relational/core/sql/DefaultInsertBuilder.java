@@ -35,6 +35,7 @@ class DefaultInsertBuilder
 	private @Nullable Table into;
 	private List<Column> columns = new ArrayList<>();
 	private List<Expression> values = new ArrayList<>();
+	private List<List<Expression>> rows = new ArrayList<>();
 
 	/*
 	 * (non-Javadoc)
@@ -129,12 +130,30 @@ class DefaultInsertBuilder
 		return this;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.InsertBuilder.InsertValuesWithBuild#nextRow()
+	 */
+	@Override
+	public InsertValues nextRow() {
+
+		Assert.state(!this.values.isEmpty(), "A row must contain at least one value!");
+
+		this.rows.add(this.values);
+		this.values = new ArrayList<>();
+		return this;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.sql.InsertBuilder.BuildInsert#build()
 	 */
 	@Override
 	public Insert build() {
-		return new DefaultInsert(this.into, this.columns, this.values);
+
+		List<List<Expression>> rows = new ArrayList<>(this.rows);
+		rows.add(this.values);
+
+		return new DefaultInsert(this.into, this.columns, rows);
 	}
 }
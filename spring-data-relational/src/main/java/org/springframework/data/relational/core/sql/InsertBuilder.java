@@ -117,6 +117,15 @@ public interface InsertBuilder {
 	 */
 	interface InsertValuesWithBuild extends InsertValues, BuildInsert {
 
+		/**
+		 * Completes the current row of the {@code VALUES} list and starts a new one, resulting in a multi-row
+		 * {@code INSERT INTO … VALUES (…), (…)}. All rows must consist of the same number of values.
+		 *
+		 * @return {@code this} builder.
+		 * @since 2.1
+		 */
+		InsertValues nextRow();
+
 		/**
 		 * Add a {@link Expression value} to the {@code VALUES} list. Calling this method multiple times will add a
 		 * {@link Expression value} multiple times.
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Row value constructor combining multiple {@link Expression}s into a single value that can be compared as a whole,
+ * e.g. {@code (col1, col2) > (:p1, :p2)}. Not every database supports comparing row values.
+ * <p/>
+ * Results in a rendered expression: {@code (<expression1>, <expression2>, …)}.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ * @see org.springframework.data.relational.core.dialect.Dialect#supportsRowValueComparison()
+ */
+public class RowValue extends AbstractSegment implements Expression {
+
+	private final List<Expression> expressions;
+
+	private RowValue(List<Expression> expressions) {
+
+		super(expressions.toArray(new Expression[0]));
+
+		this.expressions = expressions;
+	}
+
+	/**
+	 * Creates a new {@link RowValue} given a {@link List} of {@link Expression}s.
+	 *
+	 * @param expressions one or many {@link Expression}s, must not be {@literal null} or empty.
+	 * @return the {@link RowValue}.
+	 */
+	public static RowValue create(List<? extends Expression> expressions) {
+
+		Assert.notEmpty(expressions, "Expressions must not be null or empty");
+
+		return new RowValue(Collections.unmodifiableList(expressions));
+	}
+
+	/**
+	 * Creates a new {@link RowValue} given {@link Expression}s.
+	 *
+	 * @param expressions one or many {@link Expression}s, must not be {@literal null} or empty.
+	 * @return the {@link RowValue}.
+	 */
+	public static RowValue create(Expression... expressions) {
+
+		Assert.notNull(expressions, "Expressions must not be null");
+
+		return create(Arrays.asList(expressions));
+	}
+
+	/**
+	 * @return the expressions forming the row value.
+	 */
+	public List<Expression> getExpressions() {
+		return expressions;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "(" + StringUtils.collectionToDelimitedString(expressions, ", ") + ")";
+	}
+}
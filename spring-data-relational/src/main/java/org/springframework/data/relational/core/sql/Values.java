@@ -47,6 +47,13 @@ public class Values extends AbstractSegment {
 	 */
 	@Override
 	public String toString() {
-		return "VALUES(" + StringUtils.collectionToDelimitedString(tables, ", ") + ")";
+		return "VALUES(" + getRow() + ")";
+	}
+
+	/**
+	 * @return the comma separated values of this row without the surrounding {@code VALUES(…)}.
+	 */
+	String getRow() {
+		return StringUtils.collectionToDelimitedString(tables, ", ");
 	}
 }
@@ -34,6 +34,7 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 	private StringBuilder into = new StringBuilder();
 	private StringBuilder columns = new StringBuilder();
 	private StringBuilder values = new StringBuilder();
+	private int rows = 0;
 
 	private IntoClauseVisitor intoClauseVisitor;
 	private ColumnVisitor columnVisitor;
@@ -59,7 +60,15 @@ class InsertStatementVisitor extends DelegatingVisitor implements PartRenderer {
 			columns.append(it);
 		});
 
-		this.valuesVisitor = new ValuesVisitor(context, values::append);
+		this.valuesVisitor = new ValuesVisitor(context, it -> {
+
+			if (rows != 0) {
+				values.append("), (");
+			}
+
+			values.append(it);
+			rows++;
+		});
 	}
 
 	/*
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import org.springframework.data.relational.core.sql.RowValue;
+import org.springframework.data.relational.core.sql.Visitable;
+
+/**
+ * Renderer for {@link RowValue}s.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ */
+class RowValueVisitor extends TypedSingleConditionRenderSupport<RowValue> implements PartRenderer {
+
+	private final StringBuilder part = new StringBuilder();
+
+	RowValueVisitor(RenderContext context) {
+		super(context);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.TypedSubtreeVisitor#enterMatched(org.springframework.data.relational.core.sql.Visitable)
+	 */
+	@Override
+	Delegation enterMatched(RowValue segment) {
+
+		part.append("(");
+		return super.enterMatched(segment);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.TypedSubtreeVisitor#leaveNested(org.springframework.data.relational.core.sql.Visitable)
+	 */
+	@Override
+	Delegation leaveNested(Visitable segment) {
+
+		if (hasDelegatedRendering()) {
+
+			if (part.length() > 1) {
+				part.append(", ");
+			}
+
+			part.append(consumeRenderedPart());
+		}
+
+		return super.leaveNested(segment);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.TypedSubtreeVisitor#leaveMatched(org.springframework.data.relational.core.sql.Visitable)
+	 */
+	@Override
+	Delegation leaveMatched(RowValue segment) {
+
+		part.append(")");
+		return super.leaveMatched(segment);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.PartRenderer#getRenderedPart()
+	 */
+	@Override
+	public CharSequence getRenderedPart() {
+		return part;
+	}
+}
@@ -0,0 +1,912 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import java.util.Arrays;
+
+import org.springframework.data.relational.core.sql.Aliased;
+import org.springframework.data.relational.core.sql.AndCondition;
+import org.springframework.data.relational.core.sql.Assignment;
+import org.springframework.data.relational.core.sql.AsteriskFromTable;
+import org.springframework.data.relational.core.sql.Between;
+import org.springframework.data.relational.core.sql.BindMarker;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Comparison;
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Delete;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.From;
+import org.springframework.data.relational.core.sql.In;
+import org.springframework.data.relational.core.sql.Insert;
+import org.springframework.data.relational.core.sql.Into;
+import org.springframework.data.relational.core.sql.IsNull;
+import org.springframework.data.relational.core.sql.Join;
+import org.springframework.data.relational.core.sql.Like;
+import org.springframework.data.relational.core.sql.Literal;
+import org.springframework.data.relational.core.sql.Named;
+import org.springframework.data.relational.core.sql.NestedCondition;
+import org.springframework.data.relational.core.sql.OrCondition;
+import org.springframework.data.relational.core.sql.OrderByField;
+import org.springframework.data.relational.core.sql.RowValue;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.SelectList;
+import org.springframework.data.relational.core.sql.SimpleFunction;
+import org.springframework.data.relational.core.sql.SubselectExpression;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.Update;
+import org.springframework.data.relational.core.sql.Values;
+import org.springframework.data.relational.core.sql.Visitable;
+import org.springframework.data.relational.core.sql.Visitor;
+import org.springframework.data.relational.core.sql.Where;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Renderer} producing the same SQL as {@link SqlRenderer} in a single pass over the statement. Segments get
+ * appended to a single {@link StringBuilder} while they are visited, keeping the state of the enclosing segments in a
+ * stack of primitive frames instead of delegating to a visitor object per segment.
+ * <p>
+ * Statements containing segments this renderer doesn't know how to render, like {@link Expression}s and
+ * {@link Condition}s created from plain SQL, get rendered by {@link SqlRenderer}.
+ *
+ * @author Tobias Lindner
+ * @since 2.1
+ * @see SqlRenderer
+ */
+public class SinglePassSqlRenderer implements Renderer {
+
+	private final RenderContext context;
+	private final SqlRenderer fallback;
+
+	private SinglePassSqlRenderer(RenderContext context) {
+
+		Assert.notNull(context, "RenderContext must not be null!");
+
+		this.context = context;
+		this.fallback = SqlRenderer.create(context);
+	}
+
+	/**
+	 * Creates a new {@link SinglePassSqlRenderer}.
+	 *
+	 * @return the renderer.
+	 */
+	public static SinglePassSqlRenderer create() {
+		return new SinglePassSqlRenderer(new SimpleRenderContext(NamingStrategies.asIs()));
+	}
+
+	/**
+	 * Creates a new {@link SinglePassSqlRenderer} using a {@link RenderContext}.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @return the renderer.
+	 */
+	public static SinglePassSqlRenderer create(RenderContext context) {
+		return new SinglePassSqlRenderer(context);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.Renderer#render(org.springframework.data.relational.core.sql.Select)
+	 */
+	@Override
+	public String render(Select select) {
+
+		StatementWriter writer = new StatementWriter(context);
+		select.visit(writer);
+
+		return writer.isComplete() ? writer.toString() : fallback.render(select);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.Renderer#render(org.springframework.data.relational.core.sql.Insert)
+	 */
+	@Override
+	public String render(Insert insert) {
+
+		StatementWriter writer = new StatementWriter(context);
+		insert.visit(writer);
+
+		return writer.isComplete() ? writer.toString() : fallback.render(insert);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.Renderer#render(org.springframework.data.relational.core.sql.Update)
+	 */
+	@Override
+	public String render(Update update) {
+
+		StatementWriter writer = new StatementWriter(context);
+		update.visit(writer);
+
+		return writer.isComplete() ? writer.toString() : fallback.render(update);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.Renderer#render(org.springframework.data.relational.core.sql.Delete)
+	 */
+	@Override
+	public String render(Delete delete) {
+
+		StatementWriter writer = new StatementWriter(context);
+		delete.visit(writer);
+
+		return writer.isComplete() ? writer.toString() : fallback.render(delete);
+	}
+
+	/**
+	 * {@link Visitor} appending each segment to a single {@link StringBuilder} when entering and leaving it. Each
+	 * visited segment gets a frame consisting of its kind, a position in the builder and two counters, which the
+	 * segments use for separating their children and for detecting empty parts the same way the
+	 * {@link DelegatingVisitor}s of {@link SqlRenderer} do.
+	 */
+	private static class StatementWriter implements Visitor {
+
+		// segments with children that get ignored, and segments this renderer can't render.
+		private static final int SKIP = 0;
+
+		private static final int SELECT = 1;
+		private static final int INSERT = 2;
+		private static final int UPDATE = 3;
+		private static final int DELETE = 4;
+
+		private static final int SELECT_LIST = 5;
+		private static final int SELECT_LIST_NESTED = 6;
+		private static final int FROM = 7;
+		private static final int JOIN = 8;
+		private static final int WHERE = 9;
+		private static final int ORDER_BY_FIELD = 10;
+		private static final int ORDER_BY_NESTED = 11;
+		private static final int INTO = 12;
+		private static final int VALUES = 13;
+		private static final int ASSIGNMENT = 14;
+
+		private static final int TABLE = 15;
+		private static final int JOIN_TABLE = 16;
+		private static final int COLUMN_NAME = 17;
+		private static final int ASSIGNED_COLUMN = 18;
+
+		private static final int AND_OR = 19;
+		private static final int COMPARISON = 20;
+		private static final int LIKE = 21;
+		private static final int BETWEEN = 22;
+		private static final int IN = 23;
+		private static final int IS_NULL = 24;
+		private static final int NESTED = 25;
+
+		private static final int FUNCTION = 26;
+		private static final int ROW_VALUE = 27;
+		private static final int SUBSELECT = 28;
+
+		private static final String WHERE_KEYWORD = " WHERE ";
+		private static final String ORDER_BY_KEYWORD = " ORDER BY ";
+
+		private final RenderContext context;
+		private final SelectRenderContext selectContext;
+		private final StringBuilder builder = new StringBuilder(128);
+
+		private Visitable[] segments = new Visitable[16];
+		private int[] kinds = new int[16];
+		private int[] marks = new int[16];
+		private int[] counts = new int[16];
+		private int[] flags = new int[16];
+		private int depth = 0;
+
+		private boolean complete = true;
+
+		// state of the select list, which gets rendered like SelectListVisitor does for all nested segments.
+		private boolean requiresComma = false;
+		private boolean insideFunction = false;
+
+		StatementWriter(RenderContext context) {
+
+			this.context = context;
+			this.selectContext = context.getSelect();
+		}
+
+		boolean isComplete() {
+			return complete && depth == 0;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.sql.Visitor#enter(org.springframework.data.relational.core.sql.Visitable)
+		 */
+		@Override
+		public void enter(Visitable segment) {
+
+			int kind = depth == 0 ? classifyStatement(segment) : beforeChild(depth - 1, segment);
+
+			push(segment, kind);
+			open(depth - 1);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.relational.core.sql.Visitor#leave(org.springframework.data.relational.core.sql.Visitable)
+		 */
+		@Override
+		public void leave(Visitable segment) {
+
+			depth--;
+			close(depth);
+
+			if (depth > 0) {
+				afterChild(depth - 1);
+			}
+
+			segments[depth] = null;
+		}
+
+		private int classifyStatement(Visitable segment) {
+
+			if (segment instanceof Select) {
+				return SELECT;
+			}
+
+			if (segment instanceof Insert) {
+				return INSERT;
+			}
+
+			if (segment instanceof Update) {
+				return UPDATE;
+			}
+
+			if (segment instanceof Delete) {
+				return DELETE;
+			}
+
+			return unsupported();
+		}
+
+		/**
+		 * Appends the separator the segment at {@code parent} requires in front of the given child and determines the
+		 * kind of the child.
+		 */
+		private int beforeChild(int parent, Visitable segment) {
+
+			switch (kinds[parent]) {
+
+				case SELECT_LIST:
+				case SELECT_LIST_NESTED:
+					return SELECT_LIST_NESTED;
+
+				case ORDER_BY_FIELD:
+				case ORDER_BY_NESTED:
+					return ORDER_BY_NESTED;
+
+				case SELECT:
+					return beforeSelectChild(parent, segment);
+
+				case FROM:
+
+					if (!(segment instanceof Table)) {
+						return unsupported();
+					}
+
+					if (counts[parent]++ == 0) {
+						builder.append(kinds[parent - 1] == SELECT ? " FROM " : "FROM ");
+					} else {
+						builder.append(", ");
+					}
+
+					return TABLE;
+
+				case INTO:
+
+					if (!(segment instanceof Table)) {
+						return unsupported();
+					}
+
+					if (counts[parent]++ != 0) {
+						builder.append(", ");
+					}
+
+					return TABLE;
+
+				case JOIN:
+
+					if (segment instanceof Table) {
+						return JOIN_TABLE;
+					}
+
+					if (segment instanceof Condition) {
+
+						builder.append(" ON ");
+						return classify(segment);
+					}
+
+					return unsupported();
+
+				case WHERE:
+					return segment instanceof Condition ? classify(segment) : unsupported();
+
+				case INSERT:
+					return beforeInsertChild(parent, segment);
+
+				case VALUES:
+
+					if (!(segment instanceof Expression)) {
+						return unsupported();
+					}
+
+					if (counts[parent]++ != 0) {
+						builder.append(", ");
+					}
+
+					return classify(segment);
+
+				case UPDATE:
+					return beforeUpdateChild(parent, segment);
+
+				case ASSIGNMENT:
+
+					if (segment instanceof Column) {
+						return ASSIGNED_COLUMN;
+					}
+
+					return segment instanceof Expression ? classify(segment) : unsupported();
+
+				case DELETE:
+
+					if (segment instanceof From) {
+						return FROM;
+					}
+
+					return segment instanceof Where ? WHERE : unsupported();
+
+				case SUBSELECT:
+					return segment instanceof Select ? SELECT : unsupported();
+
+				case AND_OR:
+
+					if (builder.length() != marks[parent]) {
+						builder.append(segments[parent] instanceof AndCondition ? " AND " : " OR ");
+					}
+
+					return classify(segment);
+
+				case COMPARISON:
+
+					if (builder.length() != marks[parent]) {
+						builder.append(' ').append(((Comparison) segments[parent]).getComparator()).append(' ');
+					}
+
+					return classify(segment);
+
+				case LIKE:
+
+					if (builder.length() != marks[parent]) {
+						builder.append(((Like) segments[parent]).isNegated() ? " NOT LIKE " : " LIKE ");
+					}
+
+					return classify(segment);
+
+				case BETWEEN:
+
+					int position = counts[parent]++;
+
+					if (position == 1) {
+						builder.append(((Between) segments[parent]).isNegated() ? " NOT BETWEEN " : " BETWEEN ");
+					} else if (position == 2) {
+						builder.append(" AND ");
+					} else if (position > 2) {
+						return unsupported();
+					}
+
+					return classify(segment);
+
+				case IN:
+
+					// flags: whether a comma is required, counts: whether the child is the tested expression.
+					if (flags[parent] != 0) {
+						builder.append(", ");
+					}
+
+					counts[parent] = flags[parent] == 0 && builder.length() == marks[parent] ? 1 : 0;
+
+					return classify(segment);
+
+				case IS_NULL:
+					return classify(segment);
+
+				case NESTED:
+
+					if (!(segment instanceof Condition)) {
+						return unsupported();
+					}
+
+					builder.append('(');
+
+					return classify(segment);
+
+				case FUNCTION:
+
+					if (counts[parent]++ == 0) {
+						builder.append(((SimpleFunction) segments[parent]).getFunctionName()).append('(');
+					} else {
+						builder.append(", ");
+					}
+
+					return classify(segment);
+
+				case ROW_VALUE:
+
+					if (builder.length() > marks[parent] + 1) {
+						builder.append(", ");
+					}
+
+					return classify(segment);
+
+				default:
+					return SKIP;
+			}
+		}
+
+		private int beforeSelectChild(int parent, Visitable segment) {
+
+			if (segment instanceof SelectList) {
+
+				requiresComma = false;
+				insideFunction = false;
+
+				return SELECT_LIST;
+			}
+
+			if (segment instanceof From) {
+				return FROM;
+			}
+
+			if (segment instanceof Join) {
+				return JOIN;
+			}
+
+			if (segment instanceof Where) {
+				return WHERE;
+			}
+
+			if (segment instanceof OrderByField) {
+
+				if (counts[parent]++ == 0) {
+
+					marks[parent] = builder.length();
+					builder.append(ORDER_BY_KEYWORD);
+				} else {
+					builder.append(", ");
+				}
+
+				return ORDER_BY_FIELD;
+			}
+
+			return unsupported();
+		}
+
+		private int beforeInsertChild(int parent, Visitable segment) {
+
+			if (segment instanceof Into) {
+				return INTO;
+			}
+
+			// counts: number of columns, flags: number of rows.
+			if (segment instanceof Column) {
+
+				builder.append(counts[parent]++ == 0 ? " (" : ", ");
+				return COLUMN_NAME;
+			}
+
+			if (segment instanceof Values) {
+
+				if (flags[parent]++ == 0) {
+					appendValuesKeyword(parent);
+				} else {
+					builder.append("), (");
+				}
+
+				return VALUES;
+			}
+
+			return unsupported();
+		}
+
+		private int beforeUpdateChild(int parent, Visitable segment) {
+
+			// counts: number of tables, flags: number of assignments.
+			if (segment instanceof Table) {
+
+				builder.append(counts[parent]++ == 0 ? " " : ", ");
+				return TABLE;
+			}
+
+			if (segment instanceof Assignment) {
+
+				builder.append(flags[parent]++ == 0 ? " SET " : ", ");
+				return ASSIGNMENT;
+			}
+
+			return segment instanceof Where ? WHERE : unsupported();
+		}
+
+		/**
+		 * Determines the kind of an {@link Expression} or {@link Condition} and appends it right away if it has no
+		 * children to render.
+		 */
+		private int classify(Visitable segment) {
+
+			if (segment instanceof Condition) {
+
+				if (segment instanceof AndCondition || segment instanceof OrCondition) {
+					return AND_OR;
+				}
+
+				if (segment instanceof IsNull) {
+					return IS_NULL;
+				}
+
+				if (segment instanceof Between) {
+					return BETWEEN;
+				}
+
+				if (segment instanceof Comparison) {
+					return COMPARISON;
+				}
+
+				if (segment instanceof Like) {
+					return LIKE;
+				}
+
+				if (segment instanceof In) {
+					return IN;
+				}
+
+				if (segment instanceof NestedCondition) {
+					return NESTED;
+				}
+
+				return unsupported();
+			}
+
+			if (segment instanceof SubselectExpression) {
+				return SUBSELECT;
+			}
+
+			if (segment instanceof SimpleFunction) {
+				return FUNCTION;
+			}
+
+			if (segment instanceof RowValue) {
+				return ROW_VALUE;
+			}
+
+			if (segment instanceof Column) {
+
+				Column column = (Column) segment;
+
+				if (column.getTable() == null) {
+					return unsupported();
+				}
+
+				builder.append(NameRenderer.fullyQualifiedReference(context, column));
+				return SKIP;
+			}
+
+			if (segment instanceof BindMarker) {
+
+				if (segment instanceof Named) {
+					builder.append(NameRenderer.render(context, (Named) segment));
+				} else {
+					builder.append(segment);
+				}
+
+				return SKIP;
+			}
+
+			if (segment instanceof Literal) {
+
+				builder.append(segment);
+				return SKIP;
+			}
+
+			return unsupported();
+		}
+
+		/**
+		 * Appends what the segment at {@code index} renders in front of its children.
+		 */
+		private void open(int index) {
+
+			Visitable segment = segments[index];
+
+			switch (kinds[index]) {
+
+				case SELECT:
+
+					builder.append("SELECT ");
+
+					if (((Select) segment).isDistinct()) {
+						builder.append("DISTINCT ");
+					}
+
+					break;
+
+				case INSERT:
+					builder.append("INSERT INTO ");
+					break;
+
+				case UPDATE:
+					builder.append("UPDATE");
+					break;
+
+				case DELETE:
+					builder.append("DELETE ");
+					break;
+
+				case SELECT_LIST_NESTED:
+
+					if (requiresComma) {
+						builder.append(", ");
+						requiresComma = false;
+					}
+
+					if (segment instanceof SimpleFunction) {
+						builder.append(((SimpleFunction) segment).getFunctionName()).append('(');
+						insideFunction = true;
+					}
+
+					break;
+
+				case JOIN:
+					builder.append(' ').append(((Join) segment).getType().getSql()).append(' ');
+					break;
+
+				case WHERE:
+					builder.append(WHERE_KEYWORD);
+					break;
+
+				case TABLE:
+
+					builder.append(NameRenderer.render(context, (Table) segment));
+
+					if (segment instanceof Aliased) {
+						builder.append(' ').append(NameRenderer.render(context, (Aliased) segment));
+					}
+
+					break;
+
+				case JOIN_TABLE:
+
+					builder.append(NameRenderer.render(context, (Table) segment));
+
+					if (segment instanceof Aliased) {
+						builder.append(" AS ").append(NameRenderer.render(context, (Aliased) segment));
+					}
+
+					break;
+
+				case COLUMN_NAME:
+				case ASSIGNED_COLUMN:
+					builder.append(NameRenderer.render(context, (Column) segment));
+					break;
+
+				case ROW_VALUE:
+					builder.append('(');
+					break;
+
+				default:
+			}
+		}
+
+		/**
+		 * Appends what the segment at {@code index} renders after its children.
+		 */
+		private void close(int index) {
+
+			Visitable segment = segments[index];
+
+			switch (kinds[index]) {
+
+				case SELECT:
+					closeSelect(index);
+					break;
+
+				case INSERT:
+
+					if (flags[index] == 0) {
+						appendValuesKeyword(index);
+					}
+
+					builder.append(')');
+					break;
+
+				case SELECT_LIST:
+					builder.append(selectContext.afterSelectList().apply((Select) segments[index - 1]));
+					break;
+
+				case SELECT_LIST_NESTED:
+					closeSelectListNested(segment);
+					break;
+
+				case FROM:
+
+					if (kinds[index - 1] == SELECT) {
+						builder.append(selectContext.afterFromTable().apply((Select) segments[index - 1]));
+					}
+
+					break;
+
+				case WHERE:
+
+					// conditions that render to an empty string don't render a WHERE clause.
+					if (builder.length() == marks[index] + WHERE_KEYWORD.length()) {
+						builder.setLength(marks[index]);
+					}
+
+					break;
+
+				case ORDER_BY_FIELD:
+
+					OrderByField field = (OrderByField) segment;
+
+					if (field.getDirection() != null) {
+						builder.append(' ').append(field.getDirection());
+					}
+
+					break;
+
+				case ORDER_BY_NESTED:
+
+					if (segment instanceof Column) {
+						builder.append(NameRenderer.reference(context, (Column) segment));
+					}
+
+					break;
+
+				case ASSIGNED_COLUMN:
+					builder.append(" = ");
+					break;
+
+				case IN:
+				case FUNCTION:
+				case ROW_VALUE:
+					builder.append(')');
+					break;
+
+				case IS_NULL:
+					builder.append(((IsNull) segment).isNegated() ? " IS NOT NULL" : " IS NULL");
+					break;
+
+				default:
+			}
+		}
+
+		/**
+		 * Appends what the segment at {@code parent} renders after each of its children.
+		 */
+		private void afterChild(int parent) {
+
+			switch (kinds[parent]) {
+
+				case IN:
+
+					if (counts[parent] == 1) {
+						builder.append(((In) segments[parent]).isNotIn() ? " NOT IN (" : " IN (");
+					} else {
+						flags[parent] = 1;
+					}
+
+					break;
+
+				case NESTED:
+					builder.append(')');
+					break;
+
+				default:
+			}
+		}
+
+		private void closeSelect(int index) {
+
+			Select select = (Select) segments[index];
+			boolean hasOrderBy = counts[index] != 0;
+
+			// ORDER BY fields that render to an empty string don't render an ORDER BY clause.
+			if (hasOrderBy && builder.length() == marks[index] + ORDER_BY_KEYWORD.length()) {
+
+				builder.setLength(marks[index]);
+				hasOrderBy = false;
+			}
+
+			builder.append(selectContext.afterOrderBy(hasOrderBy).apply(select));
+		}
+
+		private void closeSelectListNested(Visitable segment) {
+
+			if (segment instanceof Table) {
+				builder.append(NameRenderer.reference(context, (Table) segment)).append('.');
+			}
+
+			if (segment instanceof SimpleFunction) {
+
+				builder.append(')');
+				if (segment instanceof Aliased) {
+					builder.append(" AS ").append(NameRenderer.render(context, (Aliased) segment));
+				}
+
+				insideFunction = false;
+				requiresComma = true;
+			} else if (segment instanceof AsteriskFromTable) {
+
+				builder.append('*');
+				requiresComma = true;
+			} else if (segment instanceof Column) {
+
+				builder.append(NameRenderer.render(context, (Column) segment));
+				if (segment instanceof Aliased && !insideFunction) {
+					builder.append(" AS ").append(NameRenderer.render(context, (Aliased) segment));
+				}
+
+				requiresComma = true;
+			} else if (segment instanceof Expression) {
+				builder.append(segment);
+			}
+		}
+
+		private void appendValuesKeyword(int insert) {
+
+			if (counts[insert] != 0) {
+				builder.append(')');
+			}
+
+			builder.append(" VALUES (");
+		}
+
+		private int unsupported() {
+
+			complete = false;
+			return SKIP;
+		}
+
+		private void push(Visitable segment, int kind) {
+
+			if (depth == segments.length) {
+
+				int size = depth * 2;
+				segments = Arrays.copyOf(segments, size);
+				kinds = Arrays.copyOf(kinds, size);
+				marks = Arrays.copyOf(marks, size);
+				counts = Arrays.copyOf(counts, size);
+				flags = Arrays.copyOf(flags, size);
+			}
+
+			segments[depth] = segment;
+			kinds[depth] = kind;
+			marks[depth] = builder.length();
+			counts[depth] = 0;
+			flags[depth] = 0;
+			depth++;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return builder.toString();
+		}
+	}
+}
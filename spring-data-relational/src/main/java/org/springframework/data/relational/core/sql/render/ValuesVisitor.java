@@ -29,7 +29,7 @@ import org.springframework.lang.Nullable;
 class ValuesVisitor extends TypedSubtreeVisitor<Values> {
 
 	private final RenderTarget parent;
-	private final StringBuilder builder = new StringBuilder();
+	private StringBuilder builder = new StringBuilder();
 	private final RenderContext context;
 
 	private @Nullable ExpressionVisitor current;
@@ -41,6 +41,20 @@ class ValuesVisitor extends TypedSubtreeVisitor<Values> {
 		this.parent = parent;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.relational.core.sql.render.TypedSubtreeVisitor#enterMatched(org.springframework.data.relational.core.sql.Visitable)
+	 */
+	@Override
+	Delegation enterMatched(Values segment) {
+
+		// each row of a multi-row insert is a separate Values segment.
+		this.builder = new StringBuilder();
+		this.first = true;
+
+		return super.enterMatched(segment);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.relational.core.sql.render.TypedSubtreeVisitor#enterNested(org.springframework.data.relational.core.sql.Visitable)
@@ -17,6 +17,7 @@ package org.springframework.data.relational.core.conversion;
 
 import static org.assertj.core.api.Assertions.*;
 
+import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
@@ -58,6 +59,82 @@ public class RelationalEntityUpdateWriterUnitTests {
 				);
 	}
 
+	@Test
+	public void differentialUpdateOnlyWritesChangedEntities() {
+
+		ListContainer previous = new ListContainer(SOME_ENTITY_ID);
+		previous.items.add(new Item(1L, "unchanged"));
+		previous.items.add(new Item(2L, "old name"));
+		previous.items.add(new Item(3L, "removed"));
+
+		ListContainer entity = new ListContainer(SOME_ENTITY_ID);
+		entity.items.add(new Item(1L, "unchanged"));
+		entity.items.add(new Item(2L, "new name"));
+		entity.items.add(new Item(null, "added"));
+
+		MutableAggregateChange<ListContainer> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		converter.write(entity, previous, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath,
+						DbActionTestSupport::isWithDependsOn) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, ListContainer.class, "", false), //
+						tuple(DbAction.Update.class, Item.class, "items", false), //
+						tuple(DbAction.DeleteById.class, Item.class, "items", false), //
+						tuple(DbAction.Insert.class, Item.class, "items", true) //
+				);
+	}
+
+	@Test
+	public void differentialUpdateRewritesEntitiesThatChangedTheirPosition() {
+
+		ListContainer previous = new ListContainer(SOME_ENTITY_ID);
+		previous.items.add(new Item(1L, "first"));
+		previous.items.add(new Item(2L, "second"));
+
+		ListContainer entity = new ListContainer(SOME_ENTITY_ID);
+		entity.items.add(new Item(2L, "second"));
+		entity.items.add(new Item(1L, "first"));
+
+		MutableAggregateChange<ListContainer> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		converter.write(entity, previous, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, ListContainer.class, ""), //
+						tuple(DbAction.DeleteById.class, Item.class, "items"), //
+						tuple(DbAction.DeleteById.class, Item.class, "items"), //
+						tuple(DbAction.Insert.class, Item.class, "items"), //
+						tuple(DbAction.Insert.class, Item.class, "items") //
+				);
+	}
+
+	@Test
+	public void differentialUpdateDeletesAndInsertsEntitiesWithoutId() {
+
+		NoIdListContainer previous = new NoIdListContainer(SOME_ENTITY_ID);
+		previous.elements.add(new NoIdElement("one"));
+
+		NoIdListContainer entity = new NoIdListContainer(SOME_ENTITY_ID);
+		entity.elements.add(new NoIdElement("one"));
+
+		MutableAggregateChange<NoIdListContainer> aggregateChange = MutableAggregateChange.forSave(entity);
+
+		converter.write(entity, previous, aggregateChange);
+
+		assertThat(extractActions(aggregateChange)) //
+				.extracting(DbAction::getClass, DbAction::getEntityType, DbActionTestSupport::extractPath) //
+				.containsExactly( //
+						tuple(DbAction.UpdateRoot.class, NoIdListContainer.class, ""), //
+						tuple(DbAction.Delete.class, NoIdElement.class, "elements"), //
+						tuple(DbAction.Insert.class, NoIdElement.class, "elements") //
+				);
+	}
+
 	private List<DbAction<?>> extractActions(MutableAggregateChange<?> aggregateChange) {
 
 		List<DbAction<?>> actions = new ArrayList<>();
@@ -79,4 +156,30 @@ public class RelationalEntityUpdateWriterUnitTests {
 		@Id final Long id;
 	}
 
+	@RequiredArgsConstructor
+	static class ListContainer {
+
+		@Id final Long id;
+		List<Item> items = new ArrayList<>();
+	}
+
+	@AllArgsConstructor
+	static class Item {
+
+		@Id Long id;
+		String name;
+	}
+
+	@RequiredArgsConstructor
+	static class NoIdListContainer {
+
+		@Id final Long id;
+		List<NoIdElement> elements = new ArrayList<>();
+	}
+
+	@AllArgsConstructor
+	static class NoIdElement {
+		String name;
+	}
+
 }
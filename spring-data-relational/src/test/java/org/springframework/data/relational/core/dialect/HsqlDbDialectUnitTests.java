@@ -82,4 +82,9 @@ public class HsqlDbDialectUnitTests {
 		assertThat(limit.getLock(lockOptions)).isEqualTo("FOR UPDATE");
 		assertThat(limit.getClausePosition()).isEqualTo(LockClause.Position.AFTER_ORDER_BY);
 	}
+
+	@Test
+	public void doesNotObtainGeneratedKeysFromBatches() {
+		assertThat(HsqlDbDialect.INSTANCE.supportsBatchedGeneratedKeys()).isFalse();
+	}
 }
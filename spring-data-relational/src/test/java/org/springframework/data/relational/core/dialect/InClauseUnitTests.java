@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link InClause}.
+ *
+ * @author Tobias Lindner
+ */
+public class InClauseUnitTests {
+
+	@Test
+	public void padsToTheNextPowerOfTwo() {
+
+		assertThat(InClause.getPaddedSize(0, 1000)).isEqualTo(0);
+		assertThat(InClause.getPaddedSize(1, 1000)).isEqualTo(1);
+		assertThat(InClause.getPaddedSize(2, 1000)).isEqualTo(2);
+		assertThat(InClause.getPaddedSize(3, 1000)).isEqualTo(4);
+		assertThat(InClause.getPaddedSize(5, 1000)).isEqualTo(8);
+		assertThat(InClause.getPaddedSize(16, 1000)).isEqualTo(16);
+		assertThat(InClause.getPaddedSize(17, 1000)).isEqualTo(32);
+	}
+
+	@Test
+	public void doesNotPadBeyondTheMaximumSize() {
+		assertThat(InClause.getPaddedSize(600, 1000)).isEqualTo(1000);
+	}
+
+	@Test
+	public void padsByRepeatingTheLastValue() {
+
+		List<Integer> padded = InClause.pad(Arrays.asList(1, 2, 3, 4, 5), 1000);
+
+		assertThat(padded).containsExactly(1, 2, 3, 4, 5, 5, 5, 5);
+	}
+
+	@Test
+	public void returnsListsNotRequiringPaddingUnchanged() {
+
+		List<Integer> values = Arrays.asList(1, 2, 3, 4);
+
+		assertThat(InClause.pad(values, 1000)).isSameAs(values);
+		assertThat(InClause.pad(Collections.emptyList(), 1000)).isEmpty();
+	}
+
+	@Test
+	public void splitsIntoListsOfTheMaximumSize() {
+
+		assertThat(InClause.split(Arrays.asList(1, 2, 3, 4, 5), 2)).containsExactly(Arrays.asList(1, 2),
+				Arrays.asList(3, 4), Collections.singletonList(5));
+		assertThat(InClause.split(Collections.emptyList(), 2)).isEmpty();
+	}
+
+	@Test
+	public void dialectsDefineTheirLimits() {
+
+		assertThat(HsqlDbDialect.INSTANCE.inClause().getMaxListSize()).isEqualTo(1000);
+		assertThat(HsqlDbDialect.INSTANCE.inClause().supportsArrayParameter()).isFalse();
+		assertThat(SqlServerDialect.INSTANCE.inClause().getMaxListSize()).isEqualTo(2000);
+		assertThat(PostgresDialect.INSTANCE.inClause().supportsArrayParameter()).isTrue();
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import static java.util.Arrays.*;
+import static java.util.Collections.*;
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MergeUpsertStatement}.
+ *
+ * @author Tobias Lindner
+ */
+public class MergeUpsertStatementUnitTests {
+
+	@Test
+	public void usesBindMarkersOnlyWhereTheirTypeIsDeterminedByAColumn() {
+
+		String merge = MergeUpsertStatement.INSTANCE.getUpsert("person", singletonList("id"), asList("id", "name", "age"),
+				asList(":id", ":name", ":age"));
+
+		assertThat(merge).isEqualTo("MERGE INTO person t USING (VALUES (1)) s (n)" //
+				+ " ON t.id = :id" //
+				+ " WHEN MATCHED THEN UPDATE SET name = :name, age = :age" //
+				+ " WHEN NOT MATCHED THEN INSERT (id, name, age) VALUES (:id, :name, :age)");
+	}
+
+	@Test
+	public void matchesOnAllKeyColumns() {
+
+		String merge = MergeUpsertStatement.INSTANCE.getUpsert("person", asList("first", "last"),
+				asList("first", "age", "last"), asList(":first", ":age", ":last"));
+
+		assertThat(merge).isEqualTo("MERGE INTO person t USING (VALUES (1)) s (n)" //
+				+ " ON t.first = :first AND t.last = :last" //
+				+ " WHEN MATCHED THEN UPDATE SET age = :age" //
+				+ " WHEN NOT MATCHED THEN INSERT (first, age, last) VALUES (:first, :age, :last)");
+	}
+
+	@Test
+	public void omitsUpdateWhenThereAreOnlyKeyColumns() {
+
+		String merge = MergeUpsertStatement.INSTANCE.getUpsert("person", singletonList("id"), singletonList("id"),
+				singletonList(":id"));
+
+		assertThat(merge).isEqualTo("MERGE INTO person t USING (VALUES (1)) s (n)" //
+				+ " ON t.id = :id" //
+				+ " WHEN NOT MATCHED THEN INSERT (id) VALUES (:id)");
+	}
+
+	@Test
+	public void appendsTheTerminator() {
+
+		String merge = new MergeUpsertStatement(";").getUpsert("person", singletonList("id"), singletonList("id"),
+				singletonList(":id"));
+
+		assertThat(merge).endsWith("VALUES (:id);");
+	}
+
+	@Test
+	public void rejectsMissingValues() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> MergeUpsertStatement.INSTANCE.getUpsert("person",
+				singletonList("id"), asList("id", "name"), singletonList(":id")));
+	}
+}
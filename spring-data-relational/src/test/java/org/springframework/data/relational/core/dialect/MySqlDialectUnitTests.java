@@ -15,10 +15,14 @@
  */
 package org.springframework.data.relational.core.dialect;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Test;
 import org.springframework.data.relational.core.sql.From;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -83,4 +87,34 @@ public class MySqlDialectUnitTests {
 		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, from))).isEqualTo("LOCK IN SHARE MODE");
 		assertThat(lock.getClausePosition()).isEqualTo(LockClause.Position.AFTER_ORDER_BY);
 	}
+
+	@Test
+	public void shouldRenderUpsert() {
+
+		UpsertStatement upsert = MySqlDialect.INSTANCE.upsert();
+
+		assertThat(upsert.isSupported()).isTrue();
+		assertThat(upsert.getUpsert("person", Collections.singletonList("id"), Arrays.asList("id", "name"),
+				Arrays.asList(":id", ":name")))
+						.isEqualTo("INSERT INTO person (id, name) VALUES (:id, :name) ON DUPLICATE KEY UPDATE name = VALUES(name)");
+	}
+
+	@Test
+	public void shouldRenderRowCountEstimate() {
+
+		RowCountEstimate estimate = MySqlDialect.INSTANCE.rowCountEstimate();
+
+		assertThat(estimate.isSupported()).isTrue();
+		assertThat(estimate.getEstimateQuery(SqlIdentifier.quoted("person"), MySqlDialect.INSTANCE.getIdentifierProcessing()))
+				.isEqualTo(
+						"SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'person'");
+		assertThat(estimate.getEstimateQuery(SqlIdentifier.from(SqlIdentifier.quoted("shop"), SqlIdentifier.quoted("person")),
+				MySqlDialect.INSTANCE.getIdentifierProcessing())).isEqualTo(
+						"SELECT TABLE_ROWS FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_SCHEMA = 'shop' AND TABLE_NAME = 'person'");
+	}
+
+	@Test
+	public void obtainsGeneratedKeysFromBatches() {
+		assertThat(MySqlDialect.INSTANCE.supportsBatchedGeneratedKeys()).isTrue();
+	}
 }
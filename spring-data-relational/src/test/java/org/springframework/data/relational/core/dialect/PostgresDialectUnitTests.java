@@ -21,11 +21,14 @@ import static org.mockito.Mockito.*;
 
 import org.junit.Test;
 import org.springframework.data.relational.core.sql.From;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
 import org.springframework.data.relational.core.sql.LockMode;
 import org.springframework.data.relational.core.sql.LockOptions;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.data.relational.core.sql.Table;
 
 import java.util.Collections;
+import java.util.Arrays;
 
 /**
  * Unit tests for {@link PostgresDialect}.
@@ -91,4 +94,50 @@ public class PostgresDialectUnitTests {
 		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, from))).isEqualTo("FOR SHARE OF dummy_table");
 		assertThat(lock.getClausePosition()).isEqualTo(LockClause.Position.AFTER_ORDER_BY);
 	}
+
+	@Test
+	public void shouldRenderUpsert() {
+
+		UpsertStatement upsert = PostgresDialect.INSTANCE.upsert();
+
+		assertThat(upsert.isSupported()).isTrue();
+		assertThat(upsert.getUpsert("person", Collections.singletonList("id"), Arrays.asList("id", "name"),
+				Arrays.asList(":id", ":name"))).isEqualTo(
+						"INSERT INTO person (id, name) VALUES (:id, :name) ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name");
+	}
+
+	@Test
+	public void shouldRenderUpsertWithoutNonKeyColumns() {
+
+		UpsertStatement upsert = PostgresDialect.INSTANCE.upsert();
+
+		assertThat(upsert.getUpsert("person", Collections.singletonList("id"), Collections.singletonList("id"),
+				Collections.singletonList(":id"))).isEqualTo("INSERT INTO person (id) VALUES (:id) ON CONFLICT (id) DO NOTHING");
+	}
+
+	@Test
+	public void shouldRenderReturningClauseAfterValues() {
+
+		ReturningClause returning = PostgresDialect.INSTANCE.returning();
+
+		assertThat(returning.isSupported()).isTrue();
+		assertThat(returning.getReturning(Collections.singletonList("id"))).isEqualTo("RETURNING id");
+		assertThat(returning.getClausePosition()).isEqualTo(ReturningClause.Position.AFTER_VALUES);
+		assertThat(returning.isRowOrderPreserving()).isTrue();
+	}
+
+	@Test
+	public void shouldRenderRowCountEstimate() {
+
+		RowCountEstimate estimate = PostgresDialect.INSTANCE.rowCountEstimate();
+
+		assertThat(estimate.isSupported()).isTrue();
+		assertThat(estimate.getEstimateQuery(SqlIdentifier.quoted("my_table"), IdentifierProcessing.ANSI))
+				.isEqualTo("SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = to_regclass('\"my_table\"')");
+	}
+
+	@Test
+	public void obtainsGeneratedKeysFromBatches() {
+		assertThat(PostgresDialect.INSTANCE.supportsBatchedGeneratedKeys()).isTrue();
+	}
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.dialect;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.render.SqlRenderer;
+
+/**
+ * Unit tests for {@link RenderContextFactory}.
+ *
+ * @author Tobias Lindner
+ */
+public class RenderContextFactoryUnitTests {
+
+	@Test
+	public void createsSqlRendererByDefault() {
+		assertThat(new RenderContextFactory(AnsiDialect.INSTANCE).createRenderer()).isInstanceOf(SqlRenderer.class);
+	}
+
+	@Test
+	public void createsRendererApplyingTheDialect() {
+
+		Table table = SQL.table("employee");
+		Select select = Select.builder().select(table.column("id")).from(table).limitOffset(10, 20).build();
+
+		assertThat(new RenderContextFactory(PostgresDialect.INSTANCE).createRenderer().render(select))
+				.isEqualTo("SELECT employee.id FROM employee LIMIT 10 OFFSET 20");
+	}
+}
@@ -18,6 +18,9 @@ package org.springframework.data.relational.core.dialect;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Test;
 
 import org.springframework.data.relational.core.sql.From;
@@ -76,4 +79,33 @@ public class SqlServerDialectUnitTests {
 		assertThat(lock.getLock(new LockOptions(LockMode.PESSIMISTIC_READ, from))).isEqualTo("WITH (HOLDLOCK, ROWLOCK)");
 		assertThat(lock.getClausePosition()).isEqualTo(LockClause.Position.AFTER_FROM_TABLE);
 	}
+
+	@Test
+	public void shouldRenderUpsertAsTerminatedMerge() {
+
+		UpsertStatement upsert = SqlServerDialect.INSTANCE.upsert();
+
+		assertThat(upsert.isSupported()).isTrue();
+		assertThat(upsert.getUpsert("person", Collections.singletonList("id"), Arrays.asList("id", "name"),
+				Arrays.asList(":id", ":name"))).isEqualTo("MERGE INTO person t USING (VALUES (1)) s (n)" //
+						+ " ON t.id = :id" //
+						+ " WHEN MATCHED THEN UPDATE SET name = :name" //
+						+ " WHEN NOT MATCHED THEN INSERT (id, name) VALUES (:id, :name);");
+	}
+
+	@Test
+	public void shouldRenderOutputClauseBeforeValues() {
+
+		ReturningClause returning = SqlServerDialect.INSTANCE.returning();
+
+		assertThat(returning.isSupported()).isTrue();
+		assertThat(returning.getReturning(Arrays.asList("id", "version"))).isEqualTo("OUTPUT INSERTED.id, INSERTED.version");
+		assertThat(returning.getClausePosition()).isEqualTo(ReturningClause.Position.BEFORE_VALUES);
+		assertThat(returning.isRowOrderPreserving()).isFalse();
+	}
+
+	@Test
+	public void doesNotObtainGeneratedKeysFromBatches() {
+		assertThat(SqlServerDialect.INSTANCE.supportsBatchedGeneratedKeys()).isFalse();
+	}
 }
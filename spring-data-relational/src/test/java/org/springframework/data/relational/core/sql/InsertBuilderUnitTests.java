@@ -43,4 +43,22 @@ public class InsertBuilderUnitTests {
 
 		assertThat(insert.toString()).isEqualTo("INSERT INTO mytable (mytable.foo, mytable.bar) VALUES(?)");
 	}
+
+	@Test
+	public void shouldCreateMultiRowInsert() {
+
+		Table table = SQL.table("mytable");
+		Column foo = table.column("foo");
+
+		Insert insert = StatementBuilder.insert().into(table).column(foo).value(SQL.bindMarker()).nextRow()
+				.value(SQL.bindMarker()).build();
+
+		CapturingVisitor visitor = new CapturingVisitor();
+		insert.visit(visitor);
+
+		assertThat(visitor.enter).containsSequence(insert, new Into(table), table, foo, table,
+				new Values(SQL.bindMarker()), SQL.bindMarker(), new Values(SQL.bindMarker()));
+
+		assertThat(insert.toString()).isEqualTo("INSERT INTO mytable (mytable.foo) VALUES(?), (?)");
+	}
 }
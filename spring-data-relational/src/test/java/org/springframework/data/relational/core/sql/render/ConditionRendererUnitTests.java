@@ -22,6 +22,8 @@ import org.junit.Test;
 import org.springframework.data.relational.core.sql.Column;
 import org.springframework.data.relational.core.sql.Conditions;
 import org.springframework.data.relational.core.sql.Functions;
+import org.springframework.data.relational.core.sql.RowValue;
+import org.springframework.data.relational.core.sql.SQL;
 import org.springframework.data.relational.core.sql.StatementBuilder;
 import org.springframework.data.relational.core.sql.Table;
 
@@ -214,4 +216,15 @@ public class ConditionRendererUnitTests {
 
 		assertThat(sql).endsWith("WHERE my_table.left NOT IN (my_table.right)");
 	}
+
+	@Test
+	public void shouldRenderRowValueComparison() {
+
+		String sql = SqlRenderer.toString(StatementBuilder.select(left).from(table) //
+				.where(Conditions.isGreater(RowValue.create(left, right), //
+						RowValue.create(SQL.bindMarker(":left"), SQL.bindMarker(":right")))) //
+				.build());
+
+		assertThat(sql).endsWith("WHERE (my_table.left, my_table.right) > (:left, :right)");
+	}
 }
@@ -71,4 +71,27 @@ public class InsertRendererUnitTests {
 		assertThat(SqlRenderer.toString(insert)).isEqualTo("INSERT INTO bar VALUES ()");
 	}
 
+	@Test
+	public void shouldRenderMultiRowInsert() {
+
+		Table bar = SQL.table("bar");
+
+		Insert insert = Insert.builder().into(bar).columns(bar.columns("foo", "baz")) //
+				.values(SQL.bindMarker(":foo_0"), SQL.bindMarker(":baz_0")).nextRow() //
+				.values(SQL.bindMarker(":foo_1"), SQL.bindMarker(":baz_1")).build();
+
+		assertThat(SqlRenderer.toString(insert))
+				.isEqualTo("INSERT INTO bar (foo, baz) VALUES (:foo_0, :baz_0), (:foo_1, :baz_1)");
+	}
+
+	@Test
+	public void rowsOfMultiRowInsertMustHaveTheSameSize() {
+
+		Table bar = SQL.table("bar");
+
+		assertThatIllegalArgumentException().isThrownBy(() -> Insert.builder().into(bar) //
+				.values(SQL.bindMarker(), SQL.bindMarker()).nextRow() //
+				.value(SQL.bindMarker()).build());
+	}
+
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.relational.core.sql.render;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import org.springframework.data.relational.core.dialect.AnsiDialect;
+import org.springframework.data.relational.core.dialect.Db2Dialect;
+import org.springframework.data.relational.core.dialect.Dialect;
+import org.springframework.data.relational.core.dialect.H2Dialect;
+import org.springframework.data.relational.core.dialect.HsqlDbDialect;
+import org.springframework.data.relational.core.dialect.MySqlDialect;
+import org.springframework.data.relational.core.dialect.PostgresDialect;
+import org.springframework.data.relational.core.dialect.RenderContextFactory;
+import org.springframework.data.relational.core.dialect.SqlServerDialect;
+import org.springframework.data.relational.core.sql.Column;
+import org.springframework.data.relational.core.sql.Conditions;
+import org.springframework.data.relational.core.sql.Delete;
+import org.springframework.data.relational.core.sql.Expressions;
+import org.springframework.data.relational.core.sql.Functions;
+import org.springframework.data.relational.core.sql.Insert;
+import org.springframework.data.relational.core.sql.LockMode;
+import org.springframework.data.relational.core.sql.OrderByField;
+import org.springframework.data.relational.core.sql.RowValue;
+import org.springframework.data.relational.core.sql.SQL;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.data.relational.core.sql.StatementBuilder;
+import org.springframework.data.relational.core.sql.Table;
+import org.springframework.data.relational.core.sql.Update;
+
+/**
+ * Unit tests for {@link SinglePassSqlRenderer}, verifying it renders the same SQL as {@link SqlRenderer}.
+ *
+ * @author Tobias Lindner
+ */
+public class SinglePassSqlRendererUnitTests {
+
+	List<Dialect> dialects = Arrays.asList(AnsiDialect.INSTANCE, Db2Dialect.INSTANCE, H2Dialect.INSTANCE,
+			HsqlDbDialect.INSTANCE, MySqlDialect.INSTANCE, PostgresDialect.INSTANCE, SqlServerDialect.INSTANCE);
+
+	Table employee = SQL.table("employee");
+	Table department = Table.create("department").as("dep");
+	Column id = employee.column("id");
+	Column name = employee.column("name");
+	Column age = employee.column("age");
+	Column departmentId = employee.column("department_id");
+
+	@Test
+	public void rendersSelect() {
+
+		Select select = Select.builder().select(id, name.as("employee_name")).from(employee).build();
+
+		assertThat(SinglePassSqlRenderer.create().render(select))
+				.isEqualTo("SELECT employee.id, employee.name AS employee_name FROM employee");
+	}
+
+	@Test
+	public void rendersSelectsLikeSqlRenderer() {
+
+		Select subselect = Select.builder().select(department.column("id")).from(department)
+				.where(department.column("name").like(SQL.bindMarker(":department"))).build();
+
+		assertSameSql(renderer -> renderer.render(Select.builder().distinct().select(id, name).from(employee).build()));
+		assertSameSql(renderer -> renderer
+				.render(Select.builder().select(employee.asterisk()).from(employee).limitOffset(10, 20).build()));
+		assertSameSql(renderer -> renderer
+				.render(Select.builder().select(Functions.count(Expressions.asterisk())).from(employee).build()));
+		assertSameSql(renderer -> renderer
+				.render(Select.builder().select(Functions.count(id).as("cnt"), name).from(employee, department).build()));
+		assertSameSql(renderer -> renderer.render(Select.builder().select(id, department.column("name")).from(employee) //
+				.join(department).on(departmentId).equals(department.column("id")) //
+				.leftOuterJoin(SQL.table("manager")).on(id).equals(SQL.table("manager").column("employee_id")) //
+				.build()));
+		assertSameSql(renderer -> renderer.render(Select.builder().select(id).from(employee).limitOffset(10, 0) //
+				.where(id.isEqualTo(SQL.bindMarker(":id")) //
+						.and(name.isNotNull()) //
+						.or(Conditions.nest(age.between(SQL.literalOf(18), SQL.literalOf(65)).and(age.isNull().not())))) //
+				.orderBy(OrderByField.from(name).asc(), OrderByField.from(id)) //
+				.lock(LockMode.PESSIMISTIC_WRITE) //
+				.build()));
+		assertSameSql(renderer -> renderer.render(Select.builder().select(id).from(employee) //
+				.where(departmentId.in(subselect).and(name.notLike(SQL.bindMarker()))
+						.and(id.notIn(SQL.bindMarker(), SQL.bindMarker(), SQL.bindMarker())) //
+						.and(Conditions.isEqual(Functions.upper(name), SQL.literalOf("ALFRED"))) //
+						.and(Conditions.in(RowValue.create(id, name), RowValue.create(SQL.literalOf(1), SQL.literalOf("x"))))
+						.and(age.notBetween(SQL.bindMarker(), SQL.bindMarker())))
+				.build()));
+	}
+
+	@Test
+	public void rendersInsertsLikeSqlRenderer() {
+
+		assertSameSql(renderer -> renderer.render(Insert.builder().into(employee).build()));
+		assertSameSql(renderer -> renderer.render(Insert.builder().into(employee).values(SQL.bindMarker()).build()));
+		assertSameSql(renderer -> renderer.render(Insert.builder().into(employee).columns(id, name) //
+				.values(SQL.bindMarker(":id"), SQL.literalOf("x")) //
+				.build()));
+		assertSameSql(renderer -> renderer.render(Insert.builder().into(employee).columns(id, name) //
+				.values(SQL.bindMarker(":id_0"), SQL.bindMarker(":name_0")).nextRow() //
+				.values(SQL.bindMarker(":id_1"), SQL.bindMarker(":name_1")) //
+				.build()));
+	}
+
+	@Test
+	public void rendersUpdatesLikeSqlRenderer() {
+
+		assertSameSql(renderer -> renderer
+				.render(StatementBuilder.update(employee).set(name.set(SQL.bindMarker(":name"))).build()));
+		assertSameSql(renderer -> renderer.render(StatementBuilder.update(employee) //
+				.set(name.set(SQL.bindMarker()), age.set(SQL.literalOf(42))) //
+				.where(id.isEqualTo(SQL.bindMarker(":id")).and(age.isLess(SQL.literalOf(42)))) //
+				.build()));
+		assertSameSql(renderer -> renderer
+				.render(StatementBuilder.update(employee).set(name.set(Functions.upper(name))).build()));
+	}
+
+	@Test
+	public void rendersDeletesLikeSqlRenderer() {
+
+		assertSameSql(renderer -> renderer.render(Delete.builder().from(employee).build()));
+		assertSameSql(renderer -> renderer.render(Delete.builder().from(employee) //
+				.where(id.isEqualTo(SQL.bindMarker(":id"))).and(name.isNull()) //
+				.build()));
+	}
+
+	@Test
+	public void fallsBackToSqlRendererForPlainSql() {
+
+		assertSameSql(renderer -> renderer
+				.render(Select.builder().select(id).from(employee).where(Conditions.just("1 = 1")).build()));
+		assertSameSql(renderer -> renderer
+				.render(Select.builder().select(id).from(employee).where(id.isEqualTo(Expressions.just("42"))).build()));
+	}
+
+	/**
+	 * Asserts that rendering a statement using {@link SinglePassSqlRenderer} results in the same SQL as using
+	 * {@link SqlRenderer}, for all dialects.
+	 */
+	private void assertSameSql(Function<Renderer, String> render) {
+
+		for (Dialect dialect : dialects) {
+
+			RenderContext context = new RenderContextFactory(dialect).createRenderContext();
+
+			assertThat(render.apply(SinglePassSqlRenderer.create(context))).as(dialect.getClass().getSimpleName())
+					.isEqualTo(render.apply(SqlRenderer.create(context)));
+		}
+	}
+}